@@ -0,0 +1,163 @@
+package seedu.budgetbuddy;
+
+/**
+ * Tight loops over primitive amount arrays, used instead of iterating over lists of boxed transactions.
+ * The loops are unrolled with independent accumulators and avoid branches in the loop body, so the JIT
+ * can keep several additions in flight and auto-vectorize where the hardware allows.
+ * Every method only looks at the first {@code length} elements, so partially filled arrays can be passed.
+ */
+public final class AmountKernels {
+    private static final int UNROLL = 4;
+
+    private AmountKernels() {
+    }
+
+    public static double sum(double[] amounts, int length) {
+        assert length <= amounts.length : "Length should not exceed the array";
+
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i <= length - UNROLL; i += UNROLL) {
+            sum0 += amounts[i];
+            sum1 += amounts[i + 1];
+            sum2 += amounts[i + 2];
+            sum3 += amounts[i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += amounts[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Multiplies every amount by the same factor, e.g. an exchange rate.
+     *
+     * @param amounts The amounts to scale.
+     * @param factor  The factor to multiply by.
+     * @param result  The array to write the scaled amounts to, may be the same as amounts.
+     * @param length  The number of amounts to scale.
+     */
+    public static void scale(double[] amounts, double factor, double[] result, int length) {
+        assert length <= amounts.length && length <= result.length : "Length should not exceed the arrays";
+
+        for (int i = 0; i < length; i++) {
+            result[i] = amounts[i] * factor;
+        }
+    }
+
+    /**
+     * Sums the amounts whose key matches, e.g. the amounts of one category.
+     *
+     * @param amounts The amounts.
+     * @param keys    The key of each amount.
+     * @param key     The key to sum the amounts of.
+     * @param length  The number of amounts to consider.
+     * @return The sum of the matching amounts.
+     */
+    public static double sumWhere(double[] amounts, int[] keys, int key, int length) {
+        assert length <= amounts.length && length <= keys.length : "Length should not exceed the arrays";
+
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i <= length - UNROLL; i += UNROLL) {
+            sum0 += keys[i] == key ? amounts[i] : 0;
+            sum1 += keys[i + 1] == key ? amounts[i + 1] : 0;
+            sum2 += keys[i + 2] == key ? amounts[i + 2] : 0;
+            sum3 += keys[i + 3] == key ? amounts[i + 3] : 0;
+        }
+        for (; i < length; i++) {
+            sum0 += keys[i] == key ? amounts[i] : 0;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Sums the amounts of every key in one pass, e.g. the amounts of every category.
+     *
+     * @param amounts  The amounts.
+     * @param keys     The key of each amount, between 0 and keyCount - 1.
+     * @param keyCount The number of distinct keys.
+     * @param length   The number of amounts to consider.
+     * @return The sum of each key, indexed by key.
+     */
+    public static double[] sumByKey(double[] amounts, int[] keys, int keyCount, int length) {
+        assert length <= amounts.length && length <= keys.length : "Length should not exceed the arrays";
+
+        double[] sums = new double[keyCount];
+        for (int i = 0; i < length; i++) {
+            sums[keys[i]] += amounts[i];
+        }
+        return sums;
+    }
+
+    /**
+     * Sums the amounts strictly between the two bounds, matching the bounds used when finding expenses.
+     *
+     * @param amounts   The amounts.
+     * @param minAmount The exclusive lower bound.
+     * @param maxAmount The exclusive upper bound.
+     * @param length    The number of amounts to consider.
+     * @return The sum of the amounts in range.
+     */
+    public static double sumInRange(double[] amounts, double minAmount, double maxAmount, int length) {
+        assert length <= amounts.length : "Length should not exceed the array";
+
+        double sum0 = 0;
+        double sum1 = 0;
+        int i = 0;
+        for (; i <= length - 2; i += 2) {
+            double amount0 = amounts[i];
+            double amount1 = amounts[i + 1];
+            sum0 += (amount0 > minAmount && amount0 < maxAmount) ? amount0 : 0;
+            sum1 += (amount1 > minAmount && amount1 < maxAmount) ? amount1 : 0;
+        }
+        for (; i < length; i++) {
+            sum0 += (amounts[i] > minAmount && amounts[i] < maxAmount) ? amounts[i] : 0;
+        }
+        return sum0 + sum1;
+    }
+
+    /**
+     * Returns the smallest amount, or positive infinity if length is 0.
+     */
+    public static double min(double[] amounts, int length) {
+        assert length <= amounts.length : "Length should not exceed the array";
+
+        double min0 = Double.POSITIVE_INFINITY;
+        double min1 = Double.POSITIVE_INFINITY;
+        int i = 0;
+        for (; i <= length - 2; i += 2) {
+            min0 = Math.min(min0, amounts[i]);
+            min1 = Math.min(min1, amounts[i + 1]);
+        }
+        for (; i < length; i++) {
+            min0 = Math.min(min0, amounts[i]);
+        }
+        return Math.min(min0, min1);
+    }
+
+    /**
+     * Returns the largest amount, or negative infinity if length is 0.
+     */
+    public static double max(double[] amounts, int length) {
+        assert length <= amounts.length : "Length should not exceed the array";
+
+        double max0 = Double.NEGATIVE_INFINITY;
+        double max1 = Double.NEGATIVE_INFINITY;
+        int i = 0;
+        for (; i <= length - 2; i += 2) {
+            max0 = Math.max(max0, amounts[i]);
+            max1 = Math.max(max1, amounts[i + 1]);
+        }
+        for (; i < length; i++) {
+            max0 = Math.max(max0, amounts[i]);
+        }
+        return Math.max(max0, max1);
+    }
+}
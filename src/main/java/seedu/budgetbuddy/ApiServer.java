@@ -0,0 +1,330 @@
+package seedu.budgetbuddy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import seedu.budgetbuddy.command.CommandResult;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Serves a {@link BudgetEngine} over HTTP on localhost. Every response is a command result written as
+ * JSON by {@link JsonRenderer}. Parameters are taken from the query string and, for POST requests, from
+ * a form-encoded body.
+ *
+ * <p>The expenses of the engine are shared through a {@link ConcurrentExpenseList}. POST requests change
+ * the engine one at a time through its write method, which publishes a new snapshot of the expenses and
+ * budgets after each change. GET requests only read the expenses and budgets, so they answer from the
+ * latest snapshot without taking a lock and never wait for a change. Each request runs on its own virtual
+ * thread when the JVM has them, or on a bounded thread pool otherwise.
+ */
+public class ApiServer {
+    public static final int DEFAULT_PORT = 8080;
+    private static final Logger LOGGER = Logger.getLogger(ApiServer.class.getName());
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private final BudgetEngine engine;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // Wraps the expense list of the engine. Every change to the engine, not only to its expenses, goes
+    // through its write method, so that changes run one at a time
+    private final ConcurrentExpenseList expenses;
+    private final JsonRenderer renderer = new JsonRenderer();
+    private final int checkpointInterval;
+    // Only changed inside a write
+    private int writesSinceSave;
+
+    /**
+     * Answers a request from a snapshot of the expenses.
+     */
+    @FunctionalInterface
+    private interface Reader {
+        CommandResult handle(ConcurrentExpenseList.Snapshot snapshot, Map<String, String> parameters);
+    }
+
+    /**
+     * Changes the engine for one request.
+     */
+    @FunctionalInterface
+    private interface Writer {
+        CommandResult handle(Map<String, String> parameters) throws BudgetBuddyException;
+    }
+
+    /**
+     * Creates a server for an engine that has already been loaded.
+     *
+     * @param engine             The engine to serve.
+     * @param port               The port to listen on, or 0 for any free port.
+     * @param checkpointInterval Number of changes between saves, or 0 to save only when stopped.
+     * @throws IOException If the port cannot be bound.
+     */
+    public ApiServer(BudgetEngine engine, int port, int checkpointInterval) throws IOException {
+        assert checkpointInterval >= 0 : "Checkpoint interval should not be negative";
+        this.engine = engine;
+        this.checkpointInterval = checkpointInterval;
+        this.expenses = new ConcurrentExpenseList(engine.getExpenseList());
+        executor = newRequestExecutor();
+        // Without TCP_NODELAY each response body waits for the delayed ACK of its headers, about 40 ms.
+        // The JDK reads this property once, when the first server is created.
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+
+        route("/expenses", this::listExpenses, this::addExpense);
+        route("/expenses/find", this::findExpenses, null);
+        route("/budgets", this::listBudgets, this::setBudget);
+        route("/insights", (snapshot, parameters) -> insights(snapshot), null);
+        route("/commands", null, parameters -> engine.execute(parameters.getOrDefault("command", "")));
+        server.createContext("/", exchange -> send(exchange, 404, CommandResult.failure("Not found")));
+    }
+
+    /**
+     * Returns an executor that runs each request on a new virtual thread. Virtual threads are looked up
+     * reflectively so that the server still runs on JVMs without them, using a pool sized to the machine.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+    }
+
+    public void start() {
+        server.start();
+        LOGGER.log(Level.INFO, "Serving on port " + getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits for those in progress and saves.
+     *
+     * @throws IOException If the engine cannot be saved.
+     */
+    public void stop() throws IOException {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        expenses.write(list -> {
+            engine.save();
+            return null;
+        });
+    }
+
+    private void route(String path, Reader reader, Writer writer) {
+        server.createContext(path, exchange -> {
+            String method = exchange.getRequestMethod();
+            if (method.equals("GET") && reader != null) {
+                send(exchange, read(reader, parameters(exchange)));
+            } else if (method.equals("POST") && writer != null) {
+                send(exchange, write(writer, parameters(exchange)));
+            } else {
+                send(exchange, 405, CommandResult.failure("Method not allowed"));
+            }
+        });
+    }
+
+    private CommandResult read(Reader reader, Map<String, String> parameters) {
+        try {
+            return reader.handle(expenses.getSnapshot(), parameters);
+        } catch (IllegalArgumentException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+    }
+
+    private CommandResult write(Writer writer, Map<String, String> parameters) {
+        try {
+            return expenses.write(list -> {
+                CommandResult result = writer.handle(parameters);
+                checkpoint();
+                return result;
+            });
+        } catch (BudgetBuddyException | IllegalArgumentException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+    }
+
+    private void checkpoint() {
+        writesSinceSave++;
+        if (checkpointInterval == 0 || writesSinceSave < checkpointInterval) {
+            return;
+        }
+        writesSinceSave = 0;
+        try {
+            engine.save();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error saving to file.", e);
+        }
+    }
+
+    private CommandResult listExpenses(ConcurrentExpenseList.Snapshot snapshot, Map<String, String> parameters) {
+        String category = parameters.get("category");
+        CommandResult result = new CommandResult()
+                .setColumns("Index", "Date", "Category", "Amount", "Currency", "Description", "Tags");
+        double total = 0;
+        int index = 1;
+        for (Expense expense : snapshot.getExpenses()) {
+            if (category == null || expense.getCategory().equalsIgnoreCase(category)) {
+                addExpenseRow(result, index, expense);
+                total += expense.getAmount();
+            }
+            index++;
+        }
+        return result.addTotal("Total", total);
+    }
+
+    private CommandResult findExpenses(ConcurrentExpenseList.Snapshot snapshot, Map<String, String> parameters) {
+        Double minAmount = parameters.containsKey("min") ? parseAmount("min", parameters.get("min")) : null;
+        Double maxAmount = parameters.containsKey("max") ? parseAmount("max", parameters.get("max")) : null;
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            throw new IllegalArgumentException("Minimum amount cannot be larger than maximum amount.");
+        }
+        CommandResult result = new CommandResult()
+                .setColumns("Index", "Date", "Category", "Amount", "Currency", "Description", "Tags");
+        int index = 1;
+        String description = parameters.getOrDefault("description", "");
+        for (Expense expense : snapshot.findExpenses(description, minAmount, maxAmount)) {
+            addExpenseRow(result, index++, expense);
+        }
+        return result;
+    }
+
+    private static void addExpenseRow(CommandResult result, int index, Expense expense) {
+        result.addRow(index, expense.getDateAdded(), expense.getCategory(), expense.getAmount(),
+                expense.getCurrency(), expense.getDescription(), String.join(",", expense.getTags()));
+    }
+
+    private CommandResult addExpense(Map<String, String> parameters) throws BudgetBuddyException {
+        String tags = parameters.getOrDefault("tags", "");
+        Expense expense = engine.addExpense(required(parameters, "category"),
+                parseAmount("amount", required(parameters, "amount")), parameters.getOrDefault("description", ""),
+                tags.isBlank() ? List.of() : Arrays.asList(tags.split(",")));
+        CommandResult result = CommandResult.of("Expense Added :" + expense.getCategory() + " of $"
+                + expense.getAmount() + " description : " + expense.getDescription());
+        result.setColumns("Index", "Date", "Category", "Amount", "Currency", "Description", "Tags");
+        addExpenseRow(result, engine.getExpenses().size(), expense);
+        return result;
+    }
+
+    private CommandResult listBudgets(ConcurrentExpenseList.Snapshot snapshot, Map<String, String> parameters) {
+        String category = parameters.get("category");
+        CommandResult result = new CommandResult().setColumns("Category", "Budget");
+        for (Budget budget : snapshot.getBudgets()) {
+            if (category == null || budget.getCategory().equalsIgnoreCase(category)) {
+                result.addRow(budget.getCategory(), budget.getBudget());
+            }
+        }
+        return result;
+    }
+
+    private CommandResult setBudget(Map<String, String> parameters) throws BudgetBuddyException {
+        String category = required(parameters, "category");
+        double budget = parseAmount("budget", required(parameters, "budget"));
+        engine.setBudget(category, budget);
+        return CommandResult.of("Budget Added :" + category + " of $" + budget);
+    }
+
+    private CommandResult insights(ConcurrentExpenseList.Snapshot snapshot) {
+        Map<String, Double> totals = snapshot.getTotalsByCategory();
+        double total = totals.values().stream().mapToDouble(Double::doubleValue).sum();
+        CommandResult result = new CommandResult().setColumns("Category", "Amount", "Percentage");
+        for (Map.Entry<String, Double> category : totals.entrySet()) {
+            result.addRow(category.getKey(), category.getValue(),
+                    total == 0 ? 0.0 : category.getValue() / total * 100);
+        }
+        return result.addTotal("Overall Total Expenses", total);
+    }
+
+    private static String required(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing parameter " + name);
+        }
+        return value;
+    }
+
+    /**
+     * Parses an amount parameter. Like the CLI, it only accepts finite numbers that are not negative.
+     */
+    private static double parseAmount(String name, String value) {
+        double amount;
+        try {
+            amount = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            amount = Double.NaN;
+        }
+        if (!Double.isFinite(amount) || amount < 0) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value
+                    + ". It should be a number that is not negative.");
+        }
+        return amount;
+    }
+
+    /**
+     * Returns the query parameters of a request and, for POST requests, its form-encoded body parameters.
+     */
+    private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = new HashMap<>();
+        addParameters(parameters, exchange.getRequestURI().getRawQuery());
+        if (exchange.getRequestMethod().equals("POST")) {
+            try (InputStream body = exchange.getRequestBody()) {
+                addParameters(parameters, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private static void addParameters(Map<String, String> parameters, String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void send(HttpExchange exchange, CommandResult result) throws IOException {
+        send(exchange, result.isSuccessful() ? 200 : 400, result);
+    }
+
+    private void send(HttpExchange exchange, int status, CommandResult result) throws IOException {
+        byte[] body = renderer.format(result).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+        exchange.close();
+    }
+}
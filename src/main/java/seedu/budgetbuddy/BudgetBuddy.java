@@ -1,100 +1,245 @@
 package seedu.budgetbuddy;
 
-import seedu.budgetbuddy.command.Command;
-import seedu.budgetbuddy.exception.InvalidRecurringExpensesFileException;
+import seedu.budgetbuddy.command.CommandResult;
 
-import java.io.FileNotFoundException;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Scanner;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class BudgetBuddy {
-    private Ui ui;
-    private Parser parser;
-    private ExpenseList expenses;
-    private SavingList savings;
-    private SplitExpenseList splitexpenses;
-    private RecurringExpensesList expensesList;
-    private Storage expensesStorage;
-    private Storage savingsStorage;
-    private Storage recurringExpensesStorage;
-    private Storage defaultCurrency;
-
+    private static final int SCRIPT_BUFFER_SIZE = 1 << 16;
+    private static final String USAGE = "Usage: BudgetBuddy --script FILE|- [--checkpoint N] [--verbose]"
+            + " [--format console|csv|json]\n       BudgetBuddy --server [--port N] [--checkpoint N]";
 
+    private Ui ui;
+    private BudgetEngine engine;
+    private RateFileWatcher rateFileWatcher;
+    private ResultRenderer renderer;
 
     public BudgetBuddy() {
         ui = new Ui();
-        parser = new Parser();
-        expenses = new ExpenseList();
-        savings = new SavingList();
-        expensesList = new RecurringExpensesList();
-        splitexpenses = new SplitExpenseList();
-        expensesStorage = new Storage("src/main/java/seedu/budgetbuddy/data/ExpenseFile.txt");
-        savingsStorage = new Storage("src/main/java/seedu/budgetbuddy/data/SavingsFile.txt");
-        recurringExpensesStorage = new Storage("./data/RecurringExpensesFile.txt");
-        defaultCurrency = new Storage("src/main/java/seedu/budgetbuddy/data/DefaultCurrency.txt");
-
+        renderer = new ConsoleRenderer();
+        engine = new BudgetEngine(new FileStorageBackend());
     }
 
     public void handleCommands(String input) {
-        Command command = parser.parseCommand(expenses, savings, splitexpenses, expensesList, input);
-
-
-        if (command != null) {
-            command.execute();
-        } else {
-            System.out.println("(Invalid command)");
-        }
+        renderer.render(engine.execute(input));
+        saveAll();
+    }
 
+    private void saveAll() {
         try {
-            expensesStorage.saveExpenses(expenses.getExpenses());
-            savingsStorage.saveSavings(savings.getSavings());
-            recurringExpensesStorage.saveRecurringExpenses(expensesList);
-            // Save Currency
-            defaultCurrency.saveCurrency();
+            engine.save();
         } catch (IOException e) {
             System.out.println("Error saving to file.");
-
-        } catch (InvalidRecurringExpensesFileException e) {
-            System.out.println(e.getMessage());
         }
 
     }
 
-    public void run() {
-        Scanner scanner = new Scanner(System.in);
+    private void watchRateFile() {
+        rateFileWatcher = startRateFileWatcher();
+    }
 
-        try {
-            // Load Currency
-            defaultCurrency.loadCurrency();
-            this.expenses.getExpenses().addAll(expensesStorage.loadExpenses());
-            this.savings.getSavings().addAll(savingsStorage.loadSavings());
-            this.expensesList = recurringExpensesStorage.loadRecurringExpensesList();
+    private void stopWatchingRateFile() {
+        closeRateFileWatcher(rateFileWatcher);
+    }
 
+    /**
+     * Starts applying changes to the exchange rate file while BudgetBuddy runs.
+     *
+     * @return The watcher, or null if the file cannot be watched.
+     */
+    private static RateFileWatcher startRateFileWatcher() {
+        try {
+            return RateFileWatcher.start(Paths.get(FileStorageBackend.EXCHANGE_RATES_FILE));
+        } catch (IOException e) {
+            System.out.println("Exchange rate updates will only be applied after a restart.");
+            return null;
+        }
+    }
 
-        } catch (FileNotFoundException e) {
-            System.out.println("No existing files found. Starting fresh.");
+    private static void closeRateFileWatcher(RateFileWatcher watcher) {
+        if (watcher == null) {
+            return;
+        }
+        try {
+            watcher.close();
         } catch (IOException e) {
-            System.out.println("Could not create files. Please ensure all files are present and are not directories");
+            System.out.println("Error closing the exchange rate file watcher.");
+        }
+    }
+
+    private void load() {
+        for (String notice : engine.load()) {
+            System.out.println(notice);
         }
+    }
 
+    public void run() {
+        Scanner scanner = new Scanner(System.in);
+        load();
+        watchRateFile();
         ui.showWelcome();
 
         boolean isExit = false;
         while (!isExit) {
             String input = scanner.nextLine();
 
-            if (parser.isExitCommand(input)) {
+            if (engine.isExitCommand(input)) {
                 isExit = true;
             } else {
                 handleCommands(input);
             }
         }
 
+        stopWatchingRateFile();
         ui.showGoodbye();
         scanner.close();
     }
 
+    /**
+     * Runs the commands in a script instead of reading them interactively, then reports the throughput.
+     *
+     * @param reader             The script.
+     * @param checkpointInterval Number of commands between saves, or 0 to save only at the end.
+     * @param isVerbose          Whether to show the output of each command.
+     * @param renderer           Shows the output of each command when verbose.
+     */
+    public void runScript(BufferedReader reader, int checkpointInterval, boolean isVerbose,
+            ResultRenderer renderer) {
+        load();
+        ScriptRunner runner = new ScriptRunner(input -> {
+            CommandResult result = engine.execute(input);
+            if (isVerbose) {
+                renderer.render(result);
+            }
+            return result.isSuccessful();
+        }, this::saveAll, checkpointInterval, isVerbose);
+        try {
+            runner.run(reader).print();
+        } catch (IOException e) {
+            System.out.println("Could not read the script: " + e.getMessage());
+        }
+    }
+
+    private static void runScript(String[] args) {
+        String script = null;
+        int checkpointInterval = ScriptRunner.DEFAULT_CHECKPOINT_INTERVAL;
+        boolean isVerbose = false;
+        ResultRenderer renderer = new ConsoleRenderer();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--script":
+                    script = args[++i];
+                    break;
+                case "--checkpoint":
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                    break;
+                case "--verbose":
+                    isVerbose = true;
+                    break;
+                case "--format":
+                    renderer = ResultRenderer.forFormat(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            script = null;
+        }
+        if (script == null || checkpointInterval < 0) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        Reader source;
+        try {
+            source = script.equals("-")
+                    ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                    : Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.out.println("Could not open the script " + script);
+            return;
+        }
+        try (BufferedReader reader = new BufferedReader(source, SCRIPT_BUFFER_SIZE)) {
+            new BudgetBuddy().runScript(reader, checkpointInterval, isVerbose, renderer);
+        } catch (IOException e) {
+            System.out.println("Could not close the script " + script);
+        }
+    }
+
+    /**
+     * Serves the saved data over HTTP on localhost until the JVM is stopped, then saves. Changes to the
+     * exchange rate file are applied while serving, as in the interactive loop.
+     */
+    private static void runServer(String[] args) {
+        int port = ApiServer.DEFAULT_PORT;
+        int checkpointInterval = ScriptRunner.DEFAULT_CHECKPOINT_INTERVAL;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--checkpoint":
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            checkpointInterval = -1;
+        }
+        if (port < 0 || checkpointInterval < 0) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        BudgetEngine engine = new BudgetEngine(new FileStorageBackend());
+        for (String notice : engine.load()) {
+            System.out.println(notice);
+        }
+        // Logging every request would cost more than serving it
+        Logger.getLogger("").setLevel(Level.WARNING);
+        ApiServer server;
+        try {
+            server = new ApiServer(engine, port, checkpointInterval);
+        } catch (IOException e) {
+            System.out.println("Could not listen on port " + port + ": " + e.getMessage());
+            return;
+        }
+        RateFileWatcher rates = startRateFileWatcher();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop();
+            } catch (IOException e) {
+                System.out.println("Error saving to file.");
+            }
+            closeRateFileWatcher(rates);
+        }));
+        server.start();
+        System.out.println("Serving BudgetBuddy on http://localhost:" + server.getPort() + "/");
+    }
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(args);
+            return;
+        }
+        if (args.length > 0) {
+            runScript(args);
+            return;
+        }
         new BudgetBuddy().run();
     }
 }
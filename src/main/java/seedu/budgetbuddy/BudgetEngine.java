@@ -0,0 +1,308 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.command.CommandResult;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BudgetBuddy without a console. The engine owns the expense, saving, split expense and recurring lists
+ * and keeps them in a storage backend. It can run the same commands as the CLI, returning their results
+ * instead of printing them, or be driven through typed methods. Nothing is saved until {@link #save()}
+ * is called. An engine is not thread-safe.
+ */
+public class BudgetEngine {
+    private final StorageBackend storage;
+    private final UndoHistory undoHistory;
+    private final Parser parser;
+    private final ExpenseList expenses;
+    private final SavingList savings;
+    private final SplitExpenseList splitExpenses;
+    private RecurringExpensesList recurringExpenses;
+
+    /**
+     * A change to the expenses or savings that can be undone.
+     */
+    @FunctionalInterface
+    private interface Change<T> {
+        T apply() throws BudgetBuddyException;
+    }
+
+    public BudgetEngine(StorageBackend storage) {
+        assert storage != null : "Storage backend should not be null";
+        this.storage = storage;
+        undoHistory = new UndoHistory();
+        parser = new Parser(undoHistory);
+        expenses = new ExpenseList();
+        savings = new SavingList();
+        splitExpenses = new SplitExpenseList();
+        recurringExpenses = new RecurringExpensesList();
+        recurringExpenses.useCategoriesOf(expenses);
+    }
+
+    /**
+     * Loads the saved state, then adds every scheduled recurring expense that fell due since it was saved.
+     *
+     * @return Messages for the user about what was loaded or could not be loaded.
+     */
+    public List<String> load() {
+        List<String> notices = new ArrayList<>();
+        try {
+            storage.loadCurrency();
+            loadRateHistory(notices);
+            loadCategories(notices);
+            expenses.getExpenses().addAll(storage.loadExpenses());
+            savings.getSavings().addAll(storage.loadSavings());
+            recurringExpenses = storage.loadRecurringExpenses();
+            recurringExpenses.useCategoriesOf(expenses);
+        } catch (FileNotFoundException e) {
+            notices.add("No existing files found. Starting fresh.");
+        } catch (IOException e) {
+            notices.add("Could not create files. Please ensure all files are present and are not directories");
+        }
+
+        try {
+            storage.loadSplitExpenses(splitExpenses);
+        } catch (IOException e) {
+            notices.add("Could not read saved split expenses. Starting with no split expenses. " + e.getMessage());
+        }
+        catchUpRecurringExpenses(notices);
+        return notices;
+    }
+
+    private void loadRateHistory(List<String> notices) throws IOException {
+        try {
+            RateHistory rateHistory = storage.loadRateHistory();
+            if (rateHistory != null) {
+                DefaultCurrency.setRateHistory(rateHistory);
+            }
+        } catch (BudgetBuddyException e) {
+            notices.add("Ignoring exchange rate file: " + e.getMessage());
+        }
+    }
+
+    private void loadCategories(List<String> notices) throws IOException {
+        for (String category : storage.loadCategories()) {
+            if (expenses.isValidCategory(category)) {
+                continue;
+            }
+            try {
+                expenses.addCategory(category);
+            } catch (BudgetBuddyException e) {
+                notices.add("Skipping invalid saved category: " + category);
+            }
+        }
+    }
+
+    private void catchUpRecurringExpenses(List<String> notices) {
+        List<Expense> posted;
+        try {
+            posted = RecurringScheduler.catchUp(recurringExpenses, expenses, LocalDate.now());
+        } catch (BudgetBuddyException e) {
+            notices.add("Could not add scheduled recurring expenses: " + e.getMessage());
+            return;
+        }
+        if (posted.isEmpty()) {
+            return;
+        }
+        notices.add("Added " + posted.size() + " recurring expenses that fell due since your last visit.");
+        try {
+            storage.appendExpenses(posted);
+            storage.saveRecurringExpenses(recurringExpenses);
+        } catch (IOException e) {
+            notices.add("Error saving to file.");
+        }
+    }
+
+    /**
+     * Saves the whole state to the storage backend.
+     *
+     * @throws IOException If the backend cannot save.
+     */
+    public void save() throws IOException {
+        storage.saveAll(expenses, savings, splitExpenses, recurringExpenses);
+    }
+
+    /**
+     * Parses and executes one line of CLI input without saving.
+     *
+     * @param input The user input string.
+     * @return What the command produced, or a failure if the input is not a valid command.
+     */
+    public CommandResult execute(String input) {
+        Command command;
+        try {
+            command = parser.parseCommand(expenses, savings, splitExpenses, recurringExpenses, input);
+        } catch (InvalidCommandException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+        if (command == null) {
+            return CommandResult.failure("(Invalid command)");
+        }
+
+        LedgerSnapshot before = LedgerSnapshot.capture(expenses, savings);
+        CommandResult result = command.execute();
+        if (command.isUndoable()) {
+            undoHistory.record(before, LedgerSnapshot.capture(expenses, savings));
+        }
+        return result;
+    }
+
+    public boolean isExitCommand(String input) {
+        return parser.isExitCommand(input);
+    }
+
+    private <T> T change(Change<T> change) throws BudgetBuddyException {
+        LedgerSnapshot before = LedgerSnapshot.capture(expenses, savings);
+        T changed = change.apply();
+        undoHistory.record(before, LedgerSnapshot.capture(expenses, savings));
+        return changed;
+    }
+
+    /**
+     * Adds an expense in the default currency.
+     *
+     * @return The added expense.
+     * @throws BudgetBuddyException If the category is not listed or the amount is negative or not finite.
+     */
+    public Expense addExpense(String category, double amount, String description, List<String> tags)
+            throws BudgetBuddyException {
+        return change(() -> {
+            expenses.addExpense(category, amount, description, tags);
+            return expenses.getExpenses().get(expenses.size() - 1);
+        });
+    }
+
+    /**
+     * Deletes the expense at the given zero-based index.
+     *
+     * @throws BudgetBuddyException If there is no expense at the index.
+     */
+    public void deleteExpense(int index) throws BudgetBuddyException {
+        change(() -> {
+            expenses.removeExpense(index);
+            return null;
+        });
+    }
+
+    /**
+     * Adds a saving in the default currency.
+     *
+     * @return The added saving.
+     * @throws BudgetBuddyException If the category is not listed.
+     */
+    public Saving addSaving(String category, int amount) throws BudgetBuddyException {
+        return change(() -> {
+            savings.addSaving(category, Integer.toString(amount));
+            return savings.getSavings().get(savings.size() - 1);
+        });
+    }
+
+    public void addCategory(String category) throws BudgetBuddyException {
+        expenses.addCategory(category);
+    }
+
+    /**
+     * Sets the budget of a category.
+     *
+     * @return true if the category already had a budget that was replaced.
+     * @throws BudgetBuddyException If the category is not listed or the budget is not valid.
+     */
+    public boolean setBudget(String category, double budget) throws BudgetBuddyException {
+        ExpenseList.checkBudget(budget);
+        if (!expenses.isValidCategory(category)) {
+            throw new BudgetBuddyException("The category '" + category + "' is not listed.");
+        }
+        return change(() -> expenses.putBudget(category, budget));
+    }
+
+    /**
+     * Returns the budget of a category, or null if it has none.
+     */
+    public Budget getBudget(String category) {
+        return expenses.findBudget(category);
+    }
+
+    public List<Budget> getBudgets() {
+        return Collections.unmodifiableList(expenses.getBudgets());
+    }
+
+    public List<Expense> getExpenses() {
+        return Collections.unmodifiableList(expenses.getExpenses());
+    }
+
+    public List<Saving> getSavings() {
+        return Collections.unmodifiableList(savings.getSavings());
+    }
+
+    public List<String> getCategories() {
+        return Collections.unmodifiableList(expenses.getCategories());
+    }
+
+    /**
+     * Finds expenses by description and amount. Null criteria match every expense.
+     */
+    public List<Expense> findExpenses(String description, Double minAmount, Double maxAmount) {
+        return expenses.filterExpenses(description == null ? "" : description, minAmount, maxAmount);
+    }
+
+    /**
+     * Finds expenses that have every tag in allOf and none of the tags in noneOf.
+     */
+    public List<Expense> findTaggedExpenses(List<String> allOf, List<String> noneOf) {
+        return expenses.filterExpensesByTags(allOf, noneOf);
+    }
+
+    /**
+     * Returns the total of all expenses in the default currency.
+     */
+    public double getTotalExpenses() {
+        return expenses.calculateTotalExpenses();
+    }
+
+    /**
+     * Returns the total expenses of each category, as used by the expense insights.
+     */
+    public Map<String, Double> getExpenseTotalsByCategory() {
+        return ExpenseColumns.of(expenses.getExpenses()).sumsByCategory();
+    }
+
+    /**
+     * Returns the net position of every split expense participant, positive if they are owed money.
+     */
+    public Map<String, Double> getNetBalances() {
+        return splitExpenses.getNetBalances();
+    }
+
+    public boolean undo() {
+        return undoHistory.undo(expenses, savings);
+    }
+
+    public boolean redo() {
+        return undoHistory.redo(expenses, savings);
+    }
+
+    public ExpenseList getExpenseList() {
+        return expenses;
+    }
+
+    public SavingList getSavingList() {
+        return savings;
+    }
+
+    public SplitExpenseList getSplitExpenseList() {
+        return splitExpenses;
+    }
+
+    public RecurringExpensesList getRecurringExpensesList() {
+        return recurringExpenses;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the leading keywords of each command to the factory that creates it. Keywords are kept in a trie,
+ * so finding the command for a line takes a single pass over its first characters however many commands
+ * are registered. When more than one keyword matches, the longest one wins, so "settle debt" is chosen
+ * over "settle".
+ */
+public class CommandTable {
+
+    /**
+     * Creates the command for a line whose keyword matched. Factories should not hold state of their own,
+     * so that one instance can serve every line. Input that matched the keyword but is not valid is
+     * reported with an InvalidCommandException carrying the message for the user.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        Command create(ExpenseList expenses, SavingList savings, SplitExpenseList splitexpenses,
+                RecurringExpensesList expensesList, String input) throws InvalidCommandException;
+    }
+
+    /**
+     * How a keyword has to match the input.
+     */
+    public enum Match {
+        /** The input starts with the keyword. */
+        PREFIX,
+        /** The input is exactly the keyword. */
+        EXACT,
+        /** The input is the keyword, ignoring leading and trailing whitespace. */
+        TRIMMED,
+        /** The input is the keyword, ignoring case. */
+        IGNORE_CASE
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private String keyword;
+        private Match match;
+        private Factory factory;
+    }
+
+    private final Node root = new Node();
+    private int size;
+
+    /**
+     * Registers the factory for a keyword.
+     *
+     * @param keyword The keyword, such as "add expense".
+     * @param match   How the keyword has to match the input.
+     * @param factory Creates the command.
+     */
+    public void register(String keyword, Match match, Factory factory) {
+        assert keyword != null && !keyword.isEmpty() : "Keyword should not be empty";
+        Node node = root;
+        for (int i = 0; i < keyword.length(); i++) {
+            node = node.children.computeIfAbsent(Character.toLowerCase(keyword.charAt(i)), c -> new Node());
+        }
+        if (node.factory != null) {
+            throw new IllegalArgumentException("Keyword " + keyword + " is already registered");
+        }
+        node.keyword = keyword;
+        node.match = match;
+        node.factory = factory;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the factory for the longest keyword matching the input.
+     *
+     * @param input The user input string.
+     * @return The factory, or null if no keyword matches.
+     */
+    public Factory lookup(String input) {
+        int start = 0;
+        while (start < input.length() && input.charAt(start) <= ' ') {
+            start++;
+        }
+
+        Node node = root;
+        Factory found = null;
+        for (int i = start; i < input.length(); i++) {
+            node = node.children.get(Character.toLowerCase(input.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.factory != null && matches(node, input, start, i + 1)) {
+                found = node.factory;
+            }
+        }
+        return found;
+    }
+
+    private static boolean matches(Node node, String input, int start, int end) {
+        switch (node.match) {
+        case PREFIX:
+            return start == 0 && input.startsWith(node.keyword);
+        case EXACT:
+            return start == 0 && end == input.length() && input.startsWith(node.keyword);
+        case TRIMMED:
+            for (int i = end; i < input.length(); i++) {
+                if (input.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return input.startsWith(node.keyword, start);
+        case IGNORE_CASE:
+            return start == 0 && end == input.length();
+        default:
+            return false;
+        }
+    }
+}
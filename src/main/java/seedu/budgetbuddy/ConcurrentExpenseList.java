@@ -0,0 +1,158 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ExpenseList that threads can share, e.g. a server or a report generator. Expenses and budgets are
+ * published as persistent vectors, so a snapshot after a change shares almost everything with the one
+ * before it. The CLI keeps using a plain ExpenseList.
+ */
+public class ConcurrentExpenseList extends ConcurrentList<ExpenseList, ConcurrentExpenseList.Snapshot> {
+
+    /**
+     * The expenses, budgets and categories after one change.
+     */
+    public static class Snapshot {
+        private final PersistentVector<Expense> expenses;
+        private final PersistentVector<Budget> budgets;
+        private final List<String> categories;
+
+        private Snapshot(ExpenseList list) {
+            expenses = list.getVersionedExpenses();
+            budgets = list.getVersionedBudgets();
+            categories = List.copyOf(list.getCategories());
+        }
+
+        public PersistentVector<Expense> getExpenses() {
+            return expenses;
+        }
+
+        public PersistentVector<Budget> getBudgets() {
+            return budgets;
+        }
+
+        public List<String> getCategories() {
+            return categories;
+        }
+
+        /**
+         * Returns the total of the expenses in the default currency.
+         */
+        public double getTotal() {
+            double total = 0;
+            for (Expense expense : expenses) {
+                total += expense.getAmount();
+            }
+            return total;
+        }
+
+        /**
+         * Finds expenses by description and amount, like ExpenseList.filterExpenses. Null amounts match
+         * every expense.
+         */
+        public List<Expense> findExpenses(String description, Double minAmount, Double maxAmount) {
+            return ExpenseList.filterExpenses(expenses, description, minAmount, maxAmount);
+        }
+
+        /**
+         * Returns the total expenses of each category, in order of first appearance.
+         */
+        public Map<String, Double> getTotalsByCategory() {
+            return ExpenseColumns.of(expenses.toArrayList()).sumsByCategory();
+        }
+
+        /**
+         * Returns the budget of a category, ignoring case, or null if it has none.
+         */
+        public Budget findBudget(String category) {
+            for (Budget budget : budgets) {
+                if (budget.getCategory().equalsIgnoreCase(category)) {
+                    return budget;
+                }
+            }
+            return null;
+        }
+    }
+
+    public ConcurrentExpenseList(ExpenseList expenses) {
+        super(expenses);
+    }
+
+    public ConcurrentExpenseList() {
+        this(new ExpenseList());
+    }
+
+    @Override
+    protected Snapshot snapshotOf(ExpenseList list) {
+        return new Snapshot(list);
+    }
+
+    public int size() {
+        return getSnapshot().getExpenses().size();
+    }
+
+    /**
+     * Adds an expense in the default currency.
+     *
+     * @throws BudgetBuddyException If the category is not listed or the amount is invalid.
+     */
+    public void addExpense(String category, String amount, String description, List<String> tags)
+            throws BudgetBuddyException {
+        write(list -> {
+            list.addExpense(category, amount, description, tags);
+            return null;
+        });
+    }
+
+    /**
+     * Edits the expense at the given one-based index, like ExpenseList.updateExpense.
+     *
+     * @throws BudgetBuddyException If the category or index is invalid.
+     */
+    public void updateExpense(String category, int index, double amount, String description)
+            throws BudgetBuddyException {
+        write(list -> {
+            list.updateExpense(category, index, amount, description);
+            return null;
+        });
+    }
+
+    /**
+     * Deletes the expense at the given zero-based index.
+     *
+     * @throws BudgetBuddyException If there is no expense at the index.
+     */
+    public void removeExpense(int index) throws BudgetBuddyException {
+        write(list -> {
+            list.removeExpense(index);
+            return null;
+        });
+    }
+
+    public void addCategory(String category) throws BudgetBuddyException {
+        write(list -> {
+            list.addCategory(category);
+            return null;
+        });
+    }
+
+    /**
+     * Sets the budget of a category.
+     *
+     * @return true if the category already had a budget that was replaced.
+     */
+    public boolean putBudget(String category, double budget) throws BudgetBuddyException {
+        return write(list -> list.putBudget(category, budget));
+    }
+
+    /**
+     * Finds expenses by description and amount in the latest snapshot, like ExpenseList.filterExpenses.
+     * Null amounts match every expense.
+     */
+    public List<Expense> findExpenses(String description, Double minAmount, Double maxAmount) {
+        return getSnapshot().findExpenses(description, minAmount, maxAmount);
+    }
+}
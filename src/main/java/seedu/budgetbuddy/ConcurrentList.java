@@ -0,0 +1,85 @@
+package seedu.budgetbuddy;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * Shares a list between threads. Changes run one at a time under the write lock of a StampedLock, and
+ * after each change an immutable snapshot of the list is published. Readers take the latest snapshot,
+ * which needs no lock at all. Reads that a snapshot cannot answer read the list itself under the read
+ * lock. The list must only be changed through {@link #write}.
+ *
+ * @param <L> The type of the list.
+ * @param <S> The type of its snapshots.
+ */
+public abstract class ConcurrentList<L, S> {
+    private final StampedLock lock = new StampedLock();
+    private final L list;
+    private volatile S snapshot;
+
+    /**
+     * A change to the list, run under the write lock.
+     *
+     * @param <L> The type of the list.
+     * @param <T> The type of the result of the change.
+     * @param <E> The type of exception the change may throw.
+     */
+    @FunctionalInterface
+    public interface Change<L, T, E extends Exception> {
+        T apply(L list) throws E;
+    }
+
+    protected ConcurrentList(L list) {
+        assert list != null : "List should not be null";
+        this.list = list;
+        this.snapshot = snapshotOf(list);
+    }
+
+    /**
+     * Returns an immutable copy of the list. Called under the write lock after every change, so it
+     * should be cheap, e.g. by sharing structure with the previous snapshot.
+     */
+    protected abstract S snapshotOf(L list);
+
+    /**
+     * Returns the snapshot published after the latest change.
+     */
+    public S getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Changes the list while no other change or locked read runs, then publishes a new snapshot. The
+     * snapshot is published even if the change fails, in case it changed the list before failing.
+     *
+     * @param change The change.
+     * @return The result of the change.
+     * @throws E If the change fails.
+     */
+    public <T, E extends Exception> T write(Change<L, T, E> change) throws E {
+        long stamp = lock.writeLock();
+        try {
+            return change.apply(list);
+        } finally {
+            snapshot = snapshotOf(list);
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Reads the list itself under the read lock, for reads that a snapshot does not answer. Several
+     * readers may run at once, so the reader must not change the list, not even a cache inside it as
+     * calculateTotalExpenses and filterExpensesByTags of ExpenseList do.
+     *
+     * @param reader Reads the list.
+     * @return What the reader returned.
+     */
+    public <T> T read(Function<L, T> reader) {
+        long stamp = lock.readLock();
+        try {
+            return reader.apply(list);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
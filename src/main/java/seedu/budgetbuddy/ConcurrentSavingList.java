@@ -0,0 +1,74 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+/**
+ * A SavingList that threads can share. Savings are published as a persistent vector after every change.
+ * The CLI keeps using a plain SavingList.
+ */
+public class ConcurrentSavingList extends ConcurrentList<SavingList, PersistentVector<Saving>> {
+
+    public ConcurrentSavingList(SavingList savings) {
+        super(savings);
+    }
+
+    public ConcurrentSavingList() {
+        this(new SavingList());
+    }
+
+    @Override
+    protected PersistentVector<Saving> snapshotOf(SavingList list) {
+        return list.getVersionedSavings();
+    }
+
+    public int size() {
+        return getSnapshot().size();
+    }
+
+    /**
+     * Returns the total of the latest savings in the default currency.
+     */
+    public double getTotal() {
+        double total = 0;
+        for (Saving saving : getSnapshot()) {
+            total += saving.getAmount();
+        }
+        return total;
+    }
+
+    /**
+     * Adds a saving in the default currency.
+     *
+     * @throws BudgetBuddyException If the category is not listed.
+     */
+    public void addSaving(String category, String amount) throws BudgetBuddyException {
+        write(list -> {
+            list.addSaving(category, amount);
+            return null;
+        });
+    }
+
+    /**
+     * Edits the saving at the given one-based index, like SavingList.updateSaving.
+     *
+     * @throws BudgetBuddyException If the category or index is invalid.
+     */
+    public void updateSaving(String category, int index, double amount) throws BudgetBuddyException {
+        write(list -> {
+            list.updateSaving(category, index, amount);
+            return null;
+        });
+    }
+
+    /**
+     * Takes an amount out of the saving at the given zero-based index, like SavingList.subtractFromSaving.
+     *
+     * @throws BudgetBuddyException If the index is invalid or the saving is too small.
+     */
+    public void subtractFromSaving(int index, double amount) throws BudgetBuddyException {
+        write(list -> {
+            list.subtractFromSaving(index, amount);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A SplitExpenseList that threads can share. Split lists are short, so every change publishes a copy of
+ * the bills together with the balances and outstanding total they add up to. The CLI keeps using a
+ * plain SplitExpenseList.
+ */
+public class ConcurrentSplitExpenseList
+        extends ConcurrentList<SplitExpenseList, ConcurrentSplitExpenseList.Snapshot> {
+
+    /**
+     * The bills, balances and outstanding total after one change.
+     */
+    public static class Snapshot {
+        private final List<SplitExpense> splitExpenses;
+        private final Map<String, Double> netBalances;
+        private final double outstandingTotal;
+
+        private Snapshot(SplitExpenseList list) {
+            splitExpenses = List.copyOf(list.getSplitExpenses());
+            netBalances = Collections.unmodifiableMap(list.getNetBalances());
+            outstandingTotal = list.getOutstandingTotal();
+        }
+
+        public List<SplitExpense> getSplitExpenses() {
+            return splitExpenses;
+        }
+
+        public Map<String, Double> getNetBalances() {
+            return netBalances;
+        }
+
+        public double getOutstandingTotal() {
+            return outstandingTotal;
+        }
+    }
+
+    public ConcurrentSplitExpenseList(SplitExpenseList splitExpenses) {
+        super(splitExpenses);
+    }
+
+    public ConcurrentSplitExpenseList() {
+        this(new SplitExpenseList());
+    }
+
+    @Override
+    protected Snapshot snapshotOf(SplitExpenseList list) {
+        return new Snapshot(list);
+    }
+
+    /**
+     * Adds a bill shared among named participants, like SplitExpenseList.addSplitExpense.
+     *
+     * @return The split expense that was added.
+     * @throws BudgetBuddyException If the amount or the shares are invalid.
+     */
+    public SplitExpense addSplitExpense(String amount, String payer, String participants, String description)
+            throws BudgetBuddyException {
+        return write(list -> list.addSplitExpense(amount, payer, participants, description));
+    }
+
+    /**
+     * Settles the bill at the given zero-based index.
+     *
+     * @throws BudgetBuddyException If there is no bill at the index.
+     */
+    public void settleSplitExpense(int index) throws BudgetBuddyException {
+        write(list -> {
+            if (index < 0 || index >= list.size()) {
+                throw new BudgetBuddyException("Invalid split expense index.");
+            }
+            list.settleSplitExpenses(index);
+            return null;
+        });
+    }
+
+    /**
+     * Records a payment between two participants, like SplitExpenseList.settleDebt.
+     *
+     * @return The recorded settlement.
+     * @throws BudgetBuddyException If the amount is invalid or larger than what is owed.
+     */
+    public Settlement settleDebt(String from, String to, String amount) throws BudgetBuddyException {
+        return write(list -> list.settleDebt(from, to, amount));
+    }
+}
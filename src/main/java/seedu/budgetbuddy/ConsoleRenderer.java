@@ -0,0 +1,42 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.CommandResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prints results the way the interactive loop always has. Results with a console view are shown by it,
+ * and the rest are printed as messages, a simple table, totals and errors.
+ */
+public class ConsoleRenderer implements ResultRenderer {
+    @Override
+    public void render(CommandResult result) {
+        if (result.getConsoleView() != null) {
+            result.getConsoleView().run();
+            return;
+        }
+        for (String message : result.getMessages()) {
+            System.out.println(message);
+        }
+        if (result.hasTable()) {
+            System.out.println(String.join(" | ", result.getColumns()));
+            for (List<Object> row : result.getRows()) {
+                StringBuilder line = new StringBuilder();
+                for (Object cell : row) {
+                    if (line.length() > 0) {
+                        line.append(" | ");
+                    }
+                    line.append(cell);
+                }
+                System.out.println(line);
+            }
+        }
+        for (Map.Entry<String, Double> total : result.getTotals().entrySet()) {
+            System.out.printf("%s: %.2f%n", total.getKey(), total.getValue());
+        }
+        for (String error : result.getErrors()) {
+            System.out.println(error);
+        }
+    }
+}
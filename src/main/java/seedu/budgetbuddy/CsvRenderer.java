@@ -0,0 +1,69 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.CommandResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes results as CSV. A table is written as a header line and one line per row, followed by a
+ * "label,value" line for each total. A result without a table is written as one line per message and
+ * error. Fields are quoted as described in RFC 4180 when they need to be.
+ */
+public class CsvRenderer implements ResultRenderer {
+    @Override
+    public void render(CommandResult result) {
+        System.out.print(format(result));
+    }
+
+    /**
+     * Returns the CSV text of a result, with each line ending in a line break.
+     */
+    public String format(CommandResult result) {
+        StringBuilder csv = new StringBuilder();
+        if (result.hasTable()) {
+            appendLine(csv, result.getColumns());
+            for (List<Object> row : result.getRows()) {
+                appendLine(csv, row);
+            }
+            for (Map.Entry<String, Double> total : result.getTotals().entrySet()) {
+                appendLine(csv, List.of(total.getKey(), total.getValue()));
+            }
+            return csv.toString();
+        }
+
+        for (String message : result.getMessages()) {
+            appendLine(csv, List.of(message));
+        }
+        for (Map.Entry<String, Double> total : result.getTotals().entrySet()) {
+            appendLine(csv, List.of(total.getKey(), total.getValue()));
+        }
+        for (String error : result.getErrors()) {
+            appendLine(csv, List.of(error));
+        }
+        return csv.toString();
+    }
+
+    private static void appendLine(StringBuilder csv, List<?> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            appendField(csv, String.valueOf(fields.get(i)));
+        }
+        csv.append("\r\n");
+    }
+
+    private static void appendField(StringBuilder csv, String field) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!needsQuotes) {
+            csv.append(field);
+            return;
+        }
+        csv.append('"').append(field.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy;
 
+import java.time.LocalDate;
 import java.util.Currency;
 import java.util.HashMap;
 import java.util.Map;
@@ -9,6 +10,9 @@ public class CurrencyConverter {
 
     private static final Logger LOGGER = Logger.getLogger(CurrencyConverter.class.getName());
     private Map<Currency, Double> exchangeRates;
+    // Replaced as a whole when new rates are loaded, so readers always see one consistent set of rates
+    private volatile RateTable rates;
+
     public CurrencyConverter() {
         this.exchangeRates = new HashMap<>();
         // Initialize exchange rates with default values
@@ -20,6 +24,64 @@ public class CurrencyConverter {
         exchangeRates.put(Currency.getInstance("MYR"), 3.51);
         exchangeRates.put(Currency.getInstance("CNY"), 5.36);
         exchangeRates.put(Currency.getInstance("HKD"), 5.80);
+        this.rates = new RateTable(compileBaseRates(exchangeRates), null);
+    }
+
+    private static double[] compileBaseRates(Map<Currency, Double> exchangeRates) {
+        double[] rates = new double[CurrencyRegistry.size()];
+        for (int ordinal = 0; ordinal < rates.length; ordinal++) {
+            Double rate = exchangeRates.get(CurrencyRegistry.currencyAt(ordinal));
+            rates[ordinal] = (rate == null || rate <= 0) ? Double.NaN : rate;
+        }
+        return rates;
+    }
+
+    /**
+     * Compiles rates relative to SGD into a dense matrix of direct conversion factors between every pair
+     * of currencies.
+     *
+     * @param rates The amount of each currency that equals 1 SGD, indexed by CurrencyRegistry ordinal.
+     * @return The cross-rate matrix, indexed by CurrencyRegistry ordinal.
+     */
+    private static double[][] compileCrossRates(double[] rates) {
+        int size = rates.length;
+        double[][] matrix = new double[size][size];
+        for (int from = 0; from < size; from++) {
+            for (int to = 0; to < size; to++) {
+                matrix[from][to] = from == to ? 1.0 : rates[to] / rates[from];
+            }
+        }
+        return matrix;
+    }
+
+    private static IllegalArgumentException missingRate() {
+        LOGGER.warning("Exchange rates not available for one or more currencies");
+        return new IllegalArgumentException("Exchange rates not available for one or more currencies");
+    }
+
+    /**
+     * Returns the factor converting amounts between two currencies at the latest rates.
+     *
+     * @throws IllegalArgumentException If exchange rates are not available for one or both currencies.
+     */
+    private double rateBetween(Currency fromCurrency, Currency toCurrency) {
+        double rate = rates.latestFactor(CurrencyRegistry.indexOf(fromCurrency), CurrencyRegistry.indexOf(toCurrency));
+        if (Double.isNaN(rate)) {
+            throw missingRate();
+        }
+        assert rate > 0 : "Exchange rate must be a positive number: " + rate;
+        return rate;
+    }
+
+    /**
+     * Returns whether the latest rates include the given currency.
+     *
+     * @param currency The currency to check.
+     * @return True if amounts can be converted to and from the currency.
+     */
+    public boolean hasRate(Currency currency) {
+        int ordinal = CurrencyRegistry.indexOf(currency);
+        return !Double.isNaN(rates.latestFactor(ordinal, ordinal));
     }
 
     /**
@@ -29,124 +91,190 @@ public class CurrencyConverter {
      * @param fromCurrency The currency of the original amount.
      * @param toCurrency  The currency to which the amount is to be converted.
      * @return The converted amount in the target currency.
-     * @throws IllegalArgumentException If exchange rates are not available for one or both currencies,
-     *                                  or if exchange rates are not positive numbers.
+     * @throws IllegalArgumentException If exchange rates are not available for one or both currencies.
      */
     public double convertAmount(double amount, Currency fromCurrency, Currency toCurrency) {
-        // Check if exchange rates for both currencies are available
-        if (!exchangeRates.containsKey(fromCurrency) || !exchangeRates.containsKey(toCurrency)) {
-            LOGGER.warning("Exchange rates not available for one or more currencies");
-            throw new IllegalArgumentException("Exchange rates not available for one or more currencies");
+        double rate = rateBetween(fromCurrency, toCurrency);
+        return fromCurrency.equals(toCurrency) ? amount : amount * rate;
+    }
+
+    /**
+     * Converts an amount from one currency to another using the exchange rates that applied on the given date.
+     * Falls back to the default exchange rates if no rate history is loaded or it lacks one of the currencies.
+     *
+     * @param amount       The amount to be converted.
+     * @param fromCurrency The currency of the original amount.
+     * @param toCurrency   The currency to which the amount is to be converted.
+     * @param date         The date of the transaction.
+     * @return The converted amount in the target currency.
+     * @throws IllegalArgumentException If exchange rates are not available for one or both currencies.
+     */
+    public double convertAmount(double amount, Currency fromCurrency, Currency toCurrency, LocalDate date) {
+        RateTable table = rates;
+        int from = CurrencyRegistry.indexOf(fromCurrency);
+        int to = CurrencyRegistry.indexOf(toCurrency);
+        double rate = (from < 0 || to < 0) ? Double.NaN
+                : table.factorBetween(from, to, table.periodOf((int) date.toEpochDay()));
+        if (Double.isNaN(rate)) {
+            throw missingRate();
         }
-        assert exchangeRates.containsKey(fromCurrency) : "Exchange rates not available for fromCurrency: "
-                + fromCurrency;
-        assert exchangeRates.containsKey(toCurrency) : "Exchange rates not available for toCurrency: " + toCurrency;
+        return from == to ? amount : amount * rate;
+    }
 
+    /**
+     * Converts amounts that are all in the same currency to another currency.
+     *
+     * @param amounts      The amounts to be converted.
+     * @param fromCurrency The currency of the original amounts.
+     * @param toCurrency   The currency to which the amounts are to be converted.
+     * @return A new array with the converted amounts, in the same order.
+     * @throws IllegalArgumentException If exchange rates are not available for one or both currencies.
+     */
+    public double[] convertAll(double[] amounts, Currency fromCurrency, Currency toCurrency) {
+        double rate = rateBetween(fromCurrency, toCurrency);
+        double[] converted = new double[amounts.length];
+        AmountKernels.scale(amounts, rate, converted, amounts.length);
+        return converted;
+    }
 
-        double fromRate = exchangeRates.get(fromCurrency);
-        double toRate = exchangeRates.get(toCurrency);
+    /**
+     * Converts amounts in mixed currencies to one currency.
+     *
+     * @param amounts          The amounts to be converted.
+     * @param currencyOrdinals The CurrencyRegistry ordinal of the currency of each amount.
+     * @param toCurrency       The currency to which the amounts are to be converted.
+     * @return A new array with the converted amounts, in the same order.
+     * @throws IllegalArgumentException If an exchange rate is not available for one of the currencies.
+     */
+    public double[] convertAll(double[] amounts, int[] currencyOrdinals, Currency toCurrency) {
+        assert amounts.length == currencyOrdinals.length : "Every amount should have a currency";
 
-        if (fromRate <= 0 || toRate <= 0) {
-            LOGGER.warning("Exchange rates must be positive numbers");
-            throw new IllegalArgumentException("Exchange rates must be positive numbers");
-        }
-        // Check if exchange rates are positive numbers
-        assert fromRate > 0 : "Exchange rate for fromCurrency must be a positive number: " + fromRate;
-        assert toRate > 0 : "Exchange rate for toCurrency must be a positive number: " + toRate;
-
-        LOGGER.info("Converting " + amount + " " + fromCurrency + " to " + toCurrency);
-
-        if (!fromCurrency.equals(toCurrency)) {
-            // Convert to SGD first
-            double amountInSGD = amount / fromRate;
-            // Then convert from SGD to the target currency
-            double convertedAmount = amountInSGD * toRate;
-            LOGGER.info("Conversion successful. Result: " + convertedAmount + " " + toCurrency);
-            return convertedAmount;
-        } else {
-            // If the currencies are the same, no conversion needed
-            LOGGER.info("Same currency. No conversion needed.");
-            return amount;
+        double[] factors = rates.latestColumn(CurrencyRegistry.indexOf(toCurrency));
+        double[] converted = new double[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            int ordinal = currencyOrdinals[i];
+            double factor = ordinal < factors.length ? factors[ordinal] : Double.NaN;
+            if (Double.isNaN(factor)) {
+                throw missingRate();
+            }
+            converted[i] = amounts[i] * factor;
         }
+        return converted;
     }
 
     /**
-     * Converts the currency of expenses in the given ExpenseList to the specified new currency.
-     * No conversion necessary if trying to convert to the same currency.
+     * Sets the dated exchange rates to use. Conversions without a date use the latest rates of the history.
+     * The new rates replace the old ones in a single step, so concurrent conversions never see a mix of both.
      *
-     * @param newCurrency The new currency to convert expenses to.
-     * @param expenses    The ExpenseList containing the expenses to be converted.
-     * @throws IllegalArgumentException If the ExpenseList is null.
+     * @param rateHistory The rate history, or null to use only the default exchange rates.
      */
-    public void convertExpenseCurrency(Currency newCurrency, ExpenseList expenses) {
-        // Check if the ExpenseList is not null
-        if (expenses == null) {
-            throw new IllegalArgumentException("ExpenseList cannot be null");
-        }
-        assert expenses != null : "ExpenseList cannot be null";
-
-        if (DefaultCurrency.getDefaultCurrency() == newCurrency) {
-            System.out.println("Same currency. No conversion needed");
-        } else {
-            for (Expense expense : expenses.getExpenses()) {
-                // Skip if the current expense is null
-                if (expense == null) {
-                    LOGGER.warning("Skipping null expense");
-                    System.out.println("Skipping null expense");
-                    continue;
-                }
-
-                try {
-                    double convertedAmount = convertAmount(expense.getAmount(), expense.getCurrency(), newCurrency);
-                    expense.setAmount(convertedAmount);
-                    expense.setCurrency(newCurrency);
-                } catch (IllegalArgumentException e) {
-                    // Handle any IllegalArgumentException thrown during conversion
-                    LOGGER.severe("Error converting amount for expense: " + e.getMessage());
-                    System.out.println("Error converting amount for expense: " + e.getMessage());
-                }
+    public void setRateHistory(RateHistory rateHistory) {
+        rates = new RateTable(compileBaseRates(exchangeRates), rateHistory);
+    }
+
+    /**
+     * Returns the rate period that applies on the given day. Always 0 if no rate history is loaded.
+     *
+     * @param epochDay The day, as days since 1970-01-01.
+     * @return The index of the rate period.
+     */
+    public int periodOf(int epochDay) {
+        return rates.periodOf(epochDay);
+    }
+
+    /**
+     * Returns the factors that convert an amount in each registered currency to the target currency,
+     * indexed by rate period and then by CurrencyRegistry ordinal.
+     * The factor is NaN for currencies without an exchange rate, and every factor is NaN if the target
+     * currency has none.
+     *
+     * @param toCurrency The currency to convert to.
+     * @return An array with one row of conversion factors per rate period.
+     */
+    public double[][] getFactorTableTo(Currency toCurrency) {
+        RateTable table = rates;
+        int to = CurrencyRegistry.indexOf(toCurrency);
+        double[][] factors = new double[table.getPeriodCount()][CurrencyRegistry.size()];
+        for (int period = 0; period < factors.length; period++) {
+            for (int from = 0; from < factors[period].length; from++) {
+                factors[period][from] = to < 0 ? Double.NaN : table.factorBetween(from, to, period);
             }
-            System.out.println("Default currency for Expenses changed to " + newCurrency);
         }
+        return factors;
     }
 
     /**
-     * Converts the currency of savings in the given SavingList to the specified new currency.
-     * No conversion necessary if trying to convert to the same currency.
+     * Returns the factors that convert an amount in each registered currency to the target currency
+     * at the latest rates, indexed by CurrencyRegistry ordinal. The factor is NaN for currencies without
+     * an exchange rate.
      *
-     * @param newCurrency The new currency to convert savings to.
-     * @param savings     The SavingList containing the savings to be converted.
-     * @throws IllegalArgumentException If the SavingList is null.
+     * @param toCurrency The currency to convert to.
+     * @return An array with one conversion factor per registered currency.
      */
-    public void convertSavingCurrency(Currency newCurrency, SavingList savings) {
-        // Check if the SavingList is not null
-        if (savings == null) {
-            throw new IllegalArgumentException("SavingList cannot be null");
+    public double[] getFactorsTo(Currency toCurrency) {
+        double[][] factors = getFactorTableTo(toCurrency);
+        return factors[factors.length - 1];
+    }
+
+    /**
+     * An immutable set of exchange rates: the default rates, an optional rate history, and the cross-rate
+     * matrix of the latest rates.
+     */
+    private static final class RateTable {
+        // Rate of each currency relative to SGD, indexed by CurrencyRegistry ordinal
+        private final double[] baseRates;
+        // Dated rates that take precedence over the default rates, null if none were loaded
+        private final RateHistory history;
+        // crossRates[from][to] converts from one currency to another at the latest rates, NaN if a rate is missing
+        private final double[][] crossRates;
+
+        private RateTable(double[] baseRates, RateHistory history) {
+            this.baseRates = baseRates;
+            this.history = history;
+            double[] latestRates = new double[baseRates.length];
+            for (int ordinal = 0; ordinal < latestRates.length; ordinal++) {
+                latestRates[ordinal] = rateIn(getPeriodCount() - 1, ordinal);
+            }
+            this.crossRates = compileCrossRates(latestRates);
         }
-        assert savings != null : "SavingList cannot be null";
-
-        if (DefaultCurrency.getDefaultCurrency() == newCurrency) {
-            System.out.println("Same currency. No conversion needed");
-        } else {
-            for (Saving saving : savings.getSavings()) {
-                // Skip if the current saving is null
-                if (saving == null) {
-                    LOGGER.warning("Skipping null saving");
-                    System.out.println("Skipping null saving");
-                    continue;
-                }
-
-                try {
-                    double convertedAmount = convertAmount(saving.getAmount(), saving.getCurrency(), newCurrency);
-                    saving.setAmount(convertedAmount);
-                    saving.setCurrency(newCurrency);
-                } catch (IllegalArgumentException e) {
-                    // Handle any IllegalArgumentException thrown during conversion
-                    LOGGER.severe("Error converting amount for saving: " + e.getMessage());
-                    System.out.println("Error converting amount for saving: " + e.getMessage());
-                }
+
+        private int getPeriodCount() {
+            return history == null ? 1 : history.getPeriodCount();
+        }
+
+        private int periodOf(int epochDay) {
+            return history == null ? 0 : history.periodOf(epochDay);
+        }
+
+        private double rateIn(int period, int ordinal) {
+            double rate = history == null ? Double.NaN : history.getRate(period, ordinal);
+            if (Double.isNaN(rate) && ordinal < baseRates.length) {
+                rate = baseRates[ordinal];
+            }
+            return rate;
+        }
+
+        private double latestFactor(int from, int to) {
+            boolean isInMatrix = from >= 0 && to >= 0 && from < crossRates.length && to < crossRates.length;
+            return isInMatrix ? crossRates[from][to] : Double.NaN;
+        }
+
+        private double[] latestColumn(int to) {
+            double[] column = new double[crossRates.length];
+            for (int from = 0; from < column.length; from++) {
+                column[from] = latestFactor(from, to);
+            }
+            return column;
+        }
+
+        /**
+         * Returns the factor converting between two currencies in the given period, or NaN if a rate is missing.
+         */
+        private double factorBetween(int from, int to, int period) {
+            if (history == null) {
+                return latestFactor(from, to);
             }
-            System.out.println("Default currency for Savings changed to " + newCurrency);
+            return from == to ? 1.0 : rateIn(period, to) / rateIn(period, from);
         }
     }
 }
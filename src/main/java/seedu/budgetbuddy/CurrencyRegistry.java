@@ -0,0 +1,119 @@
+package seedu.budgetbuddy;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns every currency used by BudgetBuddy a small, stable ordinal so that transactions
+ * can store a single byte instead of a Currency reference.
+ * The supported currencies are registered first, other currencies get the next free ordinal on first use.
+ */
+public class CurrencyRegistry {
+    public static final int MAX_CURRENCIES = 256;
+
+    private static final String[] SUPPORTED_CURRENCY_CODES = {"SGD", "USD", "EUR", "JPY", "KRW", "MYR", "CNY", "HKD"};
+    // Replaced, never modified, on registration so lookups need no lock
+    private static volatile Map<Currency, Integer> ordinals = new HashMap<>();
+    private static volatile Currency[] currencies = new Currency[0];
+
+    static {
+        for (String currencyCode : SUPPORTED_CURRENCY_CODES) {
+            ordinalOf(Currency.getInstance(currencyCode));
+        }
+    }
+
+    /**
+     * Returns the ordinal of the given currency, registering the currency if it has not been seen before.
+     *
+     * @param currency The currency to look up.
+     * @return The ordinal of the currency, between 0 and MAX_CURRENCIES - 1.
+     * @throws IllegalStateException If more than MAX_CURRENCIES currencies are registered.
+     */
+    public static synchronized int ordinalOf(Currency currency) {
+        assert currency != null : "Currency should not be null";
+
+        Integer ordinal = ordinals.get(currency);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        if (currencies.length == MAX_CURRENCIES) {
+            throw new IllegalStateException("Too many currencies registered");
+        }
+
+        int newOrdinal = currencies.length;
+        Currency[] newCurrencies = Arrays.copyOf(currencies, newOrdinal + 1);
+        newCurrencies[newOrdinal] = currency;
+        Map<Currency, Integer> newOrdinals = new HashMap<>(ordinals);
+        newOrdinals.put(currency, newOrdinal);
+        currencies = newCurrencies;
+        ordinals = newOrdinals;
+        return newOrdinal;
+    }
+
+    /**
+     * Returns the ordinal of the given currency without registering it.
+     *
+     * @param currency The currency to look up.
+     * @return The ordinal of the currency, or -1 if it has not been registered.
+     */
+    public static int indexOf(Currency currency) {
+        Integer ordinal = ordinals.get(currency);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns whether BudgetBuddy has default exchange rates for the given currency.
+     *
+     * @param currency The currency to check.
+     * @return True if amounts in the currency can always be converted.
+     */
+    public static boolean isSupported(Currency currency) {
+        return Arrays.asList(SUPPORTED_CURRENCY_CODES).contains(currency.getCurrencyCode());
+    }
+
+    /**
+     * Returns the supported currency with the given code, ignoring case and surrounding whitespace.
+     * The code is compared in place, so a view of the user input can be passed without copying it.
+     *
+     * @param currencyCode The currency code.
+     * @return The currency, or null if the code is not one of the supported currencies.
+     */
+    public static Currency findSupported(CharSequence currencyCode) {
+        int start = 0;
+        int end = currencyCode.length();
+        while (start < end && Character.isWhitespace(currencyCode.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(currencyCode.charAt(end - 1))) {
+            end--;
+        }
+        for (String supportedCode : SUPPORTED_CURRENCY_CODES) {
+            if (matchesIgnoringCase(supportedCode, currencyCode, start, end)) {
+                return Currency.getInstance(supportedCode);
+            }
+        }
+        return null;
+    }
+
+    private static boolean matchesIgnoringCase(String code, CharSequence text, int start, int end) {
+        if (end - start != code.length()) {
+            return false;
+        }
+        for (int i = 0; i < code.length(); i++) {
+            if (Character.toUpperCase(text.charAt(start + i)) != code.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static Currency currencyAt(int ordinal) {
+        return currencies[ordinal];
+    }
+
+    public static int size() {
+        return currencies.length;
+    }
+}
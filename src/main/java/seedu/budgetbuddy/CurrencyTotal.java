@@ -0,0 +1,78 @@
+package seedu.budgetbuddy;
+
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Accumulates transaction amounts per stored currency and exchange-rate period, so a total in the
+ * default currency is obtained with one conversion per currency and period instead of one per transaction.
+ */
+public class CurrencyTotal {
+    // subtotals[period][ordinal], rows are allocated when the first transaction of a period is added
+    private double[][] subtotals;
+
+    public CurrencyTotal() {
+        this.subtotals = new double[DefaultCurrency.latestRatePeriod() + 1][];
+    }
+
+    public void add(Transaction transaction) {
+        int period = transaction.getRatePeriod();
+        int ordinal = transaction.getCurrencyOrdinal();
+        if (period >= subtotals.length) {
+            subtotals = Arrays.copyOf(subtotals, period + 1);
+        }
+        if (subtotals[period] == null) {
+            subtotals[period] = new double[CurrencyRegistry.size()];
+        } else if (ordinal >= subtotals[period].length) {
+            subtotals[period] = Arrays.copyOf(subtotals[period], CurrencyRegistry.size());
+        }
+        subtotals[period][ordinal] += transaction.getNativeAmount();
+    }
+
+    /**
+     * Returns the accumulated amounts of each currency, in the currency itself.
+     *
+     * @return The subtotal of every currency with a non-zero total, in CurrencyRegistry order.
+     */
+    public Map<Currency, Double> getSubtotalsByCurrency() {
+        double[] byOrdinal = new double[CurrencyRegistry.size()];
+        for (double[] periodSubtotals : subtotals) {
+            if (periodSubtotals == null) {
+                continue;
+            }
+            for (int ordinal = 0; ordinal < periodSubtotals.length; ordinal++) {
+                byOrdinal[ordinal] += periodSubtotals[ordinal];
+            }
+        }
+
+        Map<Currency, Double> subtotalsByCurrency = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < byOrdinal.length; ordinal++) {
+            if (byOrdinal[ordinal] != 0) {
+                subtotalsByCurrency.put(CurrencyRegistry.currencyAt(ordinal), byOrdinal[ordinal]);
+            }
+        }
+        return subtotalsByCurrency;
+    }
+
+    /**
+     * Returns the accumulated total converted to the default currency.
+     *
+     * @return The total in the default currency.
+     */
+    public double inDefaultCurrency() {
+        double total = 0;
+        for (int period = 0; period < subtotals.length; period++) {
+            if (subtotals[period] == null) {
+                continue;
+            }
+            for (int ordinal = 0; ordinal < subtotals[period].length; ordinal++) {
+                if (subtotals[period][ordinal] != 0) {
+                    total += DefaultCurrency.toDisplay(subtotals[period][ordinal], ordinal, period);
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Turns the net positions of a group into a short list of transfers that settles everyone.
+ * The largest debtor always pays the largest creditor and whoever is left with a remainder goes back
+ * into its heap, so the work is O(n log n) in the number of members and at most n - 1 transfers are
+ * produced. Finding the true minimum number of transfers is NP-hard; this greedy matching is the usual
+ * approximation and is exact whenever the group does not split into independent sub-groups.
+ */
+public class DebtSimplifier {
+
+    private static final class Position {
+        private final String name;
+        private long cents;
+
+        private Position(String name, long cents) {
+            this.name = name;
+            this.cents = cents;
+        }
+    }
+
+    // Largest amount first; ties broken by name so the suggestions do not change between runs
+    private static final Comparator<Position> LARGEST_FIRST = Comparator
+            .comparingLong((Position position) -> position.cents).reversed()
+            .thenComparing(position -> position.name);
+
+    /**
+     * Computes the transfers that bring every net position to zero.
+     *
+     * @param netCents Net position of each member in cents; positive if the member is owed money,
+     *                 negative if the member owes money. The positions should add up to zero.
+     * @return The transfers, largest first.
+     */
+    public static List<Settlement> simplify(Map<String, Long> netCents) {
+        PriorityQueue<Position> creditors = new PriorityQueue<>(LARGEST_FIRST);
+        PriorityQueue<Position> debtors = new PriorityQueue<>(LARGEST_FIRST);
+        for (Map.Entry<String, Long> entry : netCents.entrySet()) {
+            long cents = entry.getValue();
+            if (cents > 0) {
+                creditors.add(new Position(entry.getKey(), cents));
+            } else if (cents < 0) {
+                debtors.add(new Position(entry.getKey(), -cents));
+            }
+        }
+
+        List<Settlement> transfers = new ArrayList<>();
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            Position creditor = creditors.poll();
+            Position debtor = debtors.poll();
+            long paid = Math.min(creditor.cents, debtor.cents);
+            transfers.add(new Settlement(debtor.name, creditor.name, paid / 100.0));
+
+            creditor.cents -= paid;
+            debtor.cents -= paid;
+            if (creditor.cents > 0) {
+                creditors.add(creditor);
+            }
+            if (debtor.cents > 0) {
+                debtors.add(debtor);
+            }
+        }
+        return transfers;
+    }
+}
@@ -2,14 +2,129 @@ package seedu.budgetbuddy;
 
 import java.util.Currency;
 
+/**
+ * Holds the currency amounts are displayed in. Transactions keep their amounts in the currency they
+ * were entered in, and are converted on read with a per-currency factor cached here, so changing the
+ * display currency does not touch any transaction.
+ * Readers never lock; the factors are replaced as a whole when the currency or the exchange rates change.
+ */
 public class DefaultCurrency {
 
-    private static Currency defaultCurrency = Currency.getInstance("SGD");
+    private static final CurrencyConverter currencyConverter = new CurrencyConverter();
+    private static volatile Currency defaultCurrency = Currency.getInstance("SGD");
+    // Factor from each currency to the default currency, indexed by rate period and CurrencyRegistry ordinal
+    private static volatile double[][] displayFactors = currencyConverter.getFactorTableTo(defaultCurrency);
+    private static volatile long ratesVersion = 0;
+    private static volatile long rateHistoryVersion = 0;
 
     public static Currency getDefaultCurrency() {
         return defaultCurrency;
     }
-    public static void setDefaultCurrency(Currency currency) {
+    /**
+     * Sets the currency amounts are displayed in.
+     *
+     * @param currency The new default currency.
+     * @throws IllegalArgumentException If there is no exchange rate for the currency.
+     */
+    public static synchronized void setDefaultCurrency(Currency currency) {
+        if (!currencyConverter.hasRate(currency)) {
+            throw new IllegalArgumentException("Exchange rates not available for " + currency);
+        }
         defaultCurrency = currency;
+        refreshDisplayFactors();
+    }
+
+    /**
+     * Returns a number that changes whenever the default currency or the exchange rates change,
+     * so that totals cached in the default currency can tell when they are stale.
+     *
+     * @return The current version of the display factors.
+     */
+    public static long getRatesVersion() {
+        return ratesVersion;
+    }
+
+    /**
+     * Returns a number that changes whenever the rate history changes, and with it the rate period of
+     * each transaction. Subtotals grouped by rate period stay valid while this number is unchanged.
+     *
+     * @return The current version of the rate history.
+     */
+    public static long getRateHistoryVersion() {
+        return rateHistoryVersion;
+    }
+
+    private static synchronized double[][] refreshDisplayFactors() {
+        double[][] factors = currencyConverter.getFactorTableTo(defaultCurrency);
+        displayFactors = factors;
+        ratesVersion++;
+        return factors;
+    }
+
+    /**
+     * Returns whether amounts can be converted to and from the given currency.
+     */
+    public static boolean hasRate(Currency currency) {
+        return currencyConverter.hasRate(currency);
+    }
+
+    /**
+     * Sets the dated exchange rates used to display amounts.
+     *
+     * @param rateHistory The rate history, or null to use only the default exchange rates.
+     */
+    public static synchronized void setRateHistory(RateHistory rateHistory) {
+        currencyConverter.setRateHistory(rateHistory);
+        rateHistoryVersion++;
+        refreshDisplayFactors();
+    }
+
+    /**
+     * Returns the rate period that applies to transactions on the given day.
+     *
+     * @param epochDay The day, as days since 1970-01-01.
+     * @return The index of the rate period.
+     */
+    public static int ratePeriodOf(int epochDay) {
+        return currencyConverter.periodOf(epochDay);
+    }
+
+    public static int latestRatePeriod() {
+        return displayFactors.length - 1;
+    }
+
+    /**
+     * Converts an amount stored in the currency with the given ordinal to the default currency at the latest rates.
+     *
+     * @param amount          The amount in its stored currency.
+     * @param currencyOrdinal The CurrencyRegistry ordinal of the stored currency.
+     * @return The amount in the default currency.
+     */
+    public static double toDisplay(double amount, int currencyOrdinal) {
+        return toDisplay(amount, currencyOrdinal, latestRatePeriod());
+    }
+
+    /**
+     * Converts an amount stored in the currency with the given ordinal to the default currency
+     * at the rates of the given period.
+     *
+     * @param amount          The amount in its stored currency.
+     * @param currencyOrdinal The CurrencyRegistry ordinal of the stored currency.
+     * @param ratePeriod      The rate period, see {@link #ratePeriodOf(int)}.
+     * @return The amount in the default currency.
+     * @throws IllegalStateException If there is no exchange rate for the stored currency.
+     */
+    public static double toDisplay(double amount, int currencyOrdinal, int ratePeriod) {
+        double[][] factors = displayFactors;
+        if (currencyOrdinal >= factors[0].length) {
+            // A currency was registered after the factors were cached
+            factors = refreshDisplayFactors();
+        }
+        double factor = factors[Math.min(ratePeriod, factors.length - 1)][currencyOrdinal];
+        if (Double.isNaN(factor)) {
+            throw new IllegalStateException("Exchange rates not available for "
+                    + CurrencyRegistry.currencyAt(currencyOrdinal));
+        }
+        return amount * factor;
     }
 }
@@ -0,0 +1,61 @@
+package seedu.budgetbuddy;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Canonicalizes expense descriptions so that repeated descriptions such as "lunch" or "rent"
+ * share one String instance. Entries are weakly held, so descriptions no longer referenced by
+ * any expense are dropped by the garbage collector.
+ */
+public class DescriptionPool {
+    private static final int STRING_HEADER_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private static final Map<String, WeakReference<String>> pool = new WeakHashMap<>();
+    private static long bytesSaved = 0;
+
+    /**
+     * Returns the canonical instance of the given description.
+     *
+     * @param description The description to canonicalize.
+     * @return A String equal to description, shared by every expense with the same description.
+     */
+    public static synchronized String intern(String description) {
+        if (description == null) {
+            return null;
+        }
+
+        WeakReference<String> reference = pool.get(description);
+        String canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            pool.put(description, new WeakReference<>(description));
+            return description;
+        }
+
+        if (canonical != description) {
+            bytesSaved += estimateBytes(description);
+        }
+        return canonical;
+    }
+
+    /**
+     * Estimates the heap footprint of a String, assuming compact Latin-1 strings and 8-byte alignment.
+     *
+     * @param string The string to measure.
+     * @return The approximate number of bytes occupied by the string and its backing array.
+     */
+    public static long estimateBytes(String string) {
+        long arrayBytes = (ARRAY_HEADER_BYTES + string.length() + 7) / 8 * 8;
+        return STRING_HEADER_BYTES + arrayBytes;
+    }
+
+    public static synchronized long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    public static synchronized int getUniqueCount() {
+        return pool.size();
+    }
+}
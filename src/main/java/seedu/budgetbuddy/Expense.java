@@ -1,23 +1,35 @@
 package seedu.budgetbuddy;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class Expense extends Transaction{
     protected String description;
-    private LocalDate dateAdded;
+    // Stored as days since 1970-01-01 instead of a LocalDate object per expense
+    private int dateAddedEpochDay;
+    private List<String> tags = Collections.emptyList();
 
     public Expense(LocalDate dateAdded, String category, double amount, String description) {
         super(category, amount);
-        this.dateAdded = dateAdded;
+        this.dateAddedEpochDay = (int) dateAdded.toEpochDay();
         this.description = description;
     }
     public Expense(String category, double amount, String description) {
-        super(category, amount);
-        this.description = description;
-        this.dateAdded = LocalDate.now();
+        this(LocalDate.now(), category, amount, description);
     }
     public LocalDate getDateAdded() {
-        return dateAdded;
+        return LocalDate.ofEpochDay(dateAddedEpochDay);
+    }
+
+    public int getDateAddedEpochDay() {
+        return dateAddedEpochDay;
+    }
+
+    @Override
+    public int getRatePeriod() {
+        return DefaultCurrency.ratePeriodOf(dateAddedEpochDay);
     }
 
     public String getDescription(){
@@ -28,8 +40,33 @@ public class Expense extends Transaction{
         this.description = description;
     }
 
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags.isEmpty() ? Collections.emptyList() : new ArrayList<>(tags);
+    }
+
+    public boolean hasTag(String tag) {
+        return tags.stream().anyMatch(existingTag -> existingTag.equalsIgnoreCase(tag));
+    }
+
+    /**
+     * Returns a copy of this expense, so that edits can replace the expense instead of changing it
+     * in place and earlier undo snapshots stay intact.
+     *
+     * @return A new Expense with the same values.
+     */
+    public Expense copy() {
+        Expense copy = new Expense(getDateAdded(), category, amount, description);
+        copy.currencyOrdinal = currencyOrdinal;
+        copy.tags = tags;
+        return copy;
+    }
+
     @Override
     public String toString() {
-        return "Category: " + category + " Amount: " + amount + " Description: " + description;
+        return "Category: " + category + " Amount: " + getAmount() + " Description: " + description;
     }
 }
@@ -0,0 +1,86 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A column-oriented copy of a list of expenses: one primitive array of amounts in the default currency
+ * and one array of category ids. Aggregations over the columns use {@link AmountKernels}.
+ */
+public class ExpenseColumns {
+    private final double[] amounts;
+    private final int[] categoryIds;
+    private final List<String> categoryNames;
+
+    private ExpenseColumns(double[] amounts, int[] categoryIds, List<String> categoryNames) {
+        this.amounts = amounts;
+        this.categoryIds = categoryIds;
+        this.categoryNames = categoryNames;
+    }
+
+    /**
+     * Copies the amounts and categories of the given expenses into columns, converting every amount
+     * to the default currency.
+     *
+     * @param expenses The expenses to copy.
+     * @return The columns, in the order of the list.
+     */
+    public static ExpenseColumns of(List<Expense> expenses) {
+        double[] amounts = new double[expenses.size()];
+        int[] categoryIds = new int[expenses.size()];
+        Map<String, Integer> idsByCategory = new HashMap<>();
+        List<String> categoryNames = new ArrayList<>();
+
+        for (int i = 0; i < amounts.length; i++) {
+            Expense expense = expenses.get(i);
+            amounts[i] = expense.getAmount();
+            categoryIds[i] = idsByCategory.computeIfAbsent(expense.getCategory(), category -> {
+                categoryNames.add(category);
+                return categoryNames.size() - 1;
+            });
+        }
+        return new ExpenseColumns(amounts, categoryIds, categoryNames);
+    }
+
+    public int size() {
+        return amounts.length;
+    }
+
+    public double total() {
+        return AmountKernels.sum(amounts, amounts.length);
+    }
+
+    /**
+     * Sums the amounts of every category that has at least one expense.
+     *
+     * @return The sum of each category, in order of first appearance.
+     */
+    public Map<String, Double> sumsByCategory() {
+        double[] sumsById = AmountKernels.sumByKey(amounts, categoryIds, categoryNames.size(), amounts.length);
+        Map<String, Double> sums = new LinkedHashMap<>();
+        for (int id = 0; id < sumsById.length; id++) {
+            sums.put(categoryNames.get(id), sumsById[id]);
+        }
+        return sums;
+    }
+
+    public double sumOfCategory(String category) {
+        int id = categoryNames.indexOf(category);
+        return id < 0 ? 0 : AmountKernels.sumWhere(amounts, categoryIds, id, amounts.length);
+    }
+
+    public double sumInRange(double minAmount, double maxAmount) {
+        return AmountKernels.sumInRange(amounts, minAmount, maxAmount, amounts.length);
+    }
+
+    public double min() {
+        return AmountKernels.min(amounts, amounts.length);
+    }
+
+    public double max() {
+        return AmountKernels.max(amounts, amounts.length);
+    }
+}
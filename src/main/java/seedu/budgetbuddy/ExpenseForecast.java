@@ -0,0 +1,116 @@
+package seedu.budgetbuddy;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Month-by-month outlook combining the expenses already recorded with those the scheduled recurring
+ * lists will post. Projected expenses are streamed and folded into one slot per month, so the memory used
+ * depends on the number of months shown rather than on how many expenses fall in them.
+ */
+public class ExpenseForecast {
+    private final YearMonth firstMonth;
+    private final double[] actual;
+    private final double[] projected;
+    private final double[] budgeted;
+    private final double monthlyBudget;
+    private final double openingBalance;
+
+    private ExpenseForecast(YearMonth firstMonth, int months, double monthlyBudget, double openingBalance) {
+        this.firstMonth = firstMonth;
+        this.actual = new double[months];
+        this.projected = new double[months];
+        this.budgeted = new double[months];
+        this.monthlyBudget = monthlyBudget;
+        this.openingBalance = openingBalance;
+    }
+
+    /**
+     * Builds a forecast for the given number of months, starting with the current month.
+     *
+     * @param recurringExpensesList The recurring lists to project.
+     * @param expenses              The expenses recorded so far; their budgets are treated as monthly.
+     * @param totalSavings          The total savings, in the default currency.
+     * @param today                 The current date.
+     * @param months                The number of months to show.
+     * @return The forecast.
+     */
+    public static ExpenseForecast project(RecurringExpensesList recurringExpensesList, ExpenseList expenses,
+            double totalSavings, LocalDate today, int months) {
+        assert months > 0 : "Number of months should be positive";
+
+        Set<String> budgetedCategories = new HashSet<>();
+        double monthlyBudget = 0;
+        for (Budget budget : expenses.getBudgets()) {
+            budgetedCategories.add(budget.getCategory().toLowerCase());
+            monthlyBudget += budget.getBudget();
+        }
+
+        YearMonth firstMonth = YearMonth.from(today);
+        ExpenseForecast forecast = new ExpenseForecast(firstMonth, months, monthlyBudget,
+                totalSavings - expenses.calculateTotalExpenses());
+
+        for (Expense expense : expenses.getExpenses()) {
+            forecast.add(forecast.actual, expense, budgetedCategories);
+        }
+        LocalDate lastDay = firstMonth.plusMonths(months - 1L).atEndOfMonth();
+        RecurringScheduler.projectedExpenses(recurringExpensesList, lastDay)
+                .forEach(expense -> forecast.add(forecast.projected, expense, budgetedCategories));
+        return forecast;
+    }
+
+    private void add(double[] totals, Expense expense, Set<String> budgetedCategories) {
+        long month = firstMonth.until(YearMonth.from(expense.getDateAdded()), ChronoUnit.MONTHS);
+        if (month < 0 || month >= totals.length) {
+            return;
+        }
+        double amount = expense.getAmount();
+        totals[(int) month] += amount;
+        if (budgetedCategories.contains(expense.getCategory().toLowerCase())) {
+            budgeted[(int) month] += amount;
+        }
+    }
+
+    public int getMonthCount() {
+        return actual.length;
+    }
+
+    public double getActual(int month) {
+        return actual[month];
+    }
+
+    public double getProjected(int month) {
+        return projected[month];
+    }
+
+    /**
+     * Returns the savings left at the end of the given month once the projected expenses up to then are paid.
+     *
+     * @param month The month, counted from 0 for the current month.
+     * @return The projected balance.
+     */
+    public double getBalance(int month) {
+        double balance = openingBalance;
+        for (int i = 0; i <= month; i++) {
+            balance -= projected[i];
+        }
+        return balance;
+    }
+
+    public void print() {
+        System.out.println("Forecast for the next " + actual.length + " months");
+        System.out.println(String.format("%-8s | %10s | %10s | %10s | %11s | %12s",
+                "Month", "Actual", "Projected", "Total", "Budget used", "Balance"));
+        double balance = openingBalance;
+        for (int i = 0; i < actual.length; i++) {
+            balance -= projected[i];
+            String budgetUsed = monthlyBudget > 0
+                    ? String.format("%.0f%%", 100 * budgeted[i] / monthlyBudget) : "-";
+            System.out.println(String.format("%-8s | %10.2f | %10.2f | %10.2f | %11s | %12.2f",
+                    firstMonth.plusMonths(i), actual[i], projected[i], actual[i] + projected[i], budgetUsed, balance));
+        }
+    }
+}
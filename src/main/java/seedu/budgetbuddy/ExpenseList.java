@@ -4,13 +4,15 @@ import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 import java.util.Arrays;
 
+import java.util.BitSet;
+import java.util.Currency;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Collections;
 
 
@@ -20,6 +22,15 @@ public class ExpenseList {
     protected ArrayList<Expense> expenses;
     protected ArrayList<String> categories;
     protected List<Budget> budgets;
+    protected TagIndex tagIndex;
+    protected boolean isTagIndexStale;
+    // Persistent copies of the expenses and budgets, used to take cheap snapshots for undo
+    protected PersistentVector<Expense> versionedExpenses;
+    protected PersistentVector<Budget> versionedBudgets;
+    // Per-currency subtotals of the expenses in totalledExpenses, reused until the expenses or rate periods change
+    private CurrencyTotal cachedTotal;
+    private PersistentVector<Expense> totalledExpenses;
+    private long totalledRateHistoryVersion;
 
     Ui ui = new Ui();
 
@@ -28,7 +39,10 @@ public class ExpenseList {
         this.categories = new ArrayList<>(Arrays.asList("Housing",
                 "Groceries", "Utility", "Transport", "Entertainment", "Others"));
         this.budgets = new ArrayList<>();
-
+        this.tagIndex = new TagIndex();
+        this.isTagIndexStale = true;
+        this.versionedExpenses = PersistentVector.empty();
+        this.versionedBudgets = PersistentVector.empty();
     }
 
     public ExpenseList() {
@@ -36,6 +50,10 @@ public class ExpenseList {
         this.categories = new ArrayList<>(Arrays.asList("Housing",
                 "Groceries", "Utility", "Transport", "Entertainment", "Others"));
         this.budgets = new ArrayList<>();
+        this.tagIndex = new TagIndex();
+        this.isTagIndexStale = true;
+        this.versionedExpenses = PersistentVector.empty();
+        this.versionedBudgets = PersistentVector.empty();
     }
 
     public int size() {
@@ -54,24 +72,193 @@ public class ExpenseList {
         return this.budgets;
     }
 
+    /**
+     * Returns a persistent snapshot of the expenses. Taking a snapshot does not copy the list;
+     * expenses appended directly to the underlying ArrayList since the last snapshot are picked up here.
+     *
+     * @return The expenses as an immutable PersistentVector.
+     */
+    public PersistentVector<Expense> getVersionedExpenses() {
+        if (versionedExpenses.size() > expenses.size()) {
+            versionedExpenses = PersistentVector.fromList(expenses);
+        }
+        for (int i = versionedExpenses.size(); i < expenses.size(); i++) {
+            versionedExpenses = versionedExpenses.append(expenses.get(i));
+        }
+        return versionedExpenses;
+    }
+
+    public PersistentVector<Budget> getVersionedBudgets() {
+        if (versionedBudgets.size() != budgets.size()) {
+            versionedBudgets = PersistentVector.fromList(budgets);
+        }
+        return versionedBudgets;
+    }
+
+    /**
+     * Replaces the expense at the given position, keeping the persistent copy in step.
+     *
+     * @param index   The index of the expense to replace, starting from 0.
+     * @param expense The new expense.
+     */
+    public void setExpense(int index, Expense expense) {
+        getVersionedExpenses();
+        expenses.set(index, expense);
+        versionedExpenses = versionedExpenses.set(index, expense);
+        isTagIndexStale = true;
+    }
+
+    /**
+     * Restores the expenses, budgets and categories captured in an earlier snapshot.
+     * The working lists are rebuilt from the snapshot, so this takes O(n) time in the number of expenses.
+     *
+     * @param expenseSnapshot  The expenses to restore.
+     * @param budgetSnapshot   The budgets to restore.
+     * @param categorySnapshot The categories to restore.
+     */
+    public void restore(PersistentVector<Expense> expenseSnapshot, PersistentVector<Budget> budgetSnapshot,
+                        List<String> categorySnapshot) {
+        expenses.clear();
+        expenses.addAll(expenseSnapshot.toArrayList());
+        budgets.clear();
+        budgets.addAll(budgetSnapshot.toArrayList());
+        categories.clear();
+        categories.addAll(categorySnapshot);
+
+        versionedExpenses = expenseSnapshot;
+        versionedBudgets = budgetSnapshot;
+        isTagIndexStale = true;
+    }
+
+    /**
+     * Makes this list use the categories of another list, so that categories added to either are shared.
+     *
+     * @param ledger The list whose categories to use.
+     */
+    public void useCategoriesOf(ExpenseList ledger) {
+        assert ledger != null : "Ledger should not be null";
+        this.categories = ledger.categories;
+    }
+
+    /**
+     * Looks up a category, ignoring case.
+     *
+     * @param category The category to look up.
+     * @return The category as it is listed, or null if it is not listed.
+     */
+    public String findCategory(String category) {
+        if (category == null) {
+            return null;
+        }
+        String trimmedCategory = category.trim();
+        for (String existingCategory : categories) {
+            if (existingCategory.equalsIgnoreCase(trimmedCategory)) {
+                return existingCategory;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks, ignoring case, whether the given category is one of the categories of this list.
+     *
+     * @param category The category to look up.
+     * @return true if the category exists, false otherwise.
+     */
+    public boolean isValidCategory(String category) {
+        return findCategory(category) != null;
+    }
+
+    /**
+     * Adds a user-defined category to the list of categories expenses can be filed under.
+     *
+     * @param category The name of the new category.
+     * @throws BudgetBuddyException If the name is empty, contains reserved characters or already exists.
+     */
+    public void addCategory(String category) throws BudgetBuddyException {
+        assert category != null : "Category should not be null";
+
+        String trimmedCategory = category.trim();
+        if (trimmedCategory.isEmpty()) {
+            throw new BudgetBuddyException("Category should not be empty.");
+        }
+        if (trimmedCategory.contains("|") || trimmedCategory.contains("/") || trimmedCategory.contains(" ")) {
+            throw new BudgetBuddyException("Category should be a single word without | or /.");
+        }
+        if (isValidCategory(trimmedCategory)) {
+            throw new BudgetBuddyException("The category '" + trimmedCategory + "' already exists.");
+        }
+
+        LOGGER.info("Adding user-defined category: " + trimmedCategory);
+        categories.add(trimmedCategory);
+    }
+
+    /**
+     * Returns the tag index of this list, rebuilding it first if expenses were added or removed
+     * without going through this class.
+     *
+     * @return An up-to-date TagIndex over the expenses.
+     */
+    public TagIndex getTagIndex() {
+        if (isTagIndexStale || tagIndex.size() != expenses.size()) {
+            tagIndex.rebuild(expenses);
+            isTagIndexStale = false;
+        }
+        return tagIndex;
+    }
+
+    /**
+     * Filters expenses by tags, keeping those that carry every tag in allOf and none in noneOf.
+     *
+     * @param allOf  Tags an expense must carry.
+     * @param noneOf Tags an expense must not carry.
+     * @return The matching expenses in list order.
+     */
+    public ArrayList<Expense> filterExpensesByTags(List<String> allOf, List<String> noneOf) {
+        BitSet matches = getTagIndex().query(allOf, noneOf);
+
+        ArrayList<Expense> filteredExpenses = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            filteredExpenses.add(expenses.get(i));
+        }
+        return filteredExpenses;
+    }
+
     public ArrayList<Expense> filterExpenses(String description, Double minAmount, Double maxAmount) {
-        assert minAmount <= maxAmount : "Minimum Amount must be smaller than or equals to Max Amount";
+        assert minAmount == null || maxAmount == null || minAmount <= maxAmount
+                : "Minimum Amount must be smaller than or equals to Max Amount";
 
         LOGGER.log(Level.INFO, "Start Filtering expenses based on description : " + " minAmount : "
                 + minAmount + "maxAmount : " + maxAmount);
 
-        String descriptionInLowerCase = description.toLowerCase();
-        ArrayList<Expense> filteredExpenses = new ArrayList<>(this.expenses.stream()
-                .filter(expense -> (expense.getDescription().toLowerCase().contains(descriptionInLowerCase)))
-                .filter(expense -> (minAmount == null || expense.getAmount() > minAmount))
-                .filter(expense -> (maxAmount == null || expense.getAmount() < maxAmount))
-                .collect(Collectors.toList()));
+        ArrayList<Expense> filteredExpenses = filterExpenses(expenses, description, minAmount, maxAmount);
 
         LOGGER.log(Level.INFO, "Ending filtering and returning filtered expenses");
         return filteredExpenses;
 
     }
 
+    /**
+     * Returns the expenses whose description contains the given text, ignoring case, and whose amount is
+     * strictly between the given bounds. Null bounds match every amount.
+     */
+    static ArrayList<Expense> filterExpenses(Iterable<Expense> expenses, String description, Double minAmount,
+            Double maxAmount) {
+        String descriptionInLowerCase = description.toLowerCase();
+        // Descriptions are pooled, so each distinct description is only matched once per search
+        Map<String, Boolean> matchesByDescription = new IdentityHashMap<>();
+        ArrayList<Expense> filteredExpenses = new ArrayList<>();
+        for (Expense expense : expenses) {
+            if (matchesByDescription.computeIfAbsent(expense.getDescription(),
+                    expenseDescription -> expenseDescription.toLowerCase().contains(descriptionInLowerCase))
+                    && (minAmount == null || expense.getAmount() > minAmount)
+                    && (maxAmount == null || expense.getAmount() < maxAmount)) {
+                filteredExpenses.add(expense);
+            }
+        }
+        return filteredExpenses;
+    }
+
     /**
      * Lists expenses based on the provided filter category.
      * If no filter category is specified, all expenses are listed.
@@ -99,10 +286,20 @@ public class ExpenseList {
                     System.out.print("Date: " + expense.getDateAdded() + " | ");
                     System.out.print("Category: " + expense.getCategory() + " | ");
                     System.out.print("Amount: $" + String.format("%.2f", expense.getAmount()) + " | ");
+                    if (!expense.getCurrency().equals(DefaultCurrency.getDefaultCurrency())) {
+                        System.out.print("Paid: " + expense.getCurrency() + " "
+                                + String.format("%.2f", expense.getNativeAmount()) + " | ");
+                    }
                     System.out.println("Description: " + expense.getDescription() + " | ");
                 }
             }
             ui.printDivider();
+            Map<Currency, Double> subtotals = getSubtotalsByCurrency();
+            if (subtotals.size() > 1) {
+                System.out.println("Subtotals by currency:");
+                subtotals.forEach((currency, subtotal) ->
+                        System.out.println(currency + " " + String.format("%.2f", subtotal)));
+            }
             System.out.println("Overall Total Expenses: $" + String.format("%.2f", calculateTotalExpenses()));
 
             // Assertion: Check if total expenses calculation is correct
@@ -121,47 +318,161 @@ public class ExpenseList {
      * @throws IllegalArgumentException If any expense amount is negative.
      */
     public double calculateTotalExpenses() {
-        double totalExpenses = 0;
+        double totalExpenses = getCurrencyTotal().inDefaultCurrency();
+
+        // Assertion: Check if total expenses is non-negative
+        assert totalExpenses >= 0 : "Total expenses should be non-negative";
+
+        return totalExpenses;
+    }
+
+    /**
+     * Returns the subtotals of the expenses per currency, computed once and reused until the expenses change.
+     * Negative expense amounts are considered invalid, and expenses from the first negative one on are left out.
+     *
+     * @return The subtotals of the expenses.
+     */
+    private CurrencyTotal getCurrencyTotal() {
+        PersistentVector<Expense> current = getVersionedExpenses();
+        long rateHistoryVersion = DefaultCurrency.getRateHistoryVersion();
+        if (cachedTotal != null && current == totalledExpenses && rateHistoryVersion == totalledRateHistoryVersion) {
+            return cachedTotal;
+        }
+
+        CurrencyTotal total = new CurrencyTotal();
         try {
             for (Expense expense: expenses) {
-                if (expense.getAmount() < 0) {
+                if (expense.getNativeAmount() < 0) {
                     throw new IllegalArgumentException("Expenses should not be negative");
                 }
-                totalExpenses += expense.getAmount();
+                total.add(expense);
             }
         } catch (IllegalArgumentException e) {
             LOGGER.log(Level.WARNING, "Negative expense amount detected", e);
         }
+        cachedTotal = total;
+        totalledExpenses = current;
+        totalledRateHistoryVersion = rateHistoryVersion;
+        return total;
+    }
 
-        // Assertion: Check if total expenses is non-negative
-        assert totalExpenses >= 0 : "Total expenses should be non-negative";
-
-        return totalExpenses;
+    /**
+     * Returns the total of the expenses in each currency they were entered in, without conversion.
+     *
+     * @return The subtotal of every currency used by the expenses.
+     */
+    public Map<Currency, Double> getSubtotalsByCurrency() {
+        return getCurrencyTotal().getSubtotalsByCurrency();
     }
 
     //@@author Zhang Yangda
     public void addExpense(String category, String amount, String description) throws BudgetBuddyException {
-        assert category != null : "Category should not be null";
+        addExpense(category, amount, description, new ArrayList<>());
+    }
+
+    public void addExpense(String category, String amount, String description, List<String> tags)
+            throws BudgetBuddyException {
+        addExpense(category, amount, description, tags, DefaultCurrency.getDefaultCurrency());
+    }
+
+    /**
+     * Adds an expense entered in the given currency. The amount stays in that currency and is converted
+     * to the default currency whenever it is displayed.
+     *
+     * @param category    The category of the expense.
+     * @param amount      The amount, in the given currency.
+     * @param description The description of the expense.
+     * @param tags        The tags of the expense.
+     * @param currency    The currency the amount was entered in.
+     * @throws BudgetBuddyException If the category is not listed or the amount is invalid.
+     */
+    public void addExpense(String category, String amount, String description, List<String> tags,
+                           Currency currency) throws BudgetBuddyException {
         assert amount != null : "Amount should not be null";
-        assert description != null : "Description should not be null";
 
-        if (!categories.contains(category)) {
-            throw new BudgetBuddyException("The category '" + category + "' is not listed.");
-        }
         double amountAsDouble;
         try {
             amountAsDouble = Double.parseDouble(amount);
         } catch (NumberFormatException e) {
             throw new BudgetBuddyException("Invalid amount format. Amount should be a number.");
         }
+        addExpense(category, amountAsDouble, description, tags, currency);
+    }
+
+    public void addExpense(String category, double amount, String description, List<String> tags)
+            throws BudgetBuddyException {
+        addExpense(category, amount, description, tags, DefaultCurrency.getDefaultCurrency());
+    }
 
-        if (amountAsDouble < 0) {
+    /**
+     * Adds an expense entered in the given currency, taking an amount that has already been parsed.
+     *
+     * @param category    The category of the expense.
+     * @param amount      The amount, in the given currency.
+     * @param description The description of the expense.
+     * @param tags        The tags of the expense.
+     * @param currency    The currency the amount was entered in.
+     * @throws BudgetBuddyException If the category is not listed or the amount is negative or not finite.
+     */
+    public void addExpense(String category, double amount, String description, List<String> tags,
+                           Currency currency) throws BudgetBuddyException {
+        assert category != null : "Category should not be null";
+        assert description != null : "Description should not be null";
+
+        String listedCategory = findCategory(category);
+        if (listedCategory == null) {
+            throw new BudgetBuddyException("The category '" + category + "' is not listed.");
+        }
+        if (amount < 0) {
             throw new BudgetBuddyException("Expenses should not be negative.");
         }
+        if (!Double.isFinite(amount)) {
+            throw new BudgetBuddyException("Invalid amount format. Amount should be a finite number.");
+        }
 
-        Expense expense = new Expense(category, amountAsDouble, description);
+        Expense expense = new Expense(listedCategory, amount, DescriptionPool.intern(description));
+        expense.setTags(tags);
+        expense.setCurrency(currency);
+        getVersionedExpenses();
         expenses.add(expense);
+        versionedExpenses = versionedExpenses.append(expense);
+
+        if (!isTagIndexStale && tagIndex.size() == expenses.size() - 1) {
+            tagIndex.add(expenses.size() - 1, expense);
+        } else {
+            isTagIndexStale = true;
+        }
+    }
 
+    /**
+     * Appends a batch of already built expenses, e.g. recurring or imported ones. The whole batch is
+     * checked before anything is added, so either every expense is added or none is. Storage, the
+     * persistent copy and the tag index are each extended once for the whole batch.
+     *
+     * @param batch The expenses to append, in order.
+     * @throws BudgetBuddyException If an expense has a category that is not listed or a negative amount.
+     */
+    public void addAll(List<Expense> batch) throws BudgetBuddyException {
+        for (Expense expense : batch) {
+            if (!isValidCategory(expense.getCategory())) {
+                throw new BudgetBuddyException("The category '" + expense.getCategory() + "' is not listed.");
+            }
+            if (expense.getNativeAmount() < 0) {
+                throw new BudgetBuddyException("Expenses should not be negative.");
+            }
+        }
+
+        getVersionedExpenses();
+        boolean isTagIndexCurrent = !isTagIndexStale && tagIndex.size() == expenses.size();
+        expenses.ensureCapacity(expenses.size() + batch.size());
+        for (Expense expense : batch) {
+            expenses.add(expense);
+            if (isTagIndexCurrent) {
+                tagIndex.add(expenses.size() - 1, expense);
+            }
+        }
+        versionedExpenses = versionedExpenses.appendAll(batch);
+        isTagIndexStale = !isTagIndexCurrent;
     }
 
     /**
@@ -174,6 +485,21 @@ public class ExpenseList {
      * @param description The new description to assign to the expense entry.
      */
     public void editExpense(String category, int index, double amount, String description) {
+        try {
+            updateExpense(category, index, amount, description);
+            System.out.println("Expense edited successfully.");
+        } catch (BudgetBuddyException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Edits an expense like editExpense, without printing.
+     *
+     * @throws BudgetBuddyException If the category or index is invalid.
+     */
+    public void updateExpense(String category, int index, double amount, String description)
+            throws BudgetBuddyException {
         LOGGER.info(String.format("Attempting to edit expense at index %d with category '%s', " +
                 "amount %.2f, and description '%s'", index, category, amount, description));
 
@@ -187,44 +513,53 @@ public class ExpenseList {
         assert description != null : "Description cannot be null";
 
         // Check if the category exists in the list of categories
-        int categoryIndex = categories.indexOf(category);
-        if (categoryIndex == -1) {
+        String listedCategory = findCategory(category);
+        if (listedCategory == null) {
             LOGGER.warning("Invalid category: " + category);
-            System.out.println("Invalid category.");
-            return;
+            throw new BudgetBuddyException("Invalid category.");
         }
 
         // Check if the index is within valid bounds
         if (index <= 0 || index > expenses.size()) {
             LOGGER.warning("Invalid index: " + index);
-            System.out.println("Invalid index.");
-            return;
+            throw new BudgetBuddyException("Invalid index.");
         }
 
-        try {
-            // Retrieve the expense to edit
-            Expense expenseToEdit = expenses.get(index - 1);
+        // Copy the expense to edit, so that undo snapshots keep the old details
+        Expense expenseToEdit = expenses.get(index - 1).copy();
 
-            // Update the expense details
-            expenseToEdit.setCategory(category);
-            expenseToEdit.setAmount(amount);
-            expenseToEdit.setDescription(description);
+        // Update the expense details
+        expenseToEdit.setCategory(listedCategory);
+        expenseToEdit.setAmount(amount);
+        expenseToEdit.setDescription(DescriptionPool.intern(description));
+        setExpense(index - 1, expenseToEdit);
 
-            LOGGER.info("Expense at index " + index + " edited successfully. New details: " +
-                    expenseToEdit.toString());
-            System.out.println("Expense edited successfully.");
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error editing expense at index " + index, e);
-        }
+        LOGGER.info("Expense at index " + index + " edited successfully. New details: " +
+                expenseToEdit.toString());
     }
 
     public void deleteExpense(int index){
-        if (index >= 0 && index < expenses.size()){
-            expenses.remove(index);
+        try {
+            removeExpense(index);
             System.out.println("Expense deleted successfully!");
-        } else {
-            System.out.println("Invalid expense index.");
+        } catch (BudgetBuddyException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the expense at the given zero-based index without printing.
+     *
+     * @throws BudgetBuddyException If there is no expense at the index.
+     */
+    public void removeExpense(int index) throws BudgetBuddyException {
+        if (index < 0 || index >= expenses.size()) {
+            throw new BudgetBuddyException("Invalid expense index.");
         }
+        getVersionedExpenses();
+        expenses.remove(index);
+        versionedExpenses = versionedExpenses.removeAt(index);
+        isTagIndexStale = true;
     }
 
     public String getName() {
@@ -232,25 +567,60 @@ public class ExpenseList {
     }
 
     public void setBudget(String category, double budget){
+        if (putBudget(category, budget)) {
+            System.out.println("Updated budget for " + category + " to $" + budget);
+        }
+    }
+
+    /**
+     * Checks that a budget is a finite number that is not negative.
+     *
+     * @throws BudgetBuddyException If the budget is negative, infinite or NaN.
+     */
+    public static void checkBudget(double budget) throws BudgetBuddyException {
+        if (!Double.isFinite(budget) || budget < 0) {
+            throw new BudgetBuddyException("Budget should be a finite number that is not negative.");
+        }
+    }
+
+    /**
+     * Sets the budget of a category without printing.
+     *
+     * @return true if the category already had a budget that was replaced.
+     */
+    public boolean putBudget(String category, double budget) {
         LOGGER.info("Setting budget - Category: " + category + ", Budget: $" + budget);
-        for (Budget b : budgets){
+        getVersionedBudgets();
+        for (int i = 0; i < budgets.size(); i++) {
+            Budget b = budgets.get(i);
             if (b.getCategory().equalsIgnoreCase(category)){
                 LOGGER.info("Updating budget for category: " + category);
-                b.setBudget(budget);
-                System.out.println("Updated budget for " + category + " to $" + budget);
-                return;
+                Budget updatedBudget = new Budget(b.getCategory(), budget);
+                budgets.set(i, updatedBudget);
+                versionedBudgets = versionedBudgets.set(i, updatedBudget);
+                return true;
             }
         }
         LOGGER.info("Creating new budget for category: " + category);
-        budgets.add(new Budget(category, budget));
+        String listedCategory = findCategory(category);
+        Budget newBudget = new Budget(listedCategory == null ? category : listedCategory, budget);
+        budgets.add(newBudget);
+        versionedBudgets = versionedBudgets.append(newBudget);
+        return false;
     }
 
-
-    public void getBudgetForCategory(String category) {
-        Budget budgetForCategory = budgets.stream()
+    /**
+     * Returns the budget of a category, or null if it has none.
+     */
+    public Budget findBudget(String category) {
+        return budgets.stream()
                 .filter(budget -> budget.getCategory().equalsIgnoreCase(category))
                 .findFirst()
                 .orElse(null);
+    }
+
+    public void getBudgetForCategory(String category) {
+        Budget budgetForCategory = findBudget(category);
 
         if (budgetForCategory != null) {
             System.out.println("Budget for " + category + ": $" + budgetForCategory.getBudget());
@@ -271,10 +641,7 @@ public class ExpenseList {
             return;
         }
 
-        Map<String, Double> sumsByCategory = new HashMap<>();
-        for (Expense expense : expenses) {
-            sumsByCategory.merge(expense.getCategory(), expense.getAmount(), Double::sum);
-        }
+        Map<String, Double> sumsByCategory = ExpenseColumns.of(expenses).sumsByCategory();
 
         // Calculate the highest expense amount
         double highestExpense = Collections.max(sumsByCategory.values());
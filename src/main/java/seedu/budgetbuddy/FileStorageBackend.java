@@ -0,0 +1,177 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the state in the text files the CLI has always used.
+ */
+public class FileStorageBackend implements StorageBackend {
+    // Overridable with -Dbudgetbuddy.rates=PATH, e.g. to point at a file updated by a scheduled job
+    public static final String EXCHANGE_RATES_FILE = System.getProperty("budgetbuddy.rates",
+            "src/main/java/seedu/budgetbuddy/data/ExchangeRates.txt");
+    // Set with -Dbudgetbuddy.expenseStore=DIRECTORY to keep expenses in an OffHeapExpenseStore there instead
+    // of ExpenseFile.txt, so that a long history is mapped at start up rather than parsed
+    public static final String EXPENSE_STORE_DIRECTORY = System.getProperty("budgetbuddy.expenseStore");
+
+    private final Storage expensesStorage;
+    private final Storage savingsStorage;
+    private final RecurringListStorage recurringExpensesStorage;
+    private final Storage defaultCurrency;
+    private final Storage categoriesStorage;
+    private final Storage exchangeRatesStorage;
+    private final SplitJournal splitExpensesJournal;
+    // Null to keep expenses in ExpenseFile.txt
+    private final Path expenseStoreDirectory;
+    private OffHeapExpenseStore expenseStore;
+    // The expenses in the store, in order, or null if it is unknown which expenses the store holds
+    private List<Expense> storedExpenses;
+
+    public FileStorageBackend() {
+        this(EXPENSE_STORE_DIRECTORY == null ? null : Paths.get(EXPENSE_STORE_DIRECTORY));
+    }
+
+    /**
+     * Creates a backend that keeps expenses in an OffHeapExpenseStore in the given directory.
+     *
+     * @param expenseStoreDirectory The directory of the store, or null to keep expenses in ExpenseFile.txt.
+     */
+    public FileStorageBackend(Path expenseStoreDirectory) {
+        this.expenseStoreDirectory = expenseStoreDirectory;
+        expensesStorage = new Storage("src/main/java/seedu/budgetbuddy/data/ExpenseFile.txt");
+        savingsStorage = new Storage("src/main/java/seedu/budgetbuddy/data/SavingsFile.txt");
+        recurringExpensesStorage = new RecurringListStorage("./data/recurring", "./data/RecurringExpensesFile.txt");
+        defaultCurrency = new Storage("src/main/java/seedu/budgetbuddy/data/DefaultCurrency.txt");
+        categoriesStorage = new Storage("src/main/java/seedu/budgetbuddy/data/CategoriesFile.txt");
+        exchangeRatesStorage = new Storage(EXCHANGE_RATES_FILE);
+        splitExpensesJournal = new SplitJournal("src/main/java/seedu/budgetbuddy/data/SplitExpensesJournal.txt");
+    }
+
+    @Override
+    public void loadCurrency() throws IOException {
+        defaultCurrency.loadCurrency();
+    }
+
+    @Override
+    public RateHistory loadRateHistory() throws IOException, BudgetBuddyException {
+        return exchangeRatesStorage.loadRateHistory();
+    }
+
+    @Override
+    public List<String> loadCategories() throws IOException {
+        return categoriesStorage.loadCategories();
+    }
+
+    @Override
+    public List<Expense> loadExpenses() throws IOException {
+        if (expenseStoreDirectory == null) {
+            return expensesStorage.loadExpenses();
+        }
+        List<Expense> expenses = getExpenseStore().toExpenses();
+        storedExpenses = new ArrayList<>(expenses);
+        return expenses;
+    }
+
+    /**
+     * Returns the expense store, opening it the first time it is needed. It stays open until the program
+     * exits, and every change is flushed as soon as it is made.
+     */
+    private OffHeapExpenseStore getExpenseStore() throws IOException {
+        if (expenseStore == null) {
+            expenseStore = OffHeapExpenseStore.open(expenseStoreDirectory);
+        }
+        return expenseStore;
+    }
+
+    @Override
+    public List<Saving> loadSavings() throws IOException {
+        return savingsStorage.loadSavings();
+    }
+
+    @Override
+    public RecurringExpensesList loadRecurringExpenses() throws IOException {
+        return recurringExpensesStorage.load();
+    }
+
+    /**
+     * Replays the split expense journal. If it cannot be read, the list still records to the journal,
+     * so that the next save replaces it.
+     */
+    @Override
+    public void loadSplitExpenses(SplitExpenseList splitExpenses) throws IOException {
+        try {
+            splitExpensesJournal.replay(splitExpenses);
+        } catch (IOException e) {
+            splitExpenses.setJournal(splitExpensesJournal);
+            throw e;
+        }
+    }
+
+    @Override
+    public void appendExpenses(List<Expense> expenses) throws IOException {
+        if (expenseStoreDirectory == null) {
+            expensesStorage.appendExpenses(expenses);
+            return;
+        }
+        OffHeapExpenseStore store = getExpenseStore();
+        store.appendAll(expenses);
+        store.flush();
+        if (storedExpenses != null) {
+            storedExpenses.addAll(expenses);
+        }
+    }
+
+    @Override
+    public void saveRecurringExpenses(RecurringExpensesList recurringExpenses) throws IOException {
+        recurringExpensesStorage.save(recurringExpenses);
+    }
+
+    @Override
+    public void saveAll(ExpenseList expenses, SavingList savings, SplitExpenseList splitExpenses,
+            RecurringExpensesList recurringExpenses) throws IOException {
+        if (expenseStoreDirectory == null) {
+            expensesStorage.saveExpenses(expenses.getExpenses());
+        } else {
+            saveToExpenseStore(expenses.getExpenses());
+        }
+        savingsStorage.saveSavings(savings.getSavings());
+        recurringExpensesStorage.save(recurringExpenses);
+        categoriesStorage.saveCategories(expenses.getCategories());
+        splitExpensesJournal.save(splitExpenses);
+        // Save Currency
+        defaultCurrency.saveCurrency();
+    }
+
+    /**
+     * Brings the expense store up to date. Expenses are replaced rather than changed in place, so if every
+     * stored expense is still at the same position, only the expenses after them are appended. Otherwise
+     * the store is rewritten.
+     */
+    private void saveToExpenseStore(List<Expense> expenses) throws IOException {
+        OffHeapExpenseStore store = getExpenseStore();
+        if (isStoredPrefixOf(expenses)) {
+            store.appendAll(expenses.subList(storedExpenses.size(), expenses.size()));
+        } else {
+            store.replaceAll(expenses);
+        }
+        store.flush();
+        storedExpenses = new ArrayList<>(expenses);
+    }
+
+    private boolean isStoredPrefixOf(List<Expense> expenses) {
+        if (storedExpenses == null || storedExpenses.size() > expenses.size()) {
+            return false;
+        }
+        for (int i = 0; i < storedExpenses.size(); i++) {
+            if (storedExpenses.get(i) != expenses.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
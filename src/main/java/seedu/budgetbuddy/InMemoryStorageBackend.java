@@ -0,0 +1,86 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the last saved state in memory, e.g. for tests or for an engine that should not touch the disk.
+ * Saved lists are copied, but the expenses and savings in them are shared with the engine.
+ */
+public class InMemoryStorageBackend implements StorageBackend {
+    private List<String> categories = new ArrayList<>();
+    private List<Expense> expenses = new ArrayList<>();
+    private List<Saving> savings = new ArrayList<>();
+    private List<SplitExpense> splitExpenses = new ArrayList<>();
+    private List<Settlement> settlements = new ArrayList<>();
+    private RecurringExpensesList recurringExpenses = new RecurringExpensesList();
+    private int saves;
+
+    @Override
+    public void loadCurrency() {
+    }
+
+    @Override
+    public RateHistory loadRateHistory() {
+        return null;
+    }
+
+    @Override
+    public List<String> loadCategories() {
+        return new ArrayList<>(categories);
+    }
+
+    @Override
+    public List<Expense> loadExpenses() {
+        return new ArrayList<>(expenses);
+    }
+
+    @Override
+    public List<Saving> loadSavings() {
+        return new ArrayList<>(savings);
+    }
+
+    @Override
+    public RecurringExpensesList loadRecurringExpenses() {
+        return recurringExpenses;
+    }
+
+    @Override
+    public void loadSplitExpenses(SplitExpenseList splitExpenseList) {
+        for (SplitExpense splitExpense : splitExpenses) {
+            splitExpenseList.addSplitExpense(splitExpense);
+        }
+        for (Settlement settlement : settlements) {
+            splitExpenseList.applySettlement(settlement);
+        }
+    }
+
+    @Override
+    public void appendExpenses(List<Expense> newExpenses) {
+        expenses.addAll(newExpenses);
+    }
+
+    @Override
+    public void saveRecurringExpenses(RecurringExpensesList recurringExpenses) {
+        this.recurringExpenses = recurringExpenses;
+    }
+
+    @Override
+    public void saveAll(ExpenseList expenseList, SavingList savingList, SplitExpenseList splitExpenseList,
+            RecurringExpensesList recurringExpenses) {
+        categories = new ArrayList<>(expenseList.getCategories());
+        expenses = new ArrayList<>(expenseList.getExpenses());
+        savings = new ArrayList<>(savingList.getSavings());
+        splitExpenses = new ArrayList<>(splitExpenseList.getSplitExpenses());
+        settlements = new ArrayList<>(splitExpenseList.getSettlements());
+        this.recurringExpenses = recurringExpenses;
+        saves++;
+    }
+
+    /**
+     * Returns how many times everything has been saved.
+     */
+    public int getSaves() {
+        return saves;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.CommandResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes each result as one line of JSON with the fields messages, errors, columns, rows and totals.
+ * Numbers are written as JSON numbers, except NaN and infinities, which are written as null. Any other
+ * cell, such as a date, is written as a string.
+ */
+public class JsonRenderer implements ResultRenderer {
+    @Override
+    public void render(CommandResult result) {
+        System.out.println(format(result));
+    }
+
+    /**
+     * Returns the JSON text of a result, without a line break.
+     */
+    public String format(CommandResult result) {
+        StringBuilder json = new StringBuilder("{\"messages\":");
+        appendArray(json, result.getMessages());
+        json.append(",\"errors\":");
+        appendArray(json, result.getErrors());
+        json.append(",\"columns\":");
+        appendArray(json, result.getColumns());
+        json.append(",\"rows\":[");
+        List<List<Object>> rows = result.getRows();
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendArray(json, rows.get(i));
+        }
+        json.append("],\"totals\":{");
+        boolean isFirst = true;
+        for (Map.Entry<String, Double> total : result.getTotals().entrySet()) {
+            if (!isFirst) {
+                json.append(',');
+            }
+            isFirst = false;
+            appendString(json, total.getKey());
+            json.append(':');
+            appendValue(json, total.getValue());
+        }
+        return json.append("}}").toString();
+    }
+
+    private static void appendArray(StringBuilder json, List<?> values) {
+        json.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendValue(json, values.get(i));
+        }
+        json.append(']');
+    }
+
+    static void appendValue(StringBuilder json, Object value) {
+        if (value == null) {
+            json.append("null");
+        } else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            json.append(Double.isFinite(number) ? String.valueOf(number) : "null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            appendString(json, value.toString());
+        }
+    }
+
+    static void appendString(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < ' ') {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * An immutable view of the expenses, budgets, categories, savings and default currency at one point in time.
+ * Expenses, budgets and savings are held as persistent vectors, so capturing a snapshot shares their
+ * structure with the live lists instead of copying them.
+ */
+public class LedgerSnapshot {
+    private final PersistentVector<Expense> expenses;
+    private final PersistentVector<Budget> budgets;
+    private final List<String> categories;
+    private final PersistentVector<Saving> savings;
+    private final Currency currency;
+
+    private LedgerSnapshot(PersistentVector<Expense> expenses, PersistentVector<Budget> budgets,
+                           List<String> categories, PersistentVector<Saving> savings, Currency currency) {
+        this.expenses = expenses;
+        this.budgets = budgets;
+        this.categories = categories;
+        this.savings = savings;
+        this.currency = currency;
+    }
+
+    public static LedgerSnapshot capture(ExpenseList expenseList, SavingList savingList) {
+        return new LedgerSnapshot(expenseList.getVersionedExpenses(), expenseList.getVersionedBudgets(),
+                Collections.unmodifiableList(new ArrayList<>(expenseList.getCategories())),
+                savingList.getVersionedSavings(), DefaultCurrency.getDefaultCurrency());
+    }
+
+    /**
+     * Checks whether both snapshots hold the same state. Persistent vectors are never modified,
+     * so comparing them by reference is enough to tell whether a command changed anything.
+     *
+     * @param other The snapshot to compare with.
+     * @return true if nothing changed between the two snapshots.
+     */
+    public boolean isSameStateAs(LedgerSnapshot other) {
+        return expenses == other.expenses
+                && budgets == other.budgets
+                && savings == other.savings
+                && categories.equals(other.categories)
+                && currency.equals(other.currency);
+    }
+
+    public void restoreTo(ExpenseList expenseList, SavingList savingList) {
+        expenseList.restore(expenses, budgets, categories);
+        savingList.restore(savings);
+        DefaultCurrency.setDefaultCurrency(currency);
+    }
+}
@@ -0,0 +1,428 @@
+package seedu.budgetbuddy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Stores expenses as fixed-width records outside the Java heap, with categories, descriptions and tags
+ * kept in a separate off-heap string arena. The store is either purely in memory, backed by direct
+ * buffers, or backed by two memory-mapped files that can be reopened without parsing any text.
+ *
+ * <p>Each record is {@value #RECORD_BYTES} bytes: the amount, the date as an epoch day, the offsets and
+ * lengths of its strings in the arena, and its ISO 4217 currency code.
+ *
+ * <p>The string arena is only ever appended to. Records are appended in place or replaced all at once by
+ * {@link #replaceAll(List)}, so a crash leaves a file-backed store with either its old or its new records.
+ */
+public class OffHeapExpenseStore implements Closeable {
+    public static final int RECORD_BYTES = 40;
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapExpenseStore.class.getName());
+    private static final int MAGIC = 0x42424558;
+    private static final int HEADER_BYTES = 16;
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_STRING_BYTES = Short.MAX_VALUE;
+    private static final int MAX_WRITTEN_STRINGS = 1 << 16;
+    private static final String RECORDS_FILE = "expenses.records";
+    private static final String STRINGS_FILE = "expenses.strings";
+
+    private static final int AMOUNT_OFFSET = 0;
+    private static final int EPOCH_DAY_OFFSET = 8;
+    private static final int CATEGORY_OFFSET = 12;
+    private static final int DESCRIPTION_OFFSET = 16;
+    private static final int TAGS_OFFSET = 20;
+    private static final int CATEGORY_LENGTH_OFFSET = 24;
+    private static final int DESCRIPTION_LENGTH_OFFSET = 26;
+    private static final int TAGS_LENGTH_OFFSET = 28;
+    private static final int CURRENCY_OFFSET = 32;
+
+    // Null for in-memory stores
+    private final Path directory;
+    private FileChannel recordsChannel;
+    private final FileChannel stringsChannel;
+    private ByteBuffer records;
+    private ByteBuffer strings;
+    private int size;
+    private int stringsUsed;
+
+    // Strings already written to the arena, so that repeated categories and descriptions are stored once
+    private final Map<String, Integer> writtenStrings = new HashMap<>();
+    // A reopened store fills writtenStrings from its records on the first append, so opening stays cheap
+    private boolean isWrittenStringsLoaded;
+
+    private OffHeapExpenseStore(Path directory, FileChannel recordsChannel, FileChannel stringsChannel,
+                                ByteBuffer records, ByteBuffer strings) {
+        this.directory = directory;
+        this.recordsChannel = recordsChannel;
+        this.stringsChannel = stringsChannel;
+        this.records = records;
+        this.strings = strings;
+        this.size = records.getInt(8);
+        this.stringsUsed = strings.getInt(8);
+        this.isWrittenStringsLoaded = size == 0;
+    }
+
+    /**
+     * Creates a store backed by direct buffers that is discarded when the store is closed.
+     *
+     * @param initialCapacity The number of records to reserve space for.
+     * @return An empty in-memory store.
+     */
+    public static OffHeapExpenseStore inMemory(int initialCapacity) {
+        ByteBuffer records = ByteBuffer.allocateDirect(HEADER_BYTES + initialCapacity * RECORD_BYTES);
+        ByteBuffer strings = ByteBuffer.allocateDirect(HEADER_BYTES + initialCapacity * 32);
+        writeHeader(records, 0);
+        writeHeader(strings, 0);
+        return new OffHeapExpenseStore(null, null, null, records, strings);
+    }
+
+    /**
+     * Opens, or creates, a store persisted as memory-mapped files in the given directory.
+     * Reopening an existing store only maps the files; no records are parsed.
+     *
+     * @param directory The directory holding expenses.records and expenses.strings.
+     * @return The opened store.
+     * @throws IOException If the files cannot be created or mapped, or are not expense store files.
+     */
+    public static OffHeapExpenseStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        // Left behind by a rewrite that did not finish; the records it was replacing are still in place
+        Files.deleteIfExists(temporaryRecordsPath(directory));
+        FileChannel recordsChannel = FileChannel.open(directory.resolve(RECORDS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel stringsChannel = FileChannel.open(directory.resolve(STRINGS_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        boolean isNewStore = recordsChannel.size() == 0;
+        long recordsCapacity = Math.max(recordsChannel.size(),
+                HEADER_BYTES + (long) DEFAULT_CAPACITY * RECORD_BYTES);
+        long stringsCapacity = Math.max(stringsChannel.size(), HEADER_BYTES + (long) DEFAULT_CAPACITY * 32);
+        ByteBuffer records = recordsChannel.map(FileChannel.MapMode.READ_WRITE, 0, recordsCapacity);
+        ByteBuffer strings = stringsChannel.map(FileChannel.MapMode.READ_WRITE, 0, stringsCapacity);
+
+        if (isNewStore) {
+            writeHeader(records, 0);
+            writeHeader(strings, 0);
+        } else if (records.getInt(0) != MAGIC || strings.getInt(0) != MAGIC) {
+            recordsChannel.close();
+            stringsChannel.close();
+            throw new IOException("Not an expense store: " + directory);
+        }
+
+        OffHeapExpenseStore store = new OffHeapExpenseStore(directory, recordsChannel, stringsChannel,
+                records, strings);
+        LOGGER.info("Opened expense store with " + store.size() + " records from " + directory);
+        return store;
+    }
+
+    private static Path temporaryRecordsPath(Path directory) {
+        return directory.resolve(RECORDS_FILE + ".tmp");
+    }
+
+    private static void writeHeader(ByteBuffer buffer, int used) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, 1);
+        buffer.putInt(8, used);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFileBacked() {
+        return recordsChannel != null;
+    }
+
+    /**
+     * Appends an expense to the end of the store.
+     *
+     * @param expense The expense to store.
+     * @throws IOException If a file-backed store cannot be grown.
+     */
+    public void append(Expense expense) throws IOException {
+        assert expense != null : "Expense should not be null";
+
+        ensureRecordCapacity(size + 1);
+        putRecord(records, size, expense);
+        size += 1;
+        records.putInt(8, size);
+    }
+
+    public void appendAll(List<Expense> expenses) throws IOException {
+        ensureRecordCapacity(size + expenses.size());
+        for (Expense expense : expenses) {
+            append(expense);
+        }
+    }
+
+    /**
+     * Replaces every stored expense with the given ones. A file-backed store writes the new records to a
+     * temporary file and moves it over the old one, so the old records stay intact until the new ones are
+     * complete. Text used only by removed expenses stays in the string arena.
+     *
+     * @param expenses The expenses to store, in order.
+     * @throws IOException If the new records cannot be written or moved into place.
+     */
+    public void replaceAll(List<Expense> expenses) throws IOException {
+        if (!isFileBacked()) {
+            clear();
+            appendAll(expenses);
+            return;
+        }
+
+        long capacity = HEADER_BYTES + (long) Math.max(expenses.size(), DEFAULT_CAPACITY) * RECORD_BYTES;
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Expense store cannot grow beyond 2GB per file");
+        }
+        Path temporaryPath = temporaryRecordsPath(directory);
+        try (FileChannel temporaryChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer replacement = temporaryChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            for (int i = 0; i < expenses.size(); i++) {
+                putRecord(replacement, i, expenses.get(i));
+            }
+            writeHeader(replacement, expenses.size());
+            // The new records point into the arena, so its text has to reach the disk first
+            ((MappedByteBuffer) strings).force();
+            replacement.force();
+        }
+
+        Path recordsPath = directory.resolve(RECORDS_FILE);
+        recordsChannel.close();
+        Files.move(temporaryPath, recordsPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        recordsChannel = FileChannel.open(recordsPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        records = recordsChannel.map(FileChannel.MapMode.READ_WRITE, 0, recordsChannel.size());
+        size = expenses.size();
+    }
+
+    /**
+     * Removes every expense and every stored string, keeping the space reserved for them. The headers of a
+     * file-backed store are zeroed in place, so use {@link #replaceAll(List)} to replace its contents safely.
+     */
+    public void clear() {
+        size = 0;
+        stringsUsed = 0;
+        writeHeader(records, 0);
+        writeHeader(strings, 0);
+        writtenStrings.clear();
+        isWrittenStringsLoaded = true;
+    }
+
+    int getStringBytesUsed() {
+        return stringsUsed;
+    }
+
+    public double getAmount(int index) {
+        return records.getDouble(recordPosition(checkIndex(index)) + AMOUNT_OFFSET);
+    }
+
+    public int getEpochDay(int index) {
+        return records.getInt(recordPosition(checkIndex(index)) + EPOCH_DAY_OFFSET);
+    }
+
+    /**
+     * Materializes the expense at the given index as a heap object.
+     *
+     * @param index The index of the expense, starting from 0.
+     * @return A new Expense holding the stored values.
+     */
+    public Expense get(int index) {
+        int position = recordPosition(checkIndex(index));
+        String category = readString(records.getInt(position + CATEGORY_OFFSET),
+                records.getShort(position + CATEGORY_LENGTH_OFFSET));
+        String description = DescriptionPool.intern(readString(records.getInt(position + DESCRIPTION_OFFSET),
+                records.getShort(position + DESCRIPTION_LENGTH_OFFSET)));
+        String tags = readString(records.getInt(position + TAGS_OFFSET),
+                records.getShort(position + TAGS_LENGTH_OFFSET));
+
+        char[] currencyCode = new char[3];
+        for (int i = 0; i < 3; i++) {
+            currencyCode[i] = (char) records.get(position + CURRENCY_OFFSET + i);
+        }
+
+        Expense expense = new Expense(LocalDate.ofEpochDay(records.getInt(position + EPOCH_DAY_OFFSET)),
+                category, records.getDouble(position + AMOUNT_OFFSET), description);
+        expense.setCurrency(Currency.getInstance(new String(currencyCode)));
+        expense.setTags(Storage.parseTags(tags));
+        return expense;
+    }
+
+    public ArrayList<Expense> toExpenses() {
+        ArrayList<Expense> expenses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            expenses.add(get(i));
+        }
+        return expenses;
+    }
+
+    /**
+     * Sums the stored amounts without materializing any Expense objects.
+     *
+     * @return The sum of all amounts, in the currencies they were stored in.
+     */
+    public double sumAmounts() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += records.getDouble(recordPosition(i) + AMOUNT_OFFSET);
+        }
+        return total;
+    }
+
+    /**
+     * Forces changes of a file-backed store to disk. Does nothing for in-memory stores.
+     */
+    public void flush() {
+        if (isFileBacked()) {
+            ((MappedByteBuffer) records).force();
+            ((MappedByteBuffer) strings).force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (isFileBacked()) {
+            recordsChannel.close();
+            stringsChannel.close();
+        }
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    private static int recordPosition(int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private static int utf8Length(String string) {
+        return string.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private void putRecord(ByteBuffer buffer, int index, Expense expense) throws IOException {
+        int categoryOffset = writeString(expense.getCategory());
+        int descriptionOffset = writeString(expense.getDescription());
+        String tags = String.join(",", expense.getTags());
+        int tagsOffset = writeString(tags);
+
+        int position = recordPosition(index);
+        buffer.putDouble(position + AMOUNT_OFFSET, expense.getNativeAmount());
+        buffer.putInt(position + EPOCH_DAY_OFFSET, expense.getDateAddedEpochDay());
+        buffer.putInt(position + CATEGORY_OFFSET, categoryOffset);
+        buffer.putInt(position + DESCRIPTION_OFFSET, descriptionOffset);
+        buffer.putInt(position + TAGS_OFFSET, tagsOffset);
+        buffer.putShort(position + CATEGORY_LENGTH_OFFSET, (short) utf8Length(expense.getCategory()));
+        buffer.putShort(position + DESCRIPTION_LENGTH_OFFSET, (short) utf8Length(expense.getDescription()));
+        buffer.putShort(position + TAGS_LENGTH_OFFSET, (short) utf8Length(tags));
+
+        String currencyCode = expense.getCurrency().getCurrencyCode();
+        for (int i = 0; i < 3; i++) {
+            buffer.put(position + CURRENCY_OFFSET + i, (byte) currencyCode.charAt(i));
+        }
+    }
+
+    private int writeString(String string) throws IOException {
+        if (!isWrittenStringsLoaded) {
+            loadWrittenStrings();
+        }
+        Integer existingOffset = writtenStrings.get(string);
+        if (existingOffset != null) {
+            return existingOffset;
+        }
+
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Text is too long to store: " + bytes.length + " bytes");
+        }
+
+        ensureStringCapacity(stringsUsed + bytes.length);
+        int offset = stringsUsed;
+        for (int i = 0; i < bytes.length; i++) {
+            strings.put(HEADER_BYTES + offset + i, bytes[i]);
+        }
+        stringsUsed += bytes.length;
+        strings.putInt(8, stringsUsed);
+
+        if (writtenStrings.size() >= MAX_WRITTEN_STRINGS) {
+            writtenStrings.clear();
+        }
+        writtenStrings.put(string, offset);
+        return offset;
+    }
+
+    private void loadWrittenStrings() {
+        for (int i = 0; i < size && writtenStrings.size() < MAX_WRITTEN_STRINGS; i++) {
+            int position = recordPosition(i);
+            rememberString(records.getInt(position + CATEGORY_OFFSET),
+                    records.getShort(position + CATEGORY_LENGTH_OFFSET));
+            rememberString(records.getInt(position + DESCRIPTION_OFFSET),
+                    records.getShort(position + DESCRIPTION_LENGTH_OFFSET));
+            rememberString(records.getInt(position + TAGS_OFFSET),
+                    records.getShort(position + TAGS_LENGTH_OFFSET));
+        }
+        isWrittenStringsLoaded = true;
+    }
+
+    private void rememberString(int offset, int length) {
+        writtenStrings.putIfAbsent(readString(offset, length), offset);
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = strings.get(HEADER_BYTES + offset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void ensureRecordCapacity(int recordCount) throws IOException {
+        long required = HEADER_BYTES + (long) recordCount * RECORD_BYTES;
+        if (required > records.capacity()) {
+            records = grow(records, recordsChannel, required);
+        }
+    }
+
+    private void ensureStringCapacity(int byteCount) throws IOException {
+        long required = HEADER_BYTES + (long) byteCount;
+        if (required > strings.capacity()) {
+            strings = grow(strings, stringsChannel, required);
+        }
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, FileChannel channel, long required) throws IOException {
+        long newCapacity = Math.max(required, buffer.capacity() * 2L);
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new IOException("Expense store cannot grow beyond 2GB per file");
+        }
+
+        if (channel != null) {
+            // Mapping a larger region extends the file; the old mapping is released once unreachable
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+        }
+
+        ByteBuffer grown = ByteBuffer.allocateDirect((int) newCapacity);
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        grown.put(source);
+        grown.clear();
+        return grown;
+    }
+}
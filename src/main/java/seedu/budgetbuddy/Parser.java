@@ -1,8 +1,12 @@
 package seedu.budgetbuddy;
 
+import seedu.budgetbuddy.CommandTable.Match;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.ListBudgetCommand;
-import seedu.budgetbuddy.commandcreator.CommandCreator;
+import seedu.budgetbuddy.command.ListSplitBalancesCommand;
+import seedu.budgetbuddy.command.RedoCommand;
+import seedu.budgetbuddy.command.UndoCommand;
+import seedu.budgetbuddy.commandcreator.AddCategoryCommandCreator;
 import seedu.budgetbuddy.commandcreator.AddExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.AddSavingCommandCreator;
 import seedu.budgetbuddy.commandcreator.ChangeCurrencyCommandCreator;
@@ -10,6 +14,7 @@ import seedu.budgetbuddy.commandcreator.DeleteExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.EditExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.EditSavingsCommandCreator;
 import seedu.budgetbuddy.commandcreator.FindExpensesCommandCreator;
+import seedu.budgetbuddy.commandcreator.FindTaggedExpensesCommandCreator;
 import seedu.budgetbuddy.commandcreator.GetExpenseInsightsCommandCreator;
 import seedu.budgetbuddy.commandcreator.GetSavingsInsightsCommandCreator;
 import seedu.budgetbuddy.commandcreator.ListCommandCreator;
@@ -18,50 +23,25 @@ import seedu.budgetbuddy.commandcreator.MenuCommandCreator;
 import seedu.budgetbuddy.commandcreator.RecurringExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.ReduceSavingCommandCreator;
 import seedu.budgetbuddy.commandcreator.SetBudgetCommandCreator;
+import seedu.budgetbuddy.commandcreator.SettleDebtCommandCreator;
 import seedu.budgetbuddy.commandcreator.SettleSplitExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.SplitExpenseCommandCreator;
 import seedu.budgetbuddy.commandcreator.GetBudgetCommandCreator;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 
 public class Parser {
 
-    private static final Logger LOGGER = Logger.getLogger(Parser.class.getName());
-    protected ArrayList<String> expenseCategories;
-    protected ArrayList<String> savingsCategories;
+    private final UndoHistory undoHistory;
+    private final CommandTable commands;
 
     public Parser() {
-        this.expenseCategories = new ArrayList<>(Arrays.asList("Housing",
-                "Groceries", "Utility", "Transport", "Entertainment", "Others"));
-        this.savingsCategories = new ArrayList<>(Arrays.asList("Salary",
-                "Investments", "Gifts", "Others"));
-    }
-
-    public Boolean isRecCommand(String input) {
-        return input.startsWith("rec ");
-    }
-  
-    public Boolean isFindExpensesCommand(String input) {
-        return input.startsWith("find expenses");
-    }
-
-    public Boolean isListCommand(String input) {
-        return input.startsWith("list");
+        this(new UndoHistory());
     }
 
-    /**
-     * Checks if the provided input starts with the word "menu" .
-     *
-     * @param input The user input string
-     * @return true if user input starts with "menu", else returns false
-     */
-    public Boolean isMenuCommand(String input) {
-        LOGGER.log(Level.INFO, "Checking if Input is a Menu Command");
-        return input.startsWith("menu");
+    public Parser(UndoHistory undoHistory) {
+        this.undoHistory = undoHistory;
+        this.commands = createCommandTable();
     }
 
     /**
@@ -74,182 +54,106 @@ public class Parser {
         return input.startsWith("bye");
     }
 
-    /**
-     * Checks if the provided input starts with the word "add expense" .
-     *
-     * @param input The user input string
-     * @return true if user input starts with "add expense", else returns false
-     */
-    public Boolean isAddExpenseCommand(String input) {
-        return input.startsWith("add expense");
-    }
-
-    public Boolean isAddSavingCommand(String input) {
-        return input.startsWith("add savings");
-    }
-
-    public Boolean isEditExpenseCommand(String input) {
-        return input.startsWith("edit expense");
-    }
-
-    public Boolean isEditSavingCommand(String input) {
-        return input.startsWith("edit savings");
-    }
-
-    public Boolean isDeleteExpenseCommand(String input) {
-        return input.startsWith("delete");
-    }
-
-    public Boolean isReduceSavingCommand(String input) {
-        return input.startsWith("reduce");
-    }
-    public Boolean isConvertCurrencyCommand(String input) {
-        return input.startsWith("change currency");
-    }
-
-    public Boolean isSplitExpenseCommand(String input) {
-        return input.startsWith("split expenses");
-    }
-
-    public Boolean isListSplitExpenseCommand(String input) {
-        return input.contentEquals("check splitted expenses");
-    }
-
-    public Boolean isSetBudgetCommand(String input){
-        return input.startsWith("set budget");
-    }
-
-    public Boolean isGetBudgetCommand(String input) {
-        return input.startsWith("get budget");
-    }
-
-    public boolean isListBudgetCommand(String input){
-        return input.startsWith("budget print");
-    }
-
-    public Boolean isSettleSplitExpenseCommand(String input) {
-        return input.startsWith("settle");
-    }
-
     public Command handleListBudgetCommand(ExpenseList expenseList) {
         return new ListBudgetCommand(expenseList);
     }
 
-    public Boolean isGetExpensesInsightsCommand(String input) {
-        return input.equalsIgnoreCase("get expenses insights");
-    }
-
-    public Boolean isGetSavingsInsightsCommand(String input) {
-        return input.equalsIgnoreCase("get savings insights");
-    }
-
-
-
     /**
      * Parses a string input into a Command object and returns the associated
      * command to handle the user input
      *
      * @param input The user input string.
      * @return A Command object corresponding to the user input, or null if the
-     *         input is invalid.
+     *         input is not a command.
+     * @throws InvalidCommandException If the input names a command but is not valid.
      */
     public Command parseCommand(ExpenseList expenses, SavingList savings, SplitExpenseList 
-            splitexpenses, RecurringExpensesList expensesList, String input) {
-        
-        if(isMenuCommand(input)) {
-            LOGGER.log(Level.INFO, "Confirmed that input is a menu command");
-            CommandCreator commandCreator = new MenuCommandCreator(input);
-            return commandCreator.createCommand();
-        }
-
-        if (isAddExpenseCommand(input)) {
-            CommandCreator commandCreator = new AddExpenseCommandCreator(expenses, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isAddSavingCommand(input)) {
-            CommandCreator commandCreator = new AddSavingCommandCreator(savings, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isEditExpenseCommand(input)) {
-            CommandCreator commandCreator = new EditExpenseCommandCreator(input, expenses);
-            return commandCreator.createCommand();
-        }
-
-        if (isEditSavingCommand(input)) {
-            CommandCreator commandCreator = new EditSavingsCommandCreator(input, savings);
-            return commandCreator.createCommand();
-        }
-
-        if (isDeleteExpenseCommand(input)) {
-            CommandCreator commandCreator = new DeleteExpenseCommandCreator(expenses, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isReduceSavingCommand(input)) {
-            CommandCreator commandCreator = new ReduceSavingCommandCreator(savings, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isListCommand(input)) {
-            CommandCreator commandCreator = new ListCommandCreator(expenses, savings, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isListSplitExpenseCommand(input)) {
-            CommandCreator commandCreator = new ListSplittedExpenseCommandCreator(input, splitexpenses);
-            return commandCreator.createCommand();
-        }
-
-        if (isFindExpensesCommand(input)) {
-            CommandCreator commandCreator = new FindExpensesCommandCreator(input, expenses);
-            return commandCreator.createCommand();
-        }
-
-        if (isRecCommand(input)) {
-            CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenses);
-            return commandCreator.createCommand();
-        }
-
-        if (isConvertCurrencyCommand(input)) {
-            CommandCreator commandCreator = new ChangeCurrencyCommandCreator(input, savings, expenses,
-                    new CurrencyConverter());
-            return commandCreator.createCommand();
-        }
-
-        if (isSplitExpenseCommand(input)) {
-            CommandCreator commandCreator = new SplitExpenseCommandCreator(splitexpenses, input);
-            return commandCreator.createCommand();
-        }
-
-        if (isSettleSplitExpenseCommand(input)) {
-            CommandCreator commandCreator = new SettleSplitExpenseCommandCreator(input, splitexpenses);
-            return commandCreator.createCommand();
-        }
-        
-        if (isSetBudgetCommand(input)) {
-            CommandCreator commandCreator = new SetBudgetCommandCreator(expenses, input);
-            return commandCreator.createCommand();
-        }
-        if (isGetBudgetCommand(input)) {
-            CommandCreator commandCreator = new GetBudgetCommandCreator(expenses, input);
-            return commandCreator.createCommand();
-        }
-        if (isListBudgetCommand(input)){
-            return handleListBudgetCommand(expenses);
-        }
-
-        if (isGetExpensesInsightsCommand(input)) {
-            CommandCreator commandCreator = new GetExpenseInsightsCommandCreator(expenses);
-            return commandCreator.createCommand();
-        }
-
-        if (isGetSavingsInsightsCommand(input)) {
-            CommandCreator commandCreator = new GetSavingsInsightsCommandCreator(savings);
-            return commandCreator.createCommand();
-        }
-
-        return null;
+            splitexpenses, RecurringExpensesList expensesList, String input) throws InvalidCommandException {
+        CommandTable.Factory factory = commands.lookup(input);
+        if (factory == null) {
+            return null;
+        }
+        return factory.create(expenses, savings, splitexpenses, expensesList, input);
+    }
+
+    private CommandTable createCommandTable() {
+        // One creator per keyword serves every line, so parsing a line does not allocate a creator
+        MenuCommandCreator menu = new MenuCommandCreator();
+        AddExpenseCommandCreator addExpense = new AddExpenseCommandCreator();
+        AddCategoryCommandCreator addCategory = new AddCategoryCommandCreator();
+        AddSavingCommandCreator addSaving = new AddSavingCommandCreator();
+        EditExpenseCommandCreator editExpense = new EditExpenseCommandCreator();
+        EditSavingsCommandCreator editSavings = new EditSavingsCommandCreator();
+        DeleteExpenseCommandCreator deleteExpense = new DeleteExpenseCommandCreator();
+        ReduceSavingCommandCreator reduceSaving = new ReduceSavingCommandCreator();
+        ListCommandCreator list = new ListCommandCreator();
+        ListSplittedExpenseCommandCreator listSplitted = new ListSplittedExpenseCommandCreator();
+        FindExpensesCommandCreator findExpenses = new FindExpensesCommandCreator();
+        FindTaggedExpensesCommandCreator findTags = new FindTaggedExpensesCommandCreator();
+        RecurringExpenseCommandCreator recurring = new RecurringExpenseCommandCreator();
+        ChangeCurrencyCommandCreator changeCurrency = new ChangeCurrencyCommandCreator();
+        SplitExpenseCommandCreator splitExpense = new SplitExpenseCommandCreator();
+        SettleDebtCommandCreator settleDebt = new SettleDebtCommandCreator();
+        SettleSplitExpenseCommandCreator settleSplit = new SettleSplitExpenseCommandCreator();
+        SetBudgetCommandCreator setBudget = new SetBudgetCommandCreator();
+        GetBudgetCommandCreator getBudget = new GetBudgetCommandCreator();
+        GetExpenseInsightsCommandCreator expenseInsights = new GetExpenseInsightsCommandCreator();
+        GetSavingsInsightsCommandCreator savingsInsights = new GetSavingsInsightsCommandCreator();
+
+        CommandTable table = new CommandTable();
+        table.register("menu", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                menu.handleMenuCommand(input));
+        table.register("undo", Match.TRIMMED, (expenses, savings, splitexpenses, expensesList, input) ->
+                new UndoCommand(undoHistory, expenses, savings));
+        table.register("redo", Match.TRIMMED, (expenses, savings, splitexpenses, expensesList, input) ->
+                new RedoCommand(undoHistory, expenses, savings));
+        table.register("add expense", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                addExpense.handleAddExpenseCommand(expenses, input));
+        table.register("add category", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                addCategory.handleAddCategoryCommand(expenses, input));
+        table.register("add savings", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                addSaving.handleAddSavingCommand(savings, input));
+        table.register("edit expense", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                editExpense.handleEditExpenseCommand(expenses, input));
+        table.register("edit savings", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                editSavings.handleEditSavingCommand(savings, input));
+        table.register("delete", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                deleteExpense.handleDeleteExpenseCommand(expenses, input));
+        table.register("reduce", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                reduceSaving.handleReduceSavingCommand(savings, input));
+        table.register("list", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                list.handleListCommand(input, expenses, savings));
+        table.register("check splitted expenses", Match.EXACT,
+                (expenses, savings, splitexpenses, expensesList, input) ->
+                listSplitted.handleSplitExpenseListCommand(input, splitexpenses));
+        table.register("find expenses", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                findExpenses.handleFindExpensesCommand(input, expenses));
+        table.register("find tags", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                findTags.handleFindTaggedExpensesCommand(input, expenses));
+        table.register("rec ", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                recurring.handleRecCommand(input, expensesList, expenses, savings));
+        table.register("change currency", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                changeCurrency.handleChangeCurrencyCommand(input, savings, expenses));
+        table.register("split expenses", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                splitExpense.handleSplitExpenseCommand(splitexpenses, input));
+        table.register("split balances", Match.EXACT, (expenses, savings, splitexpenses, expensesList, input) ->
+                new ListSplitBalancesCommand(splitexpenses));
+        table.register("settle debt", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                settleDebt.handleSettleDebtCommand(input, splitexpenses));
+        table.register("settle", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                settleSplit.handleSettleExpenseCommand(input, splitexpenses));
+        table.register("set budget", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                setBudget.handleSetBudgetCommand(expenses, input));
+        table.register("get budget", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                getBudget.handleGetBudgetCommand(expenses, input));
+        table.register("budget print", Match.PREFIX, (expenses, savings, splitexpenses, expensesList, input) ->
+                handleListBudgetCommand(expenses));
+        table.register("get expenses insights", Match.IGNORE_CASE,
+                (expenses, savings, splitexpenses, expensesList, input) ->
+                expenseInsights.handleGetExpenseInsightsCommand(expenses));
+        table.register("get savings insights", Match.IGNORE_CASE,
+                (expenses, savings, splitexpenses, expensesList, input) ->
+                savingsInsights.handleGetSavingsInsightsCommand(savings));
+        return table;
     }
 }
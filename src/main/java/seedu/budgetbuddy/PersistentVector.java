@@ -0,0 +1,294 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable vector with structural sharing, implemented as a 32-way trie with a separate tail.
+ * Every update returns a new vector that shares all untouched nodes with the old one, so keeping
+ * an older version around costs O(log32 n) extra memory per update instead of a full copy.
+ *
+ * @param <T> The type of the elements.
+ */
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    public static <T> PersistentVector<T> fromList(List<T> elements) {
+        PersistentVector<T> vector = empty();
+        for (T element : elements) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] nodeFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        return (T) nodeFor(index)[index & MASK];
+    }
+
+    /**
+     * Returns a vector with the element added at the end.
+     *
+     * @param element The element to add.
+     * @return The new vector.
+     */
+    public PersistentVector<T> append(T element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Returns a vector with all the given elements added at the end. The tail is filled a chunk at a time,
+     * so each element is copied once instead of once per append.
+     *
+     * @param elements The elements to add, in order.
+     * @return The new vector.
+     */
+    public PersistentVector<T> appendAll(List<? extends T> elements) {
+        PersistentVector<T> vector = this;
+        int next = 0;
+        while (next < elements.size()) {
+            int room = WIDTH - (vector.size - vector.tailOffset());
+            if (room == 0) {
+                vector = vector.append(elements.get(next));
+                next += 1;
+                continue;
+            }
+            int count = Math.min(room, elements.size() - next);
+            Object[] newTail = Arrays.copyOf(vector.tail, vector.tail.length + count);
+            for (int i = 0; i < count; i++) {
+                newTail[vector.tail.length + i] = elements.get(next + i);
+            }
+            vector = new PersistentVector<>(vector.size + count, vector.shift, vector.root, newTail);
+            next += count;
+        }
+        return vector;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] newParent = parent.clone();
+        Object[] nodeToInsert;
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[subIndex];
+            nodeToInsert = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        newParent[subIndex] = nodeToInsert;
+        return newParent;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] path = new Object[WIDTH];
+        path[0] = newPath(level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced.
+     *
+     * @param index   The index of the element to replace.
+     * @param element The new element.
+     * @return The new vector.
+     */
+    public PersistentVector<T> set(int index, T element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, setInNode(shift, root, index, element), tail);
+    }
+
+    private static Object[] setInNode(int level, Object[] node, int index, Object element) {
+        Object[] newNode = node.clone();
+        if (level == 0) {
+            newNode[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            newNode[subIndex] = setInNode(level - BITS, (Object[]) node[subIndex], index, element);
+        }
+        return newNode;
+    }
+
+    /**
+     * Returns a vector without its last element.
+     *
+     * @return The new vector.
+     */
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Cannot remove from an empty vector");
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        Object[] newTail = nodeFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] newChild = popTail(level - BITS, (Object[]) node[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Object[] newNode = node.clone();
+            newNode[subIndex] = newChild;
+            return newNode;
+        } else if (subIndex == 0) {
+            return null;
+        }
+        Object[] newNode = node.clone();
+        newNode[subIndex] = null;
+        return newNode;
+    }
+
+    /**
+     * Returns a vector without the element at the given index. Elements after the index are
+     * re-appended, so removing near the end is cheap and removing near the front costs O(n).
+     *
+     * @param index The index of the element to remove.
+     * @return The new vector.
+     */
+    public PersistentVector<T> removeAt(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for size " + size);
+        }
+
+        List<T> suffix = new ArrayList<>(size - index - 1);
+        for (int i = index + 1; i < size; i++) {
+            suffix.add(get(i));
+        }
+
+        PersistentVector<T> vector = this;
+        while (vector.size > index) {
+            vector = vector.removeLast();
+        }
+        for (T element : suffix) {
+            vector = vector.append(element);
+        }
+        return vector;
+    }
+
+    public ArrayList<T> toArrayList() {
+        ArrayList<T> list = new ArrayList<>(size);
+        for (T element : this) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+            private Object[] node = size > 0 ? nodeFor(0) : null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (index > 0 && (index & MASK) == 0) {
+                    node = nodeFor(index);
+                }
+                T element = (T) node[index & MASK];
+                index += 1;
+                return element;
+            }
+        };
+    }
+}
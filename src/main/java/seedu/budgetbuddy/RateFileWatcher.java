@@ -0,0 +1,104 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches the exchange rate file and loads new rates as soon as the file changes, so rates dropped in
+ * by an external job take effect without restarting BudgetBuddy.
+ * A file that cannot be parsed, for example because it is only partially written, is ignored and the
+ * previous rates stay in use until the next change.
+ */
+public class RateFileWatcher implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(RateFileWatcher.class.getName());
+
+    private final Path file;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private RateFileWatcher(Path file, WatchService watchService) {
+        this.file = file;
+        this.watchService = watchService;
+        this.thread = new Thread(this::watch, "rate-file-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the given rate file in a background thread.
+     *
+     * @param file The rate file, see {@link RateHistory} for the format.
+     * @return The running watcher.
+     * @throws IOException If the directory of the file cannot be watched.
+     */
+    public static RateFileWatcher start(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        WatchService watchService = absoluteFile.getFileSystem().newWatchService();
+        absoluteFile.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+        RateFileWatcher watcher = new RateFileWatcher(absoluteFile, watchService);
+        watcher.thread.start();
+        return watcher;
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isRateFileChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (file.getFileName().equals(event.context())) {
+                        isRateFileChanged = true;
+                    }
+                }
+                if (isRateFileChanged) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    LOGGER.warning("Stopped watching exchange rates, directory is no longer accessible");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Closed by close()
+        }
+    }
+
+    /**
+     * Loads the rate file and makes its rates the current ones.
+     *
+     * @return True if the rates were replaced, false if the file could not be read or parsed or has no rates.
+     */
+    public boolean reload() {
+        try {
+            RateHistory rateHistory = RateHistory.parse(Files.readAllLines(file));
+            if (rateHistory == null) {
+                // A writer that truncates the file before writing it leaves it empty for a moment
+                throw new BudgetBuddyException("The rate file has no rates");
+            }
+            DefaultCurrency.setRateHistory(rateHistory);
+            LOGGER.info("Reloaded exchange rates from " + file);
+            return true;
+        } catch (IOException | BudgetBuddyException e) {
+            LOGGER.log(Level.WARNING, "Keeping previous exchange rates, could not load " + file, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+}
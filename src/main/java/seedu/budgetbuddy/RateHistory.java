@@ -0,0 +1,154 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Exchange rates that change over time, read from a file such as:
+ * <pre>
+ * date | SGD | USD | EUR
+ * 2023-01-03 | 1.0 | 0.74 | 0.70
+ * 2023-07-03 | 1.0 | - | 0.68
+ * </pre>
+ * Each row starts a rate period that lasts until the next row. A "-" keeps the previous rate of that currency.
+ * Rates are the amount of the currency that equals 1 SGD, like the default rates in CurrencyConverter.
+ * Period start dates are kept as a sorted array of epoch days, so the period of a date is found by binary search.
+ */
+public class RateHistory {
+    private static final String SEPARATOR = "\\|";
+    private static final String MISSING_RATE = "-";
+
+    private final int[] startEpochDays;
+    // rates[period][ordinal], NaN if the currency has no rate in that period
+    private final double[][] rates;
+
+    private RateHistory(int[] startEpochDays, double[][] rates) {
+        this.startEpochDays = startEpochDays;
+        this.rates = rates;
+    }
+
+    /**
+     * Parses a rate history from the lines of a rate file. Blank lines and lines starting with "#" are ignored.
+     *
+     * @param lines The lines of the file, starting with the header row.
+     * @return The parsed history, or null if the lines contain no rates.
+     * @throws BudgetBuddyException If a line is malformed or the dates are not in ascending order.
+     */
+    public static RateHistory parse(List<String> lines) throws BudgetBuddyException {
+        int[] columnOrdinals = null;
+        List<Integer> startEpochDays = new ArrayList<>();
+        List<double[]> rates = new ArrayList<>();
+
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split(SEPARATOR);
+            if (columnOrdinals == null) {
+                columnOrdinals = parseHeader(parts);
+                continue;
+            }
+            if (parts.length != columnOrdinals.length + 1) {
+                throw new BudgetBuddyException("Expected " + columnOrdinals.length + " rates in line: " + line);
+            }
+
+            int epochDay = parseDate(parts[0].trim());
+            if (!startEpochDays.isEmpty() && epochDay <= startEpochDays.get(startEpochDays.size() - 1)) {
+                throw new BudgetBuddyException("Rate dates must be in ascending order: " + parts[0].trim());
+            }
+            double[] previous = rates.isEmpty() ? null : rates.get(rates.size() - 1);
+            startEpochDays.add(epochDay);
+            rates.add(parseRates(parts, columnOrdinals, previous));
+        }
+
+        if (rates.isEmpty()) {
+            return null;
+        }
+        return new RateHistory(startEpochDays.stream().mapToInt(Integer::intValue).toArray(),
+                rates.toArray(new double[0][]));
+    }
+
+    private static int[] parseHeader(String[] parts) throws BudgetBuddyException {
+        int[] columnOrdinals = new int[parts.length - 1];
+        for (int column = 1; column < parts.length; column++) {
+            try {
+                columnOrdinals[column - 1] = CurrencyRegistry.ordinalOf(Currency.getInstance(parts[column].trim()));
+            } catch (IllegalArgumentException e) {
+                throw new BudgetBuddyException("Unknown currency in rate file header: " + parts[column].trim());
+            }
+        }
+        return columnOrdinals;
+    }
+
+    private static int parseDate(String date) throws BudgetBuddyException {
+        try {
+            return (int) LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            throw new BudgetBuddyException("Invalid date in rate file: " + date);
+        }
+    }
+
+    private static double[] parseRates(String[] parts, int[] columnOrdinals, double[] previous)
+            throws BudgetBuddyException {
+        double[] periodRates = new double[CurrencyRegistry.size()];
+        Arrays.fill(periodRates, Double.NaN);
+        if (previous != null) {
+            System.arraycopy(previous, 0, periodRates, 0, previous.length);
+        }
+
+        for (int column = 0; column < columnOrdinals.length; column++) {
+            String value = parts[column + 1].trim();
+            if (value.equals(MISSING_RATE)) {
+                continue;
+            }
+            try {
+                double rate = Double.parseDouble(value);
+                if (rate <= 0) {
+                    throw new BudgetBuddyException("Exchange rates must be positive numbers: " + value);
+                }
+                periodRates[columnOrdinals[column]] = rate;
+            } catch (NumberFormatException e) {
+                throw new BudgetBuddyException("Invalid exchange rate: " + value);
+            }
+        }
+        return periodRates;
+    }
+
+    public int getPeriodCount() {
+        return startEpochDays.length;
+    }
+
+    /**
+     * Returns the period whose rates apply on the given day. Days before the first period use the first period.
+     *
+     * @param epochDay The day, as days since 1970-01-01.
+     * @return The index of the period, between 0 and getPeriodCount() - 1.
+     */
+    public int periodOf(int epochDay) {
+        int index = Arrays.binarySearch(startEpochDays, epochDay);
+        if (index >= 0) {
+            return index;
+        }
+        int insertionPoint = -index - 1;
+        return Math.max(0, insertionPoint - 1);
+    }
+
+    /**
+     * Returns the rate of a currency in the given period.
+     *
+     * @param period          The period index.
+     * @param currencyOrdinal The CurrencyRegistry ordinal of the currency.
+     * @return The amount of the currency that equals 1 SGD, or NaN if the file has no rate for it.
+     */
+    public double getRate(int period, int currencyOrdinal) {
+        double[] periodRates = rates[period];
+        return currencyOrdinal < periodRates.length ? periodRates[currencyOrdinal] : Double.NaN;
+    }
+}
@@ -1,9 +1,15 @@
 package seedu.budgetbuddy;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 
 public class RecurringExpenseList extends ExpenseList{
     String name;
+    // Stays the same when lists before this one are removed; 0 until the list joins a RecurringExpensesList
+    private int id;
+    // Null if the list is only ever added to the overall expenses by hand with rec addrec
+    private RecurringSchedule schedule;
+    private LocalDate lastPostedDate;
 
     public RecurringExpenseList(String name, ArrayList<Expense> expenses) {
         this.name = name;
@@ -14,4 +20,39 @@ public class RecurringExpenseList extends ExpenseList{
     public String getName() {
         return this.name;
     }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public RecurringSchedule getSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Sets when this list falls due. Only occurrences after the start date are posted.
+     *
+     * @param schedule The schedule, or null to stop posting this list automatically.
+     * @param start    The date the schedule starts from.
+     */
+    public void setSchedule(RecurringSchedule schedule, LocalDate start) {
+        this.schedule = schedule;
+        this.lastPostedDate = start;
+    }
+
+    public LocalDate getLastPostedDate() {
+        return lastPostedDate;
+    }
+
+    public void setLastPostedDate(LocalDate lastPostedDate) {
+        this.lastPostedDate = lastPostedDate;
+    }
 }
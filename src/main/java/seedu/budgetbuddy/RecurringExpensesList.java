@@ -1,28 +1,79 @@
 package seedu.budgetbuddy;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 public class RecurringExpensesList {
     protected ArrayList<ExpenseList> recurringExpenses;
+    // Lists by lower-cased name, so names can be looked up and checked for clashes without a scan
+    private final Map<String, RecurringExpenseList> listsByName = new HashMap<>();
+    private int nextId = 1;
+    // The list whose categories every recurring list uses, or null to give each list the default categories
+    private ExpenseList ledger;
 
     Ui ui = new Ui();
 
     public RecurringExpensesList(ArrayList<ExpenseList> recurringExpenses) {
         this.recurringExpenses = recurringExpenses;
+        for (ExpenseList expenses : recurringExpenses) {
+            if (expenses instanceof RecurringExpenseList) {
+                nextId = Math.max(nextId, ((RecurringExpenseList) expenses).getId() + 1);
+            }
+        }
+        for (ExpenseList expenses : recurringExpenses) {
+            if (expenses instanceof RecurringExpenseList) {
+                RecurringExpenseList recurringList = (RecurringExpenseList) expenses;
+                if (recurringList.getId() == 0) {
+                    recurringList.setId(nextId++);
+                }
+                listsByName.putIfAbsent(keyOf(recurringList.getName()), recurringList);
+            }
+        }
     }
     public RecurringExpensesList() {
         this.recurringExpenses = new ArrayList<>();
     }
+
+    /**
+     * Makes every recurring list, including lists added later, use the categories of the given list.
+     *
+     * @param ledger The overall expense list.
+     */
+    public void useCategoriesOf(ExpenseList ledger) {
+        this.ledger = ledger;
+        for (ExpenseList expenses : recurringExpenses) {
+            expenses.useCategoriesOf(ledger);
+        }
+    }
+
+    private static String keyOf(String listName) {
+        return listName.trim().toLowerCase();
+    }
+
     public void addNewRecurringList(String listName) {
-        ExpenseList expenses = new RecurringExpenseList(listName, new ArrayList<>());
+        if (getListByName(listName) != null) {
+            System.out.println("A list named " + listName + " already exists");
+            return;
+        }
+
+        RecurringExpenseList expenses = new RecurringExpenseList(listName, new ArrayList<>());
+        expenses.setId(nextId++);
+        if (ledger != null) {
+            expenses.useCategoriesOf(ledger);
+        }
 
         recurringExpenses.add(expenses);
+        listsByName.put(keyOf(listName), expenses);
 
     }
 
     public void removeList(int listNumber) {
         int listNumberAsArrayPosition = listNumber - 1;
-        recurringExpenses.remove(listNumberAsArrayPosition);
+        ExpenseList removed = recurringExpenses.remove(listNumberAsArrayPosition);
+        listsByName.remove(keyOf(removed.getName()), removed);
 
         ui.printDivider();
         System.out.println("List Successfully Removed");
@@ -30,6 +81,40 @@ public class RecurringExpensesList {
 
     }
 
+    /**
+     * Renames a list. Names are unique, ignoring case.
+     *
+     * @param listNumber The number of the list, starting from 1.
+     * @param newName    The new name.
+     * @throws BudgetBuddyException If another list already has the new name.
+     */
+    public void renameList(int listNumber, String newName) throws BudgetBuddyException {
+        ExpenseList expenses = getExpenseListAtListNumber(listNumber);
+        if (!(expenses instanceof RecurringExpenseList)) {
+            throw new BudgetBuddyException("This list cannot be renamed");
+        }
+        RecurringExpenseList recurringList = (RecurringExpenseList) expenses;
+
+        RecurringExpenseList existing = getListByName(newName);
+        if (existing != null && existing != recurringList) {
+            throw new BudgetBuddyException("A list named " + newName + " already exists");
+        }
+
+        listsByName.remove(keyOf(recurringList.getName()), recurringList);
+        recurringList.setName(newName);
+        listsByName.put(keyOf(newName), recurringList);
+    }
+
+    /**
+     * Finds a list by name, ignoring case.
+     *
+     * @param listName The name of the list.
+     * @return The list, or null if there is no list with that name.
+     */
+    public RecurringExpenseList getListByName(String listName) {
+        return listsByName.get(keyOf(listName));
+    }
+
     public void printAllRecurringLists() {
 
         int counter = 1;
@@ -46,7 +131,9 @@ public class RecurringExpensesList {
 
         for (ExpenseList expenses : recurringExpenses) {
             String listName = expenses.getName();
-            System.out.println(counter + ". " + listName);
+            RecurringSchedule schedule = expenses instanceof RecurringExpenseList
+                    ? ((RecurringExpenseList) expenses).getSchedule() : null;
+            System.out.println(counter + ". " + listName + (schedule == null ? "" : " (" + schedule + ")"));
             counter += 1;
         }
 
@@ -0,0 +1,183 @@
+package seedu.budgetbuddy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves each recurring list to its own file, named after the list's ID, in one directory. Only lists whose
+ * contents changed since they were last read or written are rewritten, and the file of a removed list is
+ * deleted, so changing one list never touches the others.
+ *
+ * <p>Each file holds a header line followed by one line per expense:
+ * <pre>
+ * !!! NAME !!! [SCHEDULE | LAST_POSTED_DATE]
+ * DATE | CATEGORY | AMOUNT | DESCRIPTION | CURRENCY
+ * </pre>
+ */
+public class RecurringListStorage {
+    private static final Logger LOGGER = Logger.getLogger(RecurringListStorage.class.getName());
+    private static final String FILE_SUFFIX = ".txt";
+
+    private final Path directory;
+    private final Path legacyFile;
+    // What each list's file held when it was last read or written, by list ID
+    private final Map<Integer, String> savedContents = new HashMap<>();
+
+    /**
+     * Creates storage for recurring lists.
+     *
+     * @param directory  The directory holding one file per list.
+     * @param legacyFile The single file that held every list before lists were saved separately. It is read
+     *                   once if the directory does not exist yet, and is never written.
+     */
+    public RecurringListStorage(String directory, String legacyFile) {
+        this.directory = Paths.get(directory);
+        this.legacyFile = Paths.get(legacyFile);
+    }
+
+    public RecurringExpensesList load() throws IOException {
+        savedContents.clear();
+        if (!Files.isDirectory(directory)) {
+            if (Files.exists(legacyFile)) {
+                LOGGER.log(Level.INFO, "Reading recurring lists from " + legacyFile);
+                return new Storage(legacyFile.toString()).loadRecurringExpensesList();
+            }
+            return new RecurringExpensesList();
+        }
+
+        Map<Integer, Path> filesById = new TreeMap<>();
+        File[] files = directory.toFile().listFiles();
+        for (File file : files == null ? new File[0] : files) {
+            String fileName = file.getName();
+            if (!fileName.endsWith(FILE_SUFFIX)) {
+                continue;
+            }
+            try {
+                filesById.put(Integer.parseInt(fileName.substring(0, fileName.length() - FILE_SUFFIX.length())),
+                        file.toPath());
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.WARNING, "Ignoring unexpected file " + fileName);
+            }
+        }
+
+        ArrayList<ExpenseList> lists = new ArrayList<>();
+        for (Map.Entry<Integer, Path> entry : filesById.entrySet()) {
+            String contents = new String(Files.readAllBytes(entry.getValue()), StandardCharsets.UTF_8);
+            try {
+                RecurringExpenseList list = parse(contents);
+                list.setId(entry.getKey());
+                lists.add(list);
+                savedContents.put(entry.getKey(), contents);
+            } catch (RuntimeException e) {
+                System.out.println("Recurring list file " + entry.getValue().getFileName()
+                        + " is corrupted, skipping it....");
+            }
+        }
+        return new RecurringExpensesList(lists);
+    }
+
+    private static RecurringExpenseList parse(String contents) {
+        String[] lines = contents.split("\n");
+        String header = lines[0];
+        int endOfName = header.indexOf("!!!", 3);
+        String name = header.substring(3, endOfName).trim();
+        RecurringExpenseList list = new RecurringExpenseList(name, new ArrayList<>());
+
+        String scheduleDetails = header.substring(endOfName + 3).trim();
+        if (!scheduleDetails.isEmpty()) {
+            String[] scheduleParts = scheduleDetails.split("\\|");
+            list.setSchedule(RecurringSchedule.fromStorageString(scheduleParts[0]),
+                    LocalDate.parse(scheduleParts[1].trim()));
+        }
+
+        for (int i = 1; i < lines.length; i++) {
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            String[] parts = lines[i].split("\\|");
+            Expense expense = new Expense(LocalDate.parse(parts[0].trim()), parts[1].trim(),
+                    Double.parseDouble(parts[2].trim()), DescriptionPool.intern(parts[3].trim()));
+            if (parts.length > 4) {
+                expense.setCurrency(Currency.getInstance(parts[4].trim()));
+            }
+            list.getExpenses().add(expense);
+        }
+        return list;
+    }
+
+    /**
+     * Writes the lists that changed since they were last saved and deletes the files of removed lists.
+     *
+     * @param recurringExpensesList The recurring lists.
+     * @return The number of files written or deleted.
+     * @throws IOException If a file cannot be written or deleted.
+     */
+    public int save(RecurringExpensesList recurringExpensesList) throws IOException {
+        Files.createDirectories(directory);
+        int changedFiles = 0;
+
+        Map<Integer, String> currentContents = new HashMap<>();
+        for (int listNumber = 1; listNumber <= recurringExpensesList.getSize(); listNumber++) {
+            ExpenseList list = recurringExpensesList.getExpenseListAtListNumber(listNumber);
+            if (list instanceof RecurringExpenseList) {
+                RecurringExpenseList recurringList = (RecurringExpenseList) list;
+                currentContents.put(recurringList.getId(), format(recurringList));
+            }
+        }
+
+        for (Map.Entry<Integer, String> entry : currentContents.entrySet()) {
+            if (entry.getValue().equals(savedContents.get(entry.getKey()))) {
+                continue;
+            }
+            Path file = fileOf(entry.getKey());
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temporary, entry.getValue().getBytes(StandardCharsets.UTF_8));
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedContents.put(entry.getKey(), entry.getValue());
+            changedFiles++;
+        }
+
+        List<Integer> removedIds = new ArrayList<>(savedContents.keySet());
+        removedIds.removeAll(currentContents.keySet());
+        for (int removedId : removedIds) {
+            Files.deleteIfExists(fileOf(removedId));
+            savedContents.remove(removedId);
+            changedFiles++;
+        }
+        return changedFiles;
+    }
+
+    private Path fileOf(int id) {
+        return directory.resolve(id + FILE_SUFFIX);
+    }
+
+    private static String format(RecurringExpenseList list) {
+        StringBuilder contents = new StringBuilder();
+        contents.append("!!! ").append(list.getName()).append(" !!!");
+        if (list.getSchedule() != null) {
+            contents.append(" ").append(list.getSchedule().toStorageString())
+                    .append(" | ").append(list.getLastPostedDate());
+        }
+        contents.append("\n");
+        for (Expense expense : list.getExpenses()) {
+            contents.append(String.format("%s | %s | %.2f | %s | %s\n", expense.getDateAdded(),
+                    expense.getCategory(), expense.getNativeAmount(), expense.getDescription(),
+                    expense.getCurrency()));
+        }
+        return contents.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.budgetbuddy;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+/**
+ * When a recurring list falls due: every week on one day of the week, or every month on one day of
+ * the month. A monthly day past the end of a shorter month falls on that month's last day.
+ */
+public class RecurringSchedule {
+    private static final String WEEKLY = "weekly";
+    private static final String MONTHLY = "monthly";
+
+    private final DayOfWeek dayOfWeek;
+    private final int dayOfMonth;
+
+    private RecurringSchedule(DayOfWeek dayOfWeek, int dayOfMonth) {
+        this.dayOfWeek = dayOfWeek;
+        this.dayOfMonth = dayOfMonth;
+    }
+
+    public static RecurringSchedule weekly(DayOfWeek dayOfWeek) {
+        return new RecurringSchedule(dayOfWeek, 0);
+    }
+
+    public static RecurringSchedule monthly(int dayOfMonth) {
+        assert dayOfMonth >= 1 && dayOfMonth <= 31 : "Day of month should be between 1 and 31";
+        return new RecurringSchedule(null, dayOfMonth);
+    }
+
+    /**
+     * Parses a rule typed by the user. "weekly" and "monthly" repeat on the weekday or day of the month
+     * of the given start date; "day/N" repeats on day N of every month.
+     *
+     * @param rule  The rule to parse.
+     * @param start The date the schedule starts from.
+     * @return The schedule.
+     * @throws BudgetBuddyException If the rule is not recognised.
+     */
+    public static RecurringSchedule parse(String rule, LocalDate start) throws BudgetBuddyException {
+        String trimmedRule = rule.trim().toLowerCase();
+        if (trimmedRule.equals(WEEKLY)) {
+            return weekly(start.getDayOfWeek());
+        }
+        if (trimmedRule.equals(MONTHLY)) {
+            return monthly(start.getDayOfMonth());
+        }
+        if (trimmedRule.startsWith("day/")) {
+            try {
+                int day = Integer.parseInt(trimmedRule.substring("day/".length()));
+                if (day >= 1 && day <= 31) {
+                    return monthly(day);
+                }
+            } catch (NumberFormatException e) {
+                // Reported below together with other invalid rules
+            }
+        }
+        throw new BudgetBuddyException("Schedule should be weekly, monthly or day/N with N from 1 to 31");
+    }
+
+    /**
+     * Reads a schedule written by toStorageString.
+     *
+     * @param stored The stored schedule, e.g. "monthly:15" or "weekly:MONDAY".
+     * @return The schedule.
+     */
+    public static RecurringSchedule fromStorageString(String stored) {
+        String[] parts = stored.trim().split(":", 2);
+        if (parts[0].equals(WEEKLY)) {
+            return weekly(DayOfWeek.valueOf(parts[1]));
+        }
+        if (parts[0].equals(MONTHLY)) {
+            int day = Integer.parseInt(parts[1]);
+            if (day >= 1 && day <= 31) {
+                return monthly(day);
+            }
+        }
+        throw new IllegalArgumentException("Unknown schedule " + stored);
+    }
+
+    public String toStorageString() {
+        return dayOfWeek != null ? WEEKLY + ":" + dayOfWeek : MONTHLY + ":" + dayOfMonth;
+    }
+
+    /**
+     * Lists the dates the schedule falls on after one date, up to and including another.
+     *
+     * @param after The date after which to start, exclusive.
+     * @param upTo  The last date to include.
+     * @return The dates in order; empty if upTo is not after after.
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate after, LocalDate upTo) {
+        return occurrencesAfter(after).takeWhile(date -> !date.isAfter(upTo)).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the dates the schedule falls on after the given date, as an endless lazy stream.
+     * Callers should bound it, e.g. with takeWhile.
+     *
+     * @param after The date after which to start, exclusive.
+     * @return The dates in order.
+     */
+    public Stream<LocalDate> occurrencesAfter(LocalDate after) {
+        if (dayOfWeek != null) {
+            int daysToNext = (dayOfWeek.getValue() - after.getDayOfWeek().getValue() + 6) % 7 + 1;
+            return Stream.iterate(after.plusDays(daysToNext), date -> date.plusWeeks(1));
+        }
+        return Stream.iterate(YearMonth.from(after), month -> month.plusMonths(1))
+                .map(month -> month.atDay(Math.min(dayOfMonth, month.lengthOfMonth())))
+                .filter(date -> date.isAfter(after));
+    }
+
+    @Override
+    public String toString() {
+        if (dayOfWeek != null) {
+            return "every " + dayOfWeek.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        }
+        return "every month on day " + dayOfMonth;
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.budgetbuddy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+/**
+ * Posts scheduled recurring lists to the overall expenses. Every occurrence missed since a list was last
+ * posted is gathered into one batch, dated on the day it fell due, and appended in a single call so that
+ * the caller only needs to save once.
+ */
+public class RecurringScheduler {
+    private static final Logger LOGGER = Logger.getLogger(RecurringScheduler.class.getName());
+
+    /**
+     * Appends every expense that fell due up to and including today and marks the lists as posted.
+     *
+     * @param recurringExpensesList The recurring lists.
+     * @param expenses              The overall expenses to append to.
+     * @param today                 The date to catch up to.
+     * @return The expenses appended, so that the caller can save them as one change.
+     * @throws BudgetBuddyException If a due expense cannot be added; no list is then marked as posted.
+     */
+    public static List<Expense> catchUp(RecurringExpensesList recurringExpensesList, ExpenseList expenses,
+            LocalDate today) throws BudgetBuddyException {
+        List<Expense> dueExpenses = new ArrayList<>();
+        List<RecurringExpenseList> postedLists = new ArrayList<>();
+        for (int listNumber = 1; listNumber <= recurringExpensesList.getSize(); listNumber++) {
+            ExpenseList list = recurringExpensesList.getExpenseListAtListNumber(listNumber);
+            if (!(list instanceof RecurringExpenseList)) {
+                continue;
+            }
+            RecurringExpenseList recurringList = (RecurringExpenseList) list;
+            if (recurringList.getSchedule() == null) {
+                continue;
+            }
+
+            List<LocalDate> dueDates = recurringList.getSchedule()
+                    .occurrencesBetween(recurringList.getLastPostedDate(), today);
+            for (LocalDate dueDate : dueDates) {
+                for (Expense template : recurringList.getExpenses()) {
+                    dueExpenses.add(occurrenceOf(template, dueDate));
+                }
+            }
+            postedLists.add(recurringList);
+        }
+
+        // Stable sort, so expenses due on the same day keep the order of their lists
+        dueExpenses.sort(Comparator.comparingInt(Expense::getDateAddedEpochDay));
+        expenses.addAll(dueExpenses);
+        for (RecurringExpenseList postedList : postedLists) {
+            postedList.setLastPostedDate(today);
+        }
+        if (!dueExpenses.isEmpty()) {
+            LOGGER.info("Posted " + dueExpenses.size() + " recurring expenses up to " + today);
+        }
+        return dueExpenses;
+    }
+
+    /**
+     * Lazily projects every expense that the scheduled lists will post after their last posted date, up to
+     * and including the given date. Nothing is materialised, so a far horizon costs time, not memory.
+     *
+     * @param recurringExpensesList The recurring lists.
+     * @param upTo                  The last date to project.
+     * @return The projected expenses, ordered by list and then by date.
+     */
+    public static Stream<Expense> projectedExpenses(RecurringExpensesList recurringExpensesList, LocalDate upTo) {
+        return IntStream.rangeClosed(1, recurringExpensesList.getSize())
+                .mapToObj(recurringExpensesList::getExpenseListAtListNumber)
+                .filter(list -> list instanceof RecurringExpenseList)
+                .map(list -> (RecurringExpenseList) list)
+                .filter(list -> list.getSchedule() != null)
+                .flatMap(list -> list.getSchedule().occurrencesAfter(list.getLastPostedDate())
+                        .takeWhile(date -> !date.isAfter(upTo))
+                        .flatMap(date -> list.getExpenses().stream().map(template -> occurrenceOf(template, date))));
+    }
+
+    /**
+     * Creates a copy of a recurring expense dated on the given day.
+     *
+     * @param template The expense in the recurring list.
+     * @param dueDate  The date of the copy.
+     * @return The new expense.
+     */
+    public static Expense occurrenceOf(Expense template, LocalDate dueDate) {
+        Expense expense = new Expense(dueDate, template.getCategory(), template.getNativeAmount(),
+                template.getDescription());
+        expense.setCurrency(template.getCurrency());
+        expense.setTags(template.getTags());
+        return expense;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.command.CommandResult;
+
+/**
+ * Shows the result of a command in one output format.
+ */
+public interface ResultRenderer {
+    void render(CommandResult result);
+
+    /**
+     * Returns the renderer for a format name given on the command line.
+     *
+     * @param format "console", "csv" or "json".
+     * @return The renderer.
+     * @throws IllegalArgumentException If the format is unknown.
+     */
+    static ResultRenderer forFormat(String format) {
+        switch (format) {
+        case "console":
+            return new ConsoleRenderer();
+        case "csv":
+            return new CsvRenderer();
+        case "json":
+            return new JsonRenderer();
+        default:
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+}
@@ -5,13 +5,15 @@ public class Saving extends Transaction{
         super(category, amount);
     }
 
-    @Override
-    public String toString() {
-        return "Category: " + category + " Amount: " + amount;
+    public Saving copy() {
+        Saving copy = new Saving(category, amount);
+        copy.currencyOrdinal = currencyOrdinal;
+        return copy;
     }
 
-    public double getAmount() {
-        return amount;
+    @Override
+    public String toString() {
+        return "Category: " + category + " Amount: " + getAmount();
     }
 
 }
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy;
 
 import java.util.ArrayList;
+import java.util.Currency;
 import java.util.Arrays;
 import java.util.Map;
 
@@ -19,6 +20,8 @@ public class SavingList {
     protected ArrayList<String> categories;
     protected double initialAmount;
     protected Storage storage;
+    // Persistent copy of the savings, used to take cheap snapshots for undo
+    protected PersistentVector<Saving> versionedSavings;
     Ui ui = new Ui();
 
 
@@ -28,6 +31,7 @@ public class SavingList {
         this.categories = new ArrayList<>(Arrays.asList("Salary",
                 "Investments", "Gifts", "Others"));
         this.initialAmount = 0;
+        this.versionedSavings = PersistentVector.empty();
         this.storage = new Storage("src/main/java/seedu/budgetbuddy/data/SavingsFile.txt");
     }
 
@@ -39,6 +43,44 @@ public class SavingList {
         return savings;
     }
 
+    /**
+     * Returns a persistent snapshot of the savings without copying the list.
+     * Savings appended directly to the underlying ArrayList since the last snapshot are picked up here.
+     *
+     * @return The savings as an immutable PersistentVector.
+     */
+    public PersistentVector<Saving> getVersionedSavings() {
+        if (versionedSavings.size() > savings.size()) {
+            versionedSavings = PersistentVector.fromList(savings);
+        }
+        for (int i = versionedSavings.size(); i < savings.size(); i++) {
+            versionedSavings = versionedSavings.append(savings.get(i));
+        }
+        return versionedSavings;
+    }
+
+    /**
+     * Replaces the saving at the given position, keeping the persistent copy in step.
+     *
+     * @param index  The index of the saving to replace, starting from 0.
+     * @param saving The new saving.
+     */
+    public void setSaving(int index, Saving saving) {
+        getVersionedSavings();
+        savings.set(index, saving);
+        versionedSavings = versionedSavings.set(index, saving);
+    }
+
+    public void restore(PersistentVector<Saving> savingSnapshot) {
+        savings.clear();
+        savings.addAll(savingSnapshot.toArrayList());
+        versionedSavings = savingSnapshot;
+    }
+
+    public double getInitialAmount() {
+        return initialAmount;
+    }
+
     /**
      * Calculates the total savings amount by summing up the amounts of all savings.
      * Sets the initial amount to the calculated total savings.
@@ -48,14 +90,14 @@ public class SavingList {
         try {
             assert savings != null : "Savings list should not be null";
 
-            double totalSavings = 0;
+            CurrencyTotal totalSavings = new CurrencyTotal();
             for (int i = 0; i < savings.size(); i++) {
                 Saving saving = savings.get(i);
                 assert saving != null : "Saving object at index " + i + " is null";
-                totalSavings += saving.getAmount();
+                totalSavings.add(saving);
             }
 
-            this.initialAmount = totalSavings;
+            this.initialAmount = totalSavings.inDefaultCurrency();
         } catch (AssertionError e) {
             LOGGER.log(Level.SEVERE, "Error occurred while calculating total savings", e);
         }
@@ -81,22 +123,28 @@ public class SavingList {
                 if (filterCategory == null || saving.getCategory().equalsIgnoreCase(filterCategory)) {
                     System.out.print(i + 1 + " | ");
                     System.out.print("Category: " + saving.getCategory() + " | ");
-                    System.out.println("Amount: $" + String.format("%.2f", saving.getAmount()) + " | ");
+                    System.out.print("Amount: $" + String.format("%.2f", saving.getAmount()) + " | ");
+                    if (!saving.getCurrency().equals(DefaultCurrency.getDefaultCurrency())) {
+                        System.out.print("Saved: " + saving.getCurrency() + " "
+                                + String.format("%.2f", saving.getNativeAmount()) + " | ");
+                    }
+                    System.out.println();
                 }
             }
             ui.printDivider();
             System.out.println("Initial Savings Amount: $" + String.format("%.2f", initialAmount));
             System.out.println("Expenses Deducted: ");
 
-            double totalExpenses = 0;
+            CurrencyTotal expensesTotal = new CurrencyTotal();
             for (Expense expense : expenseList.getExpenses()) {
-                totalExpenses += expense.getAmount();
+                expensesTotal.add(expense);
                 System.out.println("$" + String.format("%.2f", expense.getAmount()) +
                         " spent on " + expense.getDescription() +
                         " on " + expense.getDateAdded());
             }
             ui.printDivider();
 
+            double totalExpenses = expensesTotal.inDefaultCurrency();
             double remainingAmount = calculateRemainingSavings(initialAmount, totalExpenses);
             if (remainingAmount < 0) {
                 System.out.println("You are currently short on savings by: $" + String.format("%.2f", remainingAmount));
@@ -129,6 +177,19 @@ public class SavingList {
     }
 
     public void addSaving(String category, String amount) throws BudgetBuddyException{
+        addSaving(category, amount, DefaultCurrency.getDefaultCurrency());
+    }
+
+    /**
+     * Adds a saving entered in the given currency. The amount stays in that currency and is converted
+     * to the default currency whenever it is displayed.
+     *
+     * @param category The category of the saving.
+     * @param amount   The amount, in the given currency.
+     * @param currency The currency the amount was entered in.
+     * @throws BudgetBuddyException If the category is not listed.
+     */
+    public void addSaving(String category, String amount, Currency currency) throws BudgetBuddyException{
         if (!categories.contains(category)) {
             throw new BudgetBuddyException("The category '" + category + "' is not listed.");
         }
@@ -141,7 +202,10 @@ public class SavingList {
             }
         }
         Saving saving = new Saving(category, amountInt);
+        saving.setCurrency(currency);
+        getVersionedSavings();
         savings.add(saving);
+        versionedSavings = versionedSavings.append(saving);
 
         if (!categories.contains(category)) {
             categories.add(category);
@@ -158,6 +222,20 @@ public class SavingList {
      * @param amount   The new amount of the saving entry.
      */
     public void editSaving(String category, int index, double amount) {
+        try {
+            updateSaving(category, index, amount);
+            System.out.println("Saving edited successfully.");
+        } catch (BudgetBuddyException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Edits a saving like editSaving, without printing.
+     *
+     * @throws BudgetBuddyException If the category or index is invalid.
+     */
+    public void updateSaving(String category, int index, double amount) throws BudgetBuddyException {
         LOGGER.info(String.format("Attempting to edit saving at index %d with category '%s' " +
                 "and amount %.2f", index, category, amount));
 
@@ -174,47 +252,50 @@ public class SavingList {
         int categoryIndex = categories.indexOf(category);
         if (categoryIndex == -1) {
             LOGGER.warning("Invalid category: " + category);
-            System.out.println("Invalid category.");
-            return;
+            throw new BudgetBuddyException("Invalid category.");
         }
 
         // Check if the index is within valid bounds
         if (index <= 0 || index > savings.size()) {
             LOGGER.warning(String.format("Invalid index: %d. Valid index range " +
                     "is 1 to %d.", index, savings.size()));
-            System.out.println("Invalid index.");
-            return;
+            throw new BudgetBuddyException("Invalid index.");
         }
 
-        Saving savingToEdit = null;
-        try {
-            // Retrieve the saving to edit
-            savingToEdit = savings.get(index - 1);
-
-            // Update the saving details
-            savingToEdit.setCategory(category);
-            savingToEdit.setAmount(amount);
+        // Copy the saving to edit, so that undo snapshots keep the old details
+        Saving savingToEdit = savings.get(index - 1).copy();
 
-            System.out.println("Saving edited successfully.");
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error occurred while editing saving at index " + index, e);
-            System.out.println("An error occurred during saving edition. Please try again.");
+        // Update the saving details
+        savingToEdit.setCategory(category);
+        savingToEdit.setAmount(amount);
+        setSaving(index - 1, savingToEdit);
+    }
 
+    public void reduceSavings(int index, double amount){
+        try {
+            subtractFromSaving(index, amount);
+            System.out.println("Savings reduced successfully!");
+        } catch (BudgetBuddyException e) {
+            System.out.println(e.getMessage());
         }
     }
 
-    public void reduceSavings(int index, double amount){
-        if (index >= 0 && index < savings.size()){
-            Saving saving = savings.get(index);
-            if(saving.getAmount() >= amount){
-                saving.setAmount(saving.getAmount() - amount);
-                System.out.println("Savings reduced successfully!");
-            } else {
-                System.out.println("Insufficient savings amount.");
-            }
-        } else {
-            System.out.println("Invalid saving index.");
+    /**
+     * Reduces the saving at the given zero-based index without printing.
+     *
+     * @throws BudgetBuddyException If there is no saving at the index or it is smaller than the amount.
+     */
+    public void subtractFromSaving(int index, double amount) throws BudgetBuddyException {
+        if (index < 0 || index >= savings.size()) {
+            throw new BudgetBuddyException("Invalid saving index.");
+        }
+        Saving saving = savings.get(index);
+        if (saving.getAmount() < amount) {
+            throw new BudgetBuddyException("Insufficient savings amount.");
         }
+        Saving reducedSaving = saving.copy();
+        reducedSaving.setAmount(saving.getAmount() - amount);
+        setSaving(index, reducedSaving);
     }
 
     /**
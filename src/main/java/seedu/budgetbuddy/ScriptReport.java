@@ -0,0 +1,72 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a script run: how many commands ran, which lines were invalid and how fast it went.
+ */
+public class ScriptReport {
+    private static final int MAX_REPORTED_LINES = 10;
+
+    private final List<Integer> invalidLines = new ArrayList<>();
+    private int commands;
+    private int invalidCommands;
+    private int checkpoints;
+    private long elapsedNanos;
+
+    void addCommand() {
+        commands++;
+    }
+
+    void addInvalidLine(int lineNumber) {
+        invalidCommands++;
+        if (invalidLines.size() < MAX_REPORTED_LINES) {
+            invalidLines.add(lineNumber);
+        }
+    }
+
+    void addCheckpoint() {
+        checkpoints++;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCommands() {
+        return commands;
+    }
+
+    public int getInvalidCommands() {
+        return invalidCommands;
+    }
+
+    /**
+     * Returns the line numbers of the first few invalid commands.
+     */
+    public List<Integer> getInvalidLines() {
+        return Collections.unmodifiableList(invalidLines);
+    }
+
+    public int getCheckpoints() {
+        return checkpoints;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+    }
+
+    public void print() {
+        System.out.printf("Ran %d commands in %.2f s (%.0f commands/s), saved %d times.%n",
+                commands, elapsedNanos / 1e9, getCommandsPerSecond(), checkpoints);
+        if (invalidCommands > 0) {
+            System.out.println(invalidCommands + " invalid commands, first on lines " + invalidLines);
+        }
+    }
+}
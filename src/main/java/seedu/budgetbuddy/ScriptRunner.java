@@ -0,0 +1,106 @@
+package seedu.budgetbuddy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs commands read from a script back to back, without the prompt-and-save cycle of the interactive
+ * loop. Unless verbose, the output of each command and informational logging are suppressed while the
+ * script runs. Changes are saved every few commands (a checkpoint) and once more at the end.
+ */
+public class ScriptRunner {
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+    private static final Logger ROOT_LOGGER = Logger.getLogger("");
+
+    private final Predicate<String> executor;
+    private final Runnable saver;
+    private final int checkpointInterval;
+    private final boolean isVerbose;
+
+    /**
+     * Creates a runner.
+     *
+     * @param executor           Executes one line and returns false if it was not a valid command.
+     * @param saver              Saves the current state.
+     * @param checkpointInterval Number of commands between saves, or 0 to save only at the end.
+     * @param isVerbose          Whether to show the output of each command.
+     */
+    public ScriptRunner(Predicate<String> executor, Runnable saver, int checkpointInterval, boolean isVerbose) {
+        assert checkpointInterval >= 0 : "Checkpoint interval should not be negative";
+        this.executor = executor;
+        this.saver = saver;
+        this.checkpointInterval = checkpointInterval;
+        this.isVerbose = isVerbose;
+    }
+
+    /**
+     * Runs every line of the script until its end or a "bye" line. Blank lines are skipped.
+     *
+     * @param reader The script.
+     * @return What was run and how long it took.
+     * @throws IOException If the script cannot be read.
+     */
+    public ScriptReport run(BufferedReader reader) throws IOException {
+        PrintStream console = System.out;
+        PrintStream commandOutput = isVerbose ? console : new PrintStream(OutputStream.nullOutputStream());
+        Level logLevel = ROOT_LOGGER.getLevel();
+        if (!isVerbose) {
+            System.setOut(commandOutput);
+            ROOT_LOGGER.setLevel(Level.WARNING);
+        }
+
+        ScriptReport report = new ScriptReport();
+        long start = System.nanoTime();
+        try {
+            String line;
+            int lineNumber = 0;
+            int sinceCheckpoint = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (line.trim().equals("bye")) {
+                    break;
+                }
+                if (!executor.test(line)) {
+                    report.addInvalidLine(lineNumber);
+                }
+                report.addCommand();
+                sinceCheckpoint++;
+                if (checkpointInterval > 0 && sinceCheckpoint == checkpointInterval) {
+                    save(console, commandOutput, report);
+                    sinceCheckpoint = 0;
+                }
+            }
+            if (sinceCheckpoint > 0 || report.getCheckpoints() == 0) {
+                save(console, commandOutput, report);
+            }
+        } finally {
+            report.setElapsedNanos(System.nanoTime() - start);
+            if (!isVerbose) {
+                System.setOut(console);
+                ROOT_LOGGER.setLevel(logLevel);
+            }
+        }
+        return report;
+    }
+
+    /**
+     * Saves with the console restored, so that a failed save is reported even when commands are quiet.
+     */
+    private void save(PrintStream console, PrintStream commandOutput, ScriptReport report) {
+        System.setOut(console);
+        try {
+            saver.run();
+        } finally {
+            System.setOut(commandOutput);
+        }
+        report.addCheckpoint();
+    }
+}
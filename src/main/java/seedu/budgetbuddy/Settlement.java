@@ -0,0 +1,35 @@
+package seedu.budgetbuddy;
+
+/**
+ * A payment of an amount from one participant of a split expense to another. Used both for
+ * settlements that have been recorded and for transfers suggested by the DebtSimplifier.
+ */
+public class Settlement {
+    private final String from;
+    private final String to;
+    private final double amount;
+
+    public Settlement(String from, String to, double amount) {
+        assert from != null && to != null : "Participants should not be null";
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return from + " pays " + to + " " + String.format("%.2f", amount);
+    }
+}
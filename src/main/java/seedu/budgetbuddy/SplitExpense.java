@@ -1,21 +1,53 @@
 package seedu.budgetbuddy;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public class SplitExpense {
-    private final String amount;
+    private final double amount;
     private final String description;
-    private final String numberOfPeople;
+    private final int numberOfPeople;
+    // Computed once, since listing shows it for every row
+    private final double amountPerPerson;
+    // Null for an anonymous split that only records a head count
+    private final String payer;
+    private final Map<String, Double> shares;
 
-    public SplitExpense(String amount, String numberOfPeople, String description) {
+    public SplitExpense(double amount, int numberOfPeople, String description) {
+        assert numberOfPeople > 0 : "Number of people should be positive";
         this.amount = amount;
         this.numberOfPeople = numberOfPeople;
         this.description = description;
+        this.amountPerPerson = amount / numberOfPeople;
+        this.payer = null;
+        this.shares = Collections.emptyMap();
+    }
+
+    /**
+     * Creates a split expense paid by one person and shared among named participants.
+     *
+     * @param amount      The total amount paid.
+     * @param payer       The person who paid the bill.
+     * @param shares      The amount each participant owes, in the order the participants were given.
+     * @param description The description of the bill.
+     */
+    public SplitExpense(double amount, String payer, Map<String, Double> shares, String description) {
+        assert payer != null : "Payer should not be null";
+        assert !shares.isEmpty() : "There should be at least one participant";
+        this.amount = amount;
+        this.payer = payer;
+        this.shares = Collections.unmodifiableMap(new LinkedHashMap<>(shares));
+        this.numberOfPeople = shares.size();
+        this.description = description;
+        this.amountPerPerson = amount / numberOfPeople;
     }
 
-    public String getNumberOfPeople() {
+    public int getNumberOfPeople() {
         return numberOfPeople;
     }
 
-    public String getAmount() {
+    public double getAmount() {
         return amount;
     }
 
@@ -24,9 +56,24 @@ public class SplitExpense {
     }
 
     public double calculateAmountPerPerson() {
-        double amountValue = Double.parseDouble(amount);
-        double numberOfPeopleValue = Double.parseDouble(numberOfPeople);
-        return amountValue / numberOfPeopleValue;
+        return amountPerPerson;
+    }
+
+    public boolean hasParticipants() {
+        return payer != null;
+    }
+
+    public String getPayer() {
+        return payer;
+    }
+
+    /**
+     * Returns the amount owed by each named participant, or an empty map for an anonymous split.
+     *
+     * @return A read-only map from participant to share.
+     */
+    public Map<String, Double> getShares() {
+        return shares;
     }
 
     public Boolean isExpenseSettled() {
@@ -35,7 +82,11 @@ public class SplitExpense {
 
     @Override
     public String toString() {
-        return "Number of People: " + numberOfPeople + " Amount: " + amount + " Description: " +
-                description + " Amount per person: " + calculateAmountPerPerson();
+        String details = "Number of People: " + numberOfPeople + " Amount: " + amount + " Description: " +
+                description + " Amount per person: " + amountPerPerson;
+        if (hasParticipants()) {
+            details += " Paid by: " + payer + " Shares: " + shares;
+        }
+        return details;
     }
 }
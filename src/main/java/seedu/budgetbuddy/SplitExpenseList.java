@@ -1,7 +1,10 @@
 package seedu.budgetbuddy;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
@@ -11,20 +14,51 @@ import java.util.logging.Logger;
 public class SplitExpenseList {
     private static final Logger LOGGER = Logger.getLogger(SplitExpenseList.class.getName());
     protected ArrayList <SplitExpense> splitexpenses;
+    // Sum of the amounts of all split expenses that are not settled yet, kept up to date on every change
+    private double outstandingTotal;
+    // Net position of every named participant in cents, positive if owed money. Updated on every change
+    // so that balances never need a pass over all bills.
+    private final Map<String, Long> netBalances = new LinkedHashMap<>();
+    private final List<Settlement> settlements = new ArrayList<>();
+    private SplitJournal journal;
+
     public SplitExpenseList(ArrayList<SplitExpense> splitexpenses){
         this.splitexpenses = splitexpenses;
+        for (SplitExpense splitexpense : splitexpenses) {
+            outstandingTotal += splitexpense.getAmount();
+            applyToBalances(splitexpense, 1);
+        }
     }
 
     public SplitExpenseList() {
         this.splitexpenses = new ArrayList<>();
+        this.outstandingTotal = 0;
+    }
+
+    /**
+     * Makes every later change to this list be recorded in the given journal.
+     *
+     * @param journal The journal to record changes in, or null to stop recording.
+     */
+    public void setJournal(SplitJournal journal) {
+        this.journal = journal;
     }
 
     public int size() {
         return splitexpenses.size();
     }
 
+    /**
+     * Returns the split expenses. The list is read-only so that the outstanding total stays in step with it.
+     *
+     * @return A read-only view of the split expenses.
+     */
     public List<SplitExpense> getSplitExpenses() {
-        return splitexpenses;
+        return Collections.unmodifiableList(splitexpenses);
+    }
+
+    public double getOutstandingTotal() {
+        return outstandingTotal;
     }
 
     public void listSplitExpenses() {
@@ -40,12 +74,19 @@ public class SplitExpenseList {
                     continue;
                 }
                 System.out.print(i+1 + " | ");
-                System.out.print("Amount: " + splitexpense.getAmount());
+                System.out.print("Amount: " + String.format("%.2f", splitexpense.getAmount()));
                 System.out.print(" Number of People: " + splitexpense.getNumberOfPeople());
                 System.out.print(" Description: " + splitexpense.getDescription());
-                System.out.println(" Amount per person: " + splitexpense.calculateAmountPerPerson());
+                if (splitexpense.hasParticipants()) {
+                    System.out.print(" Paid by: " + splitexpense.getPayer());
+                    System.out.println(" Shares: " + formatShares(splitexpense.getShares()));
+                } else {
+                    System.out.println(" Amount per person: "
+                            + String.format("%.2f", splitexpense.calculateAmountPerPerson()));
+                }
             }
             System.out.println("-----------------------------------------------------------------------------");
+            System.out.println("Total outstanding: " + String.format("%.2f", outstandingTotal));
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "An error occurred while listing expenses.", e);
@@ -68,24 +109,291 @@ public class SplitExpenseList {
             throw new BudgetBuddyException("Expenses should not be negative.");
         }
 
+        int numberOfPeopleInt;
         try {
-            Integer.parseInt(numberOfPeople);
-            if (Integer.parseInt(numberOfPeople) < 0) {
-                throw new BudgetBuddyException("Number of people should be a positive number");
-            }
+            numberOfPeopleInt = Integer.parseInt(numberOfPeople);
         } catch (NumberFormatException e) {
             throw new BudgetBuddyException("Number of people should be a number");
         }
+        if (numberOfPeopleInt <= 0) {
+            throw new BudgetBuddyException("Number of people should be a positive number");
+        }
+
+        addSplitExpense(new SplitExpense(amountDouble, numberOfPeopleInt, description));
+    }
+
+    /**
+     * Adds a split expense paid by one person and shared among named participants. Each participant is
+     * written as NAME or NAME:SHARE and separated by commas. Participants without an explicit share split
+     * whatever the explicit shares leave of the amount equally, to the cent.
+     *
+     * @param amount       The total amount of the bill.
+     * @param payer        The person who paid the bill.
+     * @param participants The participants, e.g. "Alice:50,Bob:40,Carol".
+     * @param description  The description of the bill.
+     * @return The split expense that was added.
+     * @throws BudgetBuddyException If the amount or the shares are invalid.
+     */
+    public SplitExpense addSplitExpense(String amount, String payer, String participants, String description)
+            throws BudgetBuddyException {
+        assert participants != null : "Participants should not be null";
+        LOGGER.info("Adding split expense with participants...");
+
+        long amountCents = parseCents(amount, "Invalid amount format. Amount should be a number.");
+        if (amountCents <= 0) {
+            throw new BudgetBuddyException("Expenses should be a positive amount.");
+        }
+        if (payer == null || payer.isBlank()) {
+            throw new BudgetBuddyException("Payer should not be empty.");
+        }
+
+        Map<String, Long> explicitShares = new LinkedHashMap<>();
+        List<String> equalShares = new ArrayList<>();
+        long remainingCents = amountCents;
+        for (String participant : participants.split(",")) {
+            String[] nameAndShare = participant.split(":", 2);
+            String name = nameAndShare[0].trim();
+            if (name.isEmpty()) {
+                throw new BudgetBuddyException("Participant names should not be empty.");
+            }
+            if (explicitShares.containsKey(name) || equalShares.contains(name)) {
+                throw new BudgetBuddyException(name + " is listed more than once.");
+            }
+            if (nameAndShare.length == 1) {
+                equalShares.add(name);
+                continue;
+            }
+            long shareCents = parseCents(nameAndShare[1], "Invalid share for " + name + ".");
+            if (shareCents < 0) {
+                throw new BudgetBuddyException("Shares should not be negative.");
+            }
+            explicitShares.put(name, shareCents);
+            remainingCents -= shareCents;
+        }
+
+        if (remainingCents < 0) {
+            throw new BudgetBuddyException("Shares add up to more than the amount.");
+        }
+        if (equalShares.isEmpty() && remainingCents != 0) {
+            throw new BudgetBuddyException("Shares should add up to the amount.");
+        }
+
+        Map<String, Double> shares = new LinkedHashMap<>();
+        int equalCount = equalShares.size();
+        int equalIndex = 0;
+        for (String participant : participants.split(",")) {
+            String name = participant.split(":", 2)[0].trim();
+            Long explicit = explicitShares.get(name);
+            long shareCents;
+            if (explicit != null) {
+                shareCents = explicit;
+            } else {
+                // The first few participants absorb the leftover cents so the shares add up exactly
+                shareCents = remainingCents / equalCount + (equalIndex < remainingCents % equalCount ? 1 : 0);
+                equalIndex++;
+            }
+            shares.put(name, shareCents / 100.0);
+        }
 
-        SplitExpense splitexpense = new SplitExpense(amount, numberOfPeople, description);
+        SplitExpense splitexpense = new SplitExpense(amountCents / 100.0, payer.trim(), shares, description);
+        addSplitExpense(splitexpense);
+        return splitexpense;
+    }
+
+    /**
+     * Adds an already validated split expense.
+     *
+     * @param splitexpense The split expense to add.
+     */
+    public void addSplitExpense(SplitExpense splitexpense) {
         splitexpenses.add(splitexpense);
+        outstandingTotal += splitexpense.getAmount();
+        applyToBalances(splitexpense, 1);
+        if (journal != null) {
+            journal.recordSplit(splitexpense);
+        }
     }
 
-    public void settleSplitExpenses(int index) {
+    /**
+     * Settles a whole bill, reversing the shares it added to the balances. A bill with named participants
+     * cannot be settled this way once a payment between any of its participants was recorded with
+     * settleDebt, since that payment may already have paid part of the bill and would be counted twice.
+     *
+     * @param index The zero-based index of the bill.
+     * @throws BudgetBuddyException If a payment was recorded between participants of the bill.
+     */
+    public void settleSplitExpenses(int index) throws BudgetBuddyException {
         LOGGER.info("Settling split expenses...");
         assert index >= 0 : "Index should be a positive integer";
         assert index < splitexpenses.size() : "Index should be within the range of the list";
 
-        splitexpenses.remove(index);
+        SplitExpense bill = splitexpenses.get(index);
+        if (bill.hasParticipants() && hasSettlementInvolving(bill)) {
+            throw new BudgetBuddyException("Payments involving the people on this bill were already recorded "
+                    + "with settle debt. Use settle debt to settle the rest.");
+        }
+        removeSettledRow(index);
+    }
+
+    private boolean hasSettlementInvolving(SplitExpense bill) {
+        for (Settlement settlement : settlements) {
+            for (String person : List.of(settlement.getFrom(), settlement.getTo())) {
+                if (person.equals(bill.getPayer()) || bill.getShares().containsKey(person)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes a settled bill without checking it against recorded payments, e.g. when replaying a journal
+     * written before the check existed.
+     *
+     * @param index The zero-based index of the bill.
+     */
+    void removeSettledRow(int index) {
+        SplitExpense settled = splitexpenses.remove(index);
+        outstandingTotal -= settled.getAmount();
+        applyToBalances(settled, -1);
+        if (journal != null) {
+            journal.recordSettledRow(index);
+        }
+    }
+
+    /**
+     * Records a partial or full payment from a participant who owes money to a participant who is owed.
+     *
+     * @param from   The participant paying.
+     * @param to     The participant being paid.
+     * @param amount The amount paid.
+     * @return The recorded settlement.
+     * @throws BudgetBuddyException If the amount is invalid or larger than what is owed.
+     */
+    public Settlement settleDebt(String from, String to, String amount) throws BudgetBuddyException {
+        LOGGER.info("Settling debt between participants...");
+        long cents = parseCents(amount, "Invalid amount format. Amount should be a number.");
+        if (cents <= 0) {
+            throw new BudgetBuddyException("Settled amount should be positive.");
+        }
+        if (from.equals(to)) {
+            throw new BudgetBuddyException("A participant cannot settle with themselves.");
+        }
+
+        long owedByFrom = -netBalances.getOrDefault(from, 0L);
+        long owedToTo = netBalances.getOrDefault(to, 0L);
+        if (cents > owedByFrom) {
+            throw new BudgetBuddyException(from + " only owes " + formatCents(Math.max(owedByFrom, 0)) + ".");
+        }
+        if (cents > owedToTo) {
+            throw new BudgetBuddyException(to + " is only owed " + formatCents(Math.max(owedToTo, 0)) + ".");
+        }
+
+        Settlement settlement = new Settlement(from, to, cents / 100.0);
+        applySettlement(settlement);
+        return settlement;
+    }
+
+    /**
+     * Records a settlement without checking it against the current balances, e.g. when replaying a journal.
+     *
+     * @param settlement The settlement to record.
+     */
+    public void applySettlement(Settlement settlement) {
+        long cents = toCents(settlement.getAmount());
+        netBalances.merge(settlement.getFrom(), cents, Long::sum);
+        netBalances.merge(settlement.getTo(), -cents, Long::sum);
+        settlements.add(settlement);
+        if (journal != null) {
+            journal.recordSettlement(settlement);
+        }
+    }
+
+    public List<Settlement> getSettlements() {
+        return Collections.unmodifiableList(settlements);
+    }
+
+    /**
+     * Returns the net position of every named participant, positive if the participant is owed money.
+     *
+     * @return A map from participant to net balance, in the order participants first appeared.
+     */
+    public Map<String, Double> getNetBalances() {
+        Map<String, Double> balances = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : netBalances.entrySet()) {
+            balances.put(entry.getKey(), entry.getValue() / 100.0);
+        }
+        return balances;
+    }
+
+    /**
+     * Suggests transfers that would settle every named participant.
+     *
+     * @return The suggested transfers.
+     */
+    public List<Settlement> suggestSettlements() {
+        return DebtSimplifier.simplify(netBalances);
+    }
+
+    public void listBalances() {
+        LOGGER.info("Listing split balances...");
+
+        System.out.println("Balances: ");
+        boolean hasBalance = false;
+        for (Map.Entry<String, Long> entry : netBalances.entrySet()) {
+            long cents = entry.getValue();
+            if (cents == 0) {
+                continue;
+            }
+            hasBalance = true;
+            String direction = cents > 0 ? " is owed " : " owes ";
+            System.out.println(entry.getKey() + direction + formatCents(Math.abs(cents)));
+        }
+        if (!hasBalance) {
+            System.out.println("Everyone is settled up.");
+            return;
+        }
+        System.out.println("-----------------------------------------------------------------------------");
+        System.out.println("Suggested transfers: ");
+        for (Settlement settlement : suggestSettlements()) {
+            System.out.println(settlement);
+        }
+    }
+
+    private void applyToBalances(SplitExpense splitexpense, int sign) {
+        if (!splitexpense.hasParticipants()) {
+            return;
+        }
+        netBalances.merge(splitexpense.getPayer(), sign * toCents(splitexpense.getAmount()), Long::sum);
+        for (Map.Entry<String, Double> share : splitexpense.getShares().entrySet()) {
+            netBalances.merge(share.getKey(), -sign * toCents(share.getValue()), Long::sum);
+        }
+    }
+
+    private static long parseCents(String amount, String errorMessage) throws BudgetBuddyException {
+        try {
+            return toCents(Double.parseDouble(amount.trim()));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new BudgetBuddyException(errorMessage);
+        }
+    }
+
+    private static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    private static String formatCents(long cents) {
+        return String.format("%.2f", cents / 100.0);
+    }
+
+    private static String formatShares(Map<String, Double> shares) {
+        StringBuilder formatted = new StringBuilder();
+        for (Map.Entry<String, Double> share : shares.entrySet()) {
+            if (formatted.length() > 0) {
+                formatted.append(", ");
+            }
+            formatted.append(share.getKey()).append(" ").append(String.format("%.2f", share.getValue()));
+        }
+        return formatted.toString();
     }
 }
@@ -0,0 +1,279 @@
+package seedu.budgetbuddy;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of changes to a SplitExpenseList. Every split, settled row and debt settlement is
+ * one line appended at the end of the file, so saving costs the same no matter how long the history is.
+ * Once the journal holds many more records than the list it describes, it is rewritten from the current
+ * state (compaction) so that replaying it on startup stays fast.
+ *
+ * <p>Record formats:
+ * <pre>
+ * S | AMOUNT | NUMBER_OF_PEOPLE | DESCRIPTION
+ * N | AMOUNT | PAYER | NAME:SHARE,NAME:SHARE | DESCRIPTION
+ * D | FROM | TO | AMOUNT
+ * X | INDEX
+ * </pre>
+ * Backslashes and "|" in names and descriptions are escaped with a backslash.
+ */
+public class SplitJournal {
+    private static final Logger LOGGER = Logger.getLogger(SplitJournal.class.getName());
+    private static final String SEPARATOR = " | ";
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+    private final Path path;
+    private final List<String> pendingRecords = new ArrayList<>();
+    // Pairs of participants with at least one settlement; compaction keeps one record per pair
+    private final Set<String> settledPairs = new HashSet<>();
+    private int recordCount;
+
+    public SplitJournal(String filePath) {
+        this.path = Paths.get(filePath);
+        File parent = path.toAbsolutePath().getParent().toFile();
+        if (!parent.exists()) {
+            parent.mkdirs();
+        }
+    }
+
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Replays the journal into the given list and attaches this journal to it, so that later changes
+     * to the list are recorded. An unreadable last line, such as a line cut short by a crash, is skipped.
+     * Settled rows are recorded by position, so an unreadable line before the end would move every later
+     * record onto the wrong bill. The journal is then moved aside, nothing is loaded and an IOException
+     * is thrown.
+     *
+     * @param splitexpenses The list to load into, normally empty.
+     * @throws IOException If the journal exists but cannot be read.
+     */
+    public void replay(SplitExpenseList splitexpenses) throws IOException {
+        recordCount = 0;
+        settledPairs.clear();
+        splitexpenses.setJournal(null);
+        if (Files.exists(path)) {
+            // Checked against a separate list first, so that nothing is loaded if the journal is damaged
+            SplitExpenseList checked = new SplitExpenseList();
+            List<String[]> records = new ArrayList<>();
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            int lastLine = lines.size() - 1;
+            while (lastLine >= 0 && lines.get(lastLine).isBlank()) {
+                lastLine--;
+            }
+            for (int i = 0; i <= lastLine; i++) {
+                if (lines.get(i).isBlank()) {
+                    continue;
+                }
+                recordCount++;
+                try {
+                    String[] fields = splitFields(lines.get(i));
+                    apply(checked, fields);
+                    records.add(fields);
+                } catch (RuntimeException e) {
+                    if (i < lastLine) {
+                        throw damaged(i + 1, e);
+                    }
+                    LOGGER.log(Level.WARNING, "Skipped the unreadable last split expense record");
+                }
+            }
+            for (String[] fields : records) {
+                apply(splitexpenses, fields);
+            }
+        }
+        for (Settlement settlement : splitexpenses.getSettlements()) {
+            settledPairs.add(pairOf(settlement));
+        }
+        splitexpenses.setJournal(this);
+    }
+
+    /**
+     * Moves a damaged journal aside, so that it is kept for the user while a new journal is started.
+     */
+    private IOException damaged(int lineNumber, RuntimeException cause) throws IOException {
+        recordCount = 0;
+        Path kept = path.resolveSibling(path.getFileName() + ".damaged");
+        Files.move(path, kept, StandardCopyOption.REPLACE_EXISTING);
+        LOGGER.log(Level.SEVERE, "Line " + lineNumber + " of " + path + " cannot be read", cause);
+        return new IOException("Line " + lineNumber + " of the split expense journal cannot be read. "
+                + "It was moved to " + kept + ".", cause);
+    }
+
+    /**
+     * Splits a record at every unescaped separator and removes the escapes.
+     */
+    static String[] splitFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\\' && i + 1 < line.length()) {
+                field.append(line.charAt(++i));
+            } else if (line.startsWith(SEPARATOR, i)) {
+                fields.add(field.toString());
+                field.setLength(0);
+                i += SEPARATOR.length() - 1;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("|", "\\|");
+    }
+
+    private static void apply(SplitExpenseList splitexpenses, String[] fields) {
+        switch (fields[0]) {
+        case "S":
+            splitexpenses.addSplitExpense(new SplitExpense(Double.parseDouble(fields[1]),
+                    Integer.parseInt(fields[2]), fields[3]));
+            break;
+        case "N":
+            splitexpenses.addSplitExpense(new SplitExpense(Double.parseDouble(fields[1]), fields[2],
+                    parseShares(fields[3]), fields[4]));
+            break;
+        case "D":
+            splitexpenses.applySettlement(new Settlement(fields[1], fields[2], Double.parseDouble(fields[3])));
+            break;
+        case "X":
+            int index = Integer.parseInt(fields[1]);
+            if (index < 0 || index >= splitexpenses.size()) {
+                throw new IllegalArgumentException("No split expense at index " + index);
+            }
+            splitexpenses.removeSettledRow(index);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown record type " + fields[0]);
+        }
+    }
+
+    private static Map<String, Double> parseShares(String shares) {
+        Map<String, Double> parsed = new LinkedHashMap<>();
+        for (String share : shares.split(",")) {
+            int colon = share.lastIndexOf(':');
+            parsed.put(share.substring(0, colon), Double.parseDouble(share.substring(colon + 1)));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("A named split needs participants");
+        }
+        return parsed;
+    }
+
+    public void recordSplit(SplitExpense splitexpense) {
+        pendingRecords.add(formatSplit(splitexpense));
+    }
+
+    public void recordSettledRow(int index) {
+        pendingRecords.add("X" + SEPARATOR + index);
+    }
+
+    public void recordSettlement(Settlement settlement) {
+        settledPairs.add(pairOf(settlement));
+        pendingRecords.add(formatSettlement(settlement.getFrom(), settlement.getTo(), settlement.getAmount()));
+    }
+
+    /**
+     * Appends the changes recorded since the last save, then compacts the journal if it has grown to more
+     * than twice the records needed to describe the current list.
+     *
+     * @param splitexpenses The list this journal describes.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void save(SplitExpenseList splitexpenses) throws IOException {
+        if (!pendingRecords.isEmpty()) {
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (String record : pendingRecords) {
+                    writer.write(record);
+                    writer.newLine();
+                }
+            }
+            recordCount += pendingRecords.size();
+            pendingRecords.clear();
+        }
+
+        int liveRecords = splitexpenses.size() + settledPairs.size();
+        if (recordCount >= MIN_RECORDS_BEFORE_COMPACTION && recordCount > 2 * liveRecords) {
+            compact(splitexpenses);
+        }
+    }
+
+    /**
+     * Rewrites the journal so that it holds one record per split expense and one settlement per pair of
+     * participants. The new journal is written to a temporary file first and then moved over the old one,
+     * so a crash during compaction leaves the old journal intact.
+     *
+     * @param splitexpenses The list this journal describes.
+     * @throws IOException If the journal cannot be written.
+     */
+    public void compact(SplitExpenseList splitexpenses) throws IOException {
+        List<String> records = new ArrayList<>();
+        for (SplitExpense splitexpense : splitexpenses.getSplitExpenses()) {
+            records.add(formatSplit(splitexpense));
+        }
+
+        Map<String, Double> settledByPair = new LinkedHashMap<>();
+        Map<String, String[]> pairs = new LinkedHashMap<>();
+        for (Settlement settlement : splitexpenses.getSettlements()) {
+            String key = pairOf(settlement);
+            settledByPair.merge(key, settlement.getAmount(), Double::sum);
+            pairs.putIfAbsent(key, new String[] {settlement.getFrom(), settlement.getTo()});
+        }
+        for (Map.Entry<String, String[]> pair : pairs.entrySet()) {
+            String[] fromAndTo = pair.getValue();
+            records.add(formatSettlement(fromAndTo[0], fromAndTo[1], settledByPair.get(pair.getKey())));
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporary, records, StandardCharsets.UTF_8);
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOGGER.log(Level.INFO, "Compacted split expense journal from " + recordCount + " to "
+                + records.size() + " records");
+        recordCount = records.size();
+    }
+
+    private static String pairOf(Settlement settlement) {
+        return settlement.getFrom() + SEPARATOR + settlement.getTo();
+    }
+
+    private static String formatSplit(SplitExpense splitexpense) {
+        if (!splitexpense.hasParticipants()) {
+            return "S" + SEPARATOR + splitexpense.getAmount() + SEPARATOR + splitexpense.getNumberOfPeople()
+                    + SEPARATOR + escape(splitexpense.getDescription());
+        }
+        StringBuilder shares = new StringBuilder();
+        for (Map.Entry<String, Double> share : splitexpense.getShares().entrySet()) {
+            if (shares.length() > 0) {
+                shares.append(",");
+            }
+            shares.append(escape(share.getKey())).append(":").append(share.getValue());
+        }
+        return "N" + SEPARATOR + splitexpense.getAmount() + SEPARATOR + escape(splitexpense.getPayer())
+                + SEPARATOR + shares + SEPARATOR + escape(splitexpense.getDescription());
+    }
+
+    private static String formatSettlement(String from, String to, double amount) {
+        return "D" + SEPARATOR + escape(from) + SEPARATOR + escape(to) + SEPARATOR + amount;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy;
 
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 import seedu.budgetbuddy.exception.InvalidRecurringExpensesFileException;
 
 import java.io.File;
@@ -11,6 +12,7 @@ import java.util.Currency;
 import java.util.List;
 import java.util.Scanner;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -44,17 +46,59 @@ public class Storage {
         while (scanner.hasNextLine()) {
             String line = scanner.nextLine();
             String[] parts = line.split("\\|");
-            // Assuming the order is Date|Category|Amount|Description
+            // Assuming the order is Date|Category|Amount|Description|Tags|Currency
+            LocalDate dateAdded = parseDate(parts[0].trim());
             String category = parts[1].trim();
             double amount = Double.parseDouble(parts[2].trim());
-            String description = parts[3].trim();
-            Expense expense = new Expense(category, amount, description);
+            String description = DescriptionPool.intern(parts[3].trim());
+            Expense expense = new Expense(dateAdded, category, amount, description);
+            if (parts.length > 4) {
+                expense.setTags(parseTags(parts[4]));
+            }
+            // Files written before currencies were stored hold amounts in the default currency
+            expense.setCurrency(parts.length > 5 ? parseCurrency(parts[5]) : DefaultCurrency.getDefaultCurrency());
             expenses.add(expense);
         }
         scanner.close();
+        LOGGER.log(Level.INFO, "Loaded " + expenses.size() + " expenses, description pool has saved about "
+                + DescriptionPool.getBytesSaved() + " bytes");
         return expenses;
     }
 
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            LOGGER.log(Level.WARNING, "Invalid stored date " + date + ", using today");
+            return LocalDate.now();
+        }
+    }
+
+    private static Currency parseCurrency(String currencyCode) {
+        try {
+            return Currency.getInstance(currencyCode.trim());
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Invalid stored currency " + currencyCode + ", using the default currency");
+            return DefaultCurrency.getDefaultCurrency();
+        }
+    }
+
+    /**
+     * Parses a comma separated list of tags, dropping blank entries.
+     *
+     * @param tagsAsString The stored tags, e.g. "work,travel".
+     * @return The list of tags.
+     */
+    public static List<String> parseTags(String tagsAsString) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : tagsAsString.split(",")) {
+            if (!tag.trim().isEmpty()) {
+                tags.add(tag.trim());
+            }
+        }
+        return tags;
+    }
+
     public void resetRecurringExpensesListFile() throws IOException {
         File file = new File(filePath);
         file.delete();
@@ -73,7 +117,15 @@ public class Storage {
             int indexOfEndOfListName = indexOfEndExclamation - 1;
 
             String name = line.substring(indexOfStartOfListName, indexOfEndOfListName).trim();
-            ExpenseList expenses = new RecurringExpenseList(name, new ArrayList<>());
+            RecurringExpenseList expenses = new RecurringExpenseList(name, new ArrayList<>());
+
+            // Scheduled lists carry "SCHEDULE | LAST_POSTED_DATE" after the name
+            String scheduleDetails = line.substring(indexOfEndExclamation + 3).trim();
+            if (!scheduleDetails.isEmpty()) {
+                String[] scheduleParts = scheduleDetails.split("\\|");
+                expenses.setSchedule(RecurringSchedule.fromStorageString(scheduleParts[0]),
+                        LocalDate.parse(scheduleParts[1].trim()));
+            }
 
             recurringExpenses.add(expenses);
         } else {
@@ -83,7 +135,7 @@ public class Storage {
             LocalDate dateAdded = LocalDate.parse(parts[1].trim());
             String category = parts[2].trim();
             double amount = Double.parseDouble(parts[3].trim());
-            String description = parts[4].trim();
+            String description = DescriptionPool.intern(parts[4].trim());
             Expense expense = new Expense(dateAdded, category, amount, description);
 
             int listNumberAsArrayIndex = listNumber - 1;
@@ -134,7 +186,14 @@ public class Storage {
                 ArrayList<Expense> expenses = expenseList.getExpenses();
                 String listName = expenseList.getName();
 
-                writer.write(String.format("!!! %s !!!\n", listName));
+                writer.write(String.format("!!! %s !!!", listName));
+                if (expenseList instanceof RecurringExpenseList
+                        && ((RecurringExpenseList) expenseList).getSchedule() != null) {
+                    RecurringExpenseList recurringList = (RecurringExpenseList) expenseList;
+                    writer.write(String.format(" %s | %s", recurringList.getSchedule().toStorageString(),
+                            recurringList.getLastPostedDate()));
+                }
+                writer.write("\n");
 
                 for (Expense expense : expenses) {
                     writer.write(String.format("%d | %s | %s | %.2f | %s\n"
@@ -155,11 +214,67 @@ public class Storage {
     }
 
     public void saveExpenses(List<Expense> expenses) throws IOException {
+        writeExpenses(expenses, false);
+    }
+
+    /**
+     * Adds expenses to the end of the expense file without rewriting the expenses already saved.
+     *
+     * @param expenses The expenses to add.
+     * @throws IOException If the file cannot be written.
+     */
+    public void appendExpenses(List<Expense> expenses) throws IOException {
+        writeExpenses(expenses, true);
+    }
+
+    private void writeExpenses(List<Expense> expenses, boolean isAppending) throws IOException {
         ensureDirectoryExists(); // Ensure directory and file exist before writing
-        FileWriter writer = new FileWriter(filePath, false); // Overwrite the file
+        FileWriter writer = new FileWriter(filePath, isAppending);
         for (Expense expense : expenses) {
-            writer.write(String.format("%s | %s | %.2f | %s\n",
-                    expense.getDateAdded(), expense.getCategory(), expense.getAmount(), expense.getDescription()));
+            writer.write(String.format("%s | %s | %.2f | %s | %s | %s\n",
+                    expense.getDateAdded(), expense.getCategory(), expense.getNativeAmount(),
+                    expense.getDescription(), String.join(",", expense.getTags()), expense.getCurrency()));
+        }
+        writer.close();
+    }
+
+    public List<String> loadCategories() throws FileNotFoundException {
+        File file = new File(filePath);
+        List<String> categories = new ArrayList<>();
+        Scanner scanner = new Scanner(file);
+        while (scanner.hasNextLine()) {
+            String category = scanner.nextLine().trim();
+            if (!category.isEmpty()) {
+                categories.add(category);
+            }
+        }
+        scanner.close();
+        return categories;
+    }
+
+    /**
+     * Loads dated exchange rates from the file, see {@link RateHistory} for the format.
+     *
+     * @return The rate history, or null if the file contains no rates.
+     * @throws FileNotFoundException If the file does not exist.
+     * @throws BudgetBuddyException  If the file is malformed.
+     */
+    public RateHistory loadRateHistory() throws FileNotFoundException, BudgetBuddyException {
+        File file = new File(filePath);
+        List<String> lines = new ArrayList<>();
+        Scanner scanner = new Scanner(file);
+        while (scanner.hasNextLine()) {
+            lines.add(scanner.nextLine());
+        }
+        scanner.close();
+        return RateHistory.parse(lines);
+    }
+
+    public void saveCategories(List<String> categories) throws IOException {
+        ensureDirectoryExists();
+        FileWriter writer = new FileWriter(filePath, false);
+        for (String category : categories) {
+            writer.write(category + "\n");
         }
         writer.close();
     }
@@ -174,10 +289,11 @@ public class Storage {
         while (scanner.hasNextLine()) {
             String line = scanner.nextLine();
             String[] parts = line.split("\\|");
-            // Assuming the order is Category|Amount
+            // Assuming the order is Category|Amount|Currency
             String category = parts[0].trim();
             double amount = Double.parseDouble(parts[1].trim());
             Saving saving = new Saving(category, amount);
+            saving.setCurrency(parts.length > 2 ? parseCurrency(parts[2]) : DefaultCurrency.getDefaultCurrency());
             savings.add(saving);
         }
         scanner.close();
@@ -188,8 +304,8 @@ public class Storage {
         ensureDirectoryExists(); // Ensure directory and file exist before writing
         FileWriter writer = new FileWriter(filePath, false); // Overwrite the file
         for (Saving saving : savings) {
-            writer.write(String.format("%s | %.2f\n",
-                    saving.getCategory(), saving.getAmount()));
+            writer.write(String.format("%s | %.2f | %s\n",
+                    saving.getCategory(), saving.getNativeAmount(), saving.getCurrency()));
         }
         writer.close();
     }
@@ -241,7 +357,11 @@ public class Storage {
             assert !currencyCode.isEmpty() : "Currency code should not be empty";
 
             Currency currency = Currency.getInstance(currencyCode);
-
+            if (!DefaultCurrency.hasRate(currency)) {
+                LOGGER.log(Level.WARNING, "No exchange rate for stored currency " + currency
+                        + ", keeping " + DefaultCurrency.getDefaultCurrency());
+                continue;
+            }
             DefaultCurrency.setDefaultCurrency(currency);
         }
         scanner.close();
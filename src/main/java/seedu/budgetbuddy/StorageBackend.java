@@ -0,0 +1,45 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where a {@link BudgetEngine} keeps its state between runs. Loading methods may throw
+ * FileNotFoundException when nothing has been saved yet, in which case the engine starts fresh.
+ */
+public interface StorageBackend {
+    /**
+     * Loads the saved default currency and makes it the default.
+     */
+    void loadCurrency() throws IOException;
+
+    /**
+     * Returns the saved exchange rates, or null if the backend keeps none.
+     */
+    RateHistory loadRateHistory() throws IOException, BudgetBuddyException;
+
+    List<String> loadCategories() throws IOException;
+
+    List<Expense> loadExpenses() throws IOException;
+
+    List<Saving> loadSavings() throws IOException;
+
+    RecurringExpensesList loadRecurringExpenses() throws IOException;
+
+    /**
+     * Adds the saved split expenses and settlements to the given list.
+     */
+    void loadSplitExpenses(SplitExpenseList splitExpenses) throws IOException;
+
+    /**
+     * Saves expenses added since the last save without rewriting the ones already saved.
+     */
+    void appendExpenses(List<Expense> expenses) throws IOException;
+
+    void saveRecurringExpenses(RecurringExpensesList recurringExpenses) throws IOException;
+
+    void saveAll(ExpenseList expenses, SavingList savings, SplitExpenseList splitExpenses,
+            RecurringExpensesList recurringExpenses) throws IOException;
+}
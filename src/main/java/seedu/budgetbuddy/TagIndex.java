@@ -0,0 +1,101 @@
+package seedu.budgetbuddy;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from tag to the positions of the expenses carrying it.
+ * Each tag owns one BitSet, so tag queries are answered with bitwise AND / ANDNOT
+ * instead of comparing strings record by record.
+ */
+public class TagIndex {
+    private final Map<String, BitSet> postings;
+    private int size;
+
+    public TagIndex() {
+        this.postings = new HashMap<>();
+        this.size = 0;
+    }
+
+    public static String normalizeTag(String tag) {
+        return tag.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the number of expense positions covered by this index.
+     *
+     * @return The number of indexed expenses.
+     */
+    public int size() {
+        return size;
+    }
+
+    public Set<String> getTags() {
+        return postings.keySet();
+    }
+
+    /**
+     * Indexes the tags of the expense at the given position.
+     *
+     * @param position The position of the expense in its ExpenseList.
+     * @param expense  The expense to index.
+     */
+    public void add(int position, Expense expense) {
+        assert position >= 0 : "Position should not be negative";
+
+        for (String tag : expense.getTags()) {
+            postings.computeIfAbsent(normalizeTag(tag), key -> new BitSet()).set(position);
+        }
+        size = Math.max(size, position + 1);
+    }
+
+    /**
+     * Discards the current postings and indexes every expense in the list again.
+     *
+     * @param expenses The expenses to index, in list order.
+     */
+    public void rebuild(List<Expense> expenses) {
+        postings.clear();
+        size = 0;
+        for (int i = 0; i < expenses.size(); i++) {
+            Expense expense = expenses.get(i);
+            if (expense != null) {
+                add(i, expense);
+            }
+        }
+        size = expenses.size();
+    }
+
+    /**
+     * Finds the positions of expenses carrying every tag in allOf and none of the tags in noneOf.
+     * An empty allOf matches every indexed expense.
+     *
+     * @param allOf  Tags that must all be present.
+     * @param noneOf Tags that must all be absent.
+     * @return A BitSet with one bit set per matching position.
+     */
+    public BitSet query(Collection<String> allOf, Collection<String> noneOf) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        for (String tag : allOf) {
+            BitSet posting = postings.get(normalizeTag(tag));
+            if (posting == null) {
+                return new BitSet();
+            }
+            result.and(posting);
+        }
+
+        for (String tag : noneOf) {
+            BitSet posting = postings.get(normalizeTag(tag));
+            if (posting != null) {
+                result.andNot(posting);
+            }
+        }
+        return result;
+    }
+}
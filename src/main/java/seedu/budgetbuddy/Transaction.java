@@ -5,19 +5,45 @@ import java.util.Currency;
 public abstract class Transaction {
     String category;
     double amount;
-    Currency currency;
+    // Ordinal from CurrencyRegistry, stored as a byte to keep transactions small
+    byte currencyOrdinal;
 
     public Transaction(String category, double amount) {
         this.category = category;
         this.amount = amount;
-        this.currency = DefaultCurrency.getDefaultCurrency();
+        setCurrency(DefaultCurrency.getDefaultCurrency());
 
     }
 
     public String getCategory() {
         return category;
     }
+
+    /**
+     * Returns the amount converted to the default currency.
+     *
+     * @return The amount in the default currency.
+     */
     public double getAmount() {
+        return DefaultCurrency.toDisplay(amount, getCurrencyOrdinal(), getRatePeriod());
+    }
+
+    /**
+     * Returns the exchange-rate period used to convert this transaction. Transactions without a date
+     * use the latest rates.
+     *
+     * @return The rate period, see {@link DefaultCurrency#ratePeriodOf(int)}.
+     */
+    public int getRatePeriod() {
+        return DefaultCurrency.latestRatePeriod();
+    }
+
+    /**
+     * Returns the amount in the currency it is stored in, see {@link #getCurrency()}.
+     *
+     * @return The amount in its stored currency.
+     */
+    public double getNativeAmount() {
         return amount;
     }
 
@@ -25,15 +51,25 @@ public abstract class Transaction {
         this.category = category;
     }
 
+    /**
+     * Sets the amount, given in the default currency. The transaction is stored in the default currency afterwards.
+     *
+     * @param amount The new amount in the default currency.
+     */
     public void setAmount(double amount){
         this.amount = amount;
+        setCurrency(DefaultCurrency.getDefaultCurrency());
     }
 
     public Currency getCurrency() {
-        return currency;
+        return CurrencyRegistry.currencyAt(getCurrencyOrdinal());
+    }
+
+    public int getCurrencyOrdinal() {
+        return currencyOrdinal & 0xFF;
     }
 
     public void setCurrency(Currency currency) {
-        this.currency = currency;
+        this.currencyOrdinal = (byte) CurrencyRegistry.ordinalOf(currency);
     }
 }
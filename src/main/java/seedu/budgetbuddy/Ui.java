@@ -37,6 +37,7 @@ public class Ui {
         System.out.println("7. Manage Recurring Bills               ");
         System.out.println("8. Change Currency     9. Manage Budget");
         System.out.println("10. Get Graphical Insights");
+        System.out.println("Type 'undo' or 'redo' to revert or re-apply your last change");
         System.out.println("Use 'menu INDEX' to select an option");
         System.out.println(DIVIDER);
     }
@@ -52,13 +53,14 @@ public class Ui {
         switch (index) {
         case 1:
             System.out.println("Manage Expenses");
-            System.out.println("add expense c/CATEGORY a/AMOUNT d/DESCRIPTION");
+            System.out.println("add expense c/CATEGORY a/AMOUNT d/DESCRIPTION [t/TAG1,TAG2] [cur/CURRENCY]");
+            System.out.println("add category c/CATEGORY");
             System.out.println("edit expense c/CATEGORY i/INDEX a/AMOUNT d/DESCRIPTION");
             System.out.println("delete expense i/INDEX");
             break;
         case 2:
             System.out.println("Manage Savings");
-            System.out.println("add savings c/CATEGORY a/AMOUNT");
+            System.out.println("add savings c/CATEGORY a/AMOUNT [cur/CURRENCY]");
             System.out.println("edit savings c/CATEGORY i/INDEX a/AMOUNT");
             System.out.println("reduce savings i/INDEX a/AMOUNT");
             break;
@@ -74,21 +76,28 @@ public class Ui {
             System.out.println("Find Expenses");
             System.out.println("find expenses d/DESCRIPTION morethan/MINAMOUNT lessthan/MAXAMOUNT " +
                     "(Choose the parameters according to what you wish to search for)");
+            System.out.println("find tags with/TAG1,TAG2 without/TAG3");
             break;
         case 6:
             System.out.println("Split Expenses");
             System.out.println("split expenses a/AMOUNT n/NUMBER_OF_PEOPLE d/DESCRIPTION");
+            System.out.println("split expenses a/AMOUNT d/DESCRIPTION with/NAME[:SHARE],NAME[:SHARE] [by/PAYER]");
             System.out.println("check splitted expenses");
+            System.out.println("split balances");
             System.out.println("settle i/INDEX");
+            System.out.println("settle debt from/NAME to/NAME a/AMOUNT");
             break;
         case 7:
             System.out.println("Recurring Bills");
             System.out.println("rec newlist LISTNAME");
             System.out.println("rec removelist LISTNUMBER");
+            System.out.println("rec rename LISTNUMBER NEWNAME");
             System.out.println("rec viewlists");
             System.out.println("rec newexpense to/LISTNUMBER c/CATEGORY a/AMOUNT d/DESCRIPTION");
             System.out.println("rec viewexpenses LISTNUMBER");
             System.out.println("rec addrec LISTNUMBER");
+            System.out.println("rec schedule LISTNUMBER weekly|monthly|day/N|none");
+            System.out.println("rec forecast m/MONTHS");
             break;
         case 8:
             System.out.println("Change Currency");
@@ -0,0 +1,79 @@
+package seedu.budgetbuddy;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the snapshots needed to undo and redo commands that changed expenses, budgets or savings.
+ */
+public class UndoHistory {
+    private static final Logger LOGGER = Logger.getLogger(UndoHistory.class.getName());
+    private static final int MAX_HISTORY = 100;
+
+    private final Deque<LedgerSnapshot> undoStack = new ArrayDeque<>();
+    private final Deque<LedgerSnapshot> redoStack = new ArrayDeque<>();
+
+    /**
+     * Records the state before a command, if the command changed anything.
+     * Recording a change discards the redo history.
+     *
+     * @param before The snapshot taken before the command was executed.
+     * @param after  The snapshot taken after the command was executed.
+     */
+    public void record(LedgerSnapshot before, LedgerSnapshot after) {
+        if (before.isSameStateAs(after)) {
+            return;
+        }
+
+        undoStack.push(before);
+        if (undoStack.size() > MAX_HISTORY) {
+            undoStack.removeLast();
+        }
+        redoStack.clear();
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the state before the most recent change.
+     *
+     * @param expenses The expense list to restore.
+     * @param savings  The saving list to restore.
+     * @return true if a change was undone, false if there was nothing to undo.
+     */
+    public boolean undo(ExpenseList expenses, SavingList savings) {
+        if (!canUndo()) {
+            return false;
+        }
+
+        LOGGER.info("Undoing last change");
+        redoStack.push(LedgerSnapshot.capture(expenses, savings));
+        undoStack.pop().restoreTo(expenses, savings);
+        return true;
+    }
+
+    /**
+     * Re-applies the most recently undone change.
+     *
+     * @param expenses The expense list to restore.
+     * @param savings  The saving list to restore.
+     * @return true if a change was redone, false if there was nothing to redo.
+     */
+    public boolean redo(ExpenseList expenses, SavingList savings) {
+        if (!canRedo()) {
+            return false;
+        }
+
+        LOGGER.info("Redoing last undone change");
+        undoStack.push(LedgerSnapshot.capture(expenses, savings));
+        redoStack.pop().restoreTo(expenses, savings);
+        return true;
+    }
+}
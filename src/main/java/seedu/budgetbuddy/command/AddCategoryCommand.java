@@ -0,0 +1,24 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+public class AddCategoryCommand extends Command {
+    private ExpenseList expenses;
+    private final String category;
+
+    public AddCategoryCommand(ExpenseList expenses, String category) {
+        this.expenses = expenses;
+        this.category = category;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            expenses.addCategory(category);
+            return CommandResult.of("Category Added : " + category);
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+    }
+}
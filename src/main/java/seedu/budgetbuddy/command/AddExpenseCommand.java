@@ -1,30 +1,62 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.DefaultCurrency;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
 
 public class AddExpenseCommand extends Command{
     private ExpenseList expenses;
     private final String category;
     private final String amount;
     private final String description;
-
+    private final List<String> tags;
+    private final Currency currency;
 
     public AddExpenseCommand (ExpenseList expenses,String category, String amount, String description) {
         this.expenses = expenses;
         this.category = category;
         this.amount = amount;
         this.description = description;
+        this.tags = new ArrayList<>();
+        this.currency = DefaultCurrency.getDefaultCurrency();
+    }
+
+    public AddExpenseCommand (ExpenseList expenses, String category, String amount, String description,
+                              List<String> tags) {
+        this.expenses = expenses;
+        this.category = category;
+        this.amount = amount;
+        this.description = description;
+        this.tags = tags;
+        this.currency = DefaultCurrency.getDefaultCurrency();
+    }
+
+    public AddExpenseCommand (ExpenseList expenses, String category, String amount, String description,
+                              List<String> tags, Currency currency) {
+        this.expenses = expenses;
+        this.category = category;
+        this.amount = amount;
+        this.description = description;
+        this.tags = tags;
+        this.currency = currency;
     }
 
     @Override
-    public void execute() {
+    public CommandResult execute() {
         try {
-            expenses.addExpense(this.category,this.amount,this.description);
-            System.out.println("Expense Added :" + category + " of $" + amount + " description : " + description);
+            expenses.addExpense(this.category, this.amount, this.description, this.tags, this.currency);
+            if (currency.equals(DefaultCurrency.getDefaultCurrency())) {
+                return CommandResult.of("Expense Added :" + category + " of $" + amount
+                        + " description : " + description);
+            }
+            return CommandResult.of("Expense Added :" + category + " of " + currency + " " + amount
+                    + " description : " + description);
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
+            return CommandResult.failure(e.getMessage());
         }
     }
 }
@@ -1,8 +1,10 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.DefaultCurrency;
 import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
+import java.util.Currency;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -12,25 +14,34 @@ public class AddSavingCommand extends Command {
     private SavingList savings;
     private final String category;
     private final String amount;
+    private final Currency currency;
 
     public AddSavingCommand(SavingList savings, String category, String amount) {
+        this(savings, category, amount, DefaultCurrency.getDefaultCurrency());
+    }
+
+    public AddSavingCommand(SavingList savings, String category, String amount, Currency currency) {
         this.category = category;
         this.amount = amount;
         this.savings = savings;
+        this.currency = currency;
     }
 
     @Override
-    public void execute(){
+    public CommandResult execute(){
         try {
             LOGGER.log(Level.INFO, "Adding savings to category: {0} with amount: ${1}", new Object[]{category, amount});
 
-            savings.addSaving(this.category, this.amount);
+            savings.addSaving(this.category, this.amount, this.currency);
 
             LOGGER.log(Level.INFO, "Savings added to: {0} of ${1}", new Object[]{category, amount});
-            System.out.println("Savings Added to:" + category + " of $" + amount);
+            if (currency.equals(DefaultCurrency.getDefaultCurrency())) {
+                return CommandResult.of("Savings Added to:" + category + " of $" + amount);
+            }
+            return CommandResult.of("Savings Added to:" + category + " of " + currency + " " + amount);
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
             LOGGER.log(Level.SEVERE, "Exception while adding savings", e);
+            return CommandResult.failure(e.getMessage());
         }
     }
 }
@@ -1,6 +1,5 @@
 package seedu.budgetbuddy.command;
 
-import seedu.budgetbuddy.CurrencyConverter;
 import seedu.budgetbuddy.DefaultCurrency;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.SavingList;
@@ -12,20 +11,25 @@ public class ChangeCurrencyCommand extends Command {
     private Currency newCurrency;
     private SavingList savings;
     private ExpenseList expenses;
-    private CurrencyConverter currencyConverter;
 
-    public ChangeCurrencyCommand(Currency newCurrency, SavingList savings, ExpenseList expenses,
-                                 CurrencyConverter currencyConverter) {
+    public ChangeCurrencyCommand(Currency newCurrency, SavingList savings, ExpenseList expenses) {
         this.newCurrency = newCurrency;
         this.savings = savings;
         this.expenses = expenses;
-        this.currencyConverter = currencyConverter;
     }
 
     @Override
-    public void execute() {
-        currencyConverter.convertSavingCurrency(newCurrency, savings);
-        currencyConverter.convertExpenseCurrency(newCurrency, expenses);
+    public CommandResult execute() {
+        if (DefaultCurrency.getDefaultCurrency().equals(newCurrency)) {
+            return CommandResult.of("Same currency. No conversion needed");
+        }
+        if (!DefaultCurrency.hasRate(newCurrency)) {
+            return CommandResult.failure("No exchange rate available for " + newCurrency
+                    + ". Default currency remains " + DefaultCurrency.getDefaultCurrency());
+        }
+        // Amounts stay in the currency they were entered in and are converted when read
         DefaultCurrency.setDefaultCurrency(newCurrency);
+        return CommandResult.of("Default currency for Savings changed to " + newCurrency,
+                "Default currency for Expenses changed to " + newCurrency);
     }
 }
@@ -1,6 +1,21 @@
 package seedu.budgetbuddy.command;
 
 public class Command {
-    public void execute() {
+    /**
+     * Executes the command without printing anything.
+     *
+     * @return What the command produced, to be rendered by the caller.
+     */
+    public CommandResult execute() {
+        return new CommandResult();
+    }
+
+    /**
+     * Returns whether the changes made by this command should be recorded for undo.
+     *
+     * @return true for every command except undo and redo themselves.
+     */
+    public boolean isUndoable() {
+        return true;
     }
 }
@@ -0,0 +1,151 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a command produced: messages for the user, errors, an optional table of rows and named totals.
+ * Results are plain data, so they can be rendered to the console, CSV or JSON, or not rendered at all.
+ *
+ * <p>Commands whose console layout is more than a list of messages, such as the expense listing, also
+ * set a console view that prints that layout. It is only run if the result is rendered to the console.
+ */
+public class CommandResult {
+    private final List<String> messages = new ArrayList<>();
+    private final List<String> errors = new ArrayList<>();
+    private final List<List<Object>> rows = new ArrayList<>();
+    private final Map<String, Double> totals = new LinkedHashMap<>();
+    private List<String> columns = Collections.emptyList();
+    private Runnable consoleView;
+
+    public static CommandResult of(String... messages) {
+        CommandResult result = new CommandResult();
+        result.messages.addAll(Arrays.asList(messages));
+        return result;
+    }
+
+    public static CommandResult failure(String error) {
+        return new CommandResult().addError(error);
+    }
+
+    /**
+     * Runs code that prints to the console and keeps each printed line as a message. Used for commands
+     * that still print directly. It swaps System.out while the code runs, so it is not safe to use from
+     * more than one thread at a time.
+     *
+     * @param printer The code that prints, which reports a failure by throwing a BudgetBuddyException.
+     * @return A result holding the printed lines, and the message of the exception as an error if one
+     *         was thrown.
+     */
+    public static CommandResult capture(Printer printer) {
+        PrintStream console = System.out;
+        ByteArrayOutputStream printed = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(printed, true, StandardCharsets.UTF_8));
+        String error = null;
+        try {
+            printer.print();
+        } catch (BudgetBuddyException e) {
+            error = e.getMessage();
+        } finally {
+            System.out.flush();
+            System.setOut(console);
+        }
+
+        CommandResult result = new CommandResult();
+        if (error != null) {
+            result.addError(error);
+        }
+        String output = printed.toString(StandardCharsets.UTF_8);
+        if (!output.isEmpty()) {
+            result.messages.addAll(Arrays.asList(output.split("\\R", -1)));
+            // The last line ends with a line break, which leaves an empty string at the end
+            if (output.endsWith("\n")) {
+                result.messages.remove(result.messages.size() - 1);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Code run by {@link #capture(Printer)}.
+     */
+    @FunctionalInterface
+    public interface Printer {
+        void print() throws BudgetBuddyException;
+    }
+
+    public CommandResult addMessage(String message) {
+        messages.add(message);
+        return this;
+    }
+
+    public CommandResult addError(String error) {
+        errors.add(error);
+        return this;
+    }
+
+    public CommandResult setColumns(String... columns) {
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        return this;
+    }
+
+    /**
+     * Adds a row to the table. Cells are Strings, numbers or dates, in the order of the columns.
+     */
+    public CommandResult addRow(Object... cells) {
+        assert cells.length == columns.size() : "A row should have one cell per column";
+        rows.add(Collections.unmodifiableList(Arrays.asList(cells)));
+        return this;
+    }
+
+    public CommandResult addTotal(String label, double value) {
+        totals.put(label, value);
+        return this;
+    }
+
+    public CommandResult setConsoleView(Runnable consoleView) {
+        this.consoleView = consoleView;
+        return this;
+    }
+
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<List<Object>> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    public Map<String, Double> getTotals() {
+        return Collections.unmodifiableMap(totals);
+    }
+
+    public Runnable getConsoleView() {
+        return consoleView;
+    }
+
+    public boolean hasTable() {
+        return !columns.isEmpty();
+    }
+
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 public class DeleteExpenseCommand extends Command{
     private int index;
@@ -12,7 +13,12 @@ public class DeleteExpenseCommand extends Command{
     }
 
     @Override
-    public void execute() {
-        expenses.deleteExpense(index);
+    public CommandResult execute() {
+        try {
+            expenses.removeExpense(index);
+            return CommandResult.of("Expense deleted successfully!");
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
     }
 }
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 public class EditExpenseCommand extends Command{
     private ExpenseList expenses;
@@ -19,7 +20,12 @@ public class EditExpenseCommand extends Command{
     }
     
     @Override
-    public void execute() {
-        expenses.editExpense(category, index, amount, description);
+    public CommandResult execute() {
+        try {
+            expenses.updateExpense(category, index, amount, description);
+            return CommandResult.of("Expense edited successfully.");
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
     }
 }
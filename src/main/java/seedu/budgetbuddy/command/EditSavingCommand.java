@@ -1,6 +1,8 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.SavingList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
 public class EditSavingCommand extends Command{
 
     private SavingList savings;
@@ -16,7 +18,12 @@ public class EditSavingCommand extends Command{
     }
 
     @Override
-    public void execute() {
-        savings.editSaving(category, index, amount);
+    public CommandResult execute() {
+        try {
+            savings.updateSaving(category, index, amount);
+            return CommandResult.of("Saving edited successfully.");
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
     }
 }
@@ -60,29 +60,32 @@ public class FindExpensesCommand extends Command {
     }
 
     @Override
-    public void execute() {
-
+    public CommandResult execute() {
         LOGGER.log(Level.INFO, "Start processing of Find Command");
-
         if (minAmount != null && maxAmount != null) {
             assert minAmount <= maxAmount : "Minimum amount cannot be larger than Maximum Amount";
         }
 
         LOGGER.log(Level.INFO, "Creating filteredExpenses");
+        ArrayList<Expense> filteredExpenses = expenses.filterExpenses(description, minAmount, maxAmount);
+        CommandResult result = ListExpenseCommand.expenseTable(filteredExpenses, null);
+        if (filteredExpenses.isEmpty()) {
+            result.addMessage("No matching expenses found.");
+        }
+        return result.setConsoleView(() -> printMatches(filteredExpenses));
+    }
 
+    private void printMatches(ArrayList<Expense> filteredExpenses) {
         printInitializationMessage();
-        ArrayList<Expense> filteredExpenses = expenses.filterExpenses(description, minAmount, maxAmount);
         ExpenseList filteredExpenseList = new ExpenseList(filteredExpenses);
 
         if (filteredExpenses.isEmpty()) {
             LOGGER.log(Level.INFO, "filtered expenses is empty, returning no expenses found");
-
             ui.printDivider();
             System.out.println("No matching expenses found.");
             ui.printDivider();
         } else {
             LOGGER.log(Level.INFO, "Filtered expenses contains items, returning matching expenses");
-
             ui.printDivider();
             System.out.println("Here are the matching expenses : ");
             filteredExpenseList.listExpenses(null);
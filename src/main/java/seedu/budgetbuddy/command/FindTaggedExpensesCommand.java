@@ -0,0 +1,44 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.Expense;
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.Ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FindTaggedExpensesCommand extends Command {
+    private ExpenseList expenses;
+    private final List<String> withTags;
+    private final List<String> withoutTags;
+    private Ui ui = new Ui();
+
+    public FindTaggedExpensesCommand(ExpenseList expenses, List<String> withTags, List<String> withoutTags) {
+        this.expenses = expenses;
+        this.withTags = withTags;
+        this.withoutTags = withoutTags;
+    }
+
+    @Override
+    public CommandResult execute() {
+        ArrayList<Expense> filteredExpenses = expenses.filterExpensesByTags(withTags, withoutTags);
+        CommandResult result = ListExpenseCommand.expenseTable(filteredExpenses, null);
+        if (filteredExpenses.isEmpty()) {
+            result.addMessage("No expenses found with the given tags.");
+        }
+        return result.setConsoleView(() -> printMatches(filteredExpenses));
+    }
+
+    private void printMatches(ArrayList<Expense> filteredExpenses) {
+        ui.printDivider();
+        if (filteredExpenses.isEmpty()) {
+            System.out.println("No expenses found with the given tags.");
+            ui.printDivider();
+            return;
+        }
+
+        System.out.println("Here are the matching expenses : ");
+        new ExpenseList(filteredExpenses).listExpenses(null);
+        ui.printDivider();
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.Budget;
 import seedu.budgetbuddy.ExpenseList;
 
 public class GetBudgetCommand extends Command {
@@ -12,7 +13,12 @@ public class GetBudgetCommand extends Command {
     }
 
     @Override
-    public void execute() {
-        expenseList.getBudgetForCategory(category);
+    public CommandResult execute() {
+        Budget budget = expenseList.findBudget(category);
+        if (budget == null) {
+            return CommandResult.of("No budget set for " + category);
+        }
+        return CommandResult.of("Budget for " + category + ": $" + budget.getBudget())
+                .addTotal("Budget", budget.getBudget());
     }
 }
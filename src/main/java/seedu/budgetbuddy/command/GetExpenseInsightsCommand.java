@@ -11,7 +11,7 @@ public class GetExpenseInsightsCommand extends Command {
     }
 
     @Override
-    public void execute() {
-        expenseList.getExpenseInsights();
+    public CommandResult execute() {
+        return CommandResult.capture(expenseList::getExpenseInsights);
     }
 }
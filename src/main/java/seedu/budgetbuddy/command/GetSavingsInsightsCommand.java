@@ -11,7 +11,7 @@ public class GetSavingsInsightsCommand extends Command {
     }
 
     @Override
-    public void execute() {
-        savingList.getSavingsInsights();
+    public CommandResult execute() {
+        return CommandResult.capture(savingList::getSavingsInsights);
     }
 }
@@ -12,7 +12,21 @@ public class ListBudgetCommand extends Command{
     }
 
     @Override
-    public void execute() {
+    public CommandResult execute() {
+        CommandResult result = new CommandResult().setColumns("Category", "Budget", "Spent", "Remaining", "% Spent");
+        for (Budget budget : expenseList.getBudgets()) {
+            String category = budget.getCategory();
+            double totalSpent = expenseList.getExpenses().stream()
+                    .filter(expense -> expense.getCategory().equalsIgnoreCase(category))
+                    .mapToDouble(Expense::getAmount)
+                    .sum();
+            result.addRow(category, budget.getBudget(), totalSpent, budget.getBudget() - totalSpent,
+                    (totalSpent / budget.getBudget()) * 100);
+        }
+        return result.setConsoleView(this::printBudgets);
+    }
+
+    private void printBudgets() {
         Ui ui = new Ui();
 
         // Print all budgets in a table format
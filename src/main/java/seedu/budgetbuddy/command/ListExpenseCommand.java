@@ -1,7 +1,10 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.Expense;
 import seedu.budgetbuddy.ExpenseList;
 
+import java.util.List;
+
 public class ListExpenseCommand extends Command {
     private ExpenseList expenses;
     private String filterCategory;
@@ -17,8 +20,30 @@ public class ListExpenseCommand extends Command {
     }
 
     @Override
-    public void execute() {
+    public CommandResult execute() {
+        CommandResult result = expenseTable(expenses.getExpenses(), filterCategory);
+        result.addTotal("Overall Total Expenses", expenses.calculateTotalExpenses());
         // Now, list the expenses with or without a filter category
-        expenses.listExpenses(filterCategory);
+        return result.setConsoleView(() -> expenses.listExpenses(filterCategory));
+    }
+
+    /**
+     * Returns a result holding one row per expense in the category, numbered by position in the list.
+     *
+     * @param expenses       The expenses.
+     * @param filterCategory The category to keep, or null to keep every expense.
+     */
+    static CommandResult expenseTable(List<Expense> expenses, String filterCategory) {
+        CommandResult result = new CommandResult()
+                .setColumns("Index", "Date", "Category", "Amount", "Currency", "Paid", "Description");
+        for (int i = 0; i < expenses.size(); i++) {
+            Expense expense = expenses.get(i);
+            if (filterCategory == null || expense.getCategory().equalsIgnoreCase(filterCategory)) {
+                result.addRow(i + 1, expense.getDateAdded(), expense.getCategory(), expense.getAmount(),
+                        expense.getCurrency().getCurrencyCode(), expense.getNativeAmount(),
+                        expense.getDescription());
+            }
+        }
+        return result;
     }
 }
@@ -1,8 +1,11 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.Saving;
 import seedu.budgetbuddy.SavingList;
 
+import java.util.List;
+
 public class ListSavingsCommand extends Command {
     private SavingList savings;
     private ExpenseList expenses;
@@ -20,8 +23,22 @@ public class ListSavingsCommand extends Command {
     }
 
     @Override
-    public void execute() {
-        savings.listSavings(this.filterCategory, this.expenses);
+    public CommandResult execute() {
+        savings.findTotalSavings();
+        CommandResult result = new CommandResult().setColumns("Index", "Category", "Amount", "Currency", "Saved");
+        List<Saving> savingsList = savings.getSavings();
+        for (int i = 0; i < savingsList.size(); i++) {
+            Saving saving = savingsList.get(i);
+            if (filterCategory == null || saving.getCategory().equalsIgnoreCase(filterCategory)) {
+                result.addRow(i + 1, saving.getCategory(), saving.getAmount(),
+                        saving.getCurrency().getCurrencyCode(), saving.getNativeAmount());
+            }
+        }
+        double initialAmount = savings.getInitialAmount();
+        result.addTotal("Initial Savings Amount", initialAmount);
+        result.addTotal("Overall Remaining Amount",
+                savings.calculateRemainingSavings(initialAmount, expenses.calculateTotalExpenses()));
+        return result.setConsoleView(() -> savings.listSavings(this.filterCategory, this.expenses));
     }
 }
 
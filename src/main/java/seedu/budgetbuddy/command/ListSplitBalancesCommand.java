@@ -0,0 +1,28 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.Settlement;
+import seedu.budgetbuddy.SplitExpenseList;
+
+import java.util.Map;
+
+public class ListSplitBalancesCommand extends Command {
+    private SplitExpenseList splitexpenses;
+
+    public ListSplitBalancesCommand(SplitExpenseList splitexpenses) {
+        this.splitexpenses = splitexpenses;
+    }
+
+    @Override
+    public CommandResult execute() {
+        CommandResult result = new CommandResult().setColumns("Name", "Balance");
+        for (Map.Entry<String, Double> balance : splitexpenses.getNetBalances().entrySet()) {
+            if (balance.getValue() != 0) {
+                result.addRow(balance.getKey(), balance.getValue());
+            }
+        }
+        for (Settlement settlement : splitexpenses.suggestSettlements()) {
+            result.addMessage(settlement.toString());
+        }
+        return result.setConsoleView(splitexpenses::listBalances);
+    }
+}
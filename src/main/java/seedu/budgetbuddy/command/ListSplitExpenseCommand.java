@@ -1,7 +1,10 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.SplitExpense;
 import seedu.budgetbuddy.SplitExpenseList;
 
+import java.util.List;
+
 public class ListSplitExpenseCommand extends Command{
     private SplitExpenseList splitexpenses;
 
@@ -10,7 +13,16 @@ public class ListSplitExpenseCommand extends Command{
     }
 
     @Override
-    public void execute() {
-        splitexpenses.listSplitExpenses();
+    public CommandResult execute() {
+        CommandResult result = new CommandResult()
+                .setColumns("Index", "Amount", "People", "Payer", "Description");
+        List<SplitExpense> splits = splitexpenses.getSplitExpenses();
+        for (int i = 0; i < splits.size(); i++) {
+            SplitExpense split = splits.get(i);
+            result.addRow(i + 1, split.getAmount(), split.getNumberOfPeople(),
+                    split.hasParticipants() ? split.getPayer() : "", split.getDescription());
+        }
+        result.addTotal("Total outstanding", splitexpenses.getOutstandingTotal());
+        return result.setConsoleView(splitexpenses::listSplitExpenses);
     }
 }
@@ -29,7 +29,11 @@ public class MenuCommand extends Command {
      *
      */
     @Override
-    public void execute() {
+    public CommandResult execute() {
+        return CommandResult.capture(this::showMenu);
+    }
+
+    private void showMenu() {
         assert index >= 0 : "Index must be a positive number";
 
         logger.log(Level.INFO, "Starting the processing of Menu Command with Index :" + index);
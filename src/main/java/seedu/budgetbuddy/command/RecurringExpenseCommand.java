@@ -1,17 +1,24 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.Expense;
+import seedu.budgetbuddy.ExpenseForecast;
 import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.RecurringExpenseList;
 import seedu.budgetbuddy.RecurringExpensesList;
+import seedu.budgetbuddy.RecurringSchedule;
+import seedu.budgetbuddy.RecurringScheduler;
+import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 public class RecurringExpenseCommand extends Command{
     public static ArrayList<String> commandTypes = new ArrayList<>(Arrays.asList("newlist",
-            "removelist", "rename", "viewlists", "newexpense", "addrec", "viewexpenses"));
+            "removelist", "rename", "viewlists", "newexpense", "addrec", "viewexpenses", "schedule", "forecast"));
 
     private RecurringExpensesList expensesList;
 
@@ -23,6 +30,9 @@ public class RecurringExpenseCommand extends Command{
     private String category;
     private Double amount;
     private String description;
+    private RecurringSchedule schedule;
+    private SavingList savings;
+    private int months;
 
     private Ui ui = new Ui();
 
@@ -67,64 +77,92 @@ public class RecurringExpenseCommand extends Command{
     }
 
 
-    public void addNewList(String listName) {
-        expensesList.addNewRecurringList(listName);
+    public RecurringExpenseCommand(int listNumber, String newListName,
+                                   RecurringExpensesList expensesList, String commandType) {
+        this.listNumber = listNumber;
+        this.initialListName = newListName;
+        this.expensesList = expensesList;
+        this.commandType = commandType;
+    }
+
+    public RecurringExpenseCommand(int listNumber, RecurringExpensesList expensesList, RecurringSchedule schedule,
+                                   String commandType) {
+        this.listNumber = listNumber;
+        this.expensesList = expensesList;
+        this.schedule = schedule;
+        this.commandType = commandType;
     }
 
-    public void removeList() {
+    public RecurringExpenseCommand(int months, RecurringExpensesList expensesList, ExpenseList overallExpenses,
+                                   SavingList savings, String commandType) {
+        this.months = months;
+        this.expensesList = expensesList;
+        this.overallExpenses = overallExpenses;
+        this.savings = savings;
+        this.commandType = commandType;
+    }
 
-        if (listNumber == 0 || listNumber > expensesList.getSize()) {
-            System.out.println("Invalid List Number. Choose a List Number from 1 onwards");
-            System.out.println("Number of Lists you have currently : " + expensesList.getSize());
-            return;
+    private void checkListNumber() throws BudgetBuddyException {
+        if (listNumber <= 0 || listNumber > expensesList.getSize()) {
+            throw new BudgetBuddyException("Invalid List Number. Choose a List Number from 1 onwards"
+                    + System.lineSeparator() + "Number of Lists you have currently : " + expensesList.getSize());
         }
+    }
+
+    public void addNewList(String listName) throws BudgetBuddyException {
+        if (expensesList.getListByName(listName) != null) {
+            throw new BudgetBuddyException("A list named " + listName + " already exists");
+        }
+        expensesList.addNewRecurringList(listName);
+    }
+
+    public void removeList() throws BudgetBuddyException {
+
+        checkListNumber();
 
         expensesList.removeList(listNumber);
     }
 
-    public void addExpenseToList() {
+    public void renameList() throws BudgetBuddyException {
 
-        if (listNumber <= 0 || listNumber > expensesList.getSize()) {
-            System.out.println("Invalid List Number. Choose a List Number from 1 onwards");
-            System.out.println("Number of Lists you have currently : " + expensesList.getSize());
-            return;
-        }
+        checkListNumber();
+        expensesList.renameList(listNumber, initialListName);
 
-        ExpenseList expenses = expensesList.getExpenseListAtListNumber(listNumber);
+        ui.printDivider();
+        System.out.println("List " + listNumber + " renamed to " + initialListName);
+        ui.printDivider();
+    }
 
-        try {
-            expenses.addExpense(category, amount.toString(), description);
+    public void addExpenseToList() throws BudgetBuddyException {
 
-            ui.printDivider();
-            System.out.println("Successfully Added Expense to " + expenses.getName());
-            ui.printDivider();
+        checkListNumber();
 
-        } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-        }
+        ExpenseList expenses = expensesList.getExpenseListAtListNumber(listNumber);
+        expenses.addExpense(category, amount.toString(), description);
 
+        ui.printDivider();
+        System.out.println("Successfully Added Expense to " + expenses.getName());
+        ui.printDivider();
     }
 
-    public void addRecurringExpensesToExpenses() {
+    public void addRecurringExpensesToExpenses() throws BudgetBuddyException {
 
-        if (listNumber <= 0 || listNumber > expensesList.getSize()) {
-            System.out.println("Invalid List Number. Choose a List Number from 1 onwards");
-            System.out.println("Number of Lists you have currently : " + expensesList.getSize());
-            return;
-        }
+        checkListNumber();
 
         ExpenseList expenseList = expensesList.getExpenseListAtListNumber(listNumber);
         ArrayList<Expense> expenses = expenseList.getExpenses();
 
+        List<Expense> batch = new ArrayList<>(expenses.size());
+        LocalDate today = LocalDate.now();
         for (Expense expense : expenses) {
-            String category = expense.getCategory();
-            Double amount = expense.getAmount();
-            String description = expense.getDescription();
+            batch.add(RecurringScheduler.occurrenceOf(expense, today));
+        }
 
-            Command addExpenseCommand = new AddExpenseCommand(overallExpenses, category,
-                    amount.toString(), description);
+        overallExpenses.addAll(batch);
 
-            addExpenseCommand.execute();
+        for (Expense expense : batch) {
+            System.out.println("Expense Added :" + expense.getCategory() + " of $" + expense.getAmount()
+                    + " description : " + expense.getDescription());
         }
 
         ui.printDivider();
@@ -135,24 +173,59 @@ public class RecurringExpenseCommand extends Command{
 
     }
 
-    public void printExpensesAtIndex() {
+    public void printExpensesAtIndex() throws BudgetBuddyException {
 
-        if (listNumber <= 0 || listNumber > expensesList.getSize()) {
-            System.out.println("Invalid List Number. Choose a List Number from 1 onwards");
-            System.out.println("Number of Lists you have currently : " + expensesList.getSize());
-            return;
-        }
+        checkListNumber();
 
         ExpenseList expenseList = expensesList.getExpenseListAtListNumber(listNumber);
 
         expenseList.listExpenses(null);
     }
 
+    public void setSchedule() throws BudgetBuddyException {
+
+        checkListNumber();
+
+        ExpenseList expenseList = expensesList.getExpenseListAtListNumber(listNumber);
+        if (!(expenseList instanceof RecurringExpenseList)) {
+            throw new BudgetBuddyException("This list cannot be scheduled");
+        }
+
+        ((RecurringExpenseList) expenseList).setSchedule(schedule, LocalDate.now());
+
+        ui.printDivider();
+        if (schedule == null) {
+            System.out.println(expenseList.getName() + " will no longer be added automatically");
+        } else {
+            System.out.println(expenseList.getName() + " will be added to your overall Expenses " + schedule);
+        }
+        ui.printDivider();
+    }
+
+    public void printForecast() {
+        double totalSavings = 0;
+        if (savings != null) {
+            savings.findTotalSavings();
+            totalSavings = savings.getInitialAmount();
+        }
+
+        ExpenseForecast forecast = ExpenseForecast.project(expensesList, overallExpenses, totalSavings,
+                LocalDate.now(), months);
+
+        ui.printDivider();
+        forecast.print();
+        ui.printDivider();
+    }
+
     public void printList() {
         expensesList.printAllRecurringLists();
     }
-    public void execute(){
+    @Override
+    public CommandResult execute() {
+        return CommandResult.capture(this::executeCommandType);
+    }
 
+    private void executeCommandType() throws BudgetBuddyException {
         switch(commandType) {
         case "newlist":
             addNewList(initialListName);
@@ -166,6 +239,10 @@ public class RecurringExpenseCommand extends Command{
             removeList();
             break;
 
+        case "rename":
+            renameList();
+            break;
+
         case "newexpense":
             addExpenseToList();
             break;
@@ -177,6 +254,14 @@ public class RecurringExpenseCommand extends Command{
             printExpensesAtIndex();
             break;
 
+        case "schedule":
+            setSchedule();
+            break;
+
+        case "forecast":
+            printForecast();
+            break;
+
         default:
             break;
         }
@@ -0,0 +1,30 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.SavingList;
+import seedu.budgetbuddy.UndoHistory;
+
+public class RedoCommand extends Command {
+    private UndoHistory undoHistory;
+    private ExpenseList expenses;
+    private SavingList savings;
+
+    public RedoCommand(UndoHistory undoHistory, ExpenseList expenses, SavingList savings) {
+        this.undoHistory = undoHistory;
+        this.expenses = expenses;
+        this.savings = savings;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute() {
+        if (undoHistory.redo(expenses, savings)) {
+            return CommandResult.of("Last undone change redone.");
+        }
+        return CommandResult.of("Nothing to redo.");
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.SavingList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 public class ReduceSavingCommand extends Command{
 
@@ -15,8 +16,13 @@ public class ReduceSavingCommand extends Command{
     }
 
     @Override
-    public void execute() {
-        savings.reduceSavings(index, amount);
+    public CommandResult execute() {
+        try {
+            savings.subtractFromSaving(index, amount);
+            return CommandResult.of("Savings reduced successfully!");
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
     }
 
 }
@@ -14,8 +14,11 @@ public class SetBudgetCommand extends Command {
     }
 
     @Override
-    public void execute(){
-        expenseList.setBudget(this.category, this.budget);
-        System.out.println("Budget Added :" + category + " of $" + budget);
+    public CommandResult execute(){
+        CommandResult result = new CommandResult();
+        if (expenseList.putBudget(this.category, this.budget)) {
+            result.addMessage("Updated budget for " + category + " to $" + budget);
+        }
+        return result.addMessage("Budget Added :" + category + " of $" + budget);
     }
 }
@@ -0,0 +1,42 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.Settlement;
+import seedu.budgetbuddy.SplitExpenseList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+public class SettleDebtCommand extends Command {
+    private SplitExpenseList splitexpenses;
+    private final String from;
+    private final String to;
+    private final String amount;
+
+    public SettleDebtCommand(SplitExpenseList splitexpenses, String from, String to, String amount) {
+        this.splitexpenses = splitexpenses;
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getAmount() {
+        return amount;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            Settlement settlement = splitexpenses.settleDebt(from, to, amount);
+            return CommandResult.of("Settled: " + settlement.getFrom() + " paid " + settlement.getTo() + " "
+                    + String.format("%.2f", settlement.getAmount()));
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+    }
+}
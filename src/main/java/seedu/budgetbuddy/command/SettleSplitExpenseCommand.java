@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.command;
 
 import seedu.budgetbuddy.SplitExpenseList;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 public class SettleSplitExpenseCommand extends Command{
 
@@ -13,8 +14,12 @@ public class SettleSplitExpenseCommand extends Command{
     }
 
     @Override
-    public void execute() {
-        splitexpenses.settleSplitExpenses(index);
-        System.out.println("Settled expense: (" + (index+1) + ") ");
+    public CommandResult execute() {
+        try {
+            splitexpenses.settleSplitExpenses(index);
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
+        }
+        return CommandResult.of("Settled expense: (" + (index+1) + ") ");
     }
 }
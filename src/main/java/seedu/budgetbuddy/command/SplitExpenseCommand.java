@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.command;
 
+import seedu.budgetbuddy.SplitExpense;
 import seedu.budgetbuddy.SplitExpenseList;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
@@ -8,13 +9,32 @@ public class SplitExpenseCommand extends Command {
     private final String amount;
     private final String numberOfPeople;
     private final String description;
+    private final String payer;
+    private final String participants;
 
     public SplitExpenseCommand(SplitExpenseList splitexpenses, String amount,
             String numberOfPeople, String description) {
+        this(splitexpenses, amount, numberOfPeople, description, null, null);
+    }
+
+    /**
+     * Creates a command that splits a bill among named participants.
+     *
+     * @param splitexpenses  The list of split expenses.
+     * @param amount         The total amount of the bill.
+     * @param numberOfPeople The number of people, or null to use the number of participants.
+     * @param description    The description of the bill.
+     * @param payer          The person who paid the bill.
+     * @param participants   The participants and their optional shares, e.g. "Alice:50,Bob".
+     */
+    public SplitExpenseCommand(SplitExpenseList splitexpenses, String amount, String numberOfPeople,
+            String description, String payer, String participants) {
         this.splitexpenses = splitexpenses;
         this.numberOfPeople = numberOfPeople;
         this.amount = amount;
         this.description = description;
+        this.payer = payer;
+        this.participants = participants;
     }
 
     public String getNumberOfPeople() {
@@ -29,14 +49,36 @@ public class SplitExpenseCommand extends Command {
         return description;
     }
 
+    public String getPayer() {
+        return payer;
+    }
+
+    public String getParticipants() {
+        return participants;
+    }
+
     @Override
-    public void execute() {
+    public CommandResult execute() {
+        if (participants != null) {
+            return addWithParticipants();
+        }
         try {
             splitexpenses.addSplitExpense(this.amount, this.numberOfPeople, this.description);
-            System.out.println("SplitExpense Added :" + "$" + amount + " spent by " +
+            return CommandResult.of("SplitExpense Added :" + "$" + amount + " spent by " +
                     numberOfPeople + " persons. Description: " + description);
         } catch (BudgetBuddyException e) {
-            System.out.println("An error occurred while adding expense.");
+            return CommandResult.failure("An error occurred while adding expense.");
+        }
+    }
+
+    private CommandResult addWithParticipants() {
+        try {
+            SplitExpense added = splitexpenses.addSplitExpense(amount, payer, participants, description);
+            return CommandResult.of("SplitExpense Added :" + "$" + String.format("%.2f", added.getAmount())
+                    + " paid by " + added.getPayer() + " for " + added.getNumberOfPeople()
+                    + " persons. Description: " + description);
+        } catch (BudgetBuddyException e) {
+            return CommandResult.failure(e.getMessage());
         }
     }
 }
@@ -0,0 +1,30 @@
+package seedu.budgetbuddy.command;
+
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.SavingList;
+import seedu.budgetbuddy.UndoHistory;
+
+public class UndoCommand extends Command {
+    private UndoHistory undoHistory;
+    private ExpenseList expenses;
+    private SavingList savings;
+
+    public UndoCommand(UndoHistory undoHistory, ExpenseList expenses, SavingList savings) {
+        this.undoHistory = undoHistory;
+        this.expenses = expenses;
+        this.savings = savings;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute() {
+        if (undoHistory.undo(expenses, savings)) {
+            return CommandResult.of("Last change undone.");
+        }
+        return CommandResult.of("Nothing to undo.");
+    }
+}
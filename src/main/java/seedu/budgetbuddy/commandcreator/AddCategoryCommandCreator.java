@@ -0,0 +1,49 @@
+package seedu.budgetbuddy.commandcreator;
+
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.command.AddCategoryCommand;
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+/**
+ * Creates an AddCategoryCommand object.
+ */
+public class AddCategoryCommandCreator extends CommandCreator {
+    private static final String CATEGORY_PREFIX = "c/";
+    private ExpenseList expenses;
+    private String input;
+
+    public AddCategoryCommandCreator() {
+    }
+
+    public AddCategoryCommandCreator(ExpenseList expenses, String input) {
+        this.expenses = expenses;
+        this.input = input;
+    }
+
+    /**
+     * Parses the input and creates a new AddCategoryCommand object.
+     *
+     * @param expenses The list of expenses the category is added to.
+     * @param input The input string.
+     * @return The AddCategoryCommand object.
+     * @throws InvalidCommandException If the category is missing.
+     */
+    public Command handleAddCategoryCommand(ExpenseList expenses, String input) throws InvalidCommandException {
+        int indexOfCategoryPrefix = input.indexOf(CATEGORY_PREFIX);
+        if (indexOfCategoryPrefix == -1) {
+            throw invalidCommand("Invalid command format.", "Expected format: add category c/CATEGORY");
+        }
+
+        String category = input.substring(indexOfCategoryPrefix + CATEGORY_PREFIX.length()).trim();
+        if (category.isEmpty()) {
+            throw new InvalidCommandException("category is missing.");
+        }
+        return new AddCategoryCommand(expenses, category);
+    }
+
+    @Override
+    public Command createCommand() throws InvalidCommandException {
+        return handleAddCategoryCommand(expenses, input);
+    }
+}
@@ -1,17 +1,28 @@
 package seedu.budgetbuddy.commandcreator;
 
+import seedu.budgetbuddy.DefaultCurrency;
 import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.Storage;
 import seedu.budgetbuddy.command.AddExpenseCommand;
 import seedu.budgetbuddy.command.Command;
-import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
 
 /**
  * Creates an AddExpenseCommand object.
  */
 public class AddExpenseCommandCreator extends CommandCreator {
+    private static final String[] PREFIXES = {"c/", "a/", "d/", "t/", "cur/"};
+
     private ExpenseList expenses;
     private String input;
 
+    public AddExpenseCommandCreator() {
+    }
+
     public AddExpenseCommandCreator(ExpenseList expenses, String input) {
         this.expenses = expenses;
         this.input = input;
@@ -24,72 +35,55 @@ public class AddExpenseCommandCreator extends CommandCreator {
      * @param input The input string.
      * @return The AddExpenseCommand object.
      */
-    public Command handleAddExpenseCommand(ExpenseList expenses, String input) {
-        if (input == null || !input.contains("c/") || !input.contains("a/") || !input.contains("d/")) {
-            System.out.println("Invalid command format.");
-            return null;
+    public Command handleAddExpenseCommand(ExpenseList expenses, String input) throws InvalidCommandException {
+        if (input == null) {
+            throw new InvalidCommandException("Invalid command format.");
         }
-        String[] parts = input.split(" ", 2);
-        if (parts.length < 2) {
-            System.out.println("Expense details are missing.");
-            return null;
+        CommandArguments arguments = CommandArguments.tokenize(input, PREFIXES);
+        if (!arguments.has("c/") || !arguments.has("a/") || !arguments.has("d/")) {
+            throw new InvalidCommandException("Invalid command format.");
         }
-        String details = parts[1];
 
-        String category = extractDetailsForAdd(details, "c/");
-        if (category.isEmpty()) {
-            System.out.println("category is missing.");
-            return null;
+        if (arguments.isEmpty("c/")) {
+            throw new InvalidCommandException("category is missing.");
         }
-        String amount = extractDetailsForAdd(details, "a/");
-        if (amount.isEmpty()) {
-            System.out.println("amount is missing.");
-            return null;
+        if (arguments.isEmpty("a/")) {
+            throw new InvalidCommandException("amount is missing.");
         }
 
+        double amountValue;
         try {
-            double amountValue = Double.parseDouble(amount);
-            if (amountValue <= 0) {
-                throw new BudgetBuddyException(amount + " is not a valid amount.");
-            }
+            amountValue = arguments.getDouble("a/");
         } catch (NumberFormatException e) {
-            System.out.println("Invalid amount. Please enter a valid number.");
-            return null;
-        } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException("Invalid amount. Please enter a valid number.");
+        }
+        if (amountValue <= 0) {
+            throw new InvalidCommandException(arguments.get("a/") + " is not a valid amount.");
         }
 
-        String description = extractDetailsForAdd(details, "d/");
-        if (description.isEmpty()) {
-            System.out.println("description is missing.");
-            return null;
+        if (arguments.isEmpty("d/")) {
+            throw new InvalidCommandException("description is missing.");
         }
-        return new AddExpenseCommand(expenses, category, amount, description);
-    }
 
-    /**
-     * Extracts the details for the add command.
-     * 
-     * @param details The details string.
-     * @param prefix The prefix to search for.
-     * @return The extracted details.
-     */
-    private String extractDetailsForAdd(String details, String prefix) {
-        int startIndex = details.indexOf(prefix) + prefix.length();
-        int endIndex = details.length();
+        List<String> tags = new ArrayList<>();
+        if (arguments.has("t/")) {
+            tags = Storage.parseTags(arguments.getString("t/"));
+        }
 
-        String[] nextPrefixes = { "c/", "a/", "d/" };
-        for (String nextPrefix : nextPrefixes) {
-            if (details.indexOf(nextPrefix, startIndex) != -1 && details.indexOf(nextPrefix, startIndex) < endIndex) {
-                endIndex = details.indexOf(nextPrefix, startIndex);
+        Currency currency = DefaultCurrency.getDefaultCurrency();
+        if (arguments.has("cur/")) {
+            currency = parseSupportedCurrency(arguments.get("cur/"));
+            if (currency == null) {
+                throw new InvalidCommandException("Invalid currency code.");
             }
         }
-        return details.substring(startIndex, endIndex).trim();
+        // Values are copied out of the input only once the whole line is known to be valid
+        return new AddExpenseCommand(expenses, arguments.getString("c/"), arguments.getString("a/"),
+                arguments.getString("d/"), tags, currency);
     }
 
     @Override
-    public Command createCommand(){
+    public Command createCommand() throws InvalidCommandException {
         return handleAddExpenseCommand(expenses, input);
     }
 }
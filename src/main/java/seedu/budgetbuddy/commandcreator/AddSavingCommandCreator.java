@@ -1,14 +1,22 @@
 package seedu.budgetbuddy.commandcreator;
 
+import seedu.budgetbuddy.DefaultCurrency;
 import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.AddSavingCommand;
 import seedu.budgetbuddy.command.Command;
-import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.Currency;
 
 public class AddSavingCommandCreator extends CommandCreator{
+    private static final String[] PREFIXES = {"c/", "a/", "d/", "cur/"};
+
     private SavingList savings;
     private String input;
 
+    public AddSavingCommandCreator() {
+    }
+
     /**
      * Creates an AddSavingCommandCreator object.
      * 
@@ -28,71 +36,45 @@ public class AddSavingCommandCreator extends CommandCreator{
      * @return The AddSavingCommand object.
      */
 
-    public Command handleAddSavingCommand(SavingList savings, String input) {
-        if (input == null || !input.contains(" ") || !input.contains("c/") || !input.contains("a/")) {
-            System.out.println("Invalid command format.");
-            return null;
+    public Command handleAddSavingCommand(SavingList savings, String input) throws InvalidCommandException {
+        if (input == null || !input.contains(" ")) {
+            throw new InvalidCommandException("Invalid command format.");
         }
-
-        String[] parts = input.split(" ", 2);
-        if (parts.length < 2) {
-            System.out.println("Saving details are missing.");
-            return null;
+        CommandArguments arguments = CommandArguments.tokenize(input, PREFIXES);
+        if (!arguments.has("c/") || !arguments.has("a/")) {
+            throw new InvalidCommandException("Invalid command format.");
         }
 
-        String details = parts[1];
-        String category = extractDetailsForAdd(details, "c/");
-        if (category.isEmpty()) {
-            System.out.println("Category is missing.");
-            return null;
+        if (arguments.isEmpty("c/")) {
+            throw new InvalidCommandException("Category is missing.");
         }
 
-        String amount = extractDetailsForAdd(details, "a/");
-        if (amount.isEmpty()) {
-            System.out.println("amount is missing.");
-            return null;
+        if (arguments.isEmpty("a/")) {
+            throw new InvalidCommandException("amount is missing.");
         }
 
+        double amountValue;
         try {
-            double amountValue = Double.parseDouble(amount);
-            if (amountValue <= 0) {
-                throw new BudgetBuddyException(amount + " is not a valid amount.");
-            }
-
+            amountValue = arguments.getDouble("a/");
         } catch (NumberFormatException e) {
-            System.out.println("Invalid amount. Please enter a valid number.");
-            return null;
-        } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException("Invalid amount. Please enter a valid number.");
+        }
+        if (amountValue <= 0) {
+            throw new InvalidCommandException(arguments.get("a/") + " is not a valid amount.");
         }
 
-        return new AddSavingCommand(savings, category, amount);
-    }
-
-    /**
-     * Extracts the details for adding a saving.
-     * 
-     * @param details The details string.
-     * @param prefix The prefix string.
-     * @return The details for adding a saving.
-     */
-    
-    private String extractDetailsForAdd(String details, String prefix) {
-        int startIndex = details.indexOf(prefix) + prefix.length();
-        int endIndex = details.length();
-
-        String[] nextPrefixes = { "c/", "a/", "d/" };
-        for (String nextPrefix : nextPrefixes) {
-            if (details.indexOf(nextPrefix, startIndex) != -1 && details.indexOf(nextPrefix, startIndex) < endIndex) {
-                endIndex = details.indexOf(nextPrefix, startIndex);
+        Currency currency = DefaultCurrency.getDefaultCurrency();
+        if (arguments.has("cur/")) {
+            currency = parseSupportedCurrency(arguments.get("cur/"));
+            if (currency == null) {
+                throw new InvalidCommandException("Invalid currency code.");
             }
         }
-        return details.substring(startIndex, endIndex).trim();
+        return new AddSavingCommand(savings, arguments.getString("c/"), arguments.getString("a/"), currency);
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleAddSavingCommand(savings, input);
     }
 }
@@ -1,10 +1,10 @@
 package seedu.budgetbuddy.commandcreator;
 
-import seedu.budgetbuddy.CurrencyConverter;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.ChangeCurrencyCommand;
 import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import java.util.Currency;
 import java.util.logging.Level;
@@ -16,15 +16,15 @@ public class ChangeCurrencyCommandCreator extends CommandCreator {
     private ExpenseList expenses;
     private SavingList savings;
     private String input;
-    private CurrencyConverter newCurrency;
 
-    public ChangeCurrencyCommandCreator(String input, SavingList savings, ExpenseList expenses,
-                                        CurrencyConverter newCurrency) {
+    public ChangeCurrencyCommandCreator() {
+    }
+
+    public ChangeCurrencyCommandCreator(String input, SavingList savings, ExpenseList expenses) {
 
         this.input = input;
         this.savings = savings;
         this.expenses = expenses;
-        this.newCurrency = newCurrency;
 
     }
 
@@ -35,11 +35,11 @@ public class ChangeCurrencyCommandCreator extends CommandCreator {
      * @param input             The user input to be parsed.
      * @param savingList        The SavingList containing savings data.
      * @param expenseList       The ExpenseList containing expenses data.
-     * @param currencyConverter The CurrencyConverter object for currency conversion.
-     * @return A ChangeCurrencyCommand if the input is valid; otherwise, null.
+     * @return A ChangeCurrencyCommand, or null if the input is not a change currency command.
+     * @throws InvalidCommandException If the currency code or the format is not valid.
      */
-    public Command handleChangeCurrencyCommand(String input, SavingList savingList, ExpenseList expenseList,
-                                               CurrencyConverter currencyConverter) {
+    public Command handleChangeCurrencyCommand(String input, SavingList savingList, ExpenseList expenseList)
+            throws InvalidCommandException {
         if (input.startsWith("change currency")) {
             String[] parts = input.split(" ");
             assert parts.length > 1 : "Input should contain currency code";
@@ -51,23 +51,21 @@ public class ChangeCurrencyCommandCreator extends CommandCreator {
                 try {
                     Currency newCurrency = Currency.getInstance(currencyCode.toUpperCase());
                     assert newCurrency != null : "Currency code should be valid";
-                    LOGGER.log(Level.INFO, "Default currency changed to " + newCurrency);
-                    return new ChangeCurrencyCommand(newCurrency, savingList, expenseList, currencyConverter);
+                    LOGGER.log(Level.INFO, "Parsed change of default currency to " + newCurrency);
+                    return new ChangeCurrencyCommand(newCurrency, savingList, expenseList);
                 } catch (IllegalArgumentException e) {
                     LOGGER.log(Level.WARNING, "Invalid currency code: " + currencyCode);
-                    System.out.println("Invalid currency code.");
-                    return null;
+                    throw new InvalidCommandException("Invalid currency code.");
                 }
             } else {
                 LOGGER.log(Level.WARNING, "Invalid command format. Use 'change currency <currency_code>'.");
-                System.out.println("Invalid command format. Use 'change currency <currency_code>'.");
-                return null;
+                throw new InvalidCommandException("Invalid command format. Use 'change currency <currency_code>'.");
             }
         }
         return null;
     }
     @Override
-    public Command createCommand() {
-        return handleChangeCurrencyCommand(input, savings, expenses, newCurrency);
+    public Command createCommand() throws InvalidCommandException {
+        return handleChangeCurrencyCommand(input, savings, expenses);
     }
 }
@@ -0,0 +1,239 @@
+package seedu.budgetbuddy.commandcreator;
+
+import java.nio.CharBuffer;
+
+/**
+ * The values given after each prefix, such as c/ or a/, in one line of user input. The line is walked
+ * once, and a prefix is recognised only at the start of a word. Prefixes may come in any order, and
+ * "data/" does not contain an a/ prefix. Each value runs up to the next prefix with surrounding
+ * whitespace trimmed. A value is handed out as a view of the input instead of a copy. Values that are
+ * plain decimal numbers are parsed during the same walk.
+ */
+public class CommandArguments {
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15};
+    // Numbers with at most this many digits are exact as a long and as a double
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private final String input;
+    private final String[] prefixes;
+    // Bounds of the first value given for each prefix, or -1 if the prefix is absent
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] counts;
+    // The value of each prefix as a number, or NaN if it is not a plain decimal number
+    private final double[] numbers;
+    private int preambleEnd;
+
+    private CommandArguments(String input, String[] prefixes) {
+        this.input = input;
+        this.prefixes = prefixes;
+        this.starts = new int[prefixes.length];
+        this.ends = new int[prefixes.length];
+        this.counts = new int[prefixes.length];
+        this.numbers = new double[prefixes.length];
+        for (int i = 0; i < prefixes.length; i++) {
+            starts[i] = -1;
+            ends[i] = -1;
+            numbers[i] = Double.NaN;
+        }
+    }
+
+    /**
+     * Splits the input into the values of the given prefixes.
+     *
+     * @param input    The user input string.
+     * @param prefixes The prefixes the command accepts, such as "c/" and "a/".
+     * @return The values found in the input.
+     */
+    public static CommandArguments tokenize(String input, String... prefixes) {
+        assert input != null : "Input should not be null";
+        CommandArguments arguments = new CommandArguments(input, prefixes);
+        arguments.walk();
+        return arguments;
+    }
+
+    private void walk() {
+        int length = input.length();
+        int current = -1;
+        int valueStart = 0;
+        preambleEnd = length;
+        boolean isWordStart = true;
+
+        for (int i = 0; i < length; i++) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                isWordStart = true;
+                continue;
+            }
+            int prefix = isWordStart ? prefixAt(i) : -1;
+            isWordStart = false;
+            if (prefix == -1) {
+                continue;
+            }
+
+            if (current == -1) {
+                preambleEnd = i;
+            } else {
+                endValue(current, valueStart, i);
+            }
+            current = prefix;
+            valueStart = i + prefixes[prefix].length();
+            i = valueStart - 1;
+        }
+        if (current != -1) {
+            endValue(current, valueStart, length);
+        }
+    }
+
+    private int prefixAt(int index) {
+        int longest = -1;
+        for (int i = 0; i < prefixes.length; i++) {
+            if (input.startsWith(prefixes[i], index)
+                    && (longest == -1 || prefixes[i].length() > prefixes[longest].length())) {
+                longest = i;
+            }
+        }
+        return longest;
+    }
+
+    private void endValue(int prefix, int start, int end) {
+        counts[prefix]++;
+        if (counts[prefix] > 1) {
+            return;
+        }
+        while (start < end && Character.isWhitespace(input.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(input.charAt(end - 1))) {
+            end--;
+        }
+        starts[prefix] = start;
+        ends[prefix] = end;
+        numbers[prefix] = parseDecimal(start, end);
+    }
+
+    /**
+     * Parses a number of the form [-]digits[.digits] without copying it out of the input. The result is
+     * the same as Double.parseDouble, since both the digits and the power of ten are exact doubles.
+     *
+     * @return The number, or NaN if the text is not of that form or has too many digits.
+     */
+    private double parseDecimal(int start, int end) {
+        int index = start;
+        boolean isNegative = false;
+        if (index < end && (input.charAt(index) == '-' || input.charAt(index) == '+')) {
+            isNegative = input.charAt(index) == '-';
+            index++;
+        }
+
+        long digits = 0;
+        int digitCount = 0;
+        int fractionDigits = -1;
+        for (; index < end; index++) {
+            char c = input.charAt(index);
+            if (c == '.' && fractionDigits == -1) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9' && digitCount < MAX_EXACT_DIGITS) {
+                digits = digits * 10 + (c - '0');
+                digitCount++;
+                if (fractionDigits != -1) {
+                    fractionDigits++;
+                }
+            } else {
+                return Double.NaN;
+            }
+        }
+        if (digitCount == 0) {
+            return Double.NaN;
+        }
+        double value = fractionDigits > 0 ? digits / POWERS_OF_TEN[fractionDigits] : digits;
+        return isNegative ? -value : value;
+    }
+
+    private int indexOf(String prefix) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (prefixes[i].equals(prefix)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Prefix " + prefix + " was not given to the tokenizer");
+    }
+
+    public boolean has(String prefix) {
+        return counts[indexOf(prefix)] > 0;
+    }
+
+    /**
+     * Returns how many times the prefix appears in the input.
+     */
+    public int count(String prefix) {
+        return counts[indexOf(prefix)];
+    }
+
+    /**
+     * Returns the first value given for the prefix as a view of the input.
+     *
+     * @param prefix The prefix.
+     * @return The value, or null if the prefix is absent.
+     */
+    public CharSequence get(String prefix) {
+        int i = indexOf(prefix);
+        return counts[i] == 0 ? null : CharBuffer.wrap(input, starts[i], ends[i]);
+    }
+
+    /**
+     * Returns the first value given for the prefix as a String.
+     *
+     * @param prefix The prefix.
+     * @return The value, or null if the prefix is absent.
+     */
+    public String getString(String prefix) {
+        int i = indexOf(prefix);
+        return counts[i] == 0 ? null : input.substring(starts[i], ends[i]);
+    }
+
+    public boolean isEmpty(String prefix) {
+        int i = indexOf(prefix);
+        return counts[i] == 0 || starts[i] == ends[i];
+    }
+
+    /**
+     * Returns the value given for the prefix as a double.
+     *
+     * @param prefix The prefix.
+     * @return The number.
+     * @throws NumberFormatException If the prefix is absent or its value is not a number.
+     */
+    public double getDouble(String prefix) throws NumberFormatException {
+        int i = indexOf(prefix);
+        if (!Double.isNaN(numbers[i])) {
+            return numbers[i];
+        }
+        if (counts[i] == 0) {
+            throw new NumberFormatException("No value for " + prefix);
+        }
+        return Double.parseDouble(input.substring(starts[i], ends[i]));
+    }
+
+    /**
+     * Returns the value given for the prefix as an int, parsed in place.
+     *
+     * @param prefix The prefix.
+     * @return The number.
+     * @throws NumberFormatException If the prefix is absent or its value is not an integer.
+     */
+    public int getInt(String prefix) throws NumberFormatException {
+        int i = indexOf(prefix);
+        if (counts[i] == 0) {
+            throw new NumberFormatException("No value for " + prefix);
+        }
+        return Integer.parseInt(input, starts[i], ends[i], 10);
+    }
+
+    /**
+     * Returns the text before the first prefix, such as the command word, as a view of the input.
+     */
+    public CharSequence getPreamble() {
+        return CharBuffer.wrap(input, 0, preambleEnd);
+    }
+}
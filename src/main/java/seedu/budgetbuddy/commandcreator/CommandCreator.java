@@ -1,10 +1,37 @@
 package seedu.budgetbuddy.commandcreator;
 
+import seedu.budgetbuddy.CurrencyRegistry;
 import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.Currency;
 
 public class CommandCreator {
 
-    public Command createCommand() {
+    /**
+     * Parses the input given to the creator.
+     *
+     * @return The command, or null if the input is not a command of this creator.
+     * @throws InvalidCommandException If the input is a command of this creator but is not valid.
+     */
+    public Command createCommand() throws InvalidCommandException {
         return null;
     }
+
+    /**
+     * Returns the exception reporting invalid input, with each message on its own line.
+     */
+    protected static InvalidCommandException invalidCommand(String... messages) {
+        return new InvalidCommandException(String.join(System.lineSeparator(), messages));
+    }
+
+    /**
+     * Parses a currency code entered by the user.
+     *
+     * @param currencyCode The currency code, in any case.
+     * @return The currency, or null if the code is not one of the supported currencies.
+     */
+    protected Currency parseSupportedCurrency(CharSequence currencyCode) {
+        return CurrencyRegistry.findSupported(currencyCode);
+    }
 }
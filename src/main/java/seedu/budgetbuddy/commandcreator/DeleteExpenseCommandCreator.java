@@ -3,6 +3,7 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.DeleteExpenseCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,12 +13,15 @@ public class DeleteExpenseCommandCreator extends CommandCreator{
     private ExpenseList expenseList;
     private String input;
 
+    public DeleteExpenseCommandCreator() {
+    }
+
     public DeleteExpenseCommandCreator(ExpenseList expenseList, String input){
         this.expenseList = expenseList;
         this.input = input;
     }
 
-    public Command handleDeleteExpenseCommand(ExpenseList expenses, String input) {
+    public Command handleDeleteExpenseCommand(ExpenseList expenses, String input) throws InvalidCommandException {
         LOGGER.log(Level.INFO, "Processing handleDeleteExpenseCommand");
 
         assert expenses != null : "Expense list cannot be null";
@@ -27,8 +31,7 @@ public class DeleteExpenseCommandCreator extends CommandCreator{
         // Check if the input format is correct (i.e., contains "i/")
         if (parts.length < 2) {
             LOGGER.log(Level.WARNING, "Invalid command format. Expected format: <command> i/<index>");
-            System.out.println("Error: Invalid command format. Expected format: <command> i/<index>");
-            return null;
+            throw new InvalidCommandException("Error: Invalid command format. Expected format: <command> i/<index>");
         }
 
         try {
@@ -36,8 +39,7 @@ public class DeleteExpenseCommandCreator extends CommandCreator{
             // Check if the index is within the bounds of the expense list.
             if (index < 0 || index >= expenses.size()) {
                 LOGGER.log(Level.WARNING, "Index is out of bounds.");
-                System.out.println("Error: Index is out of bounds.");
-                return null;
+                throw new InvalidCommandException("Error: Index is out of bounds.");
             }
             LOGGER.log(Level.INFO, "Successfully processed DeleteExpenseCommand");
             // If the index is valid, return a new DeleteExpenseCommand.
@@ -45,13 +47,12 @@ public class DeleteExpenseCommandCreator extends CommandCreator{
         } catch (NumberFormatException e) {
             LOGGER.log(Level.SEVERE, "Index is not a valid number.");
             // Catch the NumberFormatException if the part after "i/" isn't a valid integer.
-            System.out.println("Error: Index is not a valid number.");
-            return null;
+            throw new InvalidCommandException("Error: Index is not a valid number.");
         }
     }
 
     @Override
-    public Command createCommand(){
+    public Command createCommand() throws InvalidCommandException {
         return handleDeleteExpenseCommand(expenseList, input);
     }
 }
@@ -3,10 +3,14 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.EditExpenseCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 public class EditExpenseCommandCreator extends CommandCreator {
     private ExpenseList expenses;
     private String input;
+    public EditExpenseCommandCreator() {
+    }
+
     public EditExpenseCommandCreator(String input, ExpenseList expenses) {
         this.input = input;
         this.expenses = expenses;
@@ -19,36 +23,29 @@ public class EditExpenseCommandCreator extends CommandCreator {
      *
      * @param expenses The ExpenseList object containing the list of expenses to be edited.
      * @param input    The input command string containing the edit parameters.
-     * @return An instance of EditExpenseCommand if the input is valid, or null if the input
-     *         is invalid or incomplete.
+     * @return An instance of EditExpenseCommand.
+     * @throws InvalidCommandException If the input is invalid or incomplete.
      */
-    public Command handleEditExpenseCommand(ExpenseList expenses, String input) {
-        String[] parts = input.split(" ");
-        String category = null;
+    public Command handleEditExpenseCommand(ExpenseList expenses, String input) throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, "c/", "i/", "a/", "d/");
+        String category = arguments.getString("c/");
         int index = -1;
         double amount = -1;
-        String description = null;
+        String description = arguments.getString("d/");
 
-        for (String part : parts) {
-            if (part.startsWith("c/")) {
-                category = part.substring(2);
-            } else if (part.startsWith("i/")) {
-                try {
-                    index = Integer.parseInt(part.substring(2));
-                } catch (NumberFormatException e) {
-                    // Handle invalid index format
-                    return null;
-                }
-            } else if (part.startsWith("a/")) {
-                try {
-                    amount = Double.parseDouble(part.substring(2));
-                } catch (NumberFormatException e) {
-                    // Handle invalid amount format
-                    System.out.println("Invalid Amount. Amount should be a numerical value.");
-                    return null;
-                }
-            } else if (part.startsWith("d/")) {
-                description = part.substring(2);
+        if (arguments.has("i/")) {
+            try {
+                index = arguments.getInt("i/");
+            } catch (NumberFormatException e) {
+                throw new InvalidCommandException("Invalid index. Index should be a whole number.");
+            }
+        }
+        if (arguments.has("a/")) {
+            try {
+                amount = arguments.getDouble("a/");
+            } catch (NumberFormatException e) {
+                // Handle invalid amount format
+                throw new InvalidCommandException("Invalid Amount. Amount should be a numerical value.");
             }
         }
 
@@ -56,13 +53,13 @@ public class EditExpenseCommandCreator extends CommandCreator {
         if (category != null && index != -1 && amount != -1 && description != null) {
             return new EditExpenseCommand(expenses, category, index, amount, description);
         } else {
-            // Handle incomplete command
-            return null;
+            throw new InvalidCommandException("Invalid command format. "
+                    + "Expected format: edit expense c/CATEGORY i/INDEX a/AMOUNT d/DESCRIPTION");
         }
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleEditExpenseCommand(expenses, input);
     }
 }
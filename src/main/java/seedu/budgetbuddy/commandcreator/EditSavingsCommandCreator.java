@@ -3,10 +3,15 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.EditSavingCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 public class EditSavingsCommandCreator extends CommandCreator {
     private SavingList savings;
     private String input;
+
+    public EditSavingsCommandCreator() {
+    }
+
     public EditSavingsCommandCreator (String input, SavingList savings) {
         this.input = input;
         this.savings = savings;
@@ -19,33 +24,29 @@ public class EditSavingsCommandCreator extends CommandCreator {
      *
      * @param savings The SavingList object that contains the list of savings.
      * @param input   The input command string containing the parameters to edit a saving entry.
-     * @return A Command object to execute the edit operation or null if the input is invalid.
+     * @return A Command object to execute the edit operation.
+     * @throws InvalidCommandException If the input is invalid or incomplete.
      */
-    public Command handleEditSavingCommand(SavingList savings, String input) {
-        String[] parts = input.split(" ");
-        String category = null;
+    public Command handleEditSavingCommand(SavingList savings, String input) throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, "c/", "i/", "a/");
+        String category = arguments.getString("c/");
         int index = -1;
         double amount = -1;
 
-        for (String part : parts) {
-            if (part.startsWith("c/")) {
-                category = part.substring(2);
-            } else if (part.startsWith("i/")) {
-                try {
-                    index = Integer.parseInt(part.substring(2));
-                } catch (NumberFormatException e) {
-                    // Handle invalid index format
-                    System.out.println("Invalid index");
-                    return null;
-                }
-            } else if (part.startsWith("a/")) {
-                try {
-                    amount = Double.parseDouble(part.substring(2));
-                } catch (NumberFormatException e) {
-                    // Handle invalid amount format
-                    System.out.println("Invalid amount. Amount should be a numerical value");
-                    return null;
-                }
+        if (arguments.has("i/")) {
+            try {
+                index = arguments.getInt("i/");
+            } catch (NumberFormatException e) {
+                // Handle invalid index format
+                throw new InvalidCommandException("Invalid index");
+            }
+        }
+        if (arguments.has("a/")) {
+            try {
+                amount = arguments.getDouble("a/");
+            } catch (NumberFormatException e) {
+                // Handle invalid amount format
+                throw new InvalidCommandException("Invalid amount. Amount should be a numerical value");
             }
         }
 
@@ -53,13 +54,13 @@ public class EditSavingsCommandCreator extends CommandCreator {
         if (category != null && index != -1 && amount != -1) {
             return new EditSavingCommand(savings, category, index, amount);
         } else {
-            // Handle incomplete command
-            return null;
+            throw new InvalidCommandException("Invalid command format. "
+                    + "Expected format: edit savings c/CATEGORY i/INDEX a/AMOUNT");
         }
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleEditSavingCommand(savings, input);
     }
 
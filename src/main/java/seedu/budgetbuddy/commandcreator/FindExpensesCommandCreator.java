@@ -4,11 +4,10 @@ import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.FindExpensesCommand;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class FindExpensesCommandCreator extends CommandCreator {
     private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
@@ -20,83 +19,46 @@ public class FindExpensesCommandCreator extends CommandCreator {
     private ExpenseList expenses;
     private String input;
 
+    public FindExpensesCommandCreator() {
+    }
+
     public FindExpensesCommandCreator(String input, ExpenseList expenses) {
         this.input = input;
         this.expenses = expenses;
     }
 
-    private static void checkForInvalidParameters(String input) {
-        if (!input.contains("d/") || !input.contains("morethan/") || !input.contains("lessthan/")) {
+    private static void checkForInvalidParameters(CommandArguments arguments) {
+        if (!arguments.has(DESCRIPTION_PREFIX) || !arguments.has(MINAMOUNT_PREFIX)
+                || !arguments.has(MAXAMOUNT_PREFIX)) {
             throw new IllegalArgumentException("Please Ensure that you include d/, morethan/ and lessthan/");
         }
     }
 
-    public Double parseMaxAmount(String input) throws NumberFormatException{
-        int indexOfMaxAmountPrefix = input.indexOf(MAXAMOUNT_PREFIX);
-        int startIndexOfMaxAmount = indexOfMaxAmountPrefix + MAXAMOUNT_PREFIX.length();
-
-        int endIndexOfMaxAmount = input.length();
-
-        String maxAmountAsString = input.substring(startIndexOfMaxAmount, endIndexOfMaxAmount);
-
-        if (maxAmountAsString.trim().isEmpty()) {
+    public Double parseMaxAmount(CommandArguments arguments) throws NumberFormatException {
+        if (arguments.isEmpty(MAXAMOUNT_PREFIX)) {
             return null;
         }
-
-        Double maxAmount = Double.parseDouble(maxAmountAsString);
-
-        return maxAmount;
+        return arguments.getDouble(MAXAMOUNT_PREFIX);
     }
 
-    public Double parseMinAmount(String input) {
-        int indexOfMinAmountPrefix = input.indexOf(MINAMOUNT_PREFIX);
-        int startIndexOfMinAmount = indexOfMinAmountPrefix + MINAMOUNT_PREFIX.length();
-
-        int indexOfMaxAmountPrefix = input.indexOf(MAXAMOUNT_PREFIX);
-        int endIndexOfMinAmount = indexOfMaxAmountPrefix - 1;
-
-        String minAmountAsString = input.substring(startIndexOfMinAmount, endIndexOfMinAmount);
-
-        if (minAmountAsString.trim().isEmpty()) {
+    public Double parseMinAmount(CommandArguments arguments) throws NumberFormatException {
+        if (arguments.isEmpty(MINAMOUNT_PREFIX)) {
             return null;
         }
-
-        Double minAmount = Double.parseDouble(minAmountAsString);
-
-        return minAmount;
+        return arguments.getDouble(MINAMOUNT_PREFIX);
     }
-    public String parseDescription(String input) {
-
-        int indexOfDescriptionPrefix = input.indexOf(DESCRIPTION_PREFIX);
-        int startIndexOfDescription = indexOfDescriptionPrefix + DESCRIPTION_PREFIX.length();
 
-        int indexOfMinAmountPrefix = input.indexOf(MINAMOUNT_PREFIX);
-        int endIndexOfDescription = indexOfMinAmountPrefix - 1;
-
-        String description = input.substring(startIndexOfDescription, endIndexOfDescription).trim();
-
-        if (description.isEmpty()) {
+    public String parseDescription(CommandArguments arguments) {
+        if (arguments.isEmpty(DESCRIPTION_PREFIX)) {
             return null;
         }
-
-        return description;
+        return arguments.getString(DESCRIPTION_PREFIX);
     }
 
-    private static void checkForDuplicateParameters(String input, String parameter) {
-
-        int count = 0;
-
-        Pattern pattern = Pattern.compile(parameter);
-        Matcher matcher = pattern.matcher(input);
-
-        while (matcher.find()) {
-            count++;
-        }
-
-        if (count > 1) {
+    private static void checkForDuplicateParameters(CommandArguments arguments, String parameter) {
+        if (arguments.count(parameter) > 1) {
             throw new IllegalArgumentException("The parameter '" + parameter + "' can only be used once.");
         }
-
     }
 
     private static void compareMinAndMaxAmount(Double minAmount, Double maxAmount) throws BudgetBuddyException{
@@ -114,47 +76,47 @@ public class FindExpensesCommandCreator extends CommandCreator {
      *
      * @param input The full user input string.
      * @param expenses The ExpenseList to search within.
-     * @return A Command for executing the search, or null if the input is invalid.
+     * @return A Command for executing the search.
+     * @throws InvalidCommandException If the parameters are missing, repeated or not valid.
      */
-    public Command handleFindExpensesCommand(String input, ExpenseList expenses) {
+    public Command handleFindExpensesCommand(String input, ExpenseList expenses) throws InvalidCommandException {
         assert input != null : "Input cannot be null";
         assert !input.isEmpty() : "Input cannot be empty";
         assert input.startsWith("find expenses") : "Input must be a find expenses command";
 
         LOGGER.log(Level.INFO, "Begin parsing parameters in find expenses command");
 
+        CommandArguments arguments = CommandArguments.tokenize(input, DESCRIPTION_PREFIX, MINAMOUNT_PREFIX,
+                MAXAMOUNT_PREFIX);
         try {
-            checkForInvalidParameters(input);
-            checkForDuplicateParameters(input, "d/");
-            checkForDuplicateParameters(input, "morethan/");
-            checkForDuplicateParameters(input, "lessthan/");
+            checkForInvalidParameters(arguments);
+            checkForDuplicateParameters(arguments, DESCRIPTION_PREFIX);
+            checkForDuplicateParameters(arguments, MINAMOUNT_PREFIX);
+            checkForDuplicateParameters(arguments, MAXAMOUNT_PREFIX);
 
         } catch (IllegalArgumentException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException(e.getMessage());
         }
 
         try {
-            String description = parseDescription(input);
-            Double minAmount = parseMinAmount(input);
-            Double maxAmount = parseMaxAmount(input);
+            String description = parseDescription(arguments);
+            Double minAmount = parseMinAmount(arguments);
+            Double maxAmount = parseMaxAmount(arguments);
 
             compareMinAndMaxAmount(minAmount, maxAmount);
 
             return new FindExpensesCommand(expenses, description, minAmount, maxAmount);
 
         } catch (NumberFormatException e) {
-            System.out.println("Please input a valid amount.");
-            return null;
+            throw new InvalidCommandException("Please input a valid amount.");
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException(e.getMessage());
         }
 
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleFindExpensesCommand(input, expenses);
     }
 }
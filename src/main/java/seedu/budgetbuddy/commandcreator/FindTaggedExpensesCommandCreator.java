@@ -0,0 +1,67 @@
+package seedu.budgetbuddy.commandcreator;
+
+import seedu.budgetbuddy.ExpenseList;
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.command.FindTaggedExpensesCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates a FindTaggedExpensesCommand object.
+ */
+public class FindTaggedExpensesCommandCreator extends CommandCreator {
+    private static final String WITH_PREFIX = "with/";
+    private static final String WITHOUT_PREFIX = "without/";
+    private ExpenseList expenses;
+    private String input;
+
+    public FindTaggedExpensesCommandCreator() {
+    }
+
+    public FindTaggedExpensesCommandCreator(String input, ExpenseList expenses) {
+        this.input = input;
+        this.expenses = expenses;
+    }
+
+    /**
+     * Returns the comma separated tags given after the prefix.
+     *
+     * @param arguments The values in the input.
+     * @param prefix The prefix of the tags.
+     * @return The tags after the prefix, or an empty list if the prefix is absent.
+     */
+    public List<String> parseTags(CommandArguments arguments, String prefix) {
+        if (!arguments.has(prefix)) {
+            return new ArrayList<>();
+        }
+        return Storage.parseTags(arguments.getString(prefix));
+    }
+
+    /**
+     * Parses the "find tags" command.
+     *
+     * @param input The input string.
+     * @param expenses The ExpenseList to search within.
+     * @return A FindTaggedExpensesCommand.
+     * @throws InvalidCommandException If no tags were given.
+     */
+    public Command handleFindTaggedExpensesCommand(String input, ExpenseList expenses) throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, WITH_PREFIX, WITHOUT_PREFIX);
+        List<String> withTags = parseTags(arguments, WITH_PREFIX);
+        List<String> withoutTags = parseTags(arguments, WITHOUT_PREFIX);
+
+        if (withTags.isEmpty() && withoutTags.isEmpty()) {
+            throw invalidCommand("Please include at least one tag using with/ or without/",
+                    "Command Format : find tags with/TAG1,TAG2 without/TAG3");
+        }
+        return new FindTaggedExpensesCommand(expenses, withTags, withoutTags);
+    }
+
+    @Override
+    public Command createCommand() throws InvalidCommandException {
+        return handleFindTaggedExpensesCommand(input, expenses);
+    }
+}
@@ -3,9 +3,8 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.GetBudgetCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -14,55 +13,46 @@ public class GetBudgetCommandCreator extends CommandCreator {
 
     private ExpenseList expenses;
     private String input;
-    private ArrayList<String> expenseCategories;
+
+    public GetBudgetCommandCreator() {
+    }
 
     public GetBudgetCommandCreator(ExpenseList expenses, String input) {
         this.expenses = expenses;
         this.input = input;
-        this.expenseCategories = new ArrayList<>(Arrays.asList("Housing", "Groceries", "Utility", "Transport",
-                "Entertainment", "Others"));
     }
 
-    private boolean isValidExpenseCategory(String category) {
+    private boolean isValidExpenseCategory(ExpenseList expenses, String category) {
         assert category != null : "Category should not be null";
         assert !category.isEmpty() : "Category should not be empty";
 
-        for (String validCategory : expenseCategories) {
-            if (validCategory.equalsIgnoreCase(category)) {
-                return true;
-            }
-        }
-        return false;
+        return expenses.isValidCategory(category);
     }
 
-    public Command createCommand() {
-        LOGGER.log(Level.INFO, "Entering createCommand with input: " + input);
-        String[] parts = input.split(" ");
-        String category = null;
-
-        for (String part : parts) {
-            if (part.startsWith("c/")) {
-                category = part.substring(2);
-                LOGGER.log(Level.INFO, "Category extracted: " + category);
-            }
-        }
+    public Command handleGetBudgetCommand(ExpenseList expenses, String input) throws InvalidCommandException {
+        LOGGER.log(Level.INFO, "Entering handleGetBudgetCommand with input: " + input);
+        CommandArguments arguments = CommandArguments.tokenize(input, "c/");
+        String category = arguments.isEmpty("c/") ? null : arguments.getString("c/");
+        LOGGER.log(Level.INFO, "Category extracted: " + category);
 
         if (category == null) {
             LOGGER.log(Level.WARNING, "Invalid command format or missing value for category");
-            System.out.println("Invalid command format.");
-            System.out.println("Expected format: get budget c/<category>");
-            return null;
+            throw invalidCommand("Invalid command format.", "Expected format: get budget c/<category>");
         }
 
-        boolean isValidCategory = isValidExpenseCategory(category);
+        boolean isValidCategory = isValidExpenseCategory(expenses, category);
         if (!isValidCategory) {
             LOGGER.log(Level.WARNING, "Invalid category: " + category);
-            System.out.println("Invalid category: " + category);
-            System.out.println("Valid categories: Housing, Groceries, Utility, Transport, Entertainment, Others");
-            return null;
+            throw invalidCommand("Invalid category: " + category,
+                    "Valid categories: " + String.join(", ", expenses.getCategories()));
         }
 
-        LOGGER.log(Level.INFO, "Exiting createCommand. Command ready for execution.");
+        LOGGER.log(Level.INFO, "Exiting handleGetBudgetCommand. Command ready for execution.");
         return new GetBudgetCommand(expenses, category);
     }
+
+    @Override
+    public Command createCommand() throws InvalidCommandException {
+        return handleGetBudgetCommand(expenses, input);
+    }
 }
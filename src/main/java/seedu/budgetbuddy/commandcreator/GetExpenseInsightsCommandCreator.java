@@ -8,12 +8,19 @@ public class GetExpenseInsightsCommandCreator extends CommandCreator {
 
     private ExpenseList expenseList;
 
+    public GetExpenseInsightsCommandCreator() {
+    }
+
     public GetExpenseInsightsCommandCreator(ExpenseList expenseList) {
         this.expenseList = expenseList;
     }
 
+    public Command handleGetExpenseInsightsCommand(ExpenseList expenseList) {
+        return new GetExpenseInsightsCommand(expenseList);
+    }
+
     @Override
     public Command createCommand() {
-        return new GetExpenseInsightsCommand(expenseList);
+        return handleGetExpenseInsightsCommand(expenseList);
     }
 }
@@ -7,12 +7,19 @@ public class GetSavingsInsightsCommandCreator extends CommandCreator {
 
     private SavingList savingList;
 
+    public GetSavingsInsightsCommandCreator() {
+    }
+
     public GetSavingsInsightsCommandCreator(SavingList savingList) {
         this.savingList = savingList;
     }
 
+    public Command handleGetSavingsInsightsCommand(SavingList savingList) {
+        return new GetSavingsInsightsCommand(savingList);
+    }
+
     @Override
     public Command createCommand() {
-        return new GetSavingsInsightsCommand(savingList);
+        return handleGetSavingsInsightsCommand(savingList);
     }
 }
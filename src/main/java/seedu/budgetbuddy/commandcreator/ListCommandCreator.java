@@ -5,6 +5,7 @@ import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.ListExpenseCommand;
 import seedu.budgetbuddy.command.ListSavingsCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,12 +15,15 @@ import java.util.logging.Logger;
 public class ListCommandCreator extends CommandCreator {
 
     private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
-    protected ArrayList<String> expenseCategories;
     protected ArrayList<String> savingsCategories;
     private ExpenseList expenses;
     private SavingList savings;
     private String input;
 
+    public ListCommandCreator() {
+        this(null, null, null);
+    }
+
     public ListCommandCreator(ExpenseList expenses, SavingList savings,
                               String input) {
 
@@ -27,8 +31,6 @@ public class ListCommandCreator extends CommandCreator {
         this.savings = savings;
         this.input = input;
 
-        this.expenseCategories = new ArrayList<>(Arrays.asList("Housing",
-                "Groceries", "Utility", "Transport", "Entertainment", "Others"));
         this.savingsCategories = new ArrayList<>(Arrays.asList("Salary",
                 "Investments", "Gifts", "Others"));
     }
@@ -39,17 +41,12 @@ public class ListCommandCreator extends CommandCreator {
      * @param category The category to be validated.
      * @return true if the category is valid for expenses; false otherwise.
      */
-    private boolean isValidExpenseCategory(String category) {
+    private boolean isValidExpenseCategory(ExpenseList expenseList, String category) {
 
         assert category != null : "Category should not be null";
         assert !category.isEmpty() : "Category should not be empty";
 
-        for (String validCategory : expenseCategories) {
-            if (validCategory.equalsIgnoreCase(category)) {
-                return true;
-            }
-        }
-        return false;
+        return expenseList.isValidCategory(category);
     }
 
     /**
@@ -78,9 +75,11 @@ public class ListCommandCreator extends CommandCreator {
      * @param input        The user input to be parsed.
      * @param expenseList  The ExpenseList containing expenses data.
      * @param savingList   The SavingList containing savings data.
-     * @return A ListCommand if the input is valid; otherwise, null.
+     * @return A ListCommand, or null if the list type is not known.
+     * @throws InvalidCommandException If the filter category is not valid.
      */
-    public Command handleListCommand(String input, ExpenseList expenseList, SavingList savingList) {
+    public Command handleListCommand(String input, ExpenseList expenseList, SavingList savingList)
+            throws InvalidCommandException {
         assert input != null : "Input should not be null";
         assert !input.isEmpty() : "Input should not be empty";
 
@@ -107,11 +106,10 @@ public class ListCommandCreator extends CommandCreator {
                 try {
                     // Checks for valid category input
                     if (filterCategory != null) {
-                        boolean isValidCategory = isValidExpenseCategory(filterCategory);
+                        boolean isValidCategory = isValidExpenseCategory(expenseList, filterCategory);
                         if (!isValidCategory) {
                             LOGGER.warning("Invalid category inputted: " + filterCategory);
-                            System.out.println("Invalid category: " + filterCategory);
-                            return null;
+                            throw new InvalidCommandException("Invalid category: " + filterCategory);
                         }
                     }
                 } catch (IllegalArgumentException e) {
@@ -126,8 +124,7 @@ public class ListCommandCreator extends CommandCreator {
                         boolean isValidCategory = isValidSavingsCategory(filterCategory);
                         if (!isValidCategory) {
                             LOGGER.warning("Invalid category inputted: " + filterCategory);
-                            System.out.println("Invalid category: " + filterCategory);
-                            return null;
+                            throw new InvalidCommandException("Invalid category: " + filterCategory);
                         }
                     }
                 } catch (IllegalArgumentException e) {
@@ -144,7 +141,7 @@ public class ListCommandCreator extends CommandCreator {
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleListCommand(input, expenses, savings);
     }
 }
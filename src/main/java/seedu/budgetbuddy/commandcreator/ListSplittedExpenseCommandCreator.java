@@ -9,6 +9,9 @@ public class ListSplittedExpenseCommandCreator extends CommandCreator{
     private String input;
     private SplitExpenseList splitexpenseList;
 
+    public ListSplittedExpenseCommandCreator() {
+    }
+
     public ListSplittedExpenseCommandCreator(String input, SplitExpenseList splitexpenseList) {
         this.input = input;
         this.splitexpenseList = splitexpenseList;
@@ -12,24 +12,35 @@ public class MenuCommandCreator extends CommandCreator {
 
     private String userInput;
 
+    public MenuCommandCreator() {
+    }
+
     public MenuCommandCreator(String userInput) {
         this.userInput = userInput;
     }
 
     public Boolean isEmptyMenuCommand() {
+        return isEmptyMenuCommand(userInput);
+    }
+
+    public Boolean isEmptyMenuCommand(String userInput) {
         return userInput.trim().equals("menu");
     }
 
+    public Command handleNonEmptyMenuCommand() {
+        return handleNonEmptyMenuCommand(userInput);
+    }
+
     /**
      * Processes all menu commands and returns the corresponding Command object.
      * This method interprets the user's input and displays either the entire menu
      * or the associated menu item
      *
-     *
+     * @param userInput The menu command entered by the user.
      * @return A new MenuCommand object with the specified index, returns null if
      *         index is not an integer
      */
-    public Command handleNonEmptyMenuCommand() {
+    public Command handleNonEmptyMenuCommand(String userInput) {
         try {
             String indexAsString = userInput.substring(5);
             int index = Integer.parseInt(indexAsString);
@@ -42,16 +53,21 @@ public class MenuCommandCreator extends CommandCreator {
         }
 
     }
+
     public Command createMenuCommand() {
+        return handleMenuCommand(userInput);
+    }
+
+    public Command handleMenuCommand(String userInput) {
         assert userInput != null : "Input should not be empty";
         assert userInput.startsWith("menu") : "Input should be a menu command";
 
-        if (isEmptyMenuCommand()) {
+        if (isEmptyMenuCommand(userInput)) {
             LOGGER.log(Level.INFO, "Menu Command has no parameters");
             return new MenuCommand(0);
         }
 
-        Command menuCommand = handleNonEmptyMenuCommand();
+        Command menuCommand = handleNonEmptyMenuCommand(userInput);
         return menuCommand;
     }
 
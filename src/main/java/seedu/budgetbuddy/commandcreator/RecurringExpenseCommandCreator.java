@@ -2,9 +2,14 @@ package seedu.budgetbuddy.commandcreator;
 
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.RecurringExpensesList;
+import seedu.budgetbuddy.RecurringSchedule;
+import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.RecurringExpenseCommand;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.time.LocalDate;
 
 public class RecurringExpenseCommandCreator extends CommandCreator{
     private static final String LISTNUMBER_PREFIX = "to/";
@@ -13,17 +18,32 @@ public class RecurringExpenseCommandCreator extends CommandCreator{
     private static final String DESCRIPTION_PREFIX = "d/";
     private String input;
     private RecurringExpensesList recurringExpensesList;
+    private static final String MONTHS_PREFIX = "m/";
+    private static final int MAX_FORECAST_MONTHS = 1200;
+    private static final String NEWEXPENSE_FORMAT =
+            "Command Format : rec newexpense to/ LISTNUMBER c/ CATEGORY a/ AMOUNT d/ DESCRIPTION";
     private ExpenseList expenses;
+    private SavingList savings;
+
+    public RecurringExpenseCommandCreator() {
+    }
 
     public RecurringExpenseCommandCreator(String input, RecurringExpensesList recurringExpensesList
             , ExpenseList expenses) {
+        this(input, recurringExpensesList, expenses, null);
+    }
+
+    public RecurringExpenseCommandCreator(String input, RecurringExpensesList recurringExpensesList,
+            ExpenseList expenses, SavingList savings) {
         this. input = input;
         this.recurringExpensesList = recurringExpensesList;
         this.expenses = expenses;
+        this.savings = savings;
     }
 
-    private static void checkForInvalidParameters(String input) {
-        if (!input.contains("to/") || !input.contains("d/") || !input.contains("a/") || !input.contains("c/")) {
+    private static void checkForInvalidParameters(CommandArguments arguments) {
+        if (!arguments.has(LISTNUMBER_PREFIX) || !arguments.has(DESCRIPTION_PREFIX)
+                || !arguments.has(AMOUNT_PREFIX) || !arguments.has(CATEGORY_PREFIX)) {
             throw new IllegalArgumentException("Please Ensure that you include to/, c/, a/ and d/");
         }
     }
@@ -34,195 +54,226 @@ public class RecurringExpenseCommandCreator extends CommandCreator{
         }
     }
 
-    public String parseDescription(String input) throws BudgetBuddyException {
-        int indexOfDescriptionPrefix = input.indexOf(DESCRIPTION_PREFIX);
-        int startIndexOfDescription = indexOfDescriptionPrefix + DESCRIPTION_PREFIX.length();
-
-        int endIndexOfDescription = input.length();
-
-        String description = input.substring(startIndexOfDescription,endIndexOfDescription);
+    /**
+     * Returns a list name that takes up the rest of the input, so that names may contain spaces.
+     *
+     * @param input        The whole command.
+     * @param wordsBefore  The number of words before the name, e.g. 3 for "rec rename 1".
+     * @return The name, or an empty string if there is none.
+     */
+    private static String getNameAfter(String input, int wordsBefore) {
+        String[] parts = input.split(" ", wordsBefore + 1);
+        return parts.length > wordsBefore ? parts[wordsBefore].trim() : "";
+    }
 
-        if(description.trim().isEmpty()) {
+    public String parseDescription(CommandArguments arguments) throws BudgetBuddyException {
+        if (arguments.isEmpty(DESCRIPTION_PREFIX)) {
             throw new BudgetBuddyException("Please Ensure Description is NOT empty");
         }
-
-        return description;
+        return arguments.getString(DESCRIPTION_PREFIX);
     }
-    public Double parseAmount(String input) throws NumberFormatException, BudgetBuddyException{
-        int indexOfAmountPrefix = input.indexOf(AMOUNT_PREFIX);
-        int startIndexOfAmount = indexOfAmountPrefix + AMOUNT_PREFIX.length();
-
-        int indexOfDescriptionPrefix = input.indexOf(DESCRIPTION_PREFIX);
-        int endIndexOfAmount = indexOfDescriptionPrefix - 1;
 
-        String amountAsString = input.substring(startIndexOfAmount, endIndexOfAmount);
-
-        if(amountAsString.trim().isEmpty()) {
+    public Double parseAmount(CommandArguments arguments) throws NumberFormatException, BudgetBuddyException {
+        if (arguments.isEmpty(AMOUNT_PREFIX)) {
             throw new BudgetBuddyException("Please Ensure Amount is NOT empty");
         }
-
-        Double amount = Double.parseDouble(amountAsString);
-
-        return amount;
+        return arguments.getDouble(AMOUNT_PREFIX);
     }
 
-    public String parseCategory(String input) throws BudgetBuddyException{
-        int indexOfCategoryPrefix = input.indexOf(CATEGORY_PREFIX);
-        int startIndexOfCategory = indexOfCategoryPrefix + CATEGORY_PREFIX.length();
-
-        int indexOfAmountPrefix = input.indexOf(AMOUNT_PREFIX);
-        int endIndexOfCategory = indexOfAmountPrefix - 1;
-
-        String category = input.substring(startIndexOfCategory, endIndexOfCategory);
-
-        if(category.trim().isEmpty()) {
+    public String parseCategory(CommandArguments arguments) throws BudgetBuddyException {
+        if (arguments.isEmpty(CATEGORY_PREFIX)) {
             throw new BudgetBuddyException("Please Ensure Category is NOT empty");
         }
-
-        return category;
+        return arguments.getString(CATEGORY_PREFIX);
     }
-    public int parseListNumber(String input) throws NumberFormatException, BudgetBuddyException{
-        int indexOfListNumberPrefix = input.indexOf(LISTNUMBER_PREFIX);
-        int startIndexOfListNumber = indexOfListNumberPrefix + LISTNUMBER_PREFIX.length();
-
-        int indexOfCategoryPrefix = input.indexOf(CATEGORY_PREFIX);
-        int endIndexOfListNumber = indexOfCategoryPrefix - 1;
-
-        String listNumberAsString = input.substring(startIndexOfListNumber, endIndexOfListNumber);
 
-        if(listNumberAsString.trim().isEmpty()) {
+    public int parseListNumber(CommandArguments arguments) throws NumberFormatException, BudgetBuddyException {
+        if (arguments.isEmpty(LISTNUMBER_PREFIX)) {
             throw new BudgetBuddyException("Please Ensure List Number is NOT empty");
         }
-
-        int listNumber = Integer.parseInt(listNumberAsString);
-
-        return listNumber;
+        return arguments.getInt(LISTNUMBER_PREFIX);
     }
 
-    public Command createViewExpensesCommand(String[] commandParts) {
+    public Command createViewExpensesCommand(String[] commandParts, RecurringExpensesList recurringExpensesList)
+            throws InvalidCommandException {
         try {
             String listNumberAsString = commandParts[2];
             int listNumber = Integer.parseInt(listNumberAsString);
             return new RecurringExpenseCommand(listNumber, recurringExpensesList, "viewexpenses");
         } catch (NumberFormatException e) {
-            System.out.println("Please input a valid Integer");
-            System.out.println("Command Format : rec viewexpenses [List Number]");
-            return null;
+            throw invalidCommand("Please input a valid Integer", "Command Format : rec viewexpenses [List Number]");
         } catch (ArrayIndexOutOfBoundsException e) {
-            System.out.println("List Number Cannot be Empty");
-            System.out.println("Command Format : rec viewexpenses [List Number]");
-            return null;
+            throw invalidCommand("List Number Cannot be Empty", "Command Format : rec viewexpenses [List Number]");
         }
     }
-    public Command createAddListToOverallExpensesCommand(String[] commandParts) {
+    public Command createAddListToOverallExpensesCommand(String[] commandParts,
+            RecurringExpensesList recurringExpensesList, ExpenseList expenses) throws InvalidCommandException {
 
         try {
             String listNumberAsString = commandParts[2];
             int listNumber = Integer.parseInt(listNumberAsString);
             return new RecurringExpenseCommand(listNumber, recurringExpensesList, expenses, "addrec");
         } catch (NumberFormatException e) {
-            System.out.println("Please input a valid Integer");
-            System.out.println("Command Format : rec addrec [List Number]");
-            return null;
+            throw invalidCommand("Please input a valid Integer", "Command Format : rec addrec [List Number]");
         } catch (ArrayIndexOutOfBoundsException e) {
-            System.out.println("List Number Cannot be Empty");
-            System.out.println("Command Format : rec addrec [List Number]");
-            return null;
+            throw invalidCommand("List Number Cannot be Empty", "Command Format : rec addrec [List Number]");
         }
 
     }
-    public Command createAddExpenseToListCommand(String input) {
+    public Command createAddExpenseToListCommand(String input, RecurringExpensesList recurringExpensesList)
+            throws InvalidCommandException {
+        CommandArguments arguments = CommandArguments.tokenize(input, LISTNUMBER_PREFIX, CATEGORY_PREFIX,
+                AMOUNT_PREFIX, DESCRIPTION_PREFIX);
         try {
-            checkForInvalidParameters(input);
+            checkForInvalidParameters(arguments);
             checkForInvalidCharacters(input);
         } catch (IllegalArgumentException e) {
-            System.out.println(e.getMessage());
-            System.out.println("Command Format : rec newexpense to/ LISTNUMBER c/ CATEGORY" +
-                    " a/ AMOUNT d/ DESCRIPTION");
-            return null;
+            throw invalidCommand(e.getMessage(), NEWEXPENSE_FORMAT);
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException(e.getMessage());
         }
 
         try {
-            int listNumber = parseListNumber(input);
-            String category = parseCategory(input);
-            Double amount = parseAmount(input);
-            String description = parseDescription(input);
+            int listNumber = parseListNumber(arguments);
+            String category = parseCategory(arguments);
+            Double amount = parseAmount(arguments);
+            String description = parseDescription(arguments);
 
             return new RecurringExpenseCommand(listNumber, recurringExpensesList, category,
                     amount, description, "newexpense");
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            System.out.println("Command Format : rec newexpense to/ LISTNUMBER c/ CATEGORY" +
-                    " a/ AMOUNT d/ DESCRIPTION");
-            return null;
+            throw invalidCommand(e.getMessage(), NEWEXPENSE_FORMAT);
         } catch (NumberFormatException e) {
-            System.out.println("Please ensure that listNumber and Amount are valid Numbers");
-            System.out.println("Command Format : rec newexpense to/ LISTNUMBER c/ CATEGORY" +
-                    " a/ AMOUNT d/ DESCRIPTION");
-            return null;
+            throw invalidCommand("Please ensure that listNumber and Amount are valid Numbers", NEWEXPENSE_FORMAT);
         }
 
     }
 
-    public Command createRemoveListCommand(String[] commandParts) {
+    public Command createScheduleCommand(String[] commandParts, RecurringExpensesList recurringExpensesList)
+            throws InvalidCommandException {
+        try {
+            int listNumber = Integer.parseInt(commandParts[2]);
+            String rule = commandParts[3];
+            RecurringSchedule schedule = rule.equalsIgnoreCase("none")
+                    ? null : RecurringSchedule.parse(rule, LocalDate.now());
+            return new RecurringExpenseCommand(listNumber, recurringExpensesList, schedule, "schedule");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw invalidCommand("List Number and Schedule Cannot be Empty",
+                    "Command Format : rec schedule [List Number] [weekly|monthly|day/N|none]");
+        } catch (NumberFormatException e) {
+            throw invalidCommand("Please input a valid Integer",
+                    "Command Format : rec schedule [List Number] [weekly|monthly|day/N|none]");
+        } catch (BudgetBuddyException e) {
+            throw new InvalidCommandException(e.getMessage());
+        }
+    }
+
+    public Command createForecastCommand(String input, RecurringExpensesList recurringExpensesList,
+            ExpenseList expenses, SavingList savings) throws InvalidCommandException {
+        try {
+            CommandArguments arguments = CommandArguments.tokenize(input, MONTHS_PREFIX);
+            int months = arguments.getInt(MONTHS_PREFIX);
+            if (months <= 0 || months > MAX_FORECAST_MONTHS) {
+                throw new InvalidCommandException("Number of months should be between 1 and " + MAX_FORECAST_MONTHS);
+            }
+            return new RecurringExpenseCommand(months, recurringExpensesList, expenses, savings, "forecast");
+        } catch (NumberFormatException e) {
+            throw invalidCommand("Please input a valid number of months", "Command Format : rec forecast m/MONTHS");
+        }
+    }
+
+    public Command createRenameListCommand(String input, String[] commandParts,
+            RecurringExpensesList recurringExpensesList) throws InvalidCommandException {
+        try {
+            int listNumber = Integer.parseInt(commandParts[2]);
+            String newListName = getNameAfter(input, 3);
+            if (newListName.isEmpty()) {
+                throw invalidCommand("List Number and New Name Cannot be Empty",
+                        "Command Format : rec rename [List Number] [New Name]");
+            }
+            checkForInvalidCharacters(input);
+            return new RecurringExpenseCommand(listNumber, newListName, recurringExpensesList, "rename");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw invalidCommand("List Number and New Name Cannot be Empty",
+                    "Command Format : rec rename [List Number] [New Name]");
+        } catch (NumberFormatException e) {
+            throw invalidCommand("Please input a valid Integer",
+                    "Command Format : rec rename [List Number] [New Name]");
+        } catch (BudgetBuddyException e) {
+            throw new InvalidCommandException(e.getMessage());
+        }
+    }
+
+    public Command createRemoveListCommand(String[] commandParts, RecurringExpensesList recurringExpensesList)
+            throws InvalidCommandException {
         try {
             String listNumberAsString = commandParts[2];
             int listNumber = Integer.parseInt(listNumberAsString);
             return new RecurringExpenseCommand(listNumber, recurringExpensesList, "removelist");
         } catch (ArrayIndexOutOfBoundsException e) {
-            System.out.println("List Number Cannot be Empty");
-            System.out.println("Command Format : rec removelist [List Number]");
-            return null;
+            throw invalidCommand("List Number Cannot be Empty", "Command Format : rec removelist [List Number]");
         } catch (NumberFormatException e) {
-            System.out.println("Please input a valid Integer");
-            System.out.println("Command Format : rec removelist [List Number]");
-            return null;
+            throw invalidCommand("Please input a valid Integer", "Command Format : rec removelist [List Number]");
         }
     }
-    public Command createViewListCommand() {
+    public Command createViewListCommand(RecurringExpensesList recurringExpensesList) {
         return new RecurringExpenseCommand(recurringExpensesList, "viewlists");
     }
 
-    public Command createNewListCommand(String[] commandParts) {
+    public Command createNewListCommand(String input, RecurringExpensesList recurringExpensesList)
+            throws InvalidCommandException {
         try {
-            String listName = commandParts[2];
+            String listName = getNameAfter(input, 2);
+            if (listName.isEmpty()) {
+                throw invalidCommand("Please Input a Valid listName", "Command Format : rec newlist [listName]");
+            }
             checkForInvalidCharacters(input);
             return new RecurringExpenseCommand(listName, recurringExpensesList, "newlist");
-        } catch (ArrayIndexOutOfBoundsException e) {
-            System.out.println("Please Input a Valid listName");
-            System.out.println("Command Format : rec newlist [listName]");
-            return null;
         } catch (BudgetBuddyException e) {
-            System.out.println(e.getMessage());
-            return null;
+            throw new InvalidCommandException(e.getMessage());
         }
     }
-    public Command handleRecCommand(String input, RecurringExpensesList expensesList, ExpenseList overallExpenses){
+    public Command handleRecCommand(String input, RecurringExpensesList expensesList, ExpenseList overallExpenses)
+            throws InvalidCommandException {
+        return handleRecCommand(input, expensesList, overallExpenses, null);
+    }
+
+    /**
+     * Parses a rec command into the command that acts on the given lists.
+     *
+     * @param savings The savings used by forecasts, or null to forecast without savings.
+     * @return The command.
+     * @throws InvalidCommandException If the input is not a valid rec command.
+     */
+    public Command handleRecCommand(String input, RecurringExpensesList expensesList, ExpenseList overallExpenses,
+            SavingList savings) throws InvalidCommandException {
         String[] commandParts = input.split(" ");
         String commandType = commandParts[1];
         commandType = commandType.trim();
 
         if (!RecurringExpenseCommand.commandTypes.contains(commandType)) {
-            System.out.println("This Command Type does not exist for \"rec\"");
-            return null;
+            throw new InvalidCommandException("This Command Type does not exist for \"rec\"");
         }
 
         switch(commandType) {
         case "newlist":
-            return createNewListCommand(commandParts);
+            return createNewListCommand(input, expensesList);
         case "viewlists":
-            return createViewListCommand();
+            return createViewListCommand(expensesList);
         case "removelist":
-            return createRemoveListCommand(commandParts);
+            return createRemoveListCommand(commandParts, expensesList);
+        case "rename":
+            return createRenameListCommand(input, commandParts, expensesList);
         case "newexpense":
-            return createAddExpenseToListCommand(input);
+            return createAddExpenseToListCommand(input, expensesList);
         case "addrec":
-            return createAddListToOverallExpensesCommand(commandParts);
+            return createAddListToOverallExpensesCommand(commandParts, expensesList, overallExpenses);
         case "viewexpenses":
-            return createViewExpensesCommand(commandParts);
+            return createViewExpensesCommand(commandParts, expensesList);
+        case "schedule":
+            return createScheduleCommand(commandParts, expensesList);
+        case "forecast":
+            return createForecastCommand(input, expensesList, overallExpenses, savings);
         default:
             return null;
         }
@@ -230,7 +281,7 @@ public class RecurringExpenseCommandCreator extends CommandCreator{
     }
 
     @Override
-    public Command createCommand() {
-        return handleRecCommand(input, recurringExpensesList, expenses);
+    public Command createCommand() throws InvalidCommandException {
+        return handleRecCommand(input, recurringExpensesList, expenses, savings);
     }
 }
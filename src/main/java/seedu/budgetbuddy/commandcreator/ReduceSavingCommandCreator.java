@@ -3,6 +3,7 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.SavingList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.ReduceSavingCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -12,12 +13,15 @@ public class ReduceSavingCommandCreator extends CommandCreator{
     private SavingList savings;
     private String input;
 
+    public ReduceSavingCommandCreator() {
+    }
+
     public ReduceSavingCommandCreator(SavingList savings, String input){
         this.savings = savings;
         this.input = input;
     }
 
-    public Command handleReduceSavingCommand(SavingList savings, String input) {
+    public Command handleReduceSavingCommand(SavingList savings, String input) throws InvalidCommandException {
         LOGGER.log(Level.INFO, "Processing handleReduceSavingCommand");
 
         assert savings != null : "Savings list cannot be null";
@@ -37,27 +41,25 @@ public class ReduceSavingCommandCreator extends CommandCreator{
                 // Validate the index range.
                 if (indexToReduce < 0 || indexToReduce >= savings.size()) {
                     LOGGER.log(Level.WARNING, "Index is out of bounds.");
-                    System.out.println("Error: Index is out of bounds.");
-                    return null;
+                    throw new InvalidCommandException("Error: Index is out of bounds.");
                 }
                 LOGGER.log(Level.INFO, "Successfully processed ReduceSavingCommand!");
                 return new ReduceSavingCommand(savings, indexToReduce, amountToReduce);
             } catch (NumberFormatException e){
                 LOGGER.log(Level.SEVERE, "Index and amount must be valid numbers.");
                 // Catch and handle incorrect number formats for index or amount.
-                System.out.println("Error: Index and amount must be valid numbers.");
-                return null;
+                throw new InvalidCommandException("Error: Index and amount must be valid numbers.");
             }
         } else {
             LOGGER.log(Level.WARNING, "Invalid command format. Expected format: reduce i/<index> a/<amount>");
             // Handle the case where the input does not contain the required markers.
-            System.out.println("Error: Invalid command format. Expected format: reduce i/<index> a/<amount>");
-            return null;
+            throw new InvalidCommandException(
+                    "Error: Invalid command format. Expected format: reduce i/<index> a/<amount>");
         }
     }
 
     @Override
-    public Command createCommand(){
+    public Command createCommand() throws InvalidCommandException {
         return handleReduceSavingCommand(savings, input);
     }
 
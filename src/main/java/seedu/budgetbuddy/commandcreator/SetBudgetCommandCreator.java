@@ -3,9 +3,9 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.ExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.SetBudgetCommand;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -14,64 +14,57 @@ public class SetBudgetCommandCreator extends CommandCreator {
 
     public ExpenseList expenses;
     public String input;
-    public ArrayList<String> expenseCategories;
 
 
+    public SetBudgetCommandCreator() {
+    }
+
     public SetBudgetCommandCreator(ExpenseList expenses, String input){
         this.expenses = expenses;
         this.input = input;
-        this.expenseCategories = new ArrayList<>(Arrays.asList("Housing", "Groceries", "Utility", "Transport",
-                                                                "Entertainment", "Others"));
     }
 
-    private boolean isValidExpenseCategory(String category) {
+    private boolean isValidExpenseCategory(ExpenseList expenses, String category) {
 
         assert category != null : "Category should not be null";
         assert !category.isEmpty() : "Category should not be empty";
 
-        for (String validCategory : expenseCategories) {
-            if (validCategory.equalsIgnoreCase(category)) {
-                return true;
-            }
-        }
-        return false;
+        return expenses.isValidCategory(category);
     }
 
-    public Command handleSetBudgetCommand(ExpenseList expenses, String input) {
+    public Command handleSetBudgetCommand(ExpenseList expenses, String input) throws InvalidCommandException {
         LOGGER.log(Level.INFO, "Entering handleSetBudgetCommand with input: " + input);
-        String[] parts = input.split(" ");
-        String category = null;
+        CommandArguments arguments = CommandArguments.tokenize(input, "c/", "b/");
+        String category = arguments.isEmpty("c/") ? null : arguments.getString("c/");
+        LOGGER.log(Level.INFO, "Category extracted: " + category);
         double budget = -1;
 
-        for (String part : parts) {
-            if (part.startsWith("c/")) {
-                category = part.substring(2);
-                LOGGER.log(Level.INFO, "Category extracted: " + category);
-            } else if (part.startsWith("b/")) {
-                try {
-                    budget = Double.parseDouble(part.substring(2));
-                    LOGGER.log(Level.INFO, "Budget extracted: " + budget);
-                } catch (NumberFormatException e) {
-                    LOGGER.log(Level.SEVERE, "Invalid budget format. Budget should be a number.", e);
-                    System.out.println("Invalid budget format. Budget should be a number");
-                    return null;
-                }
+        if (arguments.has("b/")) {
+            try {
+                budget = arguments.getDouble("b/");
+                LOGGER.log(Level.INFO, "Budget extracted: " + budget);
+            } catch (NumberFormatException e) {
+                LOGGER.log(Level.SEVERE, "Invalid budget format. Budget should be a number.", e);
+                throw new InvalidCommandException("Invalid budget format. Budget should be a number");
             }
         }
 
         if (category == null || budget == -1) {
             LOGGER.log(Level.WARNING, "Invalid command format or missing values for category/budget");
-            System.out.println("Invalid command format.");
-            System.out.println("Expected format: set budget c/<category> b/<budget>");
-            return null;
+            throw invalidCommand("Invalid command format.", "Expected format: set budget c/<category> b/<budget>");
+        }
+
+        try {
+            ExpenseList.checkBudget(budget);
+        } catch (BudgetBuddyException e) {
+            throw new InvalidCommandException(e.getMessage());
         }
 
-        boolean isValidCategory = isValidExpenseCategory(category);
+        boolean isValidCategory = isValidExpenseCategory(expenses, category);
         if (!isValidCategory) {
             LOGGER.log(Level.WARNING, "Invalid category: " + category);
-            System.out.println("Invalid category: " + category);
-            System.out.println("Valid categories: Housing, Groceries, Utility, Transport, Entertainment, Others");
-            return null;
+            throw invalidCommand("Invalid category: " + category,
+                    "Valid categories: " + String.join(", ", expenses.getCategories()));
         }
 
         LOGGER.log(Level.INFO, "Exiting handleSetBudgetCommand. Command ready for execution.");
@@ -79,7 +72,7 @@ public class SetBudgetCommandCreator extends CommandCreator {
     }
 
     @Override
-    public Command createCommand(){
+    public Command createCommand() throws InvalidCommandException {
         return handleSetBudgetCommand(expenses, input);
     }
 }
@@ -0,0 +1,64 @@
+package seedu.budgetbuddy.commandcreator;
+
+import seedu.budgetbuddy.SplitExpenseList;
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.command.SettleDebtCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+public class SettleDebtCommandCreator extends CommandCreator {
+    private String input;
+    private SplitExpenseList splitexpenses;
+
+    public SettleDebtCommandCreator() {
+    }
+
+    /**
+     * Creates a SettleDebtCommandCreator object.
+     *
+     * @param input The input string.
+     * @param splitexpenses The list of split expenses.
+     */
+    public SettleDebtCommandCreator(String input, SplitExpenseList splitexpenses) {
+        this.input = input;
+        this.splitexpenses = splitexpenses;
+    }
+
+    /**
+     * Parses the input and creates a new SettleDebtCommand object.
+     *
+     * @param input The input string.
+     * @param splitexpenses The list of split expenses.
+     * @return The SettleDebtCommand object.
+     * @throws InvalidCommandException If the input is invalid.
+     */
+    public Command handleSettleDebtCommand(String input, SplitExpenseList splitexpenses)
+            throws InvalidCommandException {
+        assert input != null : "Input should not be null";
+
+        CommandArguments arguments = CommandArguments.tokenize(input, "from/", "to/", "a/");
+        if (!arguments.has("from/") || !arguments.has("to/") || !arguments.has("a/")) {
+            throw new InvalidCommandException("Error: Invalid command format. "
+                    + "Expected format: settle debt from/NAME to/NAME a/AMOUNT");
+        }
+
+        if (arguments.isEmpty("from/") || arguments.isEmpty("to/") || arguments.isEmpty("a/")) {
+            throw new InvalidCommandException("Missing details.");
+        }
+
+        try {
+            if (arguments.getDouble("a/") <= 0) {
+                throw new InvalidCommandException("Invalid amount format.");
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidCommandException("Invalid amount format.");
+        }
+
+        return new SettleDebtCommand(splitexpenses, arguments.getString("from/"), arguments.getString("to/"),
+                arguments.getString("a/"));
+    }
+
+    @Override
+    public Command createCommand() throws InvalidCommandException {
+        return handleSettleDebtCommand(input, splitexpenses);
+    }
+}
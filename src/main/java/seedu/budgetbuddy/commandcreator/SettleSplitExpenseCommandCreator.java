@@ -3,6 +3,7 @@ package seedu.budgetbuddy.commandcreator;
 import seedu.budgetbuddy.SplitExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.SettleSplitExpenseCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 public class SettleSplitExpenseCommandCreator extends CommandCreator{
     private String input;
@@ -11,6 +12,9 @@ public class SettleSplitExpenseCommandCreator extends CommandCreator{
     /*
      * Creates a SettleSplitExpenseCommandCreator object.
      */
+    public SettleSplitExpenseCommandCreator() {
+    }
+
     public SettleSplitExpenseCommandCreator(String input, SplitExpenseList splitexpenses) {
         this.input = input;
         this.splitexpenses = splitexpenses;
@@ -23,7 +27,8 @@ public class SettleSplitExpenseCommandCreator extends CommandCreator{
      * @param splitexpenses The list of split expenses.
      * @return The SettleSplitExpenseCommand object.
      */
-    public Command handleSettleExpenseCommand(String input, SplitExpenseList splitexpenses) {
+    public Command handleSettleExpenseCommand(String input, SplitExpenseList splitexpenses)
+            throws InvalidCommandException {
 
         assert input != null : "Input should not be null";
         assert !input.isEmpty() : "Input should not be empty";
@@ -31,27 +36,24 @@ public class SettleSplitExpenseCommandCreator extends CommandCreator{
         String[] parts = input.split("i/", 2);
 
         if (parts.length < 2) {
-            System.out.println("Error: Invalid command format. Expected format: <command> i/<index>");
-            return null;
+            throw new InvalidCommandException("Error: Invalid command format. Expected format: <command> i/<index>");
         }
 
         try {
             int index = Integer.parseInt(parts[1]) - 1;
             // Check if the index is within the bounds of the expense list.
             if (index < 0 || index >= splitexpenses.size()) {
-                System.out.println("Error: Index is out of bounds.");
-                return null;
+                throw new InvalidCommandException("Error: Index is out of bounds.");
             }
             return new SettleSplitExpenseCommand(splitexpenses, index);
         } catch (NumberFormatException e) {
             // Catch the NumberFormatException if the part after "i/" isn't a valid integer.
-            System.out.println("Error: Index is not a valid number.");
-            return null;
+            throw new InvalidCommandException("Error: Index is not a valid number.");
         }
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleSettleExpenseCommand(input, splitexpenses);
     }
 }
@@ -4,12 +4,18 @@ import seedu.budgetbuddy.SplitExpenseList;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.SplitExpenseCommand;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 public class SplitExpenseCommandCreator extends CommandCreator{
+    private static final String DEFAULT_PAYER = "You";
+    private static final String[] PREFIXES = {"a/", "n/", "d/", "with/", "by/"};
 
     private SplitExpenseList splitexpenses;
     private String input;
 
+    public SplitExpenseCommandCreator() {
+    }
+
     /**
      * Creates a SplitExpenseCommandCreator object.
      * 
@@ -28,66 +34,76 @@ public class SplitExpenseCommandCreator extends CommandCreator{
      * @param input The input string.
      * @return The SplitExpenseCommand object.
      */
-    public Command handleSplitExpenseCommand(SplitExpenseList splitexpenses, String input) {
-        if (input == null || !input.contains("a/") || !input.contains("n/") || !input.contains("d/")) {
-            System.out.println("Invalid command format.");
-            return null;
+    public Command handleSplitExpenseCommand(SplitExpenseList splitexpenses, String input)
+            throws InvalidCommandException {
+        if (input == null) {
+            throw new InvalidCommandException("Invalid command format.");
+        }
+        CommandArguments arguments = CommandArguments.tokenize(input, PREFIXES);
+        boolean hasParticipants = arguments.has("with/");
+        if (!arguments.has("a/") || !arguments.has("d/") || (!arguments.has("n/") && !hasParticipants)) {
+            throw new InvalidCommandException("Invalid command format.");
         }
-
-        // Extract details directly using the prefixes
-        String amount = extractDetail(input, "a/");
-        String numberOfPeople = extractDetail(input, "n/");
-        String description = extractDetail(input, "d/");
 
         // Validation for each part
-        if (amount.isEmpty() || numberOfPeople.isEmpty() || description.isEmpty()) {
-            System.out.println("Missing details.");
-            return null;
+        if (arguments.isEmpty("a/") || arguments.isEmpty("d/") || (arguments.has("n/") && arguments.isEmpty("n/"))) {
+            throw new InvalidCommandException("Missing details.");
         }
 
         try {
-            double amountValue = Double.parseDouble(amount);
+            double amountValue = arguments.getDouble("a/");
             if (amountValue <= 0) {
-                throw new BudgetBuddyException(amount + " is not a valid amount.");
+                throw new BudgetBuddyException(arguments.get("a/") + " is not a valid amount.");
             }
         } catch (NumberFormatException | BudgetBuddyException e) {
-            System.out.println("Invalid amount format.");
-            return null;
+            throw new InvalidCommandException("Invalid amount format.");
+        }
+
+        if (hasParticipants) {
+            return handleParticipants(splitexpenses, arguments);
         }
 
         try {
-            int numberValue = Integer.parseInt(numberOfPeople);
+            int numberValue = arguments.getInt("n/");
             if (numberValue <= 0) {
-                throw new BudgetBuddyException(numberOfPeople + " is not a valid number.");
+                throw new BudgetBuddyException(arguments.get("n/") + " is not a valid number.");
             }
         } catch (NumberFormatException | BudgetBuddyException e) {
-            System.out.println("Invalid number format.");
-            return null;
+            throw new InvalidCommandException("Invalid number format.");
         }
 
-        return new SplitExpenseCommand(splitexpenses, amount, numberOfPeople, description);
+        return new SplitExpenseCommand(splitexpenses, arguments.getString("a/"), arguments.getString("n/"),
+                arguments.getString("d/"));
     }
 
     /**
-     * Extracts the detail from the input string using the prefix.
-     * 
-     * @param input The input string.
-     * @param prefix The prefix to search for.
-     * @return The detail extracted from the input string.
+     * Creates a SplitExpenseCommand for a bill shared among named participants. The payer defaults to
+     * "You" and n/, if given, must match the number of participants.
      */
-    private String extractDetail(String input, String prefix) {
-        try {
-            int startIndex = input.indexOf(prefix) + prefix.length();
-            int endIndex = input.indexOf(" ", startIndex);
-            endIndex = endIndex == -1 ? input.length() : endIndex; // Handle last detail case
-            return input.substring(startIndex, endIndex);
-        } catch (Exception e) {
-            return ""; // Return empty string if any error occurs
+    private Command handleParticipants(SplitExpenseList splitexpenses, CommandArguments arguments)
+            throws InvalidCommandException {
+        if (arguments.isEmpty("with/") || (arguments.has("by/") && arguments.isEmpty("by/"))) {
+            throw new InvalidCommandException("Missing details.");
+        }
+
+        String participants = arguments.getString("with/");
+        if (arguments.has("n/")) {
+            try {
+                if (arguments.getInt("n/") != participants.split(",").length) {
+                    throw new InvalidCommandException("Number of people does not match the participants.");
+                }
+            } catch (NumberFormatException e) {
+                throw new InvalidCommandException("Invalid number format.");
+            }
         }
+
+        String payer = arguments.has("by/") ? arguments.getString("by/") : DEFAULT_PAYER;
+        return new SplitExpenseCommand(splitexpenses, arguments.getString("a/"), arguments.getString("n/"),
+                arguments.getString("d/"), payer, participants);
     }
 
     @Override
-    public Command createCommand() {
+    public Command createCommand() throws InvalidCommandException {
         return handleSplitExpenseCommand(splitexpenses, input);
     }
 }
@@ -0,0 +1,104 @@
+package seedu.budgetbuddy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares aggregations over a list of Expense objects with the same aggregations over primitive columns.
+ * Not run as part of the test suite; run the main method with the test classpath, optionally passing the
+ * number of expenses.
+ */
+public class AmountKernelsBenchmark {
+    private static final String[] CATEGORIES = {"Housing", "Transport", "Groceries", "Utilities", "Entertainment"};
+    private static final int ROUNDS = 20;
+
+    private static double timeMillis(Runnable task) {
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / ROUNDS;
+    }
+
+    private static void report(String name, Runnable objectLoop, Runnable kernel) {
+        // Warm up both versions so the JIT has compiled them before timing
+        timeMillis(objectLoop);
+        timeMillis(kernel);
+        double objectMillis = timeMillis(objectLoop);
+        double kernelMillis = timeMillis(kernel);
+        System.out.printf("%-22s objects %8.3f ms   columns %8.3f ms   speedup %5.1fx%n",
+                name, objectMillis, kernelMillis, objectMillis / kernelMillis);
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Random random = new Random(35);
+        List<Expense> expenses = new ArrayList<>(size);
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < size; i++) {
+            expenses.add(new Expense(start.plusDays(i % 1500), CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    Math.round(random.nextDouble() * 50000) / 100.0, "Benchmark"));
+        }
+
+        ExpenseColumns columns = ExpenseColumns.of(expenses);
+        double[] amounts = new double[size];
+        for (int i = 0; i < size; i++) {
+            amounts[i] = expenses.get(i).getAmount();
+        }
+        double[] scaled = new double[size];
+        double[] sink = new double[1];
+
+        System.out.println("Expenses: " + size);
+        report("sum", () -> {
+            double total = 0;
+            for (Expense expense : expenses) {
+                total += expense.getAmount();
+            }
+            sink[0] += total;
+        }, () -> sink[0] += columns.total());
+        report("sum of one category", () -> {
+            double total = 0;
+            for (Expense expense : expenses) {
+                if (expense.getCategory().equals("Groceries")) {
+                    total += expense.getAmount();
+                }
+            }
+            sink[0] += total;
+        }, () -> sink[0] += columns.sumOfCategory("Groceries"));
+        report("sums of all categories", () -> {
+            Map<String, Double> sums = new HashMap<>();
+            for (Expense expense : expenses) {
+                sums.merge(expense.getCategory(), expense.getAmount(), Double::sum);
+            }
+            sink[0] += sums.size();
+        }, () -> sink[0] += columns.sumsByCategory().size());
+        report("sum in amount range", () -> {
+            double total = 0;
+            for (Expense expense : expenses) {
+                if (expense.getAmount() > 100 && expense.getAmount() < 200) {
+                    total += expense.getAmount();
+                }
+            }
+            sink[0] += total;
+        }, () -> sink[0] += columns.sumInRange(100, 200));
+        report("min and max", () -> {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (Expense expense : expenses) {
+                min = Math.min(min, expense.getAmount());
+                max = Math.max(max, expense.getAmount());
+            }
+            sink[0] += min + max;
+        }, () -> sink[0] += columns.min() + columns.max());
+        report("scale by rate", () -> {
+            for (int i = 0; i < size; i++) {
+                scaled[i] = expenses.get(i).getAmount() * 0.75;
+            }
+        }, () -> AmountKernels.scale(amounts, 0.75, scaled, size));
+        System.out.println("(checksum " + (sink[0] + scaled[size - 1]) + ")");
+    }
+}
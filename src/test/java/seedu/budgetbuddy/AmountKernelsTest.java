@@ -0,0 +1,72 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AmountKernelsTest {
+
+    @Test
+    public void kernels_randomAmounts_matchSimpleLoops() {
+        Random random = new Random(35);
+        // Odd length so the unrolled loops also run their remainder
+        double[] amounts = new double[1003];
+        int[] keys = new int[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = Math.round(random.nextDouble() * 50000) / 100.0;
+            keys[i] = random.nextInt(5);
+        }
+
+        double sum = 0;
+        double sumOfKey2 = 0;
+        double sumInRange = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < amounts.length; i++) {
+            sum += amounts[i];
+            sumOfKey2 += keys[i] == 2 ? amounts[i] : 0;
+            sumInRange += (amounts[i] > 100 && amounts[i] < 200) ? amounts[i] : 0;
+            min = Math.min(min, amounts[i]);
+            max = Math.max(max, amounts[i]);
+        }
+
+        assertEquals(sum, AmountKernels.sum(amounts, amounts.length), 1e-6);
+        assertEquals(sumOfKey2, AmountKernels.sumWhere(amounts, keys, 2, amounts.length), 1e-6);
+        assertEquals(sumOfKey2, AmountKernels.sumByKey(amounts, keys, 5, amounts.length)[2], 1e-6);
+        assertEquals(sumInRange, AmountKernels.sumInRange(amounts, 100, 200, amounts.length), 1e-6);
+        assertEquals(min, AmountKernels.min(amounts, amounts.length));
+        assertEquals(max, AmountKernels.max(amounts, amounts.length));
+    }
+
+    @Test
+    public void scale_inPlace_everyAmountScaled() {
+        double[] amounts = {1, 2, 3};
+        AmountKernels.scale(amounts, 0.5, amounts, amounts.length);
+
+        assertEquals(0.5, amounts[0]);
+        assertEquals(1.0, amounts[1]);
+        assertEquals(1.5, amounts[2]);
+    }
+
+    @Test
+    public void sumsByCategory_expenseList_summedPerCategory() throws BudgetBuddyException {
+        ExpenseList expenses = new ExpenseList();
+        expenses.addExpense("Transport", "10", "Bus");
+        expenses.addExpense("Housing", "5", "Rent");
+        expenses.addExpense("Transport", "20", "Taxi");
+
+        ExpenseColumns columns = ExpenseColumns.of(expenses.getExpenses());
+        Map<String, Double> sums = columns.sumsByCategory();
+
+        assertEquals(30.0, (double) sums.get("Transport"));
+        assertEquals(5.0, (double) sums.get("Housing"));
+        assertEquals(30.0, columns.sumOfCategory("Transport"));
+        assertEquals(35.0, columns.total());
+        assertEquals(5.0, columns.min());
+        assertEquals(20.0, columns.max());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.budgetbuddy;
+
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drives an {@link ApiServer} with a growing number of concurrent clients and prints the requests per
+ * second and the 99th percentile latency at each level. One request in ten adds an expense and the rest
+ * list, find or summarise them. Not run as part of the test suite; run the main method with the test
+ * classpath, optionally passing the number of requests per level.
+ */
+public class ApiServerLoadBenchmark {
+    private static final String[] CATEGORIES = {"Housing", "Transport", "Groceries", "Utility", "Entertainment"};
+    private static final int[] CLIENTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int SEEDED_EXPENSES = 2_000;
+    private static final int WRITE_EVERY = 10;
+
+    private static HttpRequest nextRequest(String base, Random random, int number) {
+        if (number % WRITE_EVERY == 0) {
+            String form = "category=" + CATEGORIES[random.nextInt(CATEGORIES.length)]
+                    + "&amount=" + random.nextInt(500) + "&description=load";
+            return HttpRequest.newBuilder(URI.create(base + "/expenses"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form)).build();
+        }
+        String[] reads = {"/insights", "/budgets", "/expenses/find?description=lunch&min=100",
+            "/expenses?category=Housing"};
+        return HttpRequest.newBuilder(URI.create(base + reads[random.nextInt(reads.length)])).GET().build();
+    }
+
+    /**
+     * Sends the requests from the given number of clients and returns the latency of each, in nanoseconds.
+     */
+    private static long[] runLevel(HttpClient client, String base, int clients, int requests) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            int seed = c;
+            results.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                long[] latencies = new long[requests / clients];
+                for (int i = 0; i < latencies.length; i++) {
+                    long start = System.nanoTime();
+                    client.send(nextRequest(base, random, i), HttpResponse.BodyHandlers.discarding());
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+        List<Long> all = new ArrayList<>();
+        for (Future<long[]> result : results) {
+            for (long latency : result.get()) {
+                all.add(latency);
+            }
+        }
+        pool.shutdown();
+        return all.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        Logger.getLogger("").setLevel(Level.WARNING);
+        BudgetEngine engine = seededEngine();
+        ApiServer server = new ApiServer(engine, 0, 0);
+        server.start();
+        String base = "http://localhost:" + server.getPort();
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newCachedThreadPool()).build();
+        try {
+            // Warm up so the JIT has compiled the request path before timing
+            runLevel(client, base, 4, requests / 4);
+            System.out.printf("%8s %12s %12s %12s%n", "clients", "requests/s", "p50 ms", "p99 ms");
+            for (int clients : CLIENTS) {
+                long start = System.nanoTime();
+                long[] latencies = runLevel(client, base, clients, requests);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                Arrays.sort(latencies);
+                System.out.printf("%8d %12.0f %12.3f %12.3f%n", clients, latencies.length / seconds,
+                        percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6);
+            }
+        } finally {
+            server.stop();
+            System.exit(0);
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * fraction))];
+    }
+
+    private static BudgetEngine seededEngine() throws BudgetBuddyException {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+        Random random = new Random(49);
+        for (int i = 0; i < SEEDED_EXPENSES; i++) {
+            engine.addExpense(CATEGORIES[random.nextInt(CATEGORIES.length)], random.nextInt(500),
+                    i % 3 == 0 ? "lunch" : "groceries", List.of());
+        }
+        for (String category : CATEGORIES) {
+            engine.setBudget(category, 1000);
+        }
+        return engine;
+    }
+}
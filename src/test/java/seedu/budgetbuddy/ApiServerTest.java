@@ -0,0 +1,105 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpResponse<String> get(ApiServer server, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(ApiServer server, String path, String form)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void requests_addListFindAndBudget_returnJson()
+            throws IOException, InterruptedException, BudgetBuddyException {
+        InMemoryStorageBackend storage = new InMemoryStorageBackend();
+        BudgetEngine engine = new BudgetEngine(storage);
+        engine.load();
+        engine.addExpense("Transport", 3, "bus", List.of());
+        ApiServer server = new ApiServer(engine, 0, 0);
+        server.start();
+        try {
+            HttpResponse<String> added = post(server, "/expenses",
+                    "category=Groceries&amount=12.5&description=weekly+shop&tags=food,home");
+            assertEquals(200, added.statusCode());
+            assertTrue(added.body().contains("\"weekly shop\",\"food,home\""));
+
+            assertTrue(get(server, "/expenses").body().endsWith("\"totals\":{\"Total\":15.5}}"));
+            String found = get(server, "/expenses/find?description=SHOP&min=10").body();
+            assertTrue(found.contains("\"rows\":[[1,"));
+            assertTrue(get(server, "/insights").body().contains("[\"Groceries\",12.5,"));
+
+            assertEquals(200, post(server, "/budgets", "category=Groceries&budget=200").statusCode());
+            assertTrue(get(server, "/budgets?category=groceries").body().contains("[\"Groceries\",200.0]"));
+            assertTrue(post(server, "/commands", "command=list+expenses").body().contains("\"weekly shop\""));
+
+            assertEquals(400, post(server, "/expenses", "category=Nope&amount=1").statusCode());
+            assertEquals(400, post(server, "/budgets", "category=Groceries").statusCode());
+            assertEquals(405, get(server, "/commands").statusCode());
+            assertEquals(404, get(server, "/nothing").statusCode());
+        } finally {
+            server.stop();
+        }
+        assertEquals(1, storage.getSaves());
+        assertEquals(2, storage.loadExpenses().size());
+    }
+
+    @Test
+    public void commands_changeExpenses_seenByLaterReads() throws IOException, InterruptedException {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+        ApiServer server = new ApiServer(engine, 0, 0);
+        server.start();
+        try {
+            post(server, "/commands", "command=add+expense+c/Housing+a/100+d/rent");
+            assertTrue(get(server, "/expenses").body().contains("\"rent\""));
+            post(server, "/commands", "command=set+budget+c/Housing+b/900");
+            assertTrue(get(server, "/budgets").body().contains("[\"Housing\",900.0]"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void requests_invalidAmounts_rejectedWithMessage() throws IOException, InterruptedException {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+        ApiServer server = new ApiServer(engine, 0, 0);
+        server.start();
+        try {
+            assertEquals(400, post(server, "/expenses", "category=Groceries&amount=NaN").statusCode());
+            assertEquals(400, post(server, "/expenses", "category=Groceries&amount=Infinity").statusCode());
+            assertEquals(400, post(server, "/expenses", "category=Groceries&amount=-5").statusCode());
+            assertEquals(400, post(server, "/budgets", "category=Groceries&budget=-50").statusCode());
+            assertTrue(get(server, "/insights").body().endsWith("\"totals\":{\"Overall Total Expenses\":0.0}}"));
+            assertTrue(get(server, "/budgets").body().contains("\"rows\":[]"));
+
+            HttpResponse<String> command = post(server, "/commands", "command=add+expense+c/Groceries+a/abc+d/x");
+            assertEquals(400, command.statusCode());
+            assertTrue(command.body().contains("Invalid amount. Please enter a valid number."));
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.command.CommandResult;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BudgetEngineTest {
+
+    @Test
+    public void addExpense_typedCalls_updateStateAndCanBeUndone() throws BudgetBuddyException {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+
+        Expense lunch = engine.addExpense("Groceries", 12.5, "lunch", List.of("work"));
+        engine.addExpense("Transport", 3, "bus", List.of());
+        assertEquals("lunch", lunch.getDescription());
+        assertEquals(15.5, engine.getTotalExpenses(), 0.001);
+        assertEquals(12.5, engine.getExpenseTotalsByCategory().get("Groceries"), 0.001);
+        assertEquals(1, engine.findTaggedExpenses(List.of("work"), List.of()).size());
+        assertThrows(BudgetBuddyException.class, () -> engine.addExpense("Nope", 1, "x", List.of()));
+        assertThrows(BudgetBuddyException.class, () -> engine.addExpense("Transport", Double.NaN, "x", List.of()));
+        assertThrows(BudgetBuddyException.class, () -> engine.addExpense("Transport", -1, "x", List.of()));
+        assertEquals(2, engine.getExpenses().size());
+
+        assertTrue(engine.undo());
+        assertEquals(1, engine.getExpenses().size());
+    }
+
+    @Test
+    public void execute_commandLine_returnsResultWithoutPrinting() {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+
+        assertTrue(engine.execute("add expense c/Groceries a/4 d/coffee").isSuccessful());
+        CommandResult listed = engine.execute("list expenses");
+        assertEquals(1, listed.getRows().size());
+        assertFalse(engine.execute("not a command").isSuccessful());
+    }
+
+    @Test
+    public void execute_invalidInput_reportsMessageAsErrorWithoutPrinting() {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        CommandResult badAmount;
+        CommandResult badList;
+        try {
+            badAmount = engine.execute("add expense c/Groceries a/abc d/coffee");
+            badList = engine.execute("rec newexpense to/1 c/Groceries a/4 d/coffee");
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals(List.of("Invalid amount. Please enter a valid number."), badAmount.getErrors());
+        assertTrue(badAmount.getMessages().isEmpty());
+        assertFalse(badList.isSuccessful());
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    public void save_inMemoryBackend_isLoadedByNewEngine() throws BudgetBuddyException, IOException {
+        InMemoryStorageBackend storage = new InMemoryStorageBackend();
+        BudgetEngine engine = new BudgetEngine(storage);
+        engine.load();
+        engine.addCategory("Pets");
+        engine.addExpense("Pets", 30, "food", List.of());
+        engine.addSaving("Salary", 100);
+        assertTrue(engine.execute("split expenses a/30 d/dinner with/Bob,Carl by/Amy").isSuccessful());
+        engine.save();
+
+        BudgetEngine reloaded = new BudgetEngine(storage);
+        reloaded.load();
+        assertEquals(1, storage.getSaves());
+        assertEquals(1, reloaded.getExpenses().size());
+        assertEquals(1, reloaded.getSavings().size());
+        assertTrue(reloaded.getCategories().contains("Pets"));
+        assertEquals(engine.getNetBalances(), reloaded.getNetBalances());
+    }
+}
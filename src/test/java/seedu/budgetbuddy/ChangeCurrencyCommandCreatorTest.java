@@ -5,28 +5,29 @@ import seedu.budgetbuddy.command.ChangeCurrencyCommand;
 import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.commandcreator.ChangeCurrencyCommandCreator;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ChangeCurrencyCommandCreatorTest {
 
 
     @Test
-    public void handleChangeCurrencyCommand_changeCurrencyToUSD_success() throws BudgetBuddyException {
+    public void handleChangeCurrencyCommand_changeCurrencyToUSD_success()
+            throws BudgetBuddyException, InvalidCommandException {
         SavingList savingList = new SavingList();
         ExpenseList expenseList = new ExpenseList();
-        CurrencyConverter currencyConverter = new CurrencyConverter();
 
         savingList.addSaving("Salary", "1000");
 
         String input = "change currency USD";
 
         ChangeCurrencyCommandCreator changeCurrencyCommandCreator = new ChangeCurrencyCommandCreator(input, savingList,
-                expenseList, currencyConverter);
+                expenseList);
 
         Command command = changeCurrencyCommandCreator.handleChangeCurrencyCommand(input, savingList,
-                expenseList, currencyConverter);
+                expenseList);
 
         assertEquals(ChangeCurrencyCommand.class, command.getClass());
     }
@@ -35,33 +36,31 @@ public class ChangeCurrencyCommandCreatorTest {
     public void handleChangeCurrencyCommand_changeCurrency_invalidCurrencyCode() throws BudgetBuddyException {
         SavingList savingList = new SavingList();
         ExpenseList expenseList = new ExpenseList();
-        CurrencyConverter currencyConverter = new CurrencyConverter();
 
         savingList.addSaving("Salary", "1000");
 
         String input = "change currency abc";
         ChangeCurrencyCommandCreator changeCurrencyCommandCreator = new ChangeCurrencyCommandCreator(input, savingList,
-                expenseList, currencyConverter);
+                expenseList);
 
-        Command command = changeCurrencyCommandCreator.handleChangeCurrencyCommand(input, savingList,
-                expenseList, currencyConverter);
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                () -> changeCurrencyCommandCreator.handleChangeCurrencyCommand(input, savingList, expenseList));
+        assertEquals("Invalid currency code.", exception.getMessage());
     }
 
     @Test
     public void handleChangeCurrencyCommand_changeCurrency_invalidCommandFormat() throws BudgetBuddyException {
         SavingList savingList = new SavingList();
         ExpenseList expenseList = new ExpenseList();
-        CurrencyConverter currencyConverter = new CurrencyConverter();
 
         savingList.addSaving("Salary", "1000");
 
         String input = "change currency abc asd";
         ChangeCurrencyCommandCreator changeCurrencyCommandCreator = new ChangeCurrencyCommandCreator(input, savingList,
-                expenseList, currencyConverter);
+                expenseList);
 
-        Command command = changeCurrencyCommandCreator.handleChangeCurrencyCommand(input, savingList,
-                expenseList, currencyConverter);
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                () -> changeCurrencyCommandCreator.handleChangeCurrencyCommand(input, savingList, expenseList));
+        assertEquals("Invalid command format. Use 'change currency <currency_code>'.", exception.getMessage());
     }
 }
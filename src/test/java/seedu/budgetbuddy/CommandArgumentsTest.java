@@ -0,0 +1,77 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.commandcreator.CommandArguments;
+
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandArgumentsTest {
+
+    @Test
+    public void tokenize_prefixesInAnyOrder_splitsValues() {
+        CommandArguments arguments = CommandArguments.tokenize("add expense d/Dinner with friends a/12.50 c/Others",
+                "c/", "a/", "d/", "t/", "cur/");
+
+        assertEquals("Others", arguments.getString("c/"));
+        assertEquals("Dinner with friends", arguments.getString("d/"));
+        assertEquals(12.5, arguments.getDouble("a/"));
+        assertEquals("add expense", arguments.getPreamble().toString().trim());
+        assertFalse(arguments.has("t/"));
+        assertNull(arguments.get("cur/"));
+    }
+
+    @Test
+    public void tokenize_prefixInsideWord_isNotAPrefix() {
+        CommandArguments arguments = CommandArguments.tokenize("add expense c/Others a/5 d/data/backup cur/SGD",
+                "c/", "a/", "d/", "cur/");
+
+        assertEquals("data/backup", arguments.getString("d/"));
+        assertEquals(1, arguments.count("a/"));
+        assertEquals("Others", arguments.getString("c/"));
+        assertEquals("SGD", arguments.get("cur/").toString());
+    }
+
+    @Test
+    public void tokenize_repeatedPrefix_keepsFirstValueAndCounts() {
+        CommandArguments arguments = CommandArguments.tokenize("find expenses d/a d/b morethan/ lessthan/300",
+                "d/", "morethan/", "lessthan/");
+
+        assertEquals(2, arguments.count("d/"));
+        assertEquals("a", arguments.getString("d/"));
+        assertTrue(arguments.isEmpty("morethan/"));
+        assertEquals(300.0, arguments.getDouble("lessthan/"));
+    }
+
+    @Test
+    public void getDouble_matchesDoubleParseDouble() {
+        String[] amounts = {"0.1", "12.34", "-7", "5.", ".5", "1e3", "123456789012345678", "0.30000000000000004"};
+        for (String amount : amounts) {
+            CommandArguments arguments = CommandArguments.tokenize("a/" + amount, "a/");
+            assertEquals(Double.parseDouble(amount), arguments.getDouble("a/"));
+        }
+        assertThrows(NumberFormatException.class, () -> CommandArguments.tokenize("a/ten", "a/").getDouble("a/"));
+        assertThrows(NumberFormatException.class, () -> CommandArguments.tokenize("x", "a/").getDouble("a/"));
+    }
+
+    @Test
+    public void getInt_invalidNumber_throwsException() {
+        assertEquals(3, CommandArguments.tokenize("rec newexpense to/3 c/Food", "to/", "c/").getInt("to/"));
+        assertThrows(NumberFormatException.class, () -> CommandArguments.tokenize("i/1.5", "i/").getInt("i/"));
+    }
+
+    @Test
+    public void findSupported_currencyView_matchesIgnoringCaseAndSpaces() {
+        CommandArguments arguments = CommandArguments.tokenize("add savings c/Salary a/10 cur/ usd ",
+                "c/", "a/", "cur/");
+        assertEquals(Currency.getInstance("USD"), CurrencyRegistry.findSupported(arguments.get("cur/")));
+        assertNull(CurrencyRegistry.findSupported("GBP"));
+        assertNull(CurrencyRegistry.findSupported("usdx"));
+        assertNull(CurrencyRegistry.findSupported(""));
+    }
+}
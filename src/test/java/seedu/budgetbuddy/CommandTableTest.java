@@ -0,0 +1,76 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.CommandTable.Match;
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.command.MenuCommand;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CommandTableTest {
+
+    private static CommandTable.Factory factoryFor(int index) {
+        return (expenses, savings, splitexpenses, expensesList, input) -> new MenuCommand(index);
+    }
+
+    @Test
+    public void lookup_overlappingKeywords_longestKeywordWins() {
+        CommandTable table = new CommandTable();
+        CommandTable.Factory settle = factoryFor(1);
+        CommandTable.Factory settleDebt = factoryFor(2);
+        table.register("settle", Match.PREFIX, settle);
+        table.register("settle debt", Match.PREFIX, settleDebt);
+
+        assertSame(settleDebt, table.lookup("settle debt from/Bob to/Alice a/10"));
+        assertSame(settle, table.lookup("settle 2"));
+        assertSame(settle, table.lookup("settle deb"));
+        assertNull(table.lookup("sett"));
+        assertNull(table.lookup(" settle 2"));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void lookup_exactKeyword_rejectsTrailingText() {
+        CommandTable table = new CommandTable();
+        CommandTable.Factory balances = factoryFor(1);
+        table.register("split balances", Match.EXACT, balances);
+
+        assertSame(balances, table.lookup("split balances"));
+        assertNull(table.lookup("split balances now"));
+        assertNull(table.lookup("Split balances"));
+    }
+
+    @Test
+    public void lookup_trimmedAndIgnoreCaseKeywords_matchLikeBefore() {
+        CommandTable table = new CommandTable();
+        CommandTable.Factory undo = factoryFor(1);
+        CommandTable.Factory insights = factoryFor(2);
+        table.register("undo", Match.TRIMMED, undo);
+        table.register("get expenses insights", Match.IGNORE_CASE, insights);
+
+        assertSame(undo, table.lookup("  undo "));
+        assertNull(table.lookup("undo 2"));
+        assertNull(table.lookup("UNDO"));
+        assertSame(insights, table.lookup("GET Expenses Insights"));
+        assertNull(table.lookup("get expenses insights please"));
+    }
+
+    @Test
+    public void register_duplicateKeyword_throwsException() {
+        CommandTable table = new CommandTable();
+        table.register("list", Match.PREFIX, factoryFor(1));
+        assertThrows(IllegalArgumentException.class, () -> table.register("list", Match.EXACT, factoryFor(2)));
+    }
+
+    @Test
+    public void lookup_createsCommandFromFactory() throws InvalidCommandException {
+        CommandTable table = new CommandTable();
+        table.register("menu", Match.PREFIX, factoryFor(3));
+        Command command = table.lookup("menu 3").create(null, null, null, null, "menu 3");
+        assertEquals(MenuCommand.class, command.getClass());
+    }
+}
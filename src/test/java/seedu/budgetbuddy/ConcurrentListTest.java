@@ -0,0 +1,103 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentListTest {
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int EXPENSES_PER_WRITER = 500;
+
+    @Test
+    public void addExpense_concurrentWritersAndReaders_seeConsistentSnapshots() throws Exception {
+        ConcurrentExpenseList expenses = new ConcurrentExpenseList();
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<Integer>> readers = new ArrayList<>();
+        try {
+            for (int w = 0; w < WRITERS; w++) {
+                writers.add(pool.submit(() -> {
+                    for (int i = 0; i < EXPENSES_PER_WRITER; i++) {
+                        expenses.addExpense("Groceries", "2", "shop", List.of());
+                    }
+                    return null;
+                }));
+            }
+            for (int r = 0; r < READERS; r++) {
+                readers.add(pool.submit(() -> {
+                    int lastSize = 0;
+                    int reads = 0;
+                    // Read at least once even if the writers finish before this reader starts
+                    do {
+                        ConcurrentExpenseList.Snapshot snapshot = expenses.getSnapshot();
+                        int size = snapshot.getExpenses().size();
+                        assertTrue(size >= lastSize, "Snapshots should never go back in time");
+                        assertEquals(2.0 * size, snapshot.getTotal(), 0.001);
+                        int found = expenses.findExpenses("shop", null, null).size();
+                        assertTrue(found >= size, "A locked read should see at least the earlier snapshot");
+                        lastSize = size;
+                        reads++;
+                    } while (isWriting.get());
+                    return reads;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            isWriting.set(false);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get() > 0);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(WRITERS * EXPENSES_PER_WRITER, expenses.size());
+        assertEquals(Integer.valueOf(WRITERS * EXPENSES_PER_WRITER), expenses.read(list -> list.getExpenses().size()));
+    }
+
+    @Test
+    public void write_failedChange_keepsPublishedSnapshot() throws BudgetBuddyException {
+        ConcurrentExpenseList expenses = new ConcurrentExpenseList();
+        expenses.addExpense("Transport", "3", "bus", List.of());
+        ConcurrentExpenseList.Snapshot before = expenses.getSnapshot();
+
+        assertThrows(BudgetBuddyException.class, () -> expenses.addExpense("Nope", "1", "x", List.of()));
+        assertEquals(1, expenses.size());
+        assertEquals(before.getExpenses(), expenses.getSnapshot().getExpenses());
+        assertNull(expenses.getSnapshot().findBudget("Transport"));
+        expenses.putBudget("Transport", 50);
+        assertEquals(50, expenses.getSnapshot().findBudget("transport").getBudget(), 0.001);
+    }
+
+    @Test
+    public void snapshots_savingsAndSplits_followChanges() throws BudgetBuddyException {
+        ConcurrentSavingList savings = new ConcurrentSavingList();
+        savings.addSaving("Salary", "100");
+        PersistentVector<Saving> before = savings.getSnapshot();
+        savings.subtractFromSaving(0, 40);
+        assertEquals(100, before.get(0).getAmount(), 0.001);
+        assertEquals(60, savings.getTotal(), 0.001);
+
+        ConcurrentSplitExpenseList splits = new ConcurrentSplitExpenseList();
+        splits.addSplitExpense("30", "Amy", "Amy,Bob,Carl", "dinner");
+        assertEquals(30, splits.getSnapshot().getOutstandingTotal(), 0.001);
+        assertEquals(20, splits.getSnapshot().getNetBalances().get("Amy"), 0.001);
+        splits.settleSplitExpense(0);
+        assertEquals(0, splits.getSnapshot().getSplitExpenses().size());
+        assertThrows(BudgetBuddyException.class, () -> splits.settleSplitExpense(0));
+    }
+}
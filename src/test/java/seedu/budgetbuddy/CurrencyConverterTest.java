@@ -1,13 +1,23 @@
 package seedu.budgetbuddy;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.command.ChangeCurrencyCommand;
+import seedu.budgetbuddy.command.CommandResult;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
 
 import java.util.Currency;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CurrencyConverterTest {
 
+    @AfterEach
+    public void resetDefaultCurrency() {
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("SGD"));
+    }
+
     @Test
     public void convertAmount_convertSameDefaultCurrency_success() {
         CurrencyConverter converter = new CurrencyConverter();
@@ -38,32 +48,96 @@ public class CurrencyConverterTest {
     }
 
     @Test
-    public void convertSavingCurrency_convertCurrenciesInSavingList_success() throws BudgetBuddyException {
-        CurrencyConverter converter = new CurrencyConverter();
+    public void changeCurrency_savingsConvertedOnRead_storedCurrencyUnchanged() throws BudgetBuddyException {
         SavingList savings = new SavingList();
         savings.addSaving("Salary", "1000");
         savings.addSaving("Investments", "200");
         Currency newCurrency = Currency.getInstance("USD");
 
-        converter.convertSavingCurrency(newCurrency, savings);
+        new ChangeCurrencyCommand(newCurrency, savings, new ExpenseList()).execute();
 
+        assertEquals(750.0, savings.getSavings().get(0).getAmount(), 1e-9);
         for (Saving saving : savings.getSavings()) {
-            assertEquals(newCurrency, saving.getCurrency());
+            assertEquals(Currency.getInstance("SGD"), saving.getCurrency());
         }
     }
 
     @Test
-    public void convertExpenseCurrency_convertCurrenciesInExpenseList_success() throws BudgetBuddyException {
-        CurrencyConverter converter = new CurrencyConverter();
+    public void changeCurrency_roundTrip_expensesUnchanged() throws BudgetBuddyException {
         ExpenseList expenses = new ExpenseList();
         expenses.addExpense("Transport", "1000", "MRT");
         expenses.addExpense("Housing", "200", "BTO");
-        Currency newCurrency = Currency.getInstance("USD");
 
-        converter.convertExpenseCurrency(newCurrency, expenses);
+        new ChangeCurrencyCommand(Currency.getInstance("JPY"), new SavingList(), expenses).execute();
+        new ChangeCurrencyCommand(Currency.getInstance("KRW"), new SavingList(), expenses).execute();
+        new ChangeCurrencyCommand(Currency.getInstance("SGD"), new SavingList(), expenses).execute();
+
+        assertEquals(1000.0, expenses.getExpenses().get(0).getAmount());
+        assertEquals(1200.0, expenses.calculateTotalExpenses());
+    }
+
+    @Test
+    public void changeCurrency_noExchangeRate_failsAndKeepsDefaultCurrency() throws BudgetBuddyException {
+        ExpenseList expenses = new ExpenseList();
+        expenses.addExpense("Transport", "100", "MRT");
+
+        CommandResult result = new ChangeCurrencyCommand(Currency.getInstance("GBP"), new SavingList(), expenses)
+                .execute();
+
+        assertFalse(result.isSuccessful());
+        assertEquals(Currency.getInstance("SGD"), DefaultCurrency.getDefaultCurrency());
+        assertEquals(100.0, expenses.calculateTotalExpenses(), 1e-9);
+        assertThrows(IllegalArgumentException.class,
+                () -> DefaultCurrency.setDefaultCurrency(Currency.getInstance("GBP")));
+    }
+
+    @Test
+    public void calculateTotalExpenses_mixedCurrencies_convertedToDefaultCurrency() throws BudgetBuddyException {
+        ExpenseList expenses = new ExpenseList();
+        expenses.addExpense("Transport", "100", "MRT");
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+        expenses.addExpense("Housing", "75", "Rent");
+
+        assertEquals(150.0, expenses.calculateTotalExpenses(), 1e-9);
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("SGD"));
+        assertEquals(200.0, expenses.calculateTotalExpenses(), 1e-9);
+    }
+
+    @Test
+    public void convertAll_mixedCurrencies_matchesConvertAmount() {
+        CurrencyConverter converter = new CurrencyConverter();
+        Currency[] currencies = {Currency.getInstance("SGD"), Currency.getInstance("USD"),
+            Currency.getInstance("JPY"), Currency.getInstance("KRW")};
+        double[] amounts = new double[1_000_000];
+        int[] ordinals = new int[amounts.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = i % 997;
+            ordinals[i] = CurrencyRegistry.ordinalOf(currencies[i % currencies.length]);
+        }
+
+        Currency euro = Currency.getInstance("EUR");
+        double[] converted = converter.convertAll(amounts, ordinals, euro);
 
-        for (Expense expense : expenses.getExpenses()) {
-            assertEquals(newCurrency, expense.getCurrency());
+        for (int i = 0; i < amounts.length; i += 9973) {
+            double expected = converter.convertAmount(amounts[i], currencies[i % currencies.length], euro);
+            assertEquals(expected, converted[i], 1e-9);
         }
     }
+
+    @Test
+    public void convertAll_singleCurrency_scaledByOneRate() {
+        CurrencyConverter converter = new CurrencyConverter();
+        double[] converted = converter.convertAll(new double[] {100, 200},
+                Currency.getInstance("SGD"), Currency.getInstance("USD"));
+
+        assertEquals(75.0, converted[0]);
+        assertEquals(150.0, converted[1]);
+    }
+
+    @Test
+    public void convertAmount_currencyWithoutRate_exceptionThrown() {
+        CurrencyConverter converter = new CurrencyConverter();
+        assertThrows(IllegalArgumentException.class, () -> converter.convertAmount(1,
+                Currency.getInstance("SGD"), Currency.getInstance("GBP")));
+    }
 }
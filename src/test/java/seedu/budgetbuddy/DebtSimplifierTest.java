@@ -0,0 +1,74 @@
+package seedu.budgetbuddy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DebtSimplifierTest {
+
+    @Test
+    public void simplify_threePeople_twoTransfers() {
+        Map<String, Long> net = new LinkedHashMap<>();
+        net.put("Alice", 7000L);
+        net.put("Bob", -4000L);
+        net.put("Carol", -3000L);
+
+        List<Settlement> transfers = DebtSimplifier.simplify(net);
+
+        assertEquals(2, transfers.size());
+        assertEquals("Bob pays Alice 40.00", transfers.get(0).toString());
+        assertEquals("Carol pays Alice 30.00", transfers.get(1).toString());
+    }
+
+    @Test
+    public void simplify_everyoneSettled_noTransfers() {
+        Map<String, Long> net = new HashMap<>();
+        net.put("Alice", 0L);
+        net.put("Bob", 0L);
+
+        assertTrue(DebtSimplifier.simplify(net).isEmpty());
+    }
+
+    @Test
+    public void simplify_largeGroup_settlesEveryoneWithFewTransfers() throws Exception {
+        int members = 500;
+        SplitExpenseList group = new SplitExpenseList();
+        Random random = new Random(42);
+        for (int bill = 0; bill < 5000; bill++) {
+            StringBuilder participants = new StringBuilder();
+            int start = random.nextInt(members);
+            for (int i = 0; i < 6; i++) {
+                if (i > 0) {
+                    participants.append(",");
+                }
+                participants.append("m").append((start + i) % members);
+            }
+            String payer = "m" + random.nextInt(members);
+            String amount = String.valueOf(1 + random.nextInt(50000) / 100.0);
+            group.addSplitExpense(amount, payer, participants.toString(), "bill " + bill);
+        }
+
+        Map<String, Long> remaining = new HashMap<>();
+        for (Map.Entry<String, Double> entry : group.getNetBalances().entrySet()) {
+            remaining.put(entry.getKey(), Math.round(entry.getValue() * 100));
+        }
+        List<Settlement> transfers = DebtSimplifier.simplify(remaining);
+        for (Settlement transfer : transfers) {
+            long cents = Math.round(transfer.getAmount() * 100);
+            remaining.merge(transfer.getFrom(), cents, Long::sum);
+            remaining.merge(transfer.getTo(), -cents, Long::sum);
+        }
+
+        assertTrue(transfers.size() < members);
+        for (long cents : remaining.values()) {
+            assertEquals(0L, cents);
+        }
+    }
+}
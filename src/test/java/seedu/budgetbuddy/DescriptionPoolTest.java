@@ -0,0 +1,34 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DescriptionPoolTest {
+
+    @Test
+    public void intern_equalDescriptions_sameInstanceReturned() {
+        String first = new String("pool test lunch");
+        String second = new String("pool test lunch");
+        assertNotSame(first, second);
+
+        long bytesSavedBefore = DescriptionPool.getBytesSaved();
+        assertSame(DescriptionPool.intern(first), DescriptionPool.intern(second));
+        assertTrue(DescriptionPool.getBytesSaved() > bytesSavedBefore);
+    }
+
+    @Test
+    public void addExpense_repeatedDescription_descriptionShared() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addExpense("Groceries", "5", new String("pool test grab"));
+        expenseList.addExpense("Transport", "7", new String("pool test grab"));
+
+        assertSame(expenseList.getExpenses().get(0).getDescription(),
+                expenseList.getExpenses().get(1).getDescription());
+        assertEquals(2, expenseList.filterExpenses("GRAB", null, null).size());
+    }
+}
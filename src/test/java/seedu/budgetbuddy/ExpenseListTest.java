@@ -5,9 +5,15 @@ import seedu.budgetbuddy.exception.BudgetBuddyException;
 import org.junit.jupiter.api.Disabled;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -129,4 +135,115 @@ public class ExpenseListTest {
         // Restore the original standard output
         System.setOut(originalOut);
     }
+
+    @Test
+    public void addCategory_newCategory_expenseCanUseIt() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addCategory("Travel");
+        expenseList.addExpense("Travel", "300", "Flight");
+
+        assertTrue(expenseList.isValidCategory("travel"));
+        assertEquals(1, expenseList.size());
+    }
+
+    @Test
+    public void addExpenseAndPutBudget_categoryInOtherCase_storedUnderListedName() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addExpense("groceries", "12", "Milk");
+        expenseList.putBudget("GROCERIES", 100);
+
+        assertEquals("Groceries", expenseList.getExpenses().get(0).getCategory());
+        assertEquals("Groceries", expenseList.getBudgets().get(0).getCategory());
+        assertEquals("Groceries", expenseList.findCategory(" groceries"));
+        assertNull(expenseList.findCategory("Travel"));
+    }
+
+    @Test
+    public void addCategory_existingCategory_exceptionThrown() {
+        ExpenseList expenseList = new ExpenseList();
+        try {
+            expenseList.addCategory("housing");
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals("The category 'housing' already exists.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void filterExpensesByTags_withAndWithoutTags_matchingExpensesReturned() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addExpense("Transport", "20", "Taxi", Arrays.asList("work", "travel"));
+        expenseList.addExpense("Transport", "5", "Bus", Arrays.asList("work"));
+        expenseList.addExpense("Groceries", "50", "Snacks", Arrays.asList("work", "travel", "reimbursed"));
+        expenseList.addExpense("Housing", "900", "Rent");
+
+        List<String> noTags = new ArrayList<>();
+        ArrayList<Expense> matches = expenseList.filterExpensesByTags(Arrays.asList("WORK", "travel"),
+                Arrays.asList("reimbursed"));
+        assertEquals(1, matches.size());
+        assertEquals("Taxi", matches.get(0).getDescription());
+
+        assertEquals(3, expenseList.filterExpensesByTags(Arrays.asList("work"), noTags).size());
+        assertEquals(1, expenseList.filterExpensesByTags(noTags, Arrays.asList("work")).size());
+        assertEquals(0, expenseList.filterExpensesByTags(Arrays.asList("unknown"), noTags).size());
+    }
+
+    @Test
+    public void filterExpensesByTags_afterDelete_indexRebuilt() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addExpense("Transport", "20", "Taxi", Arrays.asList("work"));
+        expenseList.addExpense("Transport", "5", "Bus", Arrays.asList("work"));
+        expenseList.deleteExpense(0);
+
+        ArrayList<Expense> matches = expenseList.filterExpensesByTags(Arrays.asList("work"), new ArrayList<>());
+        assertEquals(1, matches.size());
+        assertEquals("Bus", matches.get(0).getDescription());
+    }
+
+    @Test
+    public void getSubtotalsByCurrency_travelMonth_exactNativeSubtotals() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        List<String> noTags = new ArrayList<>();
+        expenseList.addExpense("Housing", "100", "Hotel", noTags, Currency.getInstance("JPY"));
+        expenseList.addExpense("Transport", "2", "Train", noTags, Currency.getInstance("JPY"));
+        expenseList.addExpense("Groceries", "10", "Snacks");
+
+        Map<Currency, Double> subtotals = expenseList.getSubtotalsByCurrency();
+        assertEquals(102.0, (double) subtotals.get(Currency.getInstance("JPY")));
+        assertEquals(10.0, (double) subtotals.get(Currency.getInstance("SGD")));
+        assertEquals(10.0 + 102.0 / 112.25, expenseList.calculateTotalExpenses(), 1e-9);
+
+        expenseList.deleteExpense(0);
+        assertEquals(2.0, (double) expenseList.getSubtotalsByCurrency().get(Currency.getInstance("JPY")));
+    }
+
+    @Test
+    public void addAll_validBatch_indexedAndVersioned() throws BudgetBuddyException {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.addExpense("Transport", "5", "Bus", List.of("work"));
+        Expense rent = new Expense("Housing", 1200, "Rent");
+        Expense taxi = new Expense("Transport", 20, "Taxi");
+        taxi.setTags(List.of("work"));
+
+        expenseList.addAll(List.of(rent, taxi));
+
+        assertEquals(3, expenseList.size());
+        assertEquals(3, expenseList.getVersionedExpenses().size());
+        assertEquals(2, expenseList.filterExpensesByTags(List.of("work"), List.of()).size());
+        assertEquals(1225.0, expenseList.calculateTotalExpenses());
+    }
+
+    @Test
+    public void addAll_unlistedCategory_nothingAdded() {
+        ExpenseList expenseList = new ExpenseList();
+        List<Expense> batch = List.of(new Expense("Housing", 1200, "Rent"), new Expense("Pets", 40, "Food"));
+
+        try {
+            expenseList.addAll(batch);
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals("The category 'Pets' is not listed.", e.getMessage());
+        }
+        assertEquals(0, expenseList.size());
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileStorageBackendTest {
+
+    @Test
+    public void appendExpenses_expenseStoreDirectory_loadedByNextBackend() throws IOException {
+        Path directory = Files.createTempDirectory("expense-store");
+        FileStorageBackend backend = new FileStorageBackend(directory);
+        assertTrue(backend.loadExpenses().isEmpty());
+        backend.appendExpenses(List.of(new Expense(LocalDate.of(2024, 4, 2), "Transport", 12.5, "grab"),
+                new Expense(LocalDate.of(2024, 4, 3), "Housing", 900, "rent")));
+
+        List<Expense> loaded = new FileStorageBackend(directory).loadExpenses();
+        assertEquals(2, loaded.size());
+        assertEquals("grab", loaded.get(0).getDescription());
+        assertEquals(900.0, loaded.get(1).getAmount());
+    }
+}
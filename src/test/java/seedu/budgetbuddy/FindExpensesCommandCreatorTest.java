@@ -1,11 +1,12 @@
 package seedu.budgetbuddy;
 
 import org.junit.jupiter.api.Test;
-import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.commandcreator.CommandCreator;
 import seedu.budgetbuddy.commandcreator.FindExpensesCommandCreator;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 public class FindExpensesCommandCreatorTest {
     @Test
     public void handleFindExpensesCommand_invalidMaxAndMinValues_fail() {
@@ -13,8 +14,9 @@ public class FindExpensesCommandCreatorTest {
 
         String input = "find expenses d/Bruno Mars morethan/400 lessthan/300";
         CommandCreator commandCreator = new FindExpensesCommandCreator(input, expenses);
-        Command command = commandCreator.createCommand();
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                commandCreator::createCommand);
+        assertEquals("Ensure minimum amount is smaller than maximum amount", exception.getMessage());
 
     }
 
@@ -24,8 +26,9 @@ public class FindExpensesCommandCreatorTest {
 
         String input = "find expenses d/Bruno Mars morethan/hello lessthan/hello";
         CommandCreator commandCreator = new FindExpensesCommandCreator(input, expenses);
-        Command command = commandCreator.createCommand();
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                commandCreator::createCommand);
+        assertEquals("Please input a valid amount.", exception.getMessage());
 
     }
 }
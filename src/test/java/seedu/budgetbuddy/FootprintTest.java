@@ -0,0 +1,99 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Estimates per-record heap footprint in the style of JOL, assuming a 64-bit JVM with
+ * compressed oops: a 12-byte object header, 4-byte references and 8-byte alignment.
+ */
+public class FootprintTest {
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int LOCAL_DATE_BYTES = 24;
+
+    // Expense used to hold category, amount, currency, description and dateAdded references,
+    // plus a LocalDate object per record
+    private static final int PREVIOUS_EXPENSE_BYTES = 40 + LOCAL_DATE_BYTES;
+
+    private static int fieldBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long shallowSize(Class<?> type) {
+        long size = OBJECT_HEADER_BYTES;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += fieldBytes(field.getType());
+                }
+            }
+        }
+        return (size + 7) / 8 * 8;
+    }
+
+    private static boolean hasFieldOfType(Class<?> type, Class<?> fieldType) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.getType() == fieldType) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void expense_noPerRecordDateOrCurrencyObjects() {
+        assertFalse(hasFieldOfType(Expense.class, LocalDate.class));
+        assertFalse(hasFieldOfType(Expense.class, Currency.class));
+        assertFalse(hasFieldOfType(Saving.class, Currency.class));
+    }
+
+    @Test
+    public void expense_footprintSmallerThanPreviousLayout() {
+        long expenseBytes = shallowSize(Expense.class);
+        long savingBytes = shallowSize(Saving.class);
+
+        assertTrue(expenseBytes <= 40, "Expense takes " + expenseBytes + " bytes");
+        assertTrue(savingBytes <= 32, "Saving takes " + savingBytes + " bytes");
+        assertTrue(PREVIOUS_EXPENSE_BYTES - expenseBytes >= LOCAL_DATE_BYTES);
+    }
+
+    @Test
+    public void expense_untaggedExpensesShareEmptyTagList() {
+        Expense first = new Expense("Groceries", 10, "apples");
+        Expense second = new Expense("Groceries", 12, "pears");
+
+        assertSame(first.getTags(), second.getTags());
+    }
+
+    @Test
+    public void expense_dateAndCurrencyMaterializedAtBoundary() {
+        LocalDate date = LocalDate.of(2024, 4, 2);
+        Expense expense = new Expense(date, "Housing", 900, "rent");
+        expense.setCurrency(Currency.getInstance("JPY"));
+
+        assertEquals(date, expense.getDateAdded());
+        assertEquals(Currency.getInstance("JPY"), expense.getCurrency());
+        assertEquals(date.toEpochDay(), expense.getDateAddedEpochDay());
+    }
+}
@@ -6,14 +6,15 @@ import seedu.budgetbuddy.command.ListExpenseCommand;
 import seedu.budgetbuddy.command.ListSavingsCommand;
 import seedu.budgetbuddy.commandcreator.ListCommandCreator;
 import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ListCommandCreatorTest {
 
     @Test
-    public void handleListCommand_listExpenses_success() throws BudgetBuddyException {
+    public void handleListCommand_listExpenses_success() throws BudgetBuddyException, InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         SavingList savingList = new SavingList();
         expenseList.addExpense("Transport", "50", "Bus Fare");
@@ -39,13 +40,13 @@ public class ListCommandCreatorTest {
 
         ListCommandCreator listCommandCreator = new ListCommandCreator(expenseList, savingList, input);
 
-        Command command = listCommandCreator.handleListCommand(input, expenseList, savingList);
-
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                () -> listCommandCreator.handleListCommand(input, expenseList, savingList));
+        assertEquals("Invalid category: qweqwe", exception.getMessage());
     }
 
     @Test
-    public void handleListCommand_listSavings_success() throws BudgetBuddyException {
+    public void handleListCommand_listSavings_success() throws BudgetBuddyException, InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         SavingList savingList = new SavingList();
         savingList.addSaving("Salary", "1150");
@@ -61,7 +62,8 @@ public class ListCommandCreatorTest {
     }
 
     @Test
-    public void handleListCommand_listSavingsWithCategory_success() throws BudgetBuddyException {
+    public void handleListCommand_listSavingsWithCategory_success()
+            throws BudgetBuddyException, InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         SavingList savingList = new SavingList();
         savingList.addSaving("Salary", "1150");
@@ -87,9 +89,9 @@ public class ListCommandCreatorTest {
 
         ListCommandCreator listCommandCreator = new ListCommandCreator(expenseList, savingList, input);
 
-        Command command = listCommandCreator.handleListCommand(input, expenseList, savingList);
-
-        assertNull(command);
+        InvalidCommandException exception = assertThrows(InvalidCommandException.class,
+                () -> listCommandCreator.handleListCommand(input, expenseList, savingList));
+        assertEquals("Invalid category: qweqwe", exception.getMessage());
     }
 
 }
@@ -6,6 +6,7 @@ import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.MenuCommand;
 import seedu.budgetbuddy.commandcreator.CommandCreator;
 import seedu.budgetbuddy.commandcreator.MenuCommandCreator;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
@@ -13,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 public class MenuCommandCreatorTest {
     @Test
     @Disabled
-    public void createMenuCommand_menuCommandWithNoIndex_success() {
+    public void createMenuCommand_menuCommandWithNoIndex_success() throws InvalidCommandException {
         CommandCreator commandCreator = new MenuCommandCreator("menu");
         Command command = commandCreator.createCommand();
 
@@ -22,7 +23,7 @@ public class MenuCommandCreatorTest {
     }
 
     @Test
-    public void createMenuCommand_menuCommandwithValidIndex_success() {
+    public void createMenuCommand_menuCommandwithValidIndex_success() throws InvalidCommandException {
         CommandCreator commandCreator = new MenuCommandCreator("menu 1");
         Command command = commandCreator.createCommand();
 
@@ -0,0 +1,126 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OffHeapExpenseStoreTest {
+
+    @Test
+    public void append_manyExpenses_storeGrowsAndReadsBack() throws IOException {
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.inMemory(2)) {
+            for (int i = 0; i < 100; i++) {
+                store.append(new Expense(LocalDate.of(2024, 1, 1).plusDays(i), "Groceries", i, "item " + i));
+            }
+
+            assertEquals(100, store.size());
+            assertEquals(4950.0, store.sumAmounts());
+            assertEquals("item 42", store.get(42).getDescription());
+            assertEquals(LocalDate.of(2024, 1, 1).plusDays(99), store.get(99).getDateAdded());
+        }
+    }
+
+    @Test
+    public void get_indexOutOfBounds_exceptionThrown() {
+        OffHeapExpenseStore store = OffHeapExpenseStore.inMemory(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+    }
+
+    @Test
+    public void open_reopenFileBackedStore_expensesRestored() throws IOException {
+        Path directory = Files.createTempDirectory("expense-store");
+        Expense expense = new Expense(LocalDate.of(2024, 4, 2), "Transport", 12.5, "grab");
+        expense.setCurrency(Currency.getInstance("MYR"));
+        expense.setTags(Arrays.asList("work", "travel"));
+
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.open(directory)) {
+            store.append(expense);
+            store.append(new Expense(LocalDate.of(2024, 4, 3), "Transport", 7.5, "grab"));
+        }
+
+        try (OffHeapExpenseStore reopened = OffHeapExpenseStore.open(directory)) {
+            assertEquals(2, reopened.size());
+            Expense restored = reopened.get(0);
+            assertEquals("Transport", restored.getCategory());
+            assertEquals(12.5, restored.getNativeAmount());
+            assertEquals("grab", restored.getDescription());
+            assertEquals(Currency.getInstance("MYR"), restored.getCurrency());
+            assertEquals(Arrays.asList("work", "travel"), restored.getTags());
+            assertEquals(LocalDate.of(2024, 4, 3), reopened.get(1).getDateAdded());
+        }
+    }
+
+    @Test
+    public void append_reopenedStore_repeatedTextStoredOnce() throws IOException {
+        Path directory = Files.createTempDirectory("expense-store");
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.open(directory)) {
+            store.append(new Expense(LocalDate.of(2024, 4, 2), "Transport", 12.5, "grab"));
+        }
+
+        try (OffHeapExpenseStore reopened = OffHeapExpenseStore.open(directory)) {
+            int stringBytes = reopened.getStringBytesUsed();
+            reopened.append(new Expense(LocalDate.of(2024, 4, 3), "Transport", 7.5, "grab"));
+            assertEquals(stringBytes, reopened.getStringBytesUsed());
+            assertEquals("grab", reopened.get(1).getDescription());
+        }
+    }
+
+    @Test
+    public void clear_storeWithExpenses_emptiedAndReusable() throws IOException {
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.inMemory(4)) {
+            store.append(new Expense(LocalDate.of(2024, 4, 2), "Transport", 12.5, "grab"));
+            store.clear();
+            assertEquals(0, store.size());
+            assertEquals(0, store.getStringBytesUsed());
+
+            store.append(new Expense(LocalDate.of(2024, 4, 3), "Housing", 900, "rent"));
+            assertEquals("rent", store.get(0).getDescription());
+            assertEquals("Housing", store.get(0).getCategory());
+        }
+    }
+
+    @Test
+    public void replaceAll_fileBackedStore_replacedAndReusable() throws IOException {
+        Path directory = Files.createTempDirectory("expense-store");
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.open(directory)) {
+            for (int i = 0; i < 3; i++) {
+                store.append(new Expense(LocalDate.of(2024, 4, 2), "Transport", i, "ride " + i));
+            }
+            store.replaceAll(List.of(new Expense(LocalDate.of(2024, 4, 3), "Housing", 900, "rent")));
+            store.append(new Expense(LocalDate.of(2024, 4, 4), "Transport", 2, "ride 2"));
+            assertEquals(2, store.size());
+        }
+
+        assertFalse(Files.exists(directory.resolve("expenses.records.tmp")));
+        try (OffHeapExpenseStore reopened = OffHeapExpenseStore.open(directory)) {
+            assertEquals(2, reopened.size());
+            assertEquals("rent", reopened.get(0).getDescription());
+            assertEquals("ride 2", reopened.get(1).getDescription());
+        }
+    }
+
+    @Test
+    public void open_unfinishedRewriteLeftBehind_oldRecordsKept() throws IOException {
+        Path directory = Files.createTempDirectory("expense-store");
+        try (OffHeapExpenseStore store = OffHeapExpenseStore.open(directory)) {
+            store.append(new Expense(LocalDate.of(2024, 4, 2), "Transport", 12.5, "grab"));
+        }
+        Files.write(directory.resolve("expenses.records.tmp"), new byte[] {1, 2, 3});
+
+        try (OffHeapExpenseStore reopened = OffHeapExpenseStore.open(directory)) {
+            assertEquals(1, reopened.size());
+            assertEquals("grab", reopened.get(0).getDescription());
+        }
+        assertFalse(Files.exists(directory.resolve("expenses.records.tmp")));
+    }
+}
@@ -2,7 +2,14 @@ package seedu.budgetbuddy;
 
 import org.junit.jupiter.api.Test;
 import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.command.ListSplitBalancesCommand;
+import seedu.budgetbuddy.command.MenuCommand;
+import seedu.budgetbuddy.command.SettleDebtCommand;
+import seedu.budgetbuddy.command.UndoCommand;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 
@@ -11,7 +18,7 @@ public class ParserTest {
 
 
     @Test 
-    public void testInvalidCommand() {
+    public void testInvalidCommand() throws InvalidCommandException {
         Parser parser = new Parser();
         ExpenseList expenses = new ExpenseList();
         SavingList savings = new SavingList();
@@ -23,4 +30,44 @@ public class ParserTest {
         assertNull(invalidCommand);
     }
 
+    @Test
+    public void parseCommand_knownKeywords_createMatchingCommands()
+            throws BudgetBuddyException, InvalidCommandException {
+        Parser parser = new Parser();
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+        RecurringExpensesList expensesList = new RecurringExpensesList();
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        splitExpenseList.addSplitExpense("90", "Alice", "Alice,Bob,Carol", "Dinner");
+
+        assertEquals(MenuCommand.class, parser.parseCommand(expenses, savings, splitExpenseList,
+                expensesList, "menu 2").getClass());
+        assertEquals(UndoCommand.class, parser.parseCommand(expenses, savings, splitExpenseList,
+                expensesList, " undo ").getClass());
+        assertEquals(ListSplitBalancesCommand.class, parser.parseCommand(expenses, savings, splitExpenseList,
+                expensesList, "split balances").getClass());
+        assertEquals(SettleDebtCommand.class, parser.parseCommand(expenses, savings, splitExpenseList,
+                expensesList, "settle debt from/Bob to/Alice a/10").getClass());
+        assertNull(parser.parseCommand(expenses, savings, splitExpenseList, expensesList, "split balances x"));
+    }
+
+    @Test
+    public void parseCommand_sameKeywordTwice_eachCommandKeepsItsOwnInput() throws InvalidCommandException {
+        Parser parser = new Parser();
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+        RecurringExpensesList expensesList = new RecurringExpensesList();
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+
+        Command first = parser.parseCommand(expenses, savings, splitExpenseList, expensesList,
+                "add expense c/Transport a/10 d/bus");
+        Command second = parser.parseCommand(expenses, savings, splitExpenseList, expensesList,
+                "add expense c/Groceries a/20 d/milk");
+        second.execute();
+        first.execute();
+
+        assertEquals("milk", expenses.getExpenses().get(0).getDescription());
+        assertEquals("bus", expenses.getExpenses().get(1).getDescription());
+        assertEquals(10.0, expenses.getExpenses().get(1).getAmount());
+    }
 }
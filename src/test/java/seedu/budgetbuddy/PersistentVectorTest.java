@@ -0,0 +1,89 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void append_thousandsOfElements_allRetrievable() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40000; i++) {
+            vector = vector.append(i);
+        }
+
+        assertEquals(40000, vector.size());
+        for (int i = 0; i < 40000; i++) {
+            assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+    }
+
+    @Test
+    public void appendAll_acrossTailBoundaries_matchesRepeatedAppend() {
+        PersistentVector<Integer> expected = PersistentVector.empty();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        int next = 0;
+        for (int batchSize : new int[] {5, 27, 1, 64, 0, 1000, 33}) {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(next);
+                expected = expected.append(next);
+                next++;
+            }
+            PersistentVector<Integer> before = vector;
+            vector = vector.appendAll(batch);
+            assertEquals(before.size() + batchSize, vector.size());
+        }
+
+        assertEquals(expected.toArrayList(), vector.toArrayList());
+    }
+
+    @Test
+    public void set_olderVersionUnchanged() {
+        PersistentVector<String> original = PersistentVector.fromList(List.of("a", "b", "c"));
+        PersistentVector<String> updated = original.set(1, "z");
+
+        assertEquals("b", original.get(1));
+        assertEquals("z", updated.get(1));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2113);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || expected.isEmpty()) {
+                expected.add(step);
+                vector = vector.append(step);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                vector = vector.set(index, -step);
+            } else if (operation < 9) {
+                expected.remove(expected.size() - 1);
+                vector = vector.removeLast();
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.removeAt(index);
+            }
+        }
+
+        assertEquals(expected, vector.toArrayList());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_exceptionThrown() {
+        PersistentVector<String> vector = PersistentVector.fromList(List.of("a"));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(1));
+    }
+}
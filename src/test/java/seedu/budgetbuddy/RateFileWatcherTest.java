@@ -0,0 +1,92 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateFileWatcherTest {
+
+    @AfterEach
+    public void resetRates() {
+        DefaultCurrency.setRateHistory(null);
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("SGD"));
+    }
+
+    private static double waitForUsdAmount(Saving saving, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (Math.abs(saving.getAmount() - expected) > 1e-9 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        return saving.getAmount();
+    }
+
+    @Test
+    public void start_rateFileReplaced_newRatesApplied() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("rates");
+        Path rateFile = directory.resolve("ExchangeRates.txt");
+        Files.write(rateFile, List.of("date | SGD | USD", "2024-01-01 | 1.0 | 0.50"));
+        Saving saving = new Saving("Salary", 100);
+
+        try (RateFileWatcher watcher = RateFileWatcher.start(rateFile)) {
+            assertTrue(watcher.reload());
+            DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+            assertEquals(50.0, saving.getAmount(), 1e-9);
+
+            // Written next to the file and moved into place, like a scheduled job would
+            Path newRates = directory.resolve("ExchangeRates.tmp");
+            Files.write(newRates, List.of("date | SGD | USD", "2024-01-01 | 1.0 | 0.50", "2024-02-01 | 1.0 | 0.80"));
+            Files.move(newRates, rateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            assertEquals(80.0, waitForUsdAmount(saving, 80.0), 1e-9);
+        }
+    }
+
+    @Test
+    public void reload_malformedFile_previousRatesKept() throws IOException, BudgetBuddyException {
+        Path directory = Files.createTempDirectory("rates");
+        Path rateFile = directory.resolve("ExchangeRates.txt");
+        Files.write(rateFile, List.of("date | SGD | USD", "2024-01-01 | 1.0 | not-a-rate"));
+        DefaultCurrency.setRateHistory(RateHistory.parse(List.of("date | SGD | USD", "2024-01-01 | 1.0 | 0.50")));
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+        long versionBefore = DefaultCurrency.getRatesVersion();
+
+        try (RateFileWatcher watcher = RateFileWatcher.start(rateFile)) {
+            assertFalse(watcher.reload());
+        }
+
+        assertEquals(versionBefore, DefaultCurrency.getRatesVersion());
+        int sgd = CurrencyRegistry.ordinalOf(Currency.getInstance("SGD"));
+        assertEquals(50.0, DefaultCurrency.toDisplay(100, sgd), 1e-9);
+    }
+
+    @Test
+    public void reload_truncatedFile_previousRatesKept() throws IOException, BudgetBuddyException {
+        Path directory = Files.createTempDirectory("rates");
+        Path rateFile = directory.resolve("ExchangeRates.txt");
+        Files.write(rateFile, List.of("date | SGD | USD", "2024-01-01 | 1.0 | 0.50"));
+        DefaultCurrency.setRateHistory(RateHistory.parse(Files.readAllLines(rateFile)));
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+        int sgd = CurrencyRegistry.ordinalOf(Currency.getInstance("SGD"));
+
+        try (RateFileWatcher watcher = RateFileWatcher.start(rateFile)) {
+            // A writer that truncates the file first leaves it empty, then with only the header
+            Files.write(rateFile, List.of());
+            assertFalse(watcher.reload());
+            Files.write(rateFile, List.of("date | SGD | USD"));
+            assertFalse(watcher.reload());
+        }
+
+        assertEquals(50.0, DefaultCurrency.toDisplay(100, sgd), 1e-9);
+    }
+}
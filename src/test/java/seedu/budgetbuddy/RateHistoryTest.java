@@ -0,0 +1,109 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RateHistoryTest {
+    private static final List<String> RATE_FILE = List.of(
+            "# rates per 1 SGD",
+            "date | SGD | USD | JPY",
+            "2023-01-01 | 1.0 | 0.50 | 100",
+            "2024-01-01 | 1.0 | - | 110",
+            "2025-01-01 | 1.0 | 0.80 | 120");
+
+    @AfterEach
+    public void resetRates() {
+        DefaultCurrency.setRateHistory(null);
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("SGD"));
+    }
+
+    private static int day(String date) {
+        return (int) LocalDate.parse(date).toEpochDay();
+    }
+
+    @Test
+    public void periodOf_datesAroundPeriodStarts_correctPeriod() throws BudgetBuddyException {
+        RateHistory history = RateHistory.parse(RATE_FILE);
+
+        assertEquals(3, history.getPeriodCount());
+        assertEquals(0, history.periodOf(day("2020-06-01")));
+        assertEquals(0, history.periodOf(day("2023-01-01")));
+        assertEquals(0, history.periodOf(day("2023-12-31")));
+        assertEquals(1, history.periodOf(day("2024-01-01")));
+        assertEquals(2, history.periodOf(day("2030-01-01")));
+    }
+
+    @Test
+    public void parse_missingRate_previousRateKept() throws BudgetBuddyException {
+        RateHistory history = RateHistory.parse(RATE_FILE);
+        int usd = CurrencyRegistry.ordinalOf(Currency.getInstance("USD"));
+
+        assertEquals(0.50, history.getRate(1, usd));
+    }
+
+    @Test
+    public void parse_invalidFiles_exceptionThrown() {
+        assertThrows(BudgetBuddyException.class, () -> RateHistory.parse(List.of(
+                "date | USD", "2024-01-01 | 0.7", "2023-01-01 | 0.8")));
+        assertThrows(BudgetBuddyException.class, () -> RateHistory.parse(List.of(
+                "date | USD", "2024-01-01 | abc")));
+        assertThrows(BudgetBuddyException.class, () -> RateHistory.parse(List.of(
+                "date | USD | JPY", "2024-01-01 | 0.7")));
+    }
+
+    @Test
+    public void parse_headerOnly_noHistory() throws BudgetBuddyException {
+        assertNull(RateHistory.parse(List.of("date | USD")));
+    }
+
+    @Test
+    public void getAmount_expensesFromDifferentYears_convertedAtTheirDatesRates() throws BudgetBuddyException {
+        DefaultCurrency.setRateHistory(RateHistory.parse(RATE_FILE));
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+        ExpenseList expenses = new ExpenseList();
+        Expense old = new Expense(LocalDate.of(2023, 6, 1), "Others", 100, "Old");
+        Expense recent = new Expense(LocalDate.of(2025, 6, 1), "Others", 100, "Recent");
+        old.setCurrency(Currency.getInstance("SGD"));
+        recent.setCurrency(Currency.getInstance("SGD"));
+        expenses.getExpenses().add(old);
+        expenses.getExpenses().add(recent);
+
+        assertEquals(50.0, old.getAmount(), 1e-9);
+        assertEquals(80.0, recent.getAmount(), 1e-9);
+        assertEquals(130.0, expenses.calculateTotalExpenses(), 1e-9);
+    }
+
+    @Test
+    public void calculateTotalExpenses_tenYearsOfDailyRates_matchesPerExpenseConversion()
+            throws BudgetBuddyException {
+        List<String> lines = new ArrayList<>();
+        lines.add("date | SGD | USD");
+        LocalDate start = LocalDate.of(2015, 1, 1);
+        for (int i = 0; i < 3650; i++) {
+            lines.add(start.plusDays(i) + " | 1.0 | " + (0.5 + i / 10000.0));
+        }
+        DefaultCurrency.setRateHistory(RateHistory.parse(lines));
+        DefaultCurrency.setDefaultCurrency(Currency.getInstance("USD"));
+
+        ExpenseList expenses = new ExpenseList();
+        double expected = 0;
+        for (int i = 0; i < 20000; i++) {
+            Expense expense = new Expense(start.plusDays(i % 3650), "Others", 10, "Daily");
+            expense.setCurrency(Currency.getInstance("SGD"));
+            expenses.getExpenses().add(expense);
+            expected += expense.getAmount();
+        }
+
+        assertEquals(expected, expenses.calculateTotalExpenses(), 1e-6);
+    }
+}
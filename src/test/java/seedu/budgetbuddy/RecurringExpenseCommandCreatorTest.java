@@ -5,14 +5,18 @@ import seedu.budgetbuddy.command.Command;
 import seedu.budgetbuddy.command.RecurringExpenseCommand;
 import seedu.budgetbuddy.commandcreator.CommandCreator;
 import seedu.budgetbuddy.commandcreator.RecurringExpenseCommandCreator;
+import seedu.budgetbuddy.exception.InvalidCommandException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RecurringExpenseCommandCreatorTest {
     @Test
-    public void handleRecCommand_newListCommandWithValidInput_createsRecurringExpenseCommand() {
+    public void handleRecCommand_newListCommandWithValidInput_createsRecurringExpenseCommand()
+            throws InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         String input = "rec newlist Entertainment";
@@ -25,19 +29,36 @@ public class RecurringExpenseCommandCreatorTest {
     }
 
     @Test
-    public void handleRecCommand_newListCommandWithInvalidInput_returnsNull() {
+    public void handleRecCommand_newListCommandWithInvalidInput_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         String input = "rec newlist";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 
     @Test
-    public void handleRecCommand_removeListCommandWithValidInput_createsRecurringExpenseCommand() {
+    public void handleRecCommand_newListAndRenameWithSpacesInName_keepWholeName() throws InvalidCommandException {
+        ExpenseList expenseList = new ExpenseList();
+        RecurringExpensesList expensesList = new RecurringExpensesList();
+
+        new RecurringExpenseCommandCreator("rec newlist Phone Bills", expensesList, expenseList)
+                .createCommand().execute();
+        assertNotNull(expensesList.getListByName("Phone Bills"));
+
+        new RecurringExpenseCommandCreator("rec rename 1 Monthly Phone Bills", expensesList, expenseList)
+                .createCommand().execute();
+        assertEquals("Monthly Phone Bills", expensesList.getListByName("monthly phone bills").getName());
+        assertNull(expensesList.getListByName("Phone Bills"));
+        assertThrows(InvalidCommandException.class,
+                () -> new RecurringExpenseCommandCreator("rec rename 1 ", expensesList, expenseList).createCommand());
+    }
+
+    @Test
+    public void handleRecCommand_removeListCommandWithValidInput_createsRecurringExpenseCommand()
+            throws InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
@@ -51,31 +72,30 @@ public class RecurringExpenseCommandCreatorTest {
     }
 
     @Test
-    public void handleRecCommand_removeListCommandWithInvalidInput_returnsNull() {
+    public void handleRecCommand_removeListCommandWithInvalidInput_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         String input = "rec removelist string";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 
     @Test
-    public void handleRecCommand_removeListCommandWithEmptyInput_returnsNull() {
+    public void handleRecCommand_removeListCommandWithEmptyInput_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         String input = "rec removelist";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 
     @Test
-    public void handleRecCommand_newExpenseCommandWithValidInput_createsRecurringExpenseCommand() {
+    public void handleRecCommand_newExpenseCommandWithValidInput_createsRecurringExpenseCommand()
+            throws InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
@@ -89,20 +109,20 @@ public class RecurringExpenseCommandCreatorTest {
     }
 
     @Test
-    public void handleRecCommand_newExpenseCommandWithInvalidAmount_returnsNull() {
+    public void handleRecCommand_newExpenseCommandWithInvalidAmount_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
         String input = "rec newexpense to/1 c/Entertainment a/sdsdfsdf d/Movies";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 
     @Test
-    public void handleRecCommand_addRecCommandWithValidInput_createsRecurringExpenseCommand() {
+    public void handleRecCommand_addRecCommandWithValidInput_createsRecurringExpenseCommand()
+            throws InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
@@ -116,19 +136,19 @@ public class RecurringExpenseCommandCreatorTest {
     }
 
     @Test
-    public void handleRecCommand_addRecCommandWithInvalidInput_returnsNull() {
+    public void handleRecCommand_addRecCommandWithInvalidInput_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         String input = "rec addrec sdefwre";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 
     @Test
-    public void handleRecCommand_viewExpensesCommandWithValidInput_createsRecurringExpenseCommand() {
+    public void handleRecCommand_viewExpensesCommandWithValidInput_createsRecurringExpenseCommand()
+            throws InvalidCommandException {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
@@ -142,15 +162,14 @@ public class RecurringExpenseCommandCreatorTest {
     }
 
     @Test
-    public void handleRecCommand_viewExpensesCommandWithInvalidInput_returnsNull() {
+    public void handleRecCommand_viewExpensesCommandWithInvalidInput_throwsInvalidCommandException() {
         ExpenseList expenseList = new ExpenseList();
         RecurringExpensesList expensesList = new RecurringExpensesList();
         expensesList.addNewRecurringList("Entertainment");
         String input = "rec viewexpenses fdgder";
 
         CommandCreator commandCreator = new RecurringExpenseCommandCreator(input, expensesList, expenseList);
-        Command command = commandCreator.createCommand();
 
-        assertNull(command);
+        assertThrows(InvalidCommandException.class, commandCreator::createCommand);
     }
 }
@@ -2,8 +2,12 @@ package seedu.budgetbuddy;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RecurringExpensesListTest {
 
@@ -49,4 +53,44 @@ public class RecurringExpensesListTest {
         assertNotNull(obtainedList);
         assertEquals("Utilities", obtainedList.getName());
     }
+
+    @Test
+    void renameList_newName_foundByNameAndIdKept() throws BudgetBuddyException {
+        recurringExpensesList.addNewRecurringList("Entertainment");
+        recurringExpensesList.addNewRecurringList("Utilities");
+        RecurringExpenseList utilities = recurringExpensesList.getListByName("utilities");
+        int id = utilities.getId();
+
+        recurringExpensesList.removeList(1);
+        recurringExpensesList.renameList(1, "Bills");
+
+        assertNull(recurringExpensesList.getListByName("Utilities"));
+        assertEquals(utilities, recurringExpensesList.getListByName("BILLS"));
+        assertEquals(id, utilities.getId());
+    }
+
+    @Test
+    void renameList_nameTaken_exceptionThrown() {
+        recurringExpensesList.addNewRecurringList("Entertainment");
+        recurringExpensesList.addNewRecurringList("Utilities");
+
+        assertThrows(BudgetBuddyException.class, () -> recurringExpensesList.renameList(2, "entertainment"));
+        recurringExpensesList.addNewRecurringList("UTILITIES");
+        assertEquals(2, recurringExpensesList.getSize());
+    }
+
+    @Test
+    void useCategoriesOf_categoryAddedToLedger_usableInEveryList() throws BudgetBuddyException {
+        ExpenseList ledger = new ExpenseList();
+        recurringExpensesList.addNewRecurringList("Trips");
+        recurringExpensesList.useCategoriesOf(ledger);
+        recurringExpensesList.addNewRecurringList("Holidays");
+
+        ledger.addCategory("Travel");
+        recurringExpensesList.getListByName("Trips").addExpense("travel", "300", "Flight");
+        recurringExpensesList.getListByName("Holidays").addExpense("Travel", "80", "Hotel");
+
+        assertEquals("Travel", recurringExpensesList.getListByName("Trips").getExpenses().get(0).getCategory());
+        assertEquals(1, recurringExpensesList.getListByName("Holidays").size());
+    }
 }
@@ -0,0 +1,76 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecurringListStorageTest {
+
+    @Test
+    public void save_oneListChanged_onlyThatFileWritten() throws IOException, BudgetBuddyException {
+        Path directory = Files.createTempDirectory("recurring").resolve("lists");
+        RecurringListStorage storage = new RecurringListStorage(directory.toString(), "missing.txt");
+        RecurringExpensesList lists = storage.load();
+        lists.addNewRecurringList("Rent");
+        lists.addNewRecurringList("Gym");
+        lists.getExpenseListAtListNumber(1).addExpense("Housing", "1200", "rent");
+        assertEquals(2, storage.save(lists));
+
+        lists.getExpenseListAtListNumber(2).addExpense("Others", "50", "membership");
+        assertEquals(1, storage.save(lists));
+        lists.removeList(1);
+        assertEquals(1, storage.save(lists));
+        assertTrue(Files.exists(directory.resolve("2.txt")));
+        assertEquals(1, Files.list(directory).count());
+    }
+
+    @Test
+    public void load_savedLists_namesSchedulesAndIdsRestored() throws IOException, BudgetBuddyException {
+        Path directory = Files.createTempDirectory("recurring").resolve("lists");
+        RecurringListStorage storage = new RecurringListStorage(directory.toString(), "missing.txt");
+        RecurringExpensesList lists = storage.load();
+        lists.addNewRecurringList("Rent");
+        lists.addNewRecurringList("Gym");
+        lists.removeList(1);
+        RecurringExpenseList gym = lists.getListByName("Gym");
+        gym.addExpense("Others", "50", "membership");
+        gym.setSchedule(RecurringSchedule.monthly(3), LocalDate.of(2024, 5, 1));
+        storage.save(lists);
+
+        RecurringListStorage reopened = new RecurringListStorage(directory.toString(), "missing.txt");
+        RecurringExpensesList restored = reopened.load();
+        RecurringExpenseList restoredGym = restored.getListByName("gym");
+
+        assertEquals(1, restored.getSize());
+        assertEquals(2, restoredGym.getId());
+        assertEquals("monthly:3", restoredGym.getSchedule().toStorageString());
+        assertEquals(50.0, restoredGym.getExpenses().get(0).getNativeAmount());
+        assertEquals(0, reopened.save(restored));
+        restored.addNewRecurringList("Phone");
+        assertEquals(3, ((RecurringExpenseList) restored.getExpenseListAtListNumber(2)).getId());
+    }
+
+    @Test
+    public void load_legacyFile_readOnce() throws IOException {
+        Path folder = Files.createTempDirectory("recurring");
+        Path legacy = folder.resolve("RecurringExpensesFile.txt");
+        Files.write(legacy, List.of("!!! Rent !!!", "1 | 2024-01-01 | Housing | 1200.00 | rent"));
+        RecurringListStorage storage = new RecurringListStorage(folder.resolve("lists").toString(),
+                legacy.toString());
+
+        RecurringExpensesList lists = storage.load();
+        storage.save(lists);
+
+        assertEquals("Rent", lists.getExpenseListAtListNumber(1).getName());
+        assertEquals(1, new RecurringListStorage(folder.resolve("lists").toString(), legacy.toString())
+                .load().getExpenseListAtListNumber(1).getExpenses().size());
+    }
+}
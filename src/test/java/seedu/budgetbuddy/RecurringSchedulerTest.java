@@ -0,0 +1,96 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RecurringSchedulerTest {
+
+    @Test
+    public void occurrencesBetween_dayThirtyOne_clampedToMonthEnd() {
+        RecurringSchedule schedule = RecurringSchedule.monthly(31);
+
+        List<LocalDate> dates = schedule.occurrencesBetween(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 4, 30));
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30)),
+                dates);
+    }
+
+    @Test
+    public void occurrencesBetween_weekly_startsAfterGivenDate() {
+        RecurringSchedule schedule = RecurringSchedule.weekly(DayOfWeek.MONDAY);
+
+        // 2024-03-04 is a Monday
+        List<LocalDate> dates = schedule.occurrencesBetween(LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 18));
+
+        assertEquals(List.of(LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 18)), dates);
+    }
+
+    @Test
+    public void parse_dayRule_storedAndRestored() throws BudgetBuddyException {
+        RecurringSchedule schedule = RecurringSchedule.parse("day/15", LocalDate.of(2024, 3, 4));
+
+        assertEquals("monthly:15", schedule.toStorageString());
+        assertEquals("weekly:MONDAY", RecurringSchedule.parse("weekly", LocalDate.of(2024, 3, 4)).toStorageString());
+        assertEquals("every month on day 15",
+                RecurringSchedule.fromStorageString(schedule.toStorageString()).toString());
+    }
+
+    @Test
+    public void catchUp_missedMonths_allPostedInOneBatch() throws BudgetBuddyException {
+        RecurringExpensesList recurringLists = new RecurringExpensesList();
+        recurringLists.addNewRecurringList("Bills");
+        RecurringExpenseList bills = (RecurringExpenseList) recurringLists.getExpenseListAtListNumber(1);
+        bills.addExpense("Housing", "1200", "rent");
+        bills.addExpense("Utility", "80", "power");
+        bills.setSchedule(RecurringSchedule.monthly(1), LocalDate.of(2024, 1, 15));
+        ExpenseList expenses = new ExpenseList();
+
+        List<Expense> posted = RecurringScheduler.catchUp(recurringLists, expenses, LocalDate.of(2024, 4, 10));
+
+        assertEquals(6, posted.size());
+        assertEquals(LocalDate.of(2024, 2, 1), expenses.getExpenses().get(0).getDateAdded());
+        assertEquals(LocalDate.of(2024, 4, 1), expenses.getExpenses().get(5).getDateAdded());
+        assertEquals(6, expenses.getVersionedExpenses().size());
+        assertEquals(0, RecurringScheduler.catchUp(recurringLists, expenses, LocalDate.of(2024, 4, 10)).size());
+    }
+
+    @Test
+    public void forecast_scheduledRent_projectedPerMonth() throws BudgetBuddyException {
+        RecurringExpensesList recurringLists = new RecurringExpensesList();
+        recurringLists.addNewRecurringList("Bills");
+        RecurringExpenseList bills = (RecurringExpenseList) recurringLists.getExpenseListAtListNumber(1);
+        bills.addExpense("Housing", "1000", "rent");
+        bills.setSchedule(RecurringSchedule.monthly(1), LocalDate.of(2024, 3, 10));
+        ExpenseList expenses = new ExpenseList();
+        expenses.addAll(List.of(new Expense(LocalDate.of(2024, 3, 5), "Groceries", 200, "market")));
+
+        ExpenseForecast forecast = ExpenseForecast.project(recurringLists, expenses, 5000,
+                LocalDate.of(2024, 3, 10), 3);
+
+        assertEquals(200.0, forecast.getActual(0));
+        assertEquals(0.0, forecast.getProjected(0));
+        assertEquals(1000.0, forecast.getProjected(2));
+        assertEquals(2800.0, forecast.getBalance(2));
+    }
+
+    @Test
+    public void projectedExpenses_tenYearHorizon_streamedLazily() {
+        RecurringExpensesList recurringLists = new RecurringExpensesList();
+        recurringLists.addNewRecurringList("Coffee");
+        RecurringExpenseList coffee = (RecurringExpenseList) recurringLists.getExpenseListAtListNumber(1);
+        coffee.getExpenses().add(new Expense("Others", 5, "coffee"));
+        coffee.setSchedule(RecurringSchedule.weekly(DayOfWeek.FRIDAY), LocalDate.of(2024, 1, 1));
+
+        long count = RecurringScheduler.projectedExpenses(recurringLists, LocalDate.of(2034, 1, 1)).count();
+        Expense first = RecurringScheduler.projectedExpenses(recurringLists, LocalDate.MAX).findFirst().get();
+
+        assertEquals(522L, count);
+        assertEquals(LocalDate.of(2024, 1, 5), first.getDateAdded());
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.command.CommandResult;
+import seedu.budgetbuddy.command.ListExpenseCommand;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultRendererTest {
+
+    private static CommandResult table() {
+        return new CommandResult().setColumns("Date", "Description", "Amount")
+                .addRow(LocalDate.of(2024, 3, 1), "Lunch, \"cheap\"", 12.5)
+                .addTotal("Total", 12.5);
+    }
+
+    @Test
+    public void format_table_writesQuotedCsv() {
+        assertEquals("Date,Description,Amount\r\n2024-03-01,\"Lunch, \"\"cheap\"\"\",12.5\r\nTotal,12.5\r\n",
+                new CsvRenderer().format(table()));
+    }
+
+    @Test
+    public void format_table_writesOneLineOfJson() {
+        assertEquals("{\"messages\":[],\"errors\":[],\"columns\":[\"Date\",\"Description\",\"Amount\"],"
+                + "\"rows\":[[\"2024-03-01\",\"Lunch, \\\"cheap\\\"\",12.5]],\"totals\":{\"Total\":12.5}}",
+                new JsonRenderer().format(table()));
+    }
+
+    @Test
+    public void format_failure_isNotSuccessful() {
+        CommandResult result = CommandResult.failure("Invalid index.").addTotal("Spent", Double.NaN);
+        assertFalse(result.isSuccessful());
+        assertEquals("{\"messages\":[],\"errors\":[\"Invalid index.\"],\"columns\":[],\"rows\":[],"
+                + "\"totals\":{\"Spent\":null}}", new JsonRenderer().format(result));
+        assertEquals("Spent,NaN\r\nInvalid index.\r\n", new CsvRenderer().format(result));
+    }
+
+    @Test
+    public void capture_printedLines_becomeMessages() {
+        CommandResult result = CommandResult.capture(() -> {
+            System.out.println("first");
+            System.out.println("second");
+        });
+        assertEquals(2, result.getMessages().size());
+        assertEquals("second", result.getMessages().get(1));
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    public void execute_listExpenses_returnsRowsWithoutPrinting() {
+        ExpenseList expenses = new ExpenseList();
+        expenses.getExpenses().add(new Expense("Food", 10, "lunch"));
+        expenses.getExpenses().add(new Expense("Transport", 4, "bus"));
+
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        CommandResult result;
+        try {
+            result = new ListExpenseCommand(expenses).execute();
+        } finally {
+            System.setOut(console);
+        }
+        assertEquals(0, output.size());
+        assertEquals(2, result.getRows().size());
+        assertEquals(14, result.getTotals().get("Overall Total Expenses"), 0.001);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ScriptRunnerTest {
+
+    @Test
+    public void run_script_executesCommandsAndSavesAtCheckpoints() throws IOException {
+        BudgetEngine engine = new BudgetEngine(new InMemoryStorageBackend());
+        engine.load();
+        AtomicInteger saves = new AtomicInteger();
+        ScriptRunner runner = new ScriptRunner(line -> engine.execute(line).isSuccessful(),
+                saves::incrementAndGet, 2, false);
+
+        String script = "add expense c/Others a/5 d/one\n\nnot a command\nadd expense c/Others a/abc d/bad\n"
+                + "add savings c/Salary a/100\nrec newexpense to/1 c/Others a/3 d/no list\n"
+                + "add expense c/Others a/7 d/two\nbye\nadd expense c/Others a/9 d/ignored\n";
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        ScriptReport report;
+        try {
+            report = runner.run(new BufferedReader(new StringReader(script)));
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals(6, report.getCommands());
+        assertEquals(3, report.getInvalidCommands());
+        assertEquals(Arrays.asList(3, 4, 6), report.getInvalidLines());
+        assertEquals(2, engine.getExpenses().size());
+        assertEquals(1, engine.getSavings().size());
+        assertEquals(3, saves.get());
+        assertEquals(3, report.getCheckpoints());
+        assertEquals("", output.toString());
+    }
+
+    @Test
+    public void run_noCheckpoints_savesOnceAtEnd() throws IOException {
+        AtomicInteger saves = new AtomicInteger();
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            script.append("line ").append(i).append('\n');
+        }
+        ScriptRunner runner = new ScriptRunner(line -> true, saves::incrementAndGet, 0, false);
+
+        ScriptReport report = runner.run(new BufferedReader(new StringReader(script.toString())));
+
+        assertEquals(1000, report.getCommands());
+        assertEquals(1, saves.get());
+        assertEquals(0, report.getInvalidCommands());
+    }
+}
@@ -19,7 +19,7 @@ public class SplitExpenseListTest {
         splitExpenseList.addSplitExpense("12", "12", "Lunch");
 
         assertEquals(1, splitExpenseList.getSplitExpenses().size());
-        assertEquals("12", splitExpenseList.getSplitExpenses().get(0).getNumberOfPeople());
+        assertEquals(12, splitExpenseList.getSplitExpenses().get(0).getNumberOfPeople());
         assertEquals("Lunch", splitExpenseList.getSplitExpenses().get(0).getDescription());
     }
 
@@ -77,4 +77,105 @@ public class SplitExpenseListTest {
             assertEquals("Number of people should be a positive number", e.getMessage());
         }
     }
+
+    @Test
+    public void settleSplitExpenses_runningTotal_updated() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        splitExpenseList.addSplitExpense("90", "3", "Dinner");
+        splitExpenseList.addSplitExpense("10", "4", "Coffee");
+
+        assertEquals(100.0, splitExpenseList.getOutstandingTotal());
+        assertEquals(30.0, splitExpenseList.getSplitExpenses().get(0).calculateAmountPerPerson());
+
+        splitExpenseList.settleSplitExpenses(0);
+        assertEquals(10.0, splitExpenseList.getOutstandingTotal());
+    }
+
+    @Test
+    public void addSplitExpense_zeroPeople_exceptionThrown() {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        try {
+            splitExpenseList.addSplitExpense("12", "0", "Lunch");
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals("Number of people should be a positive number", e.getMessage());
+        }
+    }
+
+    @Test
+    public void addSplitExpense_namedParticipants_unequalShares() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        SplitExpense dinner = splitExpenseList.addSplitExpense("100", "Alice", "Alice:50,Bob,Carol", "Dinner");
+
+        assertEquals(3, dinner.getNumberOfPeople());
+        assertEquals(25.0, (double) dinner.getShares().get("Bob"));
+        assertEquals(50.0, (double) splitExpenseList.getNetBalances().get("Alice"));
+        assertEquals(-25.0, (double) splitExpenseList.getNetBalances().get("Carol"));
+    }
+
+    @Test
+    public void addSplitExpense_unevenCents_sharesAddUpToAmount() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        SplitExpense taxi = splitExpenseList.addSplitExpense("10", "You", "Alice,Bob,Carol", "Taxi");
+
+        assertEquals(3.34, (double) taxi.getShares().get("Alice"));
+        assertEquals(3.33, (double) taxi.getShares().get("Carol"));
+        assertEquals(10.0, (double) splitExpenseList.getNetBalances().get("You"));
+    }
+
+    @Test
+    public void addSplitExpense_sharesExceedAmount_exceptionThrown() {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        try {
+            splitExpenseList.addSplitExpense("50", "Alice", "Alice:30,Bob:30", "Lunch");
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals("Shares add up to more than the amount.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void settleDebt_partialPayment_balanceReduced() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        splitExpenseList.addSplitExpense("90", "Alice", "Alice,Bob,Carol", "Dinner");
+
+        splitExpenseList.settleDebt("Bob", "Alice", "20");
+
+        assertEquals(-10.0, (double) splitExpenseList.getNetBalances().get("Bob"));
+        assertEquals(40.0, (double) splitExpenseList.getNetBalances().get("Alice"));
+        assertEquals(1, splitExpenseList.getSettlements().size());
+        try {
+            splitExpenseList.settleDebt("Bob", "Alice", "15");
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals("Bob only owes 10.00.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void settleSplitExpenses_namedSplit_balancesReversed() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        splitExpenseList.addSplitExpense("60", "Alice", "Bob,Carol", "Tickets");
+        splitExpenseList.settleSplitExpenses(0);
+
+        assertEquals(0.0, (double) splitExpenseList.getNetBalances().get("Alice"));
+        assertEquals(0, splitExpenseList.suggestSettlements().size());
+    }
+
+    @Test
+    public void settleSplitExpenses_afterSettleDebt_refusedAndBalancesKept() throws BudgetBuddyException {
+        SplitExpenseList splitExpenseList = new SplitExpenseList();
+        splitExpenseList.addSplitExpense("40", "You", "You,Alice", "Groceries");
+        splitExpenseList.settleDebt("Alice", "You", "20");
+
+        try {
+            splitExpenseList.settleSplitExpenses(0);
+            fail();
+        } catch (BudgetBuddyException e) {
+            assertEquals(1, splitExpenseList.size());
+        }
+        assertEquals(0.0, (double) splitExpenseList.getNetBalances().get("You"));
+        assertEquals(0.0, (double) splitExpenseList.getNetBalances().get("Alice"));
+        assertEquals(0, splitExpenseList.suggestSettlements().size());
+    }
 }
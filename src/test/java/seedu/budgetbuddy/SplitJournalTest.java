@@ -0,0 +1,118 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitJournalTest {
+
+    private static SplitExpenseList replay(Path file) throws IOException {
+        SplitExpenseList restored = new SplitExpenseList();
+        new SplitJournal(file.toString()).replay(restored);
+        return restored;
+    }
+
+    @Test
+    public void save_splitsAndSettlements_restoredOnReplay() throws IOException, BudgetBuddyException {
+        Path file = Files.createTempDirectory("journal").resolve("SplitExpensesJournal.txt");
+        SplitJournal journal = new SplitJournal(file.toString());
+        SplitExpenseList splitexpenses = new SplitExpenseList();
+        journal.replay(splitexpenses);
+
+        splitexpenses.addSplitExpense("30", "3", "Taxi");
+        splitexpenses.addSplitExpense("100", "Alice", "Alice:50,Bob,Carol", "Dinner");
+        journal.save(splitexpenses);
+        splitexpenses.settleDebt("Bob", "Alice", "10");
+        splitexpenses.settleSplitExpenses(0);
+        journal.save(splitexpenses);
+
+        assertEquals(4, Files.readAllLines(file).size());
+        SplitExpenseList restored = replay(file);
+        assertEquals(1, restored.size());
+        assertEquals("Dinner", restored.getSplitExpenses().get(0).getDescription());
+        assertEquals(100.0, restored.getOutstandingTotal());
+        assertEquals(splitexpenses.getNetBalances(), restored.getNetBalances());
+    }
+
+    @Test
+    public void replay_truncatedLastLine_skipped() throws IOException, BudgetBuddyException {
+        Path file = Files.createTempDirectory("journal").resolve("SplitExpensesJournal.txt");
+        SplitJournal journal = new SplitJournal(file.toString());
+        SplitExpenseList splitexpenses = new SplitExpenseList();
+        journal.replay(splitexpenses);
+        splitexpenses.addSplitExpense("60", "Alice", "Bob,Carol", "Tickets");
+        journal.save(splitexpenses);
+        Files.write(file, List.of("N | 40.0 | Bob | Alice:"), StandardOpenOption.APPEND);
+
+        SplitExpenseList restored = replay(file);
+
+        assertEquals(1, restored.size());
+        assertEquals(60.0, (double) restored.getNetBalances().get("Alice"));
+    }
+
+    @Test
+    public void save_longHistory_compactedAndStillReplayed() throws IOException, BudgetBuddyException {
+        Path file = Files.createTempDirectory("journal").resolve("SplitExpensesJournal.txt");
+        SplitJournal journal = new SplitJournal(file.toString());
+        SplitExpenseList splitexpenses = new SplitExpenseList();
+        journal.replay(splitexpenses);
+
+        for (int i = 0; i < 1500; i++) {
+            if (i % 2 == 0) {
+                splitexpenses.addSplitExpense("20", "Alice", "Alice,Bob", "Lunch");
+                splitexpenses.settleDebt("Bob", "Alice", "10");
+            } else {
+                splitexpenses.addSplitExpense("20", "Carol", "Carol,Dan", "Lunch");
+                splitexpenses.settleSplitExpenses(splitexpenses.size() - 1);
+            }
+            journal.save(splitexpenses);
+        }
+
+        assertTrue(journal.getRecordCount() < 1500 * 2);
+        SplitExpenseList restored = replay(file);
+        assertEquals(splitexpenses.size(), restored.size());
+        assertEquals(splitexpenses.getNetBalances(), restored.getNetBalances());
+    }
+
+    @Test
+    public void save_descriptionWithSeparator_restoredOnReplay() throws IOException, BudgetBuddyException {
+        Path file = Files.createTempDirectory("journal").resolve("SplitExpensesJournal.txt");
+        SplitJournal journal = new SplitJournal(file.toString());
+        SplitExpenseList splitexpenses = new SplitExpenseList();
+        journal.replay(splitexpenses);
+        splitexpenses.addSplitExpense("30", "3", "taxi | airport");
+        splitexpenses.addSplitExpense("40", "Ann | B", "Ann | B,Carl\\", "back\\slash | end");
+        journal.save(splitexpenses);
+
+        SplitExpenseList restored = replay(file);
+
+        assertEquals("taxi | airport", restored.getSplitExpenses().get(0).getDescription());
+        assertEquals("back\\slash | end", restored.getSplitExpenses().get(1).getDescription());
+        assertEquals(splitexpenses.getNetBalances(), restored.getNetBalances());
+    }
+
+    @Test
+    public void replay_damagedMiddleLine_failsAndKeepsJournal() throws IOException, BudgetBuddyException {
+        Path file = Files.createTempDirectory("journal").resolve("SplitExpensesJournal.txt");
+        Files.write(file, List.of("S | 30.0 | 3 | Taxi", "N | 40.0 | Bob | Alice:", "S | 10.0 | 2 | Coffee",
+                "X | 1"));
+        SplitJournal journal = new SplitJournal(file.toString());
+        SplitExpenseList splitexpenses = new SplitExpenseList();
+
+        assertThrows(IOException.class, () -> journal.replay(splitexpenses));
+
+        assertEquals(0, splitexpenses.size());
+        assertFalse(Files.exists(file));
+        assertEquals(4, Files.readAllLines(file.resolveSibling("SplitExpensesJournal.txt.damaged")).size());
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class StorageTest {
+
+    @Test
+    public void saveExpenses_foreignCurrencyExpense_currencyAndDateRestored() throws IOException {
+        Path file = Files.createTempDirectory("storage").resolve("ExpenseFile.txt");
+        Storage storage = new Storage(file.toString());
+        Expense expense = new Expense(LocalDate.of(2024, 3, 9), "Transport", 1500, "Shinkansen");
+        expense.setCurrency(Currency.getInstance("JPY"));
+
+        storage.saveExpenses(List.of(expense));
+        Expense restored = storage.loadExpenses().get(0);
+
+        assertEquals(Currency.getInstance("JPY"), restored.getCurrency());
+        assertEquals(1500.0, restored.getNativeAmount());
+        assertEquals(LocalDate.of(2024, 3, 9), restored.getDateAdded());
+    }
+
+    @Test
+    public void loadSavings_fileWithoutCurrencies_defaultCurrencyUsed() throws IOException {
+        Path file = Files.createTempDirectory("storage").resolve("SavingsFile.txt");
+        Files.write(file, List.of("Salary | 1000.00"));
+
+        Saving restored = new Storage(file.toString()).loadSavings().get(0);
+
+        assertEquals(DefaultCurrency.getDefaultCurrency(), restored.getCurrency());
+        assertEquals(1000.0, restored.getAmount());
+    }
+}
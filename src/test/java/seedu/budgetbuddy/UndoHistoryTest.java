@@ -0,0 +1,90 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.command.Command;
+import seedu.budgetbuddy.exception.BudgetBuddyException;
+import seedu.budgetbuddy.exception.InvalidCommandException;
+
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UndoHistoryTest {
+
+    private void execute(Parser parser, UndoHistory undoHistory, ExpenseList expenses, SavingList savings,
+                         String input) throws InvalidCommandException {
+        Command command = parser.parseCommand(expenses, savings, new SplitExpenseList(),
+                new RecurringExpensesList(), input);
+        LedgerSnapshot before = LedgerSnapshot.capture(expenses, savings);
+        command.execute();
+        if (command.isUndoable()) {
+            undoHistory.record(before, LedgerSnapshot.capture(expenses, savings));
+        }
+    }
+
+    @Test
+    public void undo_deleteExpense_expenseRestored() throws BudgetBuddyException, InvalidCommandException {
+        UndoHistory undoHistory = new UndoHistory();
+        Parser parser = new Parser(undoHistory);
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+        expenses.addExpense("Housing", "900", "Rent");
+
+        execute(parser, undoHistory, expenses, savings, "delete expense i/1");
+        assertEquals(0, expenses.size());
+
+        execute(parser, undoHistory, expenses, savings, "undo");
+        assertEquals(1, expenses.size());
+        assertEquals("Rent", expenses.getExpenses().get(0).getDescription());
+
+        execute(parser, undoHistory, expenses, savings, "redo");
+        assertEquals(0, expenses.size());
+    }
+
+    @Test
+    public void undo_editExpense_previousDetailsRestored() throws BudgetBuddyException, InvalidCommandException {
+        UndoHistory undoHistory = new UndoHistory();
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+        expenses.addExpense("Transport", "50", "Bus Fare");
+
+        LedgerSnapshot before = LedgerSnapshot.capture(expenses, savings);
+        expenses.editExpense("Transport", 1, 70.0, "Taxi");
+        undoHistory.record(before, LedgerSnapshot.capture(expenses, savings));
+
+        assertTrue(undoHistory.undo(expenses, savings));
+        assertEquals(50.0, expenses.getExpenses().get(0).getAmount());
+        assertEquals("Bus Fare", expenses.getExpenses().get(0).getDescription());
+    }
+
+    @Test
+    public void undo_changeCurrency_amountsAndCurrencyRestored() throws BudgetBuddyException, InvalidCommandException {
+        UndoHistory undoHistory = new UndoHistory();
+        Parser parser = new Parser(undoHistory);
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+        expenses.addExpense("Transport", "100", "MRT");
+        savings.addSaving("Salary", "1000");
+
+        execute(parser, undoHistory, expenses, savings, "change currency USD");
+        execute(parser, undoHistory, expenses, savings, "undo");
+
+        assertEquals(Currency.getInstance("SGD"), DefaultCurrency.getDefaultCurrency());
+        assertEquals(100.0, expenses.getExpenses().get(0).getAmount());
+        assertEquals(1000.0, savings.getSavings().get(0).getAmount());
+    }
+
+    @Test
+    public void record_readOnlyCommand_nothingToUndo() throws InvalidCommandException {
+        UndoHistory undoHistory = new UndoHistory();
+        Parser parser = new Parser(undoHistory);
+        ExpenseList expenses = new ExpenseList();
+        SavingList savings = new SavingList();
+
+        execute(parser, undoHistory, expenses, savings, "list expenses");
+
+        assertFalse(undoHistory.canUndo());
+    }
+}